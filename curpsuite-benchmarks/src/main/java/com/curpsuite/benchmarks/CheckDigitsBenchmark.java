@@ -0,0 +1,96 @@
+package com.curpsuite.benchmarks;
+
+import com.curpsuite.CURP;
+import com.curpsuite.CheckDigits;
+import com.curpsuite.enums.CURPStatus;
+import com.curpsuite.enums.ValidationLevel;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tiempo por CURP de {@link CheckDigits#verifyDigits(ByteBuffer, int, int, boolean[])}
+ * con líneas de 19 bytes, en buffers heap y directos, contra
+ * {@link CURP#validate(CharSequence, ValidationLevel)} con el nivel
+ * {@link ValidationLevel#CHECKSUM} una CURP a la vez.
+ *
+ * Los benchmarks terminados en {@code Vector} se ejecutan con
+ * {@code --add-modules jdk.incubator.vector} para medir el camino vectorial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CheckDigitsBenchmark {
+    private static final int LENGTH = 18;
+    private static final int STRIDE = LENGTH + 1;
+    private static final int CORPUS_SIZE = 65536;
+
+    @Param({"0.1"})
+    double invalidRatio;
+
+    private String[] curps;
+    private ByteBuffer heap;
+    private ByteBuffer direct;
+    private boolean[] out;
+
+    @Setup
+    public void setup() {
+        curps = new Corpus(CORPUS_SIZE, invalidRatio, Corpus.SEED).curps;
+
+        // Las CURPs de otra longitud se recortan o se completan con un carácter inválido
+        byte[] data = new byte[CORPUS_SIZE * STRIDE];
+        Arrays.fill(data, (byte) '-');
+        for (int i = 0; i < CORPUS_SIZE; i++) {
+            byte[] curp = curps[i].getBytes(StandardCharsets.ISO_8859_1);
+            System.arraycopy(curp, 0, data, i * STRIDE, Math.min(curp.length, LENGTH));
+            data[i * STRIDE + LENGTH] = '\n';
+        }
+        heap = ByteBuffer.wrap(data);
+        direct = ByteBuffer.allocateDirect(data.length).put(data).flip();
+        out = new boolean[CORPUS_SIZE];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CORPUS_SIZE)
+    public int validateChecksum() {
+        int valid = 0;
+        for (String curp : curps) {
+            if (CURP.validate(curp, ValidationLevel.CHECKSUM) == CURPStatus.VALID) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CORPUS_SIZE)
+    public int verifyDigitsHeap() {
+        return CheckDigits.verifyDigits(heap, STRIDE, CORPUS_SIZE, out);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CORPUS_SIZE)
+    public int verifyDigitsDirect() {
+        return CheckDigits.verifyDigits(direct, STRIDE, CORPUS_SIZE, out);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CORPUS_SIZE)
+    @Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+    public int verifyDigitsHeapVector() {
+        return CheckDigits.verifyDigits(heap, STRIDE, CORPUS_SIZE, out);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CORPUS_SIZE)
+    @Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+    public int verifyDigitsDirectVector() {
+        return CheckDigits.verifyDigits(direct, STRIDE, CORPUS_SIZE, out);
+    }
+}
@@ -0,0 +1,195 @@
+package com.curpsuite.benchmarks;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compara dos archivos de resultados de JMH ({@code -rf json}) y escribe un
+ * reporte en Markdown con el cambio de cada benchmark.
+ *
+ * Un benchmark se considera una regresión si empeora más que el umbral y
+ * la diferencia es mayor que la suma de los errores de ambas mediciones.
+ * El proceso termina con código 1 si hay al menos una regresión.
+ *
+ * Uso:
+ * <pre>
+ * {@code
+ * java -cp target/benchmarks.jar com.curpsuite.benchmarks.CompareResults \
+ *     baseline/jmh-result.json target/jmh-result.json [--threshold 10] [--report reporte.md]
+ * }
+ * </pre>
+ */
+public final class CompareResults {
+    private static final double DEFAULT_THRESHOLD = 10;
+
+    private CompareResults() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Uso: CompareResults BASE ACTUAL [--threshold PORCENTAJE] [--report ARCHIVO]");
+            System.exit(2);
+        }
+
+        double threshold = DEFAULT_THRESHOLD;
+        Path report = null;
+        for (int i = 2; i < args.length; i++) {
+            if (i + 1 >= args.length) {
+                System.err.println("Falta el valor de " + args[i]);
+                System.exit(2);
+            }
+            switch (args[i]) {
+                case "--threshold":
+                    threshold = Double.parseDouble(args[++i]);
+                    break;
+                case "--report":
+                    report = Path.of(args[++i]);
+                    break;
+                default:
+                    System.err.println("Opción desconocida: " + args[i]);
+                    System.exit(2);
+            }
+        }
+
+        Map<String, Result> baseline = read(Path.of(args[0]));
+        Map<String, Result> current = read(Path.of(args[1]));
+
+        int regressions;
+        if (report == null) {
+            regressions = write(baseline, current, threshold, System.out);
+        } else {
+            try (PrintStream out = new PrintStream(Files.newOutputStream(report), false, StandardCharsets.UTF_8)) {
+                regressions = write(baseline, current, threshold, out);
+            }
+            System.out.println("Reporte escrito en " + report);
+        }
+
+        if (regressions > 0) {
+            System.err.println(regressions + " regresiones mayores a " + threshold + "%");
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Escribe el reporte.
+     *
+     * @return Número de regresiones.
+     */
+    static int write(Map<String, Result> baseline, Map<String, Result> current,
+                     double threshold, PrintStream out) {
+        out.println("| Benchmark | Unidad | Base | Actual | Cambio | |");
+        out.println("|---|---|---:|---:|---:|---|");
+
+        int regressions = 0;
+        for (Map.Entry<String, Result> entry : current.entrySet()) {
+            Result now = entry.getValue();
+            Result base = baseline.get(entry.getKey());
+            if (base == null) {
+                out.printf("| %s | %s | | %s | | nuevo |%n", entry.getKey(), now.unit, format(now));
+                continue;
+            }
+
+            // Positivo si mejoró, sin importar si la unidad es tiempo u operaciones
+            double change = (now.score - base.score) / base.score * 100;
+            if (!now.higherIsBetter) {
+                change = 0.0 - change;
+            }
+            double error = finite(base.error) + finite(now.error);
+            boolean significant = Math.abs(now.score - base.score) > error;
+
+            String verdict = "";
+            if (significant && change < -threshold) {
+                verdict = "**regresión**";
+                regressions++;
+            } else if (significant && change > threshold) {
+                verdict = "mejora";
+            }
+            out.printf("| %s | %s | %s | %s | %+.1f%% | %s |%n",
+                    entry.getKey(), now.unit, format(base), format(now), change, verdict);
+        }
+
+        for (String key : baseline.keySet()) {
+            if (!current.containsKey(key)) {
+                out.printf("| %s | %s | %s | | | eliminado |%n", key, baseline.get(key).unit, format(baseline.get(key)));
+            }
+        }
+        return regressions;
+    }
+
+    /**
+     * Lee un archivo de resultados de JMH, indexado por benchmark y parámetros.
+     */
+    static Map<String, Result> read(Path path) throws IOException {
+        Map<String, Result> results = new TreeMap<>();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            JsonArray array = JsonParser.parseReader(reader).getAsJsonArray();
+            for (JsonElement element : array) {
+                JsonObject run = element.getAsJsonObject();
+                String name = run.get("benchmark").getAsString();
+                name = name.substring(name.lastIndexOf('.', name.lastIndexOf('.') - 1) + 1);
+
+                // Los parámetros se ordenan para que la clave no dependa del orden en el archivo
+                if (run.has("params")) {
+                    Map<String, String> params = new TreeMap<>();
+                    for (Map.Entry<String, JsonElement> param : run.getAsJsonObject("params").entrySet()) {
+                        params.put(param.getKey(), param.getValue().getAsString());
+                    }
+                    name += params.toString().replace('{', ' ').replace("}", "");
+                }
+
+                JsonObject metric = run.getAsJsonObject("primaryMetric");
+                String mode = run.get("mode").getAsString();
+                results.put(name, new Result(
+                        metric.get("score").getAsDouble(),
+                        number(metric.get("scoreError")),
+                        metric.get("scoreUnit").getAsString(),
+                        mode.equals("thrpt")));
+            }
+        }
+        return results;
+    }
+
+    private static double number(JsonElement element) {
+        // JMH escribe "NaN" como texto cuando sólo hay una medición
+        try {
+            return element.getAsDouble();
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    private static double finite(double value) {
+        return Double.isFinite(value) ? value : 0;
+    }
+
+    private static String format(Result result) {
+        return Double.isFinite(result.error)
+                ? String.format("%.3f ± %.3f", result.score, result.error)
+                : String.format("%.3f", result.score);
+    }
+
+    static final class Result {
+        final double score;
+        final double error;
+        final String unit;
+        final boolean higherIsBetter;
+
+        Result(double score, double error, String unit, boolean higherIsBetter) {
+            this.score = score;
+            this.error = error;
+            this.unit = unit;
+            this.higherIsBetter = higherIsBetter;
+        }
+    }
+}
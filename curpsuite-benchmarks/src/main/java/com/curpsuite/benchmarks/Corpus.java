@@ -0,0 +1,138 @@
+package com.curpsuite.benchmarks;
+
+import com.curpsuite.CURPGenerator;
+import com.curpsuite.enums.Region;
+import com.curpsuite.enums.Sexo;
+
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+
+/**
+ * Corpus determinista de CURPs con los nombres que les corresponden.
+ *
+ * Los nombres y apellidos se eligen de listas con nombres compuestos,
+ * partículas (De, Del, De la), Ñ y acentos, para que los benchmarks pasen
+ * por los mismos caminos que los datos reales. Una fracción configurable
+ * de las CURPs se altera para que sea inválida, con un error distinto en
+ * cada caso: dígito verificador, fecha, sexo, entidad, caracteres o longitud.
+ */
+final class Corpus {
+    // Semilla por defecto de los benchmarks
+    static final long SEED = 0x43555250L;
+
+    private static final String[] NAMES = {
+            "JUAN", "MARIA GUADALUPE", "JOSE LUIS", "ANA", "FRANCISCO", "MA. DEL CARMEN",
+            "PEDRO", "ROSA ELENA", "MIGUEL ANGEL", "LUCIA", "JESUS", "ÁNGELES",
+            "IÑAKI", "SOFÍA", "J. REFUGIO", "XIMENA", "EDUARDO", "BEATRIZ", "ÚRSULA", "OSCAR"
+    };
+
+    private static final String[] SURNAMES = {
+            "HERNANDEZ", "GARCIA", "MARTINEZ", "LOPEZ", "GONZALEZ", "RODRIGUEZ", "PEREZ",
+            "SANCHEZ", "RAMIREZ", "CRUZ", "FLORES", "GÓMEZ", "DE LA CRUZ", "DEL RÍO",
+            "MUÑOZ", "NUÑEZ", "IBAÑEZ", "DE LOS SANTOS", "VAN DER BERG", "O'HIGGINS",
+            "MC GREGOR", "ÁVILA", "ORTIZ", "URIBE", "YÁÑEZ"
+    };
+
+    // Apellidos más frecuentes primero: el índice se elige con una distribución sesgada
+    private static final double SURNAME_SKEW = 2.0;
+
+    final String[] curps;
+    final String[] nombres;
+    final String[] primerosApellidos;
+    final String[] segundosApellidos;
+    final String[] nombresCompletos;
+    final boolean[] valid;
+
+    /**
+     * @param size Número de registros.
+     * @param invalidRatio Fracción de CURPs inválidas, entre 0 y 1.
+     * @param seed Semilla; el mismo valor produce el mismo corpus.
+     */
+    Corpus(int size, double invalidRatio, long seed) {
+        if (invalidRatio < 0 || invalidRatio > 1) {
+            throw new IllegalArgumentException("invalidRatio debe estar entre 0 y 1");
+        }
+
+        curps = new String[size];
+        nombres = new String[size];
+        primerosApellidos = new String[size];
+        segundosApellidos = new String[size];
+        nombresCompletos = new String[size];
+        valid = new boolean[size];
+
+        SplittableRandom random = new SplittableRandom(seed);
+        Region[] regions = Region.values();
+        LocalDate first = LocalDate.of(1930, 1, 1);
+        int days = (int) (LocalDate.of(2020, 1, 1).toEpochDay() - first.toEpochDay());
+
+        for (int i = 0; i < size; i++) {
+            String nombre = NAMES[random.nextInt(NAMES.length)];
+            String primerApellido = surname(random);
+            String segundoApellido = surname(random);
+            LocalDate birth = first.plusDays(random.nextInt(days));
+            Sexo sex = random.nextBoolean() ? Sexo.HOMBRE : Sexo.MUJER;
+            // Una de cada cincuenta personas nació en el extranjero
+            Region region = random.nextInt(50) == 0
+                    ? Region.EXTRANJERO
+                    : regions[random.nextInt(regions.length - 1)];
+
+            String curp = CURPGenerator.generate(nombre, primerApellido, segundoApellido, birth, sex, region);
+            valid[i] = random.nextDouble() >= invalidRatio;
+            if (!valid[i]) {
+                curp = corrupt(curp, random);
+            }
+
+            curps[i] = curp;
+            nombres[i] = nombre;
+            primerosApellidos[i] = primerApellido;
+            segundosApellidos[i] = segundoApellido;
+            nombresCompletos[i] = nombre + " " + primerApellido + " " + segundoApellido;
+        }
+    }
+
+    int size() {
+        return curps.length;
+    }
+
+    private static String surname(SplittableRandom random) {
+        double u = random.nextDouble();
+        return SURNAMES[(int) (Math.pow(u, SURNAME_SKEW) * SURNAMES.length)];
+    }
+
+    /**
+     * Introduce un error en una CURP válida.
+     */
+    private static String corrupt(String curp, SplittableRandom random) {
+        char[] chars = curp.toCharArray();
+        int error = random.nextInt(6);
+        switch (error) {
+            case 0:
+                // Dígito verificador incorrecto
+                chars[17] = (char) ('0' + (chars[17] - '0' + 1 + random.nextInt(9)) % 10);
+                break;
+            case 1:
+                // Mes 13
+                chars[6] = '1';
+                chars[7] = '3';
+                break;
+            case 2:
+                chars[10] = 'X';
+                break;
+            case 3:
+                // Entidad inexistente
+                chars[11] = 'Z';
+                chars[12] = 'Z';
+                break;
+            case 4:
+                chars[random.nextInt(17)] = '-';
+                break;
+            default:
+                return curp.substring(0, 17);
+        }
+        if (error >= 1 && error <= 3 && random.nextBoolean()) {
+            // Recalcular el dígito para que el error se detecte en su etapa
+            chars[17] = CURPGenerator.checkDigit(new String(chars, 0, 17));
+        }
+        return new String(chars);
+    }
+}
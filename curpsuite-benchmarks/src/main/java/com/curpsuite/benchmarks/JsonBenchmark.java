@@ -0,0 +1,70 @@
+package com.curpsuite.benchmarks;
+
+import com.curpsuite.CURP;
+import com.curpsuite.CURPJson;
+import com.curpsuite.CURPJsonLinesWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tiempo de convertir a JSON una CURP ya validada, con y sin nombres.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JsonBenchmark {
+    @Param("65536")
+    int corpusSize;
+
+    @Param({"false", "true"})
+    boolean withNames;
+
+    private CURP[] curps;
+    private StringBuilder out;
+    private CURPJsonLinesWriter writer;
+    private int index;
+
+    @Setup
+    public void setup() {
+        Corpus corpus = new Corpus(corpusSize, 0, Corpus.SEED);
+        curps = new CURP[corpusSize];
+        for (int i = 0; i < corpusSize; i++) {
+            curps[i] = withNames
+                    ? new CURP(corpus.curps[i], corpus.nombres[i], corpus.primerosApellidos[i],
+                               corpus.segundosApellidos[i], null)
+                    : new CURP(corpus.curps[i]);
+        }
+        out = new StringBuilder(512);
+        writer = new CURPJsonLinesWriter(OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public String toJson() {
+        return curps[next()].toJson();
+    }
+
+    @Benchmark
+    public int writeStringBuilder() {
+        out.setLength(0);
+        CURPJson.write(curps[next()], out);
+        return out.length();
+    }
+
+    @Benchmark
+    public long writeJsonLines() throws IOException {
+        writer.write(curps[next()]);
+        return writer.getRecords();
+    }
+
+    private int next() {
+        int i = index;
+        index = i + 1 == corpusSize ? 0 : i + 1;
+        return i;
+    }
+}
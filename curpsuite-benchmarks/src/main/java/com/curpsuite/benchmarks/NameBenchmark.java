@@ -0,0 +1,96 @@
+package com.curpsuite.benchmarks;
+
+import com.curpsuite.CURP;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tiempo de los validadores de nombre de una CURP ya construida.
+ *
+ * Una fracción {@code invalidRatio} de los nombres pertenece a otro
+ * registro del corpus, así que normalmente no corresponde. Con
+ * {@code wordCacheSize} mayor que cero se mide con la caché de palabras.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NameBenchmark {
+    @Param("65536")
+    int corpusSize;
+
+    @Param("0.1")
+    double invalidRatio;
+
+    @Param({"0", "1024"})
+    int wordCacheSize;
+
+    private CURP[] curps;
+    private String[] nombres;
+    private String[] primerosApellidos;
+    private String[] segundosApellidos;
+    private String[] nombresCompletos;
+    private int index;
+
+    @Setup
+    public void setup() {
+        CURP.setWordCacheSize(wordCacheSize);
+
+        Corpus corpus = new Corpus(corpusSize, 0, Corpus.SEED);
+        curps = new CURP[corpusSize];
+        nombres = new String[corpusSize];
+        primerosApellidos = new String[corpusSize];
+        segundosApellidos = new String[corpusSize];
+        nombresCompletos = new String[corpusSize];
+
+        SplittableRandom random = new SplittableRandom(Corpus.SEED);
+        for (int i = 0; i < corpusSize; i++) {
+            curps[i] = new CURP(corpus.curps[i]);
+            // Los nombres inválidos se toman de otro registro
+            int source = random.nextDouble() < invalidRatio ? random.nextInt(corpusSize) : i;
+            nombres[i] = corpus.nombres[source];
+            primerosApellidos[i] = corpus.primerosApellidos[source];
+            segundosApellidos[i] = corpus.segundosApellidos[source];
+            nombresCompletos[i] = corpus.nombresCompletos[source];
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        CURP.setWordCacheSize(0);
+    }
+
+    @Benchmark
+    public boolean nombreValido() {
+        int i = next();
+        return curps[i].nombreValido(nombres[i]);
+    }
+
+    @Benchmark
+    public boolean primerApellidoValido() {
+        int i = next();
+        return curps[i].primerApellidoValido(primerosApellidos[i]);
+    }
+
+    @Benchmark
+    public boolean segundoApellidoValido() {
+        int i = next();
+        return curps[i].segundoApellidoValido(segundosApellidos[i]);
+    }
+
+    @Benchmark
+    public Object nombreCompletoValido() {
+        int i = next();
+        return curps[i].nombreCompletoValido(nombresCompletos[i]);
+    }
+
+    private int next() {
+        int i = index;
+        index = i + 1 == corpusSize ? 0 : i + 1;
+        return i;
+    }
+}
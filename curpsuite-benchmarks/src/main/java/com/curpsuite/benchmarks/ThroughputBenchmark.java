@@ -0,0 +1,68 @@
+package com.curpsuite.benchmarks;
+
+import com.curpsuite.CURP;
+import com.curpsuite.CURPBatchValidator;
+import com.curpsuite.CURPResult;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CURPs validadas por segundo con todos los procesadores: cada hilo de JMH
+ * valida su parte del corpus, y {@link CURPBatchValidator} reparte un lote
+ * completo en el ForkJoinPool común.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ThroughputBenchmark {
+    private static final int BATCH_SIZE = 65536;
+
+    @State(Scope.Benchmark)
+    public static class Shared {
+        @Param("0.1")
+        double invalidRatio;
+
+        String[] curps;
+        CURPBatchValidator validator;
+
+        @Setup
+        public void setup() {
+            curps = new Corpus(BATCH_SIZE, invalidRatio, Corpus.SEED).curps;
+            validator = new CURPBatchValidator(ForkJoinPool.commonPool());
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int index;
+
+        @Setup
+        public void setup(ThreadParams params) {
+            // Cada hilo empieza en una parte distinta del corpus
+            index = params.getThreadIndex() * (BATCH_SIZE / Math.max(1, params.getThreadCount()));
+        }
+
+        int next() {
+            int i = index;
+            index = i + 1 == BATCH_SIZE ? 0 : i + 1;
+            return i;
+        }
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public CURPResult parseAllThreads(Shared shared, Cursor cursor) {
+        return CURP.parse(shared.curps[cursor.next()]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public CURPResult[] batchValidator(Shared shared) {
+        return shared.validator.validate(shared.curps);
+    }
+}
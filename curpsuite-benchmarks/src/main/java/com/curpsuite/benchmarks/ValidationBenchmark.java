@@ -0,0 +1,94 @@
+package com.curpsuite.benchmarks;
+
+import com.curpsuite.CURP;
+import com.curpsuite.CURPResult;
+import com.curpsuite.exceptions.CURPException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tiempo de {@code new CURP(curp)} con CURPs válidas, inválidas y una
+ * mezcla con la fracción de inválidas indicada por {@code invalidRatio}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ValidationBenchmark {
+    @Param("65536")
+    int corpusSize;
+
+    private String[] valid;
+    private String[] invalid;
+    private int index;
+
+    @Setup
+    public void setup() {
+        valid = new Corpus(corpusSize, 0, Corpus.SEED).curps;
+        invalid = new Corpus(corpusSize, 1, Corpus.SEED).curps;
+    }
+
+    /**
+     * CURPs válidas e inválidas mezcladas; sólo la usan los benchmarks
+     * que dependen de {@code invalidRatio}.
+     */
+    @State(Scope.Thread)
+    public static class Mixed {
+        @Param({"0.1", "0.5"})
+        double invalidRatio;
+
+        String[] curps;
+        int index;
+
+        @Setup
+        public void setup(ValidationBenchmark benchmark) {
+            curps = new Corpus(benchmark.corpusSize, invalidRatio, Corpus.SEED).curps;
+        }
+
+        String next() {
+            int i = index;
+            index = i + 1 == curps.length ? 0 : i + 1;
+            return curps[i];
+        }
+    }
+
+    @Benchmark
+    public CURP constructorValid() {
+        return new CURP(valid[next()]);
+    }
+
+    @Benchmark
+    public Object constructorInvalid() {
+        try {
+            return new CURP(invalid[next()]);
+        } catch (CURPException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object constructorMixed(Mixed mixed) {
+        try {
+            return new CURP(mixed.next());
+        } catch (CURPException e) {
+            return e;
+        }
+    }
+
+    /**
+     * La misma mezcla con {@link CURP#parse(String)}, que no lanza excepciones.
+     */
+    @Benchmark
+    public CURPResult parseMixed(Mixed mixed) {
+        return CURP.parse(mixed.next());
+    }
+
+    private int next() {
+        int i = index;
+        index = i + 1 == corpusSize ? 0 : i + 1;
+        return i;
+    }
+}
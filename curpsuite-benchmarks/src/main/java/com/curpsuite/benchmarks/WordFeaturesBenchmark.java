@@ -0,0 +1,50 @@
+package com.curpsuite.benchmarks;
+
+import com.curpsuite.utils.WordFeautres;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tiempo de construir {@link WordFeautres} para los nombres y apellidos del
+ * corpus, con las mismas listas de palabras ignoradas que usa CURP.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WordFeaturesBenchmark {
+    private static final List<String> IGNORED_WORDS = Arrays.asList(
+            "DA", "DAS", "DE", "DEL", "DER", "DI", "DIE", "DD",
+            "EL", "LA", "LOS", "LAS", "LE", "LES", "MAC", "MC",
+            "VAN", "VON", "Y");
+
+    private static final List<String> SPECIAL_CHARS = Arrays.asList("/", "-", ".", "'", "'");
+
+    @Param("65536")
+    int corpusSize;
+
+    private String[] words;
+    private int index;
+
+    @Setup
+    public void setup() {
+        Corpus corpus = new Corpus(corpusSize, 0, Corpus.SEED);
+        words = new String[corpusSize];
+        for (int i = 0; i < corpusSize; i++) {
+            // Alternar nombres de pila y apellidos
+            words[i] = (i & 1) == 0 ? corpus.nombres[i] : corpus.primerosApellidos[i];
+        }
+    }
+
+    @Benchmark
+    public WordFeautres construct() {
+        int i = index;
+        index = i + 1 == corpusSize ? 0 : i + 1;
+        return new WordFeautres(words[i], IGNORED_WORDS, SPECIAL_CHARS);
+    }
+}
@@ -0,0 +1,75 @@
+package com.curpsuite;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Dígito verificador calculado con la Vector API.
+ *
+ * Los primeros 16 caracteres se cargan en un solo vector de bytes, se
+ * convierten a su valor en el alfabeto con comparaciones y mezclas, y se
+ * multiplican por sus pesos como vector de shorts. Los caracteres 17 y 18
+ * se resuelven con la tabla escalar.
+ *
+ * Esta clase se compila aparte con {@code --add-modules jdk.incubator.vector}
+ * y solo se carga desde {@link CheckDigits} cuando el módulo está disponible.
+ */
+final class VectorCheckDigits implements CheckDigits.Kernel {
+    private static final VectorSpecies<Byte> BYTES = ByteVector.SPECIES_128;
+    private static final VectorSpecies<Short> SHORTS = ShortVector.SPECIES_256;
+    private static final byte ENYE = (byte) 0xD1;
+
+    private static final ShortVector WEIGHTS;
+
+    static {
+        short[] weights = new short[SHORTS.length()];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = (short) (18 - i);
+        }
+        WEIGHTS = ShortVector.fromArray(SHORTS, weights, 0);
+    }
+
+    /**
+     * @return True si el procesador tiene registros suficientes para que el
+     *         camino vectorial sea más rápido que el escalar.
+     */
+    static boolean isSupported() {
+        return ShortVector.SPECIES_PREFERRED.vectorBitSize() >= SHORTS.vectorBitSize();
+    }
+
+    @Override
+    public boolean verify(byte[] bytes, int offset) {
+        ByteVector chars = ByteVector.fromArray(BYTES, bytes, offset);
+
+        VectorMask<Byte> digit = chars.compare(VectorOperators.GE, (byte) '0')
+                .and(chars.compare(VectorOperators.LE, (byte) '9'));
+        VectorMask<Byte> firstHalf = chars.compare(VectorOperators.GE, (byte) 'A')
+                .and(chars.compare(VectorOperators.LE, (byte) 'N'));
+        VectorMask<Byte> secondHalf = chars.compare(VectorOperators.GE, (byte) 'O')
+                .and(chars.compare(VectorOperators.LE, (byte) 'Z'));
+        VectorMask<Byte> enye = chars.compare(VectorOperators.EQ, ENYE);
+
+        if (!digit.or(firstHalf).or(secondHalf).or(enye).allTrue()) {
+            return false;
+        }
+
+        ByteVector values = chars.sub((byte) ('A' - 10))
+                .blend(chars.sub((byte) '0'), digit)
+                .blend(chars.sub((byte) ('O' - 25)), secondHalf)
+                .blend((byte) 24, enye);
+
+        ShortVector wide = (ShortVector) values.convertShape(VectorOperators.B2S, SHORTS, 0);
+        int sum = wide.mul(WEIGHTS).reduceLanes(VectorOperators.ADD);
+
+        int last = CheckDigits.VALUES[bytes[offset + 16] & 0xFF];
+        if (last < 0) {
+            return false;
+        }
+        sum += 2 * last;
+
+        return bytes[offset + 17] == CheckDigits.expectedDigit(sum);
+    }
+}
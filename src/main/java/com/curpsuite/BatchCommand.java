@@ -0,0 +1,231 @@
+package com.curpsuite;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.*;
+
+/**
+ * Valida un archivo con una CURP por línea y escribe un objeto JSON por línea.
+ *
+ * El archivo se mapea a memoria en ventanas y cada ventana se divide en
+ * bloques que terminan en un salto de línea. Los bloques se validan en
+ * paralelo y sólo se mantiene en memoria un número limitado de bloques a
+ * la vez, por lo que la memoria usada no depende del tamaño del archivo.
+ *
+ * Cada CURP válida se escribe con el formato de {@link CURP#toJson()}; una
+ * CURP inválida se escribe con sus campos {@code curp} y {@code error}.
+ */
+final class BatchCommand {
+    // Tamaño máximo de cada ventana mapeada a memoria
+    private static final int WINDOW_SIZE = 64 << 20;
+    // Tamaño aproximado de cada bloque de líneas validado por un hilo
+    private static final int CHUNK_SIZE = 256 << 10;
+    // Bloques pendientes por hilo antes de esperar a que se escriban
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private final Path input;
+    private final OutputStream output;
+    private final int threads;
+    private final boolean ordered;
+
+    private long valid;
+    private long invalid;
+
+    /**
+     * @param input Archivo de entrada, con una CURP por línea.
+     * @param output Destino de los resultados en formato JSONL.
+     * @param threads Número de hilos de validación.
+     * @param ordered true para escribir los resultados en el orden de entrada.
+     */
+    BatchCommand(Path input, OutputStream output, int threads, boolean ordered) {
+        this.input = input;
+        this.output = output;
+        this.threads = threads;
+        this.ordered = ordered;
+    }
+
+    /**
+     * Valida el archivo completo y reporta el rendimiento en la salida de error.
+     */
+    void run() throws IOException, InterruptedException {
+        long start = System.nanoTime();
+
+        ExecutorService workers = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "curpsuite-batch");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+            process(channel, workers);
+        } finally {
+            workers.shutdownNow();
+        }
+        output.flush();
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long total = valid + invalid;
+        System.err.printf("%d CURPs (%d válidas, %d inválidas) en %.3f s: %.0f CURPs/s%n",
+                total, valid, invalid, seconds, total / Math.max(seconds, 1e-9));
+    }
+
+    private void process(FileChannel channel, ExecutorService workers)
+            throws IOException, InterruptedException {
+        // En orden se esperan los bloques como se enviaron,
+        // sin orden se escribe el primero que termine
+        CompletionService<Chunk> completion = new ExecutorCompletionService<>(workers);
+        Deque<Future<Chunk>> pending = new ArrayDeque<>();
+        int maxPending = threads * CHUNKS_PER_THREAD;
+        int inFlight = 0;
+
+        long size = channel.size();
+        long windowStart = 0;
+
+        while (windowStart < size) {
+            long windowLength = Math.min(WINDOW_SIZE, size - windowStart);
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, windowLength);
+
+            // La ventana termina en el último salto de línea, excepto al final del archivo
+            int windowEnd = (int) windowLength;
+            if (windowStart + windowLength < size) {
+                int lastNewline = lastIndexOf(window, (byte) '\n', windowEnd);
+                if (lastNewline >= 0) {
+                    windowEnd = lastNewline + 1;
+                }
+            }
+
+            int chunkStart = 0;
+            while (chunkStart < windowEnd) {
+                int chunkEnd = Math.min(chunkStart + CHUNK_SIZE, windowEnd);
+                if (chunkEnd < windowEnd) {
+                    int newline = indexOf(window, (byte) '\n', chunkEnd, windowEnd);
+                    chunkEnd = newline < 0 ? windowEnd : newline + 1;
+                }
+
+                ByteBuffer slice = window.duplicate();
+                slice.position(chunkStart).limit(chunkEnd);
+                ByteBuffer lines = slice.slice();
+
+                if (inFlight >= maxPending) {
+                    write(ordered ? pending.poll() : completion.take());
+                    inFlight--;
+                }
+
+                Callable<Chunk> task = () -> validate(lines);
+                if (ordered) {
+                    pending.add(workers.submit(task));
+                } else {
+                    completion.submit(task);
+                }
+                inFlight++;
+                chunkStart = chunkEnd;
+            }
+
+            windowStart += windowEnd;
+        }
+
+        while (inFlight > 0) {
+            write(ordered ? pending.poll() : completion.take());
+            inFlight--;
+        }
+    }
+
+    private void write(Future<Chunk> future) throws IOException, InterruptedException {
+        Chunk chunk;
+        try {
+            chunk = future.get();
+        } catch (ExecutionException e) {
+            throw new IOException("Error al validar el archivo", e.getCause());
+        }
+
+        output.write(chunk.json);
+        valid += chunk.valid;
+        invalid += chunk.invalid;
+    }
+
+    /**
+     * Valida todas las líneas de un bloque.
+     */
+    private static Chunk validate(ByteBuffer lines) {
+        StringBuilder json = new StringBuilder(lines.remaining() * 8);
+        byte[] line = new byte[64];
+        int valid = 0;
+        int invalid = 0;
+
+        while (lines.hasRemaining()) {
+            int start = lines.position();
+            int end = indexOf(lines, (byte) '\n', start, lines.limit());
+            int next = end < 0 ? lines.limit() : end + 1;
+            if (end < 0) {
+                end = lines.limit();
+            }
+
+            // Ignorar espacios y retornos de carro al final de la línea
+            while (end > start && (lines.get(end - 1) == '\r' || lines.get(end - 1) == ' ')) {
+                end--;
+            }
+
+            int length = end - start;
+            if (line.length < length) {
+                line = new byte[length];
+            }
+            lines.get(line, 0, length);
+            lines.position(next);
+
+            String curp = new String(line, 0, length, StandardCharsets.UTF_8);
+            CURPResult result = CURP.parse(curp);
+
+            if (result.isValid()) {
+                CURPJson.write(result.getCurp(), json);
+                valid++;
+            } else {
+                CURPJson.writeError(curp, result.getMessage(), json);
+                invalid++;
+            }
+            json.append('\n');
+        }
+
+        return new Chunk(json.toString().getBytes(StandardCharsets.UTF_8), valid, invalid);
+    }
+
+    private static int indexOf(ByteBuffer buffer, byte value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int lastIndexOf(ByteBuffer buffer, byte value, int to) {
+        for (int i = to - 1; i >= 0; i--) {
+            if (buffer.get(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Resultados de un bloque de líneas.
+     */
+    private static final class Chunk {
+        final byte[] json;
+        final int valid;
+        final int invalid;
+
+        Chunk(byte[] json, int valid, int invalid) {
+            this.json = json;
+            this.valid = valid;
+            this.invalid = invalid;
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.curpsuite;
+
+import com.curpsuite.enums.CURPChar;
+import com.curpsuite.utils.CharClasses;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.Objects;
+
+/**
+ * Decodifica la fecha de nacimiento de una CURP con tablas precalculadas.
+ *
+ * La CURP sólo guarda los dos últimos dígitos del año; el siglo se deduce
+ * del carácter de homonímia (dígito hasta 1999, letra desde 2000) y del año
+ * actual. Ese año puede venir del reloj del sistema, de un {@link Clock}
+ * o fijarse explícitamente, para que el reproceso de lotes históricos dé
+ * siempre el mismo resultado:
+ * <pre>
+ * {@code
+ * BirthDateDecoder decoder = BirthDateDecoder.ofCurrentYear(2020);
+ * int epochDay = decoder.epochDay("SABC560626MDFLRN01");
+ * int edad = BirthDateDecoder.age(epochDay, (int) LocalDate.now().toEpochDay());
+ * }
+ * </pre>
+ *
+ * Para cada combinación de siglo y año se precalcula el día del 1 de enero
+ * y si es bisiesto, así que decodificar una fecha son unas cuantas lecturas
+ * de arreglos y no crea objetos. Las instancias son seguras para varios hilos.
+ */
+public final class BirthDateDecoder {
+    /**
+     * Valor devuelto por {@link #epochDay(CharSequence)} cuando la fecha no es válida.
+     */
+    public static final int INVALID = Integer.MIN_VALUE;
+
+    // Año actual, consultado al reloj como máximo una vez por minuto
+    private static final long YEAR_REFRESH_MILLIS = 60_000L;
+
+    // Días antes de cada mes y días de cada mes, para años normales y bisiestos
+    private static final int[][] DAYS_BEFORE = new int[2][13];
+    private static final int[][] DAYS_IN = {
+            {0, 31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31},
+            {0, 31, 29, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31}
+    };
+
+    static {
+        for (int leap = 0; leap < 2; leap++) {
+            for (int month = 2; month <= 12; month++) {
+                DAYS_BEFORE[leap][month] = DAYS_BEFORE[leap][month - 1] + DAYS_IN[leap][month - 1];
+            }
+        }
+    }
+
+    private static volatile BirthDateDecoder defaultDecoder = of(Clock.systemDefaultZone());
+
+    private final Clock clock;
+    private volatile Table table;
+    private volatile long checkedAt;
+
+    private BirthDateDecoder(Clock clock, Table table) {
+        this.clock = clock;
+        this.table = table;
+        this.checkedAt = clock != null ? clock.millis() : 0;
+    }
+
+    /**
+     * Decodificador que toma el año actual de un reloj, consultándolo
+     * como máximo una vez por minuto.
+     */
+    public static BirthDateDecoder of(Clock clock) {
+        return new BirthDateDecoder(clock, new Table(Year.now(clock).getValue()));
+    }
+
+    /**
+     * Decodificador con un año actual fijo.
+     *
+     * @param currentYear Año que se considera el actual para deducir el siglo.
+     */
+    public static BirthDateDecoder ofCurrentYear(int currentYear) {
+        return new BirthDateDecoder(null, new Table(currentYear));
+    }
+
+    /**
+     * @return El decodificador que usan {@link CURP} y {@link CURPView} cuando
+     *         no se indica otro; por defecto, el del reloj del sistema.
+     */
+    public static BirthDateDecoder getDefault() {
+        return defaultDecoder;
+    }
+
+    /**
+     * Cambia el decodificador por defecto de todo el proceso.
+     *
+     * @param decoder El nuevo decodificador.
+     */
+    public static void setDefault(BirthDateDecoder decoder) {
+        defaultDecoder = Objects.requireNonNull(decoder);
+    }
+
+    /**
+     * @return El año que se considera el actual.
+     */
+    public int currentYear() {
+        return table().currentYear;
+    }
+
+    /**
+     * Fecha de nacimiento de una CURP como número de días desde 1970-01-01.
+     *
+     * Sólo se revisan los caracteres de la fecha y de homonímia.
+     *
+     * @param curp Una CURP de 18 caracteres.
+     * @return El día, o {@link #INVALID} si la fecha no es válida.
+     */
+    public int epochDay(CharSequence curp) {
+        for (int i = CURPChar.YEAR_0.getValue(); i <= CURPChar.DAY_1.getValue(); i++) {
+            if (!CharClasses.is(curp.charAt(i), CharClasses.DIGIT)) {
+                return INVALID;
+            }
+        }
+
+        Table table = table();
+        int year = table.index(curp);
+        int leap = table.leap[year];
+        int month = twoDigits(curp, CURPChar.MONTH_0.getValue());
+        int day = twoDigits(curp, CURPChar.DAY_0.getValue());
+
+        if (month < 1 || month > 12 || day < 1 || day > DAYS_IN[leap][month]) {
+            return INVALID;
+        }
+
+        return table.firstDay[year] + DAYS_BEFORE[leap][month] + day - 1;
+    }
+
+    /**
+     * Año de nacimiento completo de una CURP cuyos dígitos de año ya se revisaron.
+     */
+    public int birthYear(CharSequence curp) {
+        Table table = table();
+        return table.years[table.index(curp)];
+    }
+
+    /**
+     * @return La fecha de nacimiento, o null si no es válida.
+     */
+    public LocalDate birthDate(CharSequence curp) {
+        int epochDay = epochDay(curp);
+        return epochDay != INVALID ? LocalDate.ofEpochDay(epochDay) : null;
+    }
+
+    /**
+     * Edad cumplida en una fecha, sin crear objetos.
+     *
+     * @param birthEpochDay Día de nacimiento, desde 1970-01-01.
+     * @param onEpochDay Día en que se calcula la edad, desde 1970-01-01.
+     * @return Los años cumplidos; negativo si la fecha es anterior al nacimiento.
+     */
+    public static int age(int birthEpochDay, int onEpochDay) {
+        // Con las fechas como yyyymmdd, la diferencia entre 10000 son los años cumplidos
+        int diff = civil(onEpochDay) - civil(birthEpochDay);
+        return diff >= 0 ? diff / 10000 : -((-diff + 9999) / 10000);
+    }
+
+    /**
+     * Convierte un día desde 1970-01-01 a un entero yyyymmdd del calendario
+     * gregoriano, con el algoritmo de días a fecha civil de Howard Hinnant.
+     */
+    private static int civil(int epochDay) {
+        int z = epochDay + 719468;
+        int era = Math.floorDiv(z, 146097);
+        int doe = z - era * 146097;
+        int yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        int doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        int mp = (5 * doy + 2) / 153;
+        int day = doy - (153 * mp + 2) / 5 + 1;
+        int month = mp < 10 ? mp + 3 : mp - 9;
+        int year = yoe + era * 400 + (month <= 2 ? 1 : 0);
+        return year * 10000 + month * 100 + day;
+    }
+
+    /**
+     * @return El número de dos dígitos que empieza en una posición de la CURP.
+     */
+    static int twoDigits(CharSequence curp, int index) {
+        return (curp.charAt(index) - '0') * 10 + (curp.charAt(index + 1) - '0');
+    }
+
+    private Table table() {
+        if (clock != null) {
+            long now = clock.millis();
+            if (now - checkedAt > YEAR_REFRESH_MILLIS) {
+                int year = Year.now(clock).getValue();
+                if (year != table.currentYear) {
+                    table = new Table(year);
+                }
+                checkedAt = now;
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Años de nacimiento posibles para un año actual, indexados por el tipo
+     * de homonímia (dígito o letra) y los dos dígitos del año.
+     */
+    private static final class Table {
+        final int currentYear;
+        final int[] years = new int[200];
+        final int[] firstDay = new int[200];
+        final byte[] leap = new byte[200];
+
+        Table(int currentYear) {
+            this.currentYear = currentYear;
+
+            for (int letter = 0; letter < 2; letter++) {
+                for (int twoDigits = 0; twoDigits < 100; twoDigits++) {
+                    int year = fullYear(currentYear, twoDigits, letter == 0);
+                    int i = letter * 100 + twoDigits;
+                    years[i] = year;
+                    firstDay[i] = (int) LocalDate.of(year, 1, 1).toEpochDay();
+                    leap[i] = (byte) (Year.isLeap(year) ? 1 : 0);
+                }
+            }
+        }
+
+        int index(CharSequence curp) {
+            boolean before2k = CharClasses.is(curp.charAt(CURPChar.HOMONYMY.getValue()), CharClasses.DIGIT);
+            return (before2k ? 0 : 100) + twoDigits(curp, CURPChar.YEAR_0.getValue());
+        }
+
+        /**
+         * Calcula el año de nacimiento completo a partir de los dos dígitos
+         * del año y del carácter de homonímia.
+         */
+        private static int fullYear(int currentYear, int year, boolean before2k) {
+            // Homonímia
+            // [0-9] para personas nacidas hasta el 1999
+            // [A-Z] para personas nacidas desde el 2000
+            int century = currentYear / 100;
+
+            // Asume que cualquier año mayor al actual
+            // es en realidad del siglo pasado
+            if (year > (currentYear % 100)) {
+                century -= 1;
+            }
+
+            // Aunque no necesariamente cierto,
+            // es probablemente la mejor opción
+            if (before2k) {
+                century = 19;
+            } else if (century == 19) {
+                century = 20;
+            }
+
+            return year + (century * 100);
+        }
+    }
+}
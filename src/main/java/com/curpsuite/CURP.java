@@ -1,17 +1,20 @@
 package com.curpsuite;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.curpsuite.data.Altisonantes;
-import com.curpsuite.data.Estados;
 import com.curpsuite.data.RegionData;
 import com.curpsuite.enums.CURPChar;
+import com.curpsuite.enums.CURPStatus;
+import com.curpsuite.enums.Region;
 import com.curpsuite.enums.Sexo;
-import com.curpsuite.exceptions.*;
+import com.curpsuite.enums.ValidationLevel;
+import com.curpsuite.metrics.CURPMetrics;
+import com.curpsuite.metrics.ValidationStage;
+import com.curpsuite.utils.CharClasses;
+import com.curpsuite.utils.WordFeaturesCache;
 import com.curpsuite.utils.WordFeautres;
+import com.curpsuite.utils.WordSet;
 
 import java.time.LocalDate;
-import java.time.Year;
 import java.util.*;
 
 /**
@@ -26,12 +29,14 @@ import java.util.*;
  * }
  * </pre>
  *
+ * Si sólo se necesita saber si una CURP es válida, {@link #validate(CharSequence)}
+ * realiza las mismas verificaciones sin construir objetos ni lanzar excepciones.
+ *
  * @author Jacob Sánchez Pérez
  * @version 2.6.1
  */
 public class CURP {
     private static final int LENGTH = 18;
-    private static final String CHARSET = "0123456789ABCDEFGHIJKLMN\u00d1OPQRSTUVWXYZ"; // Incluyendo la Ñ
 
     private static final List<String> IGNORED_WORDS = Arrays.asList(
             "DA", "DAS", "DE", "DEL", "DER", "DI", "DIE", "DD",
@@ -41,29 +46,41 @@ public class CURP {
     private static final List<String> SPECIAL_CHARS = Arrays.asList("/", "-", ".", "'", "'");
     private static final List<String> IGNORED_NAMES = Arrays.asList("MARIA", "MA", "MA.", "JOSE", "J", "J.");
 
-    // Sexos
-    private static final Map<String, Sexo> SEXES = new HashMap<>();
-    static {
-        SEXES.put("H", Sexo.HOMBRE);
-        SEXES.put("M", Sexo.MUJER);
-    }
-
-    // Para detectar si una CURP es inválida debido a estar sin censura,
-    // crear lista de palabras sin censura
-    private static final List<String> INC_UNCENSORED = new ArrayList<>();
-    static {
-        for (Map.Entry<String, String[]> entry : Altisonantes.getAltisonantes().entrySet()) {
-            String key = entry.getKey();
-            String[] vowels = entry.getValue();
-            for (String vowel : vowels) {
-                INC_UNCENSORED.add(key.charAt(0) + vowel + key.substring(2));
-            }
-        }
-    }
+    // Las mismas listas con búsqueda por hash perfecto
+    private static final WordSet IGNORED_WORD_SET = WordSet.of(IGNORED_WORDS);
+    private static final WordSet IGNORED_NAME_SET = WordSet.of(IGNORED_NAMES);
+
+    // Posiciones de los caracteres del nombre, en el orden en que se revisan:
+    // la vocal del primer apellido y luego la inicial y la consonante interna
+    // de cada parte del nombre
+    private static final int[] NAME_CHAR_POSITIONS = {
+            CURPChar.SURNAME_A_VOWEL.getValue(),
+            CURPChar.NAME_CHAR.getValue(), CURPChar.NAME_CONSONANT.getValue(),
+            CURPChar.SURNAME_A_CHAR.getValue(), CURPChar.SURNAME_A_CONSONANT.getValue(),
+            CURPChar.SURNAME_B_CHAR.getValue(), CURPChar.SURNAME_B_CONSONANT.getValue()
+    };
+
+    // Caché de las características de nombres y apellidos; null si está desactivada.
+    // Su tamaño inicial se toma de la propiedad curpsuite.wordCacheSize
+    private static volatile WordFeaturesCache wordCache =
+            newWordCache(Integer.getInteger("curpsuite.wordCacheSize", 0));
+
+    // Métricas de validación; null si están desactivadas.
+    // Se activan al iniciar con la propiedad curpsuite.metrics
+    private static volatile CURPMetrics metrics =
+            Boolean.getBoolean("curpsuite.metrics") ? new CURPMetrics() : null;
 
     private final String curp;
+    private final ValidationLevel level;
+
+    // Fecha de nacimiento decodificada al validar, como días desde 1970-01-01,
+    // o BirthDateDecoder.INVALID si no es válida
+    private int birthEpochDay = BirthDateDecoder.INVALID;
+
+    // Datos extraídos de la CURP la primera vez que se piden
     private LocalDate birthDate;
     private Sexo sex;
+    private Region region;
     private RegionData birthPlace;
     private String name;
     private String firstSurname;
@@ -85,32 +102,395 @@ public class CURP {
     public CURP(String curp, String nombre, String primerApellido,
                 String segundoApellido, String nombreCompleto) {
         this.curp = curp;
+        this.level = ValidationLevel.FULL;
 
-        if (curp.length() != LENGTH) {
-            throw new CURPLengthException("La CURP no tiene el tamaño correcto");
+        CURPStatus status = verify(nombre, primerApellido, segundoApellido, nombreCompleto, true);
+        if (status != CURPStatus.VALID) {
+            throw status.toException();
         }
+    }
+
+    /**
+     * Constructor simplificado que solo recibe la CURP.
+     *
+     * @param curp Una CURP de 18 caracteres.
+     */
+    public CURP(String curp) {
+        this(curp, null, null, null, null);
+    }
 
-        if (!validateVerify()) {
-            throw new CURPVerificationException("El dígito verificador no coincide con la CURP");
+    /**
+     * Construye una CURP validando sólo hasta cierto nivel.
+     *
+     * Los datos se extraen hasta que se piden. Con un nivel menor a
+     * {@link ValidationLevel#FULL}, pedir un dato que no se validó y resulta
+     * incorrecto (la fecha o la entidad) lanza la excepción correspondiente,
+     * y un sexo incorrecto se devuelve como {@link Sexo#DESCONOCIDO}.
+     *
+     * @param curp Una CURP de 18 caracteres.
+     * @param level Verificaciones a realizar.
+     */
+    public CURP(String curp, ValidationLevel level) {
+        this(level, curp);
+
+        CURPStatus status = verify(null, null, null, null, true);
+        if (status != CURPStatus.VALID) {
+            throw status.toException();
         }
+    }
 
-        // Fecha de nacimiento
-        parseBirthDate();
-        // Sexo
-        parseSex();
-        // Estado de la república
-        parseRegion();
+    /**
+     * Construye una CURP ya validada.
+     */
+    private CURP(ValidationLevel level, String curp) {
+        this.curp = curp;
+        this.level = level;
+    }
+
+    /**
+     * Analiza una CURP sin lanzar excepciones.
+     *
+     * @param curp Una CURP de 18 caracteres.
+     * @return El resultado, con la CURP construida o la causa del error.
+     */
+    public static CURPResult parse(String curp) {
+        return parse(curp, null, null, null, null);
+    }
+
+    /**
+     * Analiza una CURP sin lanzar excepciones, validando sólo hasta cierto nivel.
+     *
+     * @param curp Una CURP de 18 caracteres.
+     * @param level Verificaciones a realizar; ver {@link #CURP(String, ValidationLevel)}.
+     * @return El resultado, con la CURP construida o la causa del error.
+     */
+    public static CURPResult parse(String curp, ValidationLevel level) {
+        CURP parsed = new CURP(level, curp);
+        CURPStatus status = parsed.verify(null, null, null, null, false);
+        if (status != CURPStatus.VALID) {
+            return CURPResult.failure(curp, status, errorPosition(curp, status));
+        }
+        return CURPResult.success(parsed);
+    }
 
-        // Validar caracteres restantes
-        if (!validateNameChars()) {
-            throw new CURPValueException("Los caracteres del nombre/apellidos contienen errores");
+    /**
+     * Analiza una CURP sin lanzar excepciones.
+     *
+     * Realiza las mismas verificaciones que
+     * {@link #CURP(String, String, String, String, String)}, pero un error
+     * se devuelve como parte del resultado en lugar de lanzarse.
+     *
+     * @param curp Una CURP de 18 caracteres.
+     * @param nombre Nombre de pila de la persona.
+     * @param primerApellido Primer apellido (paterno) de la persona.
+     * @param segundoApellido Segundo apellido (materno) de la persona.
+     * @param nombreCompleto Nombre completo de la persona.
+     * @return El resultado, con la CURP construida o la causa del error.
+     */
+    public static CURPResult parse(String curp, String nombre, String primerApellido,
+                                   String segundoApellido, String nombreCompleto) {
+        CURP parsed = new CURP(ValidationLevel.FULL, curp);
+        CURPStatus status = parsed.verify(nombre, primerApellido, segundoApellido, nombreCompleto, false);
+        if (status != CURPStatus.VALID) {
+            return CURPResult.failure(curp, status, errorPosition(curp, status));
         }
+        return CURPResult.success(parsed);
+    }
 
+    /**
+     * Valida una CURP sin construir objetos ni lanzar excepciones.
+     *
+     * Realiza las mismas verificaciones que el constructor, en el mismo orden:
+     * longitud, caracteres, dígito verificador, fecha de nacimiento, sexo,
+     * entidad federativa y caracteres del nombre/apellidos.
+     *
+     * @param curp Una CURP de 18 caracteres.
+     * @return {@link CURPStatus#VALID} si la CURP es válida, o el primer error encontrado.
+     */
+    public static CURPStatus validate(CharSequence curp) {
+        return validate(curp, BirthDateDecoder.getDefault());
+    }
+
+    /**
+     * Valida una CURP sin construir objetos ni lanzar excepciones, deduciendo
+     * el siglo de nacimiento con un decodificador de fechas en particular.
+     *
+     * @param curp Una CURP de 18 caracteres.
+     * @param dates Decodificador de la fecha de nacimiento.
+     * @return {@link CURPStatus#VALID} si la CURP es válida, o el primer error encontrado.
+     */
+    public static CURPStatus validate(CharSequence curp, BirthDateDecoder dates) {
+        return validate(curp, dates, ValidationLevel.FULL);
+    }
+
+    /**
+     * Valida una CURP sin construir objetos ni lanzar excepciones, realizando
+     * sólo las verificaciones de cierto nivel.
+     *
+     * @param curp Una CURP de 18 caracteres.
+     * @param level Verificaciones a realizar.
+     * @return {@link CURPStatus#VALID} si la CURP pasa las verificaciones, o el primer error encontrado.
+     */
+    public static CURPStatus validate(CharSequence curp, ValidationLevel level) {
+        return validate(curp, BirthDateDecoder.getDefault(), level);
+    }
+
+    /**
+     * Valida una CURP sin construir objetos ni lanzar excepciones.
+     *
+     * Las verificaciones se realizan en orden y la primera que falla
+     * termina la validación; cada nivel sólo agrega verificaciones al final.
+     *
+     * @param curp Una CURP de 18 caracteres.
+     * @param dates Decodificador de la fecha de nacimiento.
+     * @param level Verificaciones a realizar.
+     * @return {@link CURPStatus#VALID} si la CURP pasa las verificaciones, o el primer error encontrado.
+     */
+    public static CURPStatus validate(CharSequence curp, BirthDateDecoder dates, ValidationLevel level) {
+        CURPMetrics m = metrics;
+        if (m == null) {
+            return check(curp, dates, level);
+        }
+        if (!m.shouldTime()) {
+            CURPStatus status = check(curp, dates, level);
+            m.record(status);
+            return status;
+        }
+
+        long start = System.nanoTime();
+        CURPStatus status = checkTimed(curp, dates, level, m, start);
+        m.record(status, System.nanoTime() - start);
+        return status;
+    }
+
+    /**
+     * Valida la CURP y las partes del nombre que se proporcionen, registrando
+     * el evento de JFR y las métricas de la validación.
+     *
+     * @param thrown True si un error se lanzará como excepción.
+     * @return {@link CURPStatus#VALID} si todo coincide, o el primer error encontrado.
+     */
+    private CURPStatus verify(String nombre, String primerApellido, String segundoApellido,
+                              String nombreCompleto, boolean thrown) {
+        boolean withNames = nombre != null || primerApellido != null
+                || segundoApellido != null || nombreCompleto != null;
+        ValidationEvent event = new ValidationEvent();
+        event.start();
+
+        CURPMetrics m = metrics;
+        boolean timed = m != null && m.shouldTime();
+        long start = timed ? System.nanoTime() : 0;
+
+        CURPStatus status;
+        try {
+            BirthDateDecoder dates = BirthDateDecoder.getDefault();
+            status = timed ? checkTimed(curp, dates, level, m, start) : check(curp, dates, level);
+            if (status == CURPStatus.VALID) {
+                // Con el mismo decodificador que validó la fecha, aunque después
+                // cambie el decodificador por defecto o el año actual
+                birthEpochDay = dates.epochDay(curp);
+            }
+
+            if (status == CURPStatus.VALID && withNames) {
+                long names = timed ? System.nanoTime() : 0;
+                status = matchNames(nombre, primerApellido, segundoApellido, nombreCompleto);
+                if (timed) {
+                    m.recordStage(ValidationStage.NAMES, System.nanoTime() - names);
+                }
+            }
+        } catch (RuntimeException e) {
+            event.fail(curp, level, withNames, e);
+            throw e;
+        }
+
+        if (timed) {
+            m.record(status, System.nanoTime() - start);
+        } else if (m != null) {
+            m.record(status);
+        }
+        event.finish(curp, level, withNames, status, thrown);
+        return status;
+    }
+
+    /**
+     * Realiza las verificaciones de un nivel, etapa por etapa, sin registrar métricas.
+     */
+    private static CURPStatus check(CharSequence curp, BirthDateDecoder dates, ValidationLevel level) {
+        CURPStatus status = checkDigits(curp);
+        if (status != CURPStatus.VALID || !level.includes(ValidationLevel.STRUCTURE)) {
+            return status;
+        }
+
+        status = checkDate(curp, dates);
+        if (status == CURPStatus.VALID) {
+            status = checkRegion(curp);
+        }
+        if (status != CURPStatus.VALID || !level.includes(ValidationLevel.FULL)) {
+            return status;
+        }
+
+        return validateNameChars(curp) ? CURPStatus.VALID : CURPStatus.NAME_CHARS;
+    }
+
+    /**
+     * Igual que {@link #check}, registrando la duración de cada etapa.
+     *
+     * @param start Momento en que empezó la validación, de {@link System#nanoTime()}.
+     */
+    private static CURPStatus checkTimed(CharSequence curp, BirthDateDecoder dates,
+                                         ValidationLevel level, CURPMetrics m, long start) {
+        CURPStatus status = checkDigits(curp);
+        long now = System.nanoTime();
+        m.recordStage(ValidationStage.CHECKSUM, now - start);
+        if (status != CURPStatus.VALID || !level.includes(ValidationLevel.STRUCTURE)) {
+            return status;
+        }
+
+        long previous = now;
+        status = checkDate(curp, dates);
+        now = System.nanoTime();
+        m.recordStage(ValidationStage.DATE, now - previous);
+        if (status != CURPStatus.VALID) {
+            return status;
+        }
+
+        previous = now;
+        status = checkRegion(curp);
+        now = System.nanoTime();
+        m.recordStage(ValidationStage.REGION, now - previous);
+        if (status != CURPStatus.VALID || !level.includes(ValidationLevel.FULL)) {
+            return status;
+        }
+
+        previous = now;
+        boolean valid = validateNameChars(curp);
+        m.recordStage(ValidationStage.NAME_CHARS, System.nanoTime() - previous);
+        return valid ? CURPStatus.VALID : CURPStatus.NAME_CHARS;
+    }
+
+    /**
+     * Longitud, caracteres y dígito verificador.
+     */
+    private static CURPStatus checkDigits(CharSequence curp) {
+        if (curp == null || curp.length() != LENGTH) {
+            return CURPStatus.LENGTH;
+        }
+
+        // Caracteres y suma de verificación
+        int sum = 0;
+        for (int i = 0; i < LENGTH - 1; i++) {
+            int value = CharClasses.value(curp.charAt(i));
+            if (value < 0) {
+                return CURPStatus.CHARSET;
+            }
+            sum += (LENGTH - i) * value;
+        }
+
+        char verify = curp.charAt(CURPChar.VERIFICATION.getValue());
+        if (CharClasses.value(verify) < 0) {
+            return CURPStatus.CHARSET;
+        }
+
+        if (sumToVerifyDigit(sum) != verify) {
+            return CURPStatus.VERIFICATION;
+        }
+        return CURPStatus.VALID;
+    }
+
+    /**
+     * Caracteres y validez de la fecha de nacimiento.
+     */
+    private static CURPStatus checkDate(CharSequence curp, BirthDateDecoder dates) {
+        for (int i = CURPChar.YEAR_0.getValue(); i <= CURPChar.DAY_1.getValue(); i++) {
+            if (!CharClasses.matches(curp.charAt(i), i)) {
+                return CURPStatus.DATE_CHARS;
+            }
+        }
+
+        if (dates.epochDay(curp) == BirthDateDecoder.INVALID) {
+            return CURPStatus.DATE;
+        }
+        return CURPStatus.VALID;
+    }
+
+    /**
+     * Sexo y estado de la república.
+     */
+    private static CURPStatus checkRegion(CharSequence curp) {
+        int sexPos = CURPChar.SEX.getValue();
+        if (!CharClasses.matches(curp.charAt(sexPos), sexPos)) {
+            return CURPStatus.SEX;
+        }
+
+        if (regionOf(curp) == null) {
+            return CURPStatus.REGION;
+        }
+        return CURPStatus.VALID;
+    }
+
+    /**
+     * Posición del primer carácter de la CURP responsable de un error.
+     *
+     * @param curp La CURP que produjo el error.
+     * @param status El error producido.
+     * @return La posición del carácter, o -1 si el error no corresponde a uno en particular.
+     */
+    private static int errorPosition(CharSequence curp, CURPStatus status) {
+        switch (status) {
+            case CHARSET:
+                for (int i = 0; i < LENGTH; i++) {
+                    if (CharClasses.value(curp.charAt(i)) < 0) {
+                        return i;
+                    }
+                }
+                return -1;
+            case VERIFICATION:
+                return CURPChar.VERIFICATION.getValue();
+            case DATE_CHARS:
+                for (int i = CURPChar.YEAR_0.getValue(); i <= CURPChar.DAY_1.getValue(); i++) {
+                    if (!CharClasses.matches(curp.charAt(i), i)) {
+                        return i;
+                    }
+                }
+                return -1;
+            case DATE:
+                int month = BirthDateDecoder.twoDigits(curp, CURPChar.MONTH_0.getValue());
+                return (month < 1 || month > 12) ? CURPChar.MONTH_0.getValue() : CURPChar.DAY_0.getValue();
+            case SEX:
+                return CURPChar.SEX.getValue();
+            case REGION:
+                return CURPChar.REGION_0.getValue();
+            case NAME_CHARS:
+                for (int position : NAME_CHAR_POSITIONS) {
+                    if (!CharClasses.matches(curp.charAt(position), position)) {
+                        return position;
+                    }
+                }
+                // Palabra inconveniente sin censura
+                return CURPChar.SURNAME_A_CHAR.getValue();
+            case NAME:
+                return CURPChar.NAME_CHAR.getValue();
+            case FIRST_SURNAME:
+                return CURPChar.SURNAME_A_CHAR.getValue();
+            case SECOND_SURNAME:
+                return CURPChar.SURNAME_B_CHAR.getValue();
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * Valida las partes del nombre que se proporcionen y las guarda.
+     *
+     * @return {@link CURPStatus#VALID} si todas las partes coinciden, o el primer error encontrado.
+     */
+    private CURPStatus matchNames(String nombre, String primerApellido,
+                                  String segundoApellido, String nombreCompleto) {
         if (nombre != null) {
             if (nombreValido(nombre)) {
                 this.name = nombre.toUpperCase();
             } else {
-                throw new CURPNameException("El nombre de pila no coincide con la CURP");
+                return CURPStatus.NAME;
             }
         }
 
@@ -118,7 +498,7 @@ public class CURP {
             if (primerApellidoValido(primerApellido)) {
                 this.firstSurname = primerApellido.toUpperCase();
             } else {
-                throw new CURPFirstSurnameException("El primer apellido no coincide con la CURP");
+                return CURPStatus.FIRST_SURNAME;
             }
         }
 
@@ -126,7 +506,7 @@ public class CURP {
             if (segundoApellidoValido(segundoApellido)) {
                 this.secondSurname = segundoApellido.toUpperCase();
             } else {
-                throw new CURPSecondSurnameException("El segundo apellido no coincide con la CURP");
+                return CURPStatus.SECOND_SURNAME;
             }
         }
 
@@ -140,18 +520,11 @@ public class CURP {
                 this.firstSurname = names[1].toUpperCase();
                 this.secondSurname = names[2].toUpperCase();
             } else {
-                throw new CURPFullNameException("El nombre completo no parece coincidir con la CURP");
+                return CURPStatus.FULL_NAME;
             }
         }
-    }
 
-    /**
-     * Constructor simplificado que solo recibe la CURP.
-     *
-     * @param curp Una CURP de 18 caracteres.
-     */
-    public CURP(String curp) {
-        this(curp, null, null, null, null);
+        return CURPStatus.VALID;
     }
 
     /**
@@ -161,21 +534,40 @@ public class CURP {
      * @return true si el nombre es válido para esta CURP
      */
     public boolean nombreValido(String name) {
+        NameMatchEvent event = new NameMatchEvent();
+        event.start();
+        boolean valid;
+        try {
+            valid = nameMatches(givenNameFeatures(name));
+        } catch (RuntimeException e) {
+            event.fail(NameMatchEvent.NOMBRE, name, e);
+            throw e;
+        }
+        event.finish(NameMatchEvent.NOMBRE, name, valid);
+        return valid;
+    }
+
+    /**
+     * @return Las características empacadas de un nombre de pila, omitiendo
+     *         el primer nombre si es muy común.
+     */
+    static long givenNameFeatures(String name) {
         // Remover primer nombre si este es muy común
         String[] pieces = name.toUpperCase().split(" ");
 
         // Tal vez sea necesario omitir palabras ignoradas (De, Del, Etc.)
-        if (pieces.length > 1 && IGNORED_NAMES.contains(normalize(pieces[0]))) {
+        if (pieces.length > 1 && IGNORED_NAME_SET.containsFolded(pieces[0])) {
             String[] newPieces = new String[pieces.length - 1];
             System.arraycopy(pieces, 1, newPieces, 0, pieces.length - 1);
             pieces = newPieces;
         }
 
-        WordFeautres wf = new WordFeautres(String.join(" ", pieces),
-                IGNORED_WORDS, SPECIAL_CHARS);
+        return wordFeatures(String.join(" ", pieces));
+    }
 
-        boolean valid = (curp.charAt(CURPChar.NAME_CHAR.getValue()) == wf.getChar()) &&
-                        (curp.charAt(CURPChar.NAME_CONSONANT.getValue()) == wf.getConsonant());
+    private boolean nameMatches(long wf) {
+        boolean valid = (curp.charAt(CURPChar.NAME_CHAR.getValue()) == WordFeaturesCache.charOf(wf)) &&
+                        (curp.charAt(CURPChar.NAME_CONSONANT.getValue()) == WordFeaturesCache.consonantOf(wf));
         return valid;
     }
 
@@ -186,23 +578,30 @@ public class CURP {
      * @return true si el primer apellido es válido para esta CURP
      */
     public boolean primerApellidoValido(String primerApellido) {
-        String curpStart = curp.substring(0, CURPChar.NAME_CHAR.getValue() + 1);
-
-        WordFeautres wf = new WordFeautres(primerApellido, IGNORED_WORDS, SPECIAL_CHARS);
+        NameMatchEvent event = new NameMatchEvent();
+        event.start();
+        boolean valid;
+        try {
+            valid = firstSurnameMatches(wordFeatures(primerApellido));
+        } catch (RuntimeException e) {
+            event.fail(NameMatchEvent.PRIMER_APELLIDO, primerApellido, e);
+            throw e;
+        }
+        event.finish(NameMatchEvent.PRIMER_APELLIDO, primerApellido, valid);
+        return valid;
+    }
 
-        boolean valid = (curp.charAt(CURPChar.SURNAME_A_CHAR.getValue()) == wf.getChar()) &&
-                        (curp.charAt(CURPChar.SURNAME_A_CONSONANT.getValue()) == wf.getConsonant());
+    private boolean firstSurnameMatches(long wf) {
+        boolean valid = (curp.charAt(CURPChar.SURNAME_A_CHAR.getValue()) == WordFeaturesCache.charOf(wf)) &&
+                        (curp.charAt(CURPChar.SURNAME_A_CONSONANT.getValue()) == WordFeaturesCache.consonantOf(wf));
 
         if (valid) {
-            valid = curp.charAt(CURPChar.SURNAME_A_VOWEL.getValue()) == wf.getVowel();
+            char vowel = WordFeaturesCache.vowelOf(wf);
+            valid = curp.charAt(CURPChar.SURNAME_A_VOWEL.getValue()) == vowel;
 
-            // Buscar principio de la CURP en la lista de palabras inconvenientes
-            if (Altisonantes.getAltisonantes().containsKey(curpStart)) {
-                // Usar las vocales reales para determinar si la CURP corresponde al apellido
-                for (String vowel : Altisonantes.getAltisonantes().get(curpStart)) {
-                    valid = valid || (vowel.charAt(0) == wf.getVowel());
-                }
-            }
+            // Si la CURP empieza con una palabra inconveniente censurada,
+            // usar las vocales reales para determinar si corresponde al apellido
+            valid = valid || Altisonantes.isCensoredVowel(curp, vowel);
         }
 
         return valid;
@@ -215,10 +614,22 @@ public class CURP {
      * @return true si el segundo apellido es válido para esta CURP
      */
     public boolean segundoApellidoValido(String segundoApellido) {
-        WordFeautres wf = new WordFeautres(segundoApellido, IGNORED_WORDS, SPECIAL_CHARS);
+        NameMatchEvent event = new NameMatchEvent();
+        event.start();
+        boolean valid;
+        try {
+            valid = secondSurnameMatches(wordFeatures(segundoApellido));
+        } catch (RuntimeException e) {
+            event.fail(NameMatchEvent.SEGUNDO_APELLIDO, segundoApellido, e);
+            throw e;
+        }
+        event.finish(NameMatchEvent.SEGUNDO_APELLIDO, segundoApellido, valid);
+        return valid;
+    }
 
-        boolean valid = (curp.charAt(CURPChar.SURNAME_B_CHAR.getValue()) == wf.getChar()) &&
-                        (curp.charAt(CURPChar.SURNAME_B_CONSONANT.getValue()) == wf.getConsonant());
+    private boolean secondSurnameMatches(long wf) {
+        boolean valid = (curp.charAt(CURPChar.SURNAME_B_CHAR.getValue()) == WordFeaturesCache.charOf(wf)) &&
+                        (curp.charAt(CURPChar.SURNAME_B_CONSONANT.getValue()) == WordFeaturesCache.consonantOf(wf));
         return valid;
     }
 
@@ -229,231 +640,267 @@ public class CURP {
      * @return Una arreglo con el nombre por partes, o null si el nombre no corresponde.
      */
     public String[] nombreCompletoValido(String nombreCompleto) {
-        enum NameParseState {
-            NONE, GIVEN_NAMES, FIRST_SURNAME, SECOND_SURNAME
+        FullNameMatch match = dividirNombreCompleto(nombreCompleto);
+        return match != null ? match.toArray() : null;
+    }
+
+    /**
+     * Utiliza un nombre completo para validar la CURP, devolviendo dónde
+     * empieza y termina cada parte.
+     *
+     * El nombre se recorre una sola vez: cada palabra se clasifica y se
+     * analiza una sola vez, y las palabras ignoradas se reconocen sin
+     * crear Strings.
+     *
+     * @param nombreCompleto Nombre completo para validar.
+     * @return El nombre por partes, o null si el nombre no corresponde.
+     */
+    public FullNameMatch dividirNombreCompleto(String nombreCompleto) {
+        NameMatchEvent event = new NameMatchEvent();
+        event.start();
+        FullNameMatch match;
+        try {
+            match = splitFullName(nombreCompleto);
+        } catch (RuntimeException e) {
+            event.fail(NameMatchEvent.NOMBRE_COMPLETO, nombreCompleto, e);
+            throw e;
         }
+        event.finish(NameMatchEvent.NOMBRE_COMPLETO, nombreCompleto, match != null);
+        return match;
+    }
+
+    private FullNameMatch splitFullName(String nombreCompleto) {
+        // Partes del nombre por orden; el nombre de pila empieza en NONE
+        final int NONE = 0, GIVEN_NAMES = 1, FIRST_SURNAME = 2, SECOND_SURNAME = 3;
+
+        int[] bounds = new int[6];
+        Arrays.fill(bounds, -1);
+
+        int state = NONE;
+        int ignoredStart = -1;
+        int ignoredEnd = -1;
 
-        Map<NameParseState, List<String>> names = new HashMap<>();
-        for (NameParseState state : NameParseState.values()) {
-            names.put(state, new ArrayList<>());
+        // Igual que split(" "), que descarta las palabras vacías del final
+        int length = nombreCompleto.length();
+        int end = length;
+        while (end > 0 && nombreCompleto.charAt(end - 1) == ' ') {
+            end--;
+        }
+        if (end == 0 && length > 0) {
+            return null;
         }
 
-        NameParseState state = NameParseState.NONE;
-        List<String> ignoredBuffer = new ArrayList<>();
+        int wordStart = 0;
+        while (wordStart <= end) {
+            int wordEnd = nombreCompleto.indexOf(' ', wordStart);
+            if (wordEnd < 0 || wordEnd > end) {
+                wordEnd = end;
+            }
 
-        String[] words = nombreCompleto.split(" ");
-        for (String word : words) {
-            if (!IGNORED_WORDS.contains(normalize(word.toUpperCase()))) {
-                boolean valid;
+            if (!IGNORED_WORD_SET.containsFolded(nombreCompleto, wordStart, wordEnd)) {
+                String word = nombreCompleto.substring(wordStart, wordEnd);
                 switch (state) {
                     case NONE:
-                        valid = nombreValido(word);
-                        if (valid) {
-                            state = NameParseState.GIVEN_NAMES;
-                        } else if (!IGNORED_NAMES.contains(normalize(word.toUpperCase()))) {
+                        if (nameMatches(wordFeatures(word.toUpperCase()))) {
+                            state = GIVEN_NAMES;
+                        } else if (!IGNORED_NAME_SET.containsFolded(nombreCompleto, wordStart, wordEnd)) {
                             return null;
                         }
                         break;
                     case GIVEN_NAMES:
-                        valid = primerApellidoValido(word);
-                        if (valid) {
-                            state = NameParseState.FIRST_SURNAME;
+                        if (firstSurnameMatches(wordFeatures(word))) {
+                            state = FIRST_SURNAME;
                         }
                         break;
                     case FIRST_SURNAME:
-                        valid = segundoApellidoValido(word);
-                        if (valid) {
-                            state = NameParseState.SECOND_SURNAME;
+                        if (secondSurnameMatches(wordFeatures(word))) {
+                            state = SECOND_SURNAME;
                         }
                         break;
-                    case SECOND_SURNAME:
+                    default:
                         return null; // No debería haber más palabras después del segundo apellido
                 }
 
                 // Agregar palabras ignoradas guardadas a la parte actual
-                if (!ignoredBuffer.isEmpty()) {
-                    names.get(state).addAll(ignoredBuffer);
-                    ignoredBuffer.clear();
-                }
-                names.get(state).add(word);
+                extend(bounds, state, ignoredStart >= 0 ? ignoredStart : wordStart, wordEnd);
+                ignoredStart = -1;
             } else {
-                ignoredBuffer.add(word);
+                if (ignoredStart < 0) {
+                    ignoredStart = wordStart;
+                }
+                ignoredEnd = wordEnd;
             }
+
+            wordStart = wordEnd + 1;
         }
 
-        names.get(state).addAll(ignoredBuffer);
+        if (ignoredStart >= 0) {
+            extend(bounds, state, ignoredStart, ignoredEnd);
+        }
 
-        boolean valid = state == NameParseState.SECOND_SURNAME;
+        boolean valid = state == SECOND_SURNAME;
 
-        if (state == NameParseState.FIRST_SURNAME) {
+        if (state == FIRST_SURNAME) {
             valid = isSegundoApellidoVacio();
-        } else if (state == NameParseState.GIVEN_NAMES) {
+        } else if (state == GIVEN_NAMES) {
             valid = isPrimerApellidoVacio();
         }
 
         if (valid) {
-            List<String> givenNames = names.get(NameParseState.NONE);
-            givenNames.addAll(names.get(NameParseState.GIVEN_NAMES));
-
-            String[] result = new String[3];
-            result[0] = String.join(" ", givenNames);
-            result[1] = String.join(" ", names.get(NameParseState.FIRST_SURNAME));
-            result[2] = String.join(" ", names.get(NameParseState.SECOND_SURNAME));
-
-            return result;
+            // Las partes vacías quedan al final de la parte anterior
+            int previous = 0;
+            for (int i = 0; i < bounds.length; i += 2) {
+                if (bounds[i] < 0) {
+                    bounds[i] = previous;
+                    bounds[i + 1] = previous;
+                }
+                previous = bounds[i + 1];
+            }
+            return new FullNameMatch(nombreCompleto, bounds);
         }
 
         return null;
     }
 
     /**
-     * Valida que los caracteres correspondientes al nombre y apellidos
-     * estén dentro del espacio correcto.
+     * Extiende una parte del nombre para incluir un intervalo del nombre completo.
      */
-    private boolean validateNameChars() {
-        String consonants = WordFeautres.CONSONANTS;
-        String vowels = WordFeautres.VOWELS + "X";
-
-        int[][] nameChars = {
-                {CURPChar.NAME_CHAR.getValue(), CURPChar.NAME_CONSONANT.getValue()},
-                {CURPChar.SURNAME_A_CHAR.getValue(), CURPChar.SURNAME_A_CONSONANT.getValue()},
-                {CURPChar.SURNAME_B_CHAR.getValue(), CURPChar.SURNAME_B_CONSONANT.getValue()}
-        };
-
-        boolean valid = vowels.indexOf(curp.charAt(CURPChar.SURNAME_A_VOWEL.getValue())) >= 0;
-
-        for (int[] pair : nameChars) {
-            int charPos = pair[0];
-            int consonantPos = pair[1];
-
-            char ch = curp.charAt(charPos);
-            char cons = curp.charAt(consonantPos);
-
-            valid = valid && (Character.isUpperCase(ch) && consonants.indexOf(cons) >= 0);
+    private static void extend(int[] bounds, int state, int start, int end) {
+        // NONE y GIVEN_NAMES forman juntos el nombre de pila
+        int part = Math.max(state - 1, 0) * 2;
+        if (bounds[part] < 0) {
+            bounds[part] = start;
         }
+        bounds[part + 1] = end;
+    }
 
-        if (INC_UNCENSORED.contains(curp.substring(0, CURPChar.NAME_CHAR.getValue() + 1))) {
-            valid = false;
-        }
+    /**
+     * Activa, cambia de tamaño o desactiva la caché de características de
+     * nombres y apellidos que usan {@link #nombreValido(String)},
+     * {@link #primerApellidoValido(String)} y {@link #segundoApellidoValido(String)}.
+     *
+     * Los nombres más comunes se repiten mucho en un lote, así que con la
+     * caché activada analizarlos cuesta una sola búsqueda. La caché es
+     * compartida por todos los hilos. También puede activarse al iniciar con
+     * la propiedad {@code -Dcurpsuite.wordCacheSize=N}.
+     *
+     * @param capacity Número máximo de palabras guardadas; 0 para desactivarla.
+     */
+    public static void setWordCacheSize(int capacity) {
+        wordCache = newWordCache(capacity);
+    }
 
-        return valid;
+    /**
+     * @return La caché de características de nombres y apellidos, con sus
+     *         contadores de aciertos y fallos, o null si está desactivada.
+     */
+    public static WordFeaturesCache getWordCache() {
+        return wordCache;
     }
 
     /**
-     * Obtiene la fecha de nacimiento de la CURP.
+     * Activa, cambia o desactiva las métricas de validación.
+     *
+     * Con las métricas activadas, cada validación (constructores,
+     * {@code parse}, {@code validate} y {@link CURPView}) cuenta su
+     * resultado, y una muestra de ellas mide la latencia de cada etapa.
+     * También pueden activarse al iniciar con {@code -Dcurpsuite.metrics=true}.
      *
-     * @return La fecha de nacimiento indicada en la CURP
-     * @throws CURPDateException La fecha de nacimiento no pudo ser construída
+     * @param curpMetrics Métricas donde se registrarán las validaciones; null para desactivarlas.
      */
-    private LocalDate parseBirthDate() {
-        // Homonímia
-        // [0-9] para personas nacidas hasta el 1999
-        // [A-Z] para personas nacidas desde el 2000
-        char homonymy = curp.charAt(CURPChar.HOMONYMY.getValue());
-        boolean before2k = Character.isDigit(homonymy);
+    public static void setMetrics(CURPMetrics curpMetrics) {
+        metrics = curpMetrics;
+    }
 
-        // Día y mes de nacimiento
-        try {
-            int day = Integer.parseInt(curp.substring(CURPChar.DAY_0.getValue(), CURPChar.DAY_1.getValue() + 1));
-            int month = Integer.parseInt(curp.substring(CURPChar.MONTH_0.getValue(), CURPChar.MONTH_1.getValue() + 1));
-            int year = Integer.parseInt(curp.substring(CURPChar.YEAR_0.getValue(), CURPChar.YEAR_1.getValue() + 1));
-
-            // Año y siglo actual
-            int currentYear = Year.now().getValue();
-            int century = currentYear / 100;
-
-            // Asume que cualquier año mayor al actual
-            // es en realidad del siglo pasado
-            if (year > (currentYear % 100)) {
-                century -= 1;
-            }
+    /**
+     * @return Las métricas de validación, o null si están desactivadas.
+     */
+    public static CURPMetrics getMetrics() {
+        return metrics;
+    }
 
-            // Aunque no necesariamente cierto,
-            // es probablemente la mejor opción
-            if (before2k) {
-                century = 19;
-            } else if (century == 19) {
-                century = 20;
-            }
+    private static WordFeaturesCache newWordCache(int capacity) {
+        return capacity > 0 ? new WordFeaturesCache(capacity, IGNORED_WORDS, SPECIAL_CHARS) : null;
+    }
 
-            year += (century * 100);
+    /**
+     * @return Las características empacadas de una palabra, usando la caché si está activada.
+     */
+    static long wordFeatures(String word) {
+        WordFeaturesCache cache = wordCache;
+        if (cache != null) {
+            return cache.features(word);
+        }
+        return WordFeaturesCache.pack(new WordFeautres(word, IGNORED_WORDS, SPECIAL_CHARS));
+    }
 
-            // Regresar con error si la fecha es incorrecta
-            try {
-                birthDate = LocalDate.of(year, month, day);
-            } catch (Exception e) {
-                throw new CURPDateException("La fecha de nacimiento es incorrecta");
+    /**
+     * Valida que los caracteres correspondientes al nombre y apellidos
+     * estén dentro del espacio correcto.
+     */
+    private static boolean validateNameChars(CharSequence curp) {
+        for (int position : NAME_CHAR_POSITIONS) {
+            if (!CharClasses.matches(curp.charAt(position), position)) {
+                return false;
             }
-
-            return birthDate;
-        } catch (NumberFormatException e) {
-            throw new CURPValueException("La fecha de nacimiento contiene caracteres no numéricos");
         }
+
+        // Palabra inconveniente sin censura
+        return !Altisonantes.isUncensored(curp);
     }
 
     /**
-     * Obtiene el sexo de la CURP.
+     * Obtiene la fecha de nacimiento de la CURP, como días desde 1970-01-01.
      *
-     * @return El sexo de acuerdo a ISO/IEC 5218.
-     * @throws CURPSexException El sexo en la CURP es incorrecto.
+     * @throws CURPException Si la fecha no se validó y es incorrecta.
      */
-    private Sexo parseSex() {
-        char curpSex = curp.charAt(CURPChar.SEX.getValue());
-        sex = SEXES.getOrDefault(String.valueOf(curpSex), Sexo.DESCONOCIDO);
-
-        if (sex == Sexo.DESCONOCIDO) {
-            throw new CURPSexException("El sexo de la CURP no es válido");
+    private int birthEpochDay() {
+        int epochDay = birthEpochDay;
+        if (epochDay == BirthDateDecoder.INVALID) {
+            throw CURPStatus.DATE.toException();
         }
-
-        return sex;
+        return epochDay;
     }
 
     /**
      * Obtiene la entidad federativa de nacimiento de la CURP.
      *
-     * @return Datos de la entidad federativa de nacimiento.
-     * @throws CURPRegionException La CURP contiene un código de entidad incorrecto.
+     * @throws CURPException Si la entidad no se validó y es incorrecta.
      */
-    private RegionData parseRegion() {
-        String curpRegion = curp.substring(CURPChar.REGION_0.getValue(), CURPChar.REGION_1.getValue() + 1);
-        birthPlace = Estados.getEstados().get(curpRegion);
-
-        if (birthPlace == null) {
-            throw new CURPRegionException("La entidad de nacimiento es incorrecta");
+    private RegionData birthPlace() {
+        RegionData place = birthPlace;
+        if (place == null) {
+            Region parsed = getRegion();
+            if (parsed == null) {
+                throw CURPStatus.REGION.toException();
+            }
+            place = parsed.toRegionData();
+            birthPlace = place;
         }
-
-        return birthPlace;
+        return place;
     }
 
     /**
-     * Usa el último carácter de la CURP para verificar la misma
-     * de acuerdo al algoritmo oficial.
+     * Busca la entidad federativa indicada en la CURP.
+     *
+     * @return Datos de la entidad, o null si el código es incorrecto.
      */
-    private boolean validateVerify() {
-        // Código de verificación
-        char verify = curp.charAt(CURPChar.VERIFICATION.getValue());
-        int b37Sum = verificationSum(curp);
-        // Hacer las operaciones finales
-        return sumToVerifyDigit(b37Sum) == verify;
+    static RegionData region(CharSequence curp) {
+        Region region = regionOf(curp);
+        return region != null ? region.toRegionData() : null;
     }
 
     /**
-     * Suma de verificación de la CURP.
+     * Busca la entidad federativa indicada en la CURP.
+     *
+     * @return La entidad, o null si el código es incorrecto.
      */
-    private static int verificationSum(String curp) {
-        try {
-            int sum = 0;
-            for (int i = 0; i < curp.length() - 1; i++) {
-                sum += (curp.length() - i) * CHARSET.indexOf(curp.charAt(i));
-            }
-            // Asegurarse de que el dígito de verificación sea válido
-            CHARSET.indexOf(curp.charAt(curp.length() - 1));
-            return sum;
-        } catch (StringIndexOutOfBoundsException e) {
-            throw new CURPValueException("La CURP contiene caracteres no válidos.");
-        }
+    static Region regionOf(CharSequence curp) {
+        return Region.fromCode(curp.charAt(CURPChar.REGION_0.getValue()),
+                curp.charAt(CURPChar.REGION_1.getValue()));
     }
 
+
     /**
      * Convierte la suma a dígito verificador
      */
@@ -463,41 +910,14 @@ public class CURP {
         return Character.forDigit(d, 10);
     }
 
-    /**
-     * Normaliza un string removiendo acentos.
-     */
-    private static String normalize(String text) {
-        return java.text.Normalizer.normalize(text, java.text.Normalizer.Form.NFD)
-                .replaceAll("\\p{InCombiningDiacriticalMarks}+", "")
-                .replace('Ñ', 'X')
-                .replace('ñ', 'X');
-    }
-
     /**
      * Objeto JSON conteniendo los datos extraídos de la CURP.
+     *
+     * Para escribir muchas CURPs sin crear un String por cada una, usar
+     * {@link CURPJson} o {@link CURPJsonLinesWriter}.
      */
     public String toJson() {
-        Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd").create();
-        Map<String, Object> jsonData = new HashMap<>();
-
-        jsonData.put("curp", curp);
-        jsonData.put("sexo", sex);
-        jsonData.put("fecha_nacimiento", birthDate);
-        jsonData.put("entidad_nacimiento", birthPlace);
-
-        if (name != null) {
-            jsonData.put("nombre", name);
-        }
-
-        if (firstSurname != null) {
-            jsonData.put("primer_apellido", firstSurname);
-        }
-
-        if (secondSurname != null) {
-            jsonData.put("segundo_apellido", secondSurname);
-        }
-
-        return gson.toJson(jsonData);
+        return CURPJson.toJson(this);
     }
 
     /**
@@ -507,6 +927,13 @@ public class CURP {
         return curp;
     }
 
+    /**
+     * @return Verificaciones que se realizaron al construir el objeto.
+     */
+    public ValidationLevel getValidationLevel() {
+        return level;
+    }
+
     /**
      * @return Nombre con el que se construyó el objeto.
      */
@@ -532,35 +959,64 @@ public class CURP {
      * @return Fecha de nacimiento extraída de la CURP.
      */
     public LocalDate getFechaNacimiento() {
-        return birthDate;
+        LocalDate date = birthDate;
+        if (date == null) {
+            date = LocalDate.ofEpochDay(birthEpochDay());
+            birthDate = date;
+        }
+        return date;
+    }
+
+    /**
+     * @return Fecha de nacimiento extraída de la CURP, como días desde 1970-01-01.
+     */
+    public int getFechaNacimientoEpoch() {
+        return birthEpochDay();
     }
 
     /**
      * @return Sexo extraído de la CURP.
      */
     public Sexo getSexo() {
-        return sex;
+        Sexo parsed = sex;
+        if (parsed == null) {
+            parsed = Sexo.fromChar(curp.charAt(CURPChar.SEX.getValue()));
+            sex = parsed;
+        }
+        return parsed;
     }
 
     /**
      * @return Entidad federativa de nacimiento de la CURP.
      */
     public String getEntidad() {
-        return birthPlace.getName();
+        return birthPlace().getName();
     }
 
     /**
      * @return Código ISO de la entidad federativa de nacimiento de la CURP.
      */
     public String getEntidadIso() {
-        return birthPlace.getIso();
+        return birthPlace().getIso();
+    }
+
+    /**
+     * @return Entidad federativa de nacimiento de la CURP, como enum.
+     */
+    public Region getRegion() {
+        Region parsed = region;
+        if (parsed == null) {
+            parsed = regionOf(curp);
+            region = parsed;
+        }
+        return parsed;
     }
 
     /**
      * @return True si la CURP pertenece a alguien nacido en el extranjero.
      */
     public boolean isExtranjero() {
-        return birthPlace.getIso() == null;
+        return birthPlace().getIso() == null;
     }
 
     /**
@@ -0,0 +1,239 @@
+package com.curpsuite;
+
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntFunction;
+
+/**
+ * Valida lotes de CURPs en paralelo.
+ *
+ * Los resultados se devuelven en un arreglo paralelo a la entrada: el
+ * resultado de la entrada {@code i} está en la posición {@code i}.
+ * Los lotes pequeños se validan en el hilo que llama, sin repartir trabajo.
+ *
+ * Uso:
+ * <pre>
+ * {@code
+ * CURPBatchValidator validator = new CURPBatchValidator(ForkJoinPool.commonPool());
+ * CURPResult[] results = validator.validate(curps);
+ * }
+ * </pre>
+ */
+public class CURPBatchValidator {
+    // Lotes de hasta este tamaño se validan en el hilo que llama
+    private static final int SEQUENTIAL_THRESHOLD = 256;
+    // Tamaño mínimo de cada tarea, para que repartirla valga la pena
+    private static final int MIN_TASK_SIZE = 64;
+    // Tareas por hilo, para repartir el trabajo aunque algunas tarden más
+    private static final int TASKS_PER_THREAD = 4;
+
+    private final ForkJoinPool pool;
+    private final Executor executor;
+    private final int parallelism;
+
+    /**
+     * Construye un validador que reparte el trabajo en un ForkJoinPool.
+     *
+     * @param pool El pool donde se validarán los lotes.
+     */
+    public CURPBatchValidator(ForkJoinPool pool) {
+        this.pool = pool;
+        this.executor = null;
+        this.parallelism = pool.getParallelism();
+    }
+
+    /**
+     * Construye un validador que reparte el trabajo en un Executor.
+     * El hilo que llama también valida, así que el executor puede ser
+     * acotado o el mismo desde donde se validan los lotes.
+     *
+     * @param executor El executor donde se validarán los lotes.
+     * @param parallelism Número de hilos del executor que se espera usar.
+     */
+    public CURPBatchValidator(Executor executor, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("El paralelismo debe ser al menos 1");
+        }
+        this.pool = null;
+        this.executor = executor;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Construye un validador que reparte el trabajo en un Executor,
+     * esperando usar un hilo por procesador.
+     *
+     * @param executor El executor donde se validarán los lotes.
+     */
+    public CURPBatchValidator(Executor executor) {
+        this(executor, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Valida un arreglo de CURPs.
+     *
+     * @param curps CURPs de 18 caracteres.
+     * @return Los resultados, en el mismo orden que la entrada.
+     */
+    public CURPResult[] validate(String[] curps) {
+        return run(curps.length, i -> CURP.parse(curps[i]));
+    }
+
+    /**
+     * Valida una lista de CURPs.
+     *
+     * @param curps CURPs de 18 caracteres.
+     * @return Los resultados, en el mismo orden que la entrada.
+     */
+    public CURPResult[] validate(List<String> curps) {
+        if (!(curps instanceof RandomAccess)) {
+            return validate(curps.toArray(new String[0]));
+        }
+        return run(curps.size(), i -> CURP.parse(curps.get(i)));
+    }
+
+    /**
+     * Valida un arreglo de CURPs con sus nombres.
+     *
+     * @param inputs CURPs por validar, con las partes del nombre que se quieran validar.
+     * @return Los resultados, en el mismo orden que la entrada.
+     */
+    public CURPResult[] validate(CURPInput[] inputs) {
+        return run(inputs.length, i -> inputs[i].parse());
+    }
+
+    /**
+     * Valida una lista de CURPs con sus nombres.
+     *
+     * @param inputs CURPs por validar, con las partes del nombre que se quieran validar.
+     * @return Los resultados, en el mismo orden que la entrada.
+     */
+    public CURPResult[] validateInputs(List<CURPInput> inputs) {
+        if (!(inputs instanceof RandomAccess)) {
+            return validate(inputs.toArray(new CURPInput[0]));
+        }
+        return run(inputs.size(), i -> inputs.get(i).parse());
+    }
+
+    /**
+     * Tamaño de cada tarea para un lote: suficientes tareas para ocupar
+     * todos los hilos, pero nunca tan pequeñas que repartirlas cueste más
+     * que validarlas.
+     */
+    private int taskSize(int size) {
+        return Math.max(MIN_TASK_SIZE, size / (parallelism * TASKS_PER_THREAD));
+    }
+
+    private CURPResult[] run(int size, IntFunction<CURPResult> parse) {
+        CURPResult[] results = new CURPResult[size];
+
+        if (size <= SEQUENTIAL_THRESHOLD || parallelism == 1) {
+            validateRange(parse, results, 0, size);
+        } else if (pool != null) {
+            pool.invoke(new ValidateTask(parse, results, 0, size, taskSize(size)));
+        } else {
+            runOnExecutor(parse, results);
+        }
+
+        return results;
+    }
+
+    /**
+     * Reparte el lote en rangos que toman, uno por uno, el hilo que llama y
+     * hasta parallelism - 1 tareas del executor. El hilo que llama sigue
+     * tomando rangos hasta que no queda ninguno, así que sólo espera a los
+     * que otro hilo ya está validando: no se bloquea aunque el executor esté
+     * lleno, rechace tareas o el lote se valide desde uno de sus hilos.
+     */
+    private void runOnExecutor(IntFunction<CURPResult> parse, CURPResult[] results) {
+        int size = results.length;
+        int taskSize = taskSize(size);
+        int tasks = (size + taskSize - 1) / taskSize;
+
+        AtomicInteger next = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(tasks);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        Runnable worker = () -> {
+            int task;
+            while ((task = next.getAndIncrement()) < tasks) {
+                try {
+                    validateRange(parse, results, task * taskSize, Math.min((task + 1) * taskSize, size));
+                } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                } finally {
+                    done.countDown();
+                }
+            }
+        };
+
+        try {
+            for (int i = 1; i < Math.min(parallelism, tasks); i++) {
+                executor.execute(worker);
+            }
+        } catch (RejectedExecutionException e) {
+            // Los rangos que no tomen las tareas ya enviadas se validan aquí
+        }
+        worker.run();
+
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("La validación del lote fue interrumpida", e);
+        }
+
+        Throwable t = failure.get();
+        if (t instanceof RuntimeException) {
+            throw (RuntimeException) t;
+        } else if (t instanceof Error) {
+            throw (Error) t;
+        }
+    }
+
+    private static void validateRange(IntFunction<CURPResult> parse, CURPResult[] results, int from, int to) {
+        for (int i = from; i < to; i++) {
+            results[i] = parse.apply(i);
+        }
+    }
+
+    /**
+     * Divide un rango del lote a la mitad hasta llegar al tamaño de tarea.
+     */
+    private static final class ValidateTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient IntFunction<CURPResult> parse;
+        private final CURPResult[] results;
+        private final int from;
+        private final int to;
+        private final int taskSize;
+
+        ValidateTask(IntFunction<CURPResult> parse, CURPResult[] results, int from, int to, int taskSize) {
+            this.parse = parse;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+            this.taskSize = taskSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= taskSize) {
+                validateRange(parse, results, from, to);
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new ValidateTask(parse, results, from, middle, taskSize),
+                    new ValidateTask(parse, results, middle, to, taskSize));
+        }
+    }
+}
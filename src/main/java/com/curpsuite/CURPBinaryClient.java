@@ -0,0 +1,179 @@
+package com.curpsuite;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Cliente de {@link CURPBinaryServer}.
+ *
+ * Para validar una CURP a la vez basta {@link #validate(CharSequence)}.
+ * Para encadenar peticiones, se envían con {@link #send(CharSequence)},
+ * que sólo las acumula en un búfer, se llama {@link #flush()} y se leen las
+ * respuestas con {@link #receive()} en el mismo orden:
+ * <pre>
+ * {@code
+ * try (CURPBinaryClient client = CURPBinaryClient.connect("localhost", 8081)) {
+ *     for (String curp : curps) {
+ *         client.send(curp);
+ *     }
+ *     client.flush();
+ *     for (int i = 0; i < curps.size(); i++) {
+ *         CURPBinaryResponse response = client.receive();
+ *     }
+ * }
+ * }
+ * </pre>
+ *
+ * Si se envían muchas peticiones sin leer respuestas, el servidor deja de
+ * leerlas y el envío se bloquea; para mantener muchas en vuelo conviene
+ * enviar desde un hilo y recibir desde otro. Un hilo puede enviar mientras
+ * otro recibe, pero cada lado no debe usarse desde más de un hilo.
+ */
+public final class CURPBinaryClient implements Closeable {
+    private static final int BUFFER_SIZE = 64 << 10;
+
+    private final SocketChannel channel;
+    private final ByteBuffer out = ByteBuffer.allocate(BUFFER_SIZE);
+    private final ByteBuffer in = ByteBuffer.allocate(BUFFER_SIZE).flip();
+
+    private CURPBinaryClient(SocketChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Se conecta a un servidor.
+     *
+     * @throws IOException Si no se puede conectar.
+     */
+    public static CURPBinaryClient connect(String host, int port) throws IOException {
+        return connect(new InetSocketAddress(host, port));
+    }
+
+    /**
+     * Se conecta a un servidor.
+     *
+     * @throws IOException Si no se puede conectar.
+     */
+    public static CURPBinaryClient connect(InetSocketAddress address) throws IOException {
+        SocketChannel channel = SocketChannel.open();
+        try {
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            channel.connect(address);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return new CURPBinaryClient(channel);
+    }
+
+    /**
+     * Envía una CURP y espera su respuesta.
+     *
+     * @throws IOException Si falla la conexión.
+     */
+    public CURPBinaryResponse validate(CharSequence curp) throws IOException {
+        send(curp);
+        flush();
+        return receive();
+    }
+
+    /**
+     * Agrega una CURP al búfer de envío; se envía al llenarse el búfer o
+     * al llamar {@link #flush()}. Los caracteres fuera de Latin-1 se envían
+     * como '?', que el servidor rechaza.
+     *
+     * @throws IllegalArgumentException Si tiene más de
+     *         {@value CURPBinaryServer#MAX_REQUEST_LENGTH} caracteres.
+     * @throws IOException Si falla la conexión.
+     */
+    public void send(CharSequence curp) throws IOException {
+        int length = curp.length();
+        reserve(length);
+        out.put((byte) length);
+        for (int i = 0; i < length; i++) {
+            char c = curp.charAt(i);
+            out.put((byte) (c <= 0xFF ? c : '?'));
+        }
+    }
+
+    /**
+     * Agrega una CURP ya codificada en ASCII o Latin-1 al búfer de envío.
+     *
+     * @throws IllegalArgumentException Si tiene más de
+     *         {@value CURPBinaryServer#MAX_REQUEST_LENGTH} bytes.
+     * @throws IOException Si falla la conexión.
+     */
+    public void send(byte[] curp, int offset, int length) throws IOException {
+        reserve(length);
+        out.put((byte) length).put(curp, offset, length);
+    }
+
+    private void reserve(int length) throws IOException {
+        if (length > CURPBinaryServer.MAX_REQUEST_LENGTH) {
+            throw new IllegalArgumentException("La petición excede "
+                    + CURPBinaryServer.MAX_REQUEST_LENGTH + " bytes");
+        }
+        if (out.remaining() < 1 + length) {
+            flush();
+        }
+    }
+
+    /**
+     * Envía las peticiones acumuladas en el búfer.
+     *
+     * @throws IOException Si falla la conexión.
+     */
+    public void flush() throws IOException {
+        out.flip();
+        while (out.hasRemaining()) {
+            channel.write(out);
+        }
+        out.clear();
+    }
+
+    /**
+     * Lee la siguiente respuesta, esperando a que llegue. No envía las
+     * peticiones que sigan en el búfer.
+     *
+     * @throws EOFException Si el servidor cerró la conexión.
+     * @throws IOException Si falla la conexión o la respuesta no es válida.
+     */
+    public CURPBinaryResponse receive() throws IOException {
+        if (in.remaining() < CURPBinaryServer.RESPONSE_LENGTH) {
+            in.compact();
+            while (in.position() < CURPBinaryServer.RESPONSE_LENGTH) {
+                if (channel.read(in) < 0) {
+                    throw new EOFException("El servidor cerró la conexión");
+                }
+            }
+            in.flip();
+        }
+
+        try {
+            return CURPBinaryResponse.read(in);
+        } catch (IllegalArgumentException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Envía las peticiones acumuladas y cierra el lado de escritura de la
+     * conexión; el servidor responde las pendientes antes de cerrarla.
+     *
+     * @throws IOException Si falla la conexión.
+     */
+    public void shutdownOutput() throws IOException {
+        flush();
+        channel.shutdownOutput();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,339 @@
+package com.curpsuite;
+
+import com.curpsuite.enums.CURPStatus;
+import com.curpsuite.metrics.HistogramSnapshot;
+import com.curpsuite.metrics.LatencyHistogram;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Generador de carga para {@link CURPBinaryServer}.
+ *
+ * Abre varias conexiones y en cada una envía peticiones desde un hilo y lee
+ * las respuestas desde otro, manteniendo hasta cierto número de peticiones
+ * en vuelo (la ventana). Las CURPs se toman en ciclo de una lista.
+ *
+ * Uso:
+ * <pre>
+ * {@code
+ * CURPBinaryLoadGenerator.Result result = CURPBinaryLoadGenerator.builder(address, curps)
+ *         .connections(4)
+ *         .window(4096)
+ *         .requests(10_000_000)
+ *         .build()
+ *         .run();
+ * }
+ * </pre>
+ */
+public final class CURPBinaryLoadGenerator {
+    private static final int STATUSES = CURPStatus.values().length;
+
+    private final InetSocketAddress address;
+    private final byte[][] curps;
+    private final int connections;
+    private final int window;
+    private final long requests;
+
+    private CURPBinaryLoadGenerator(Builder builder) {
+        this.address = builder.address;
+        this.connections = builder.connections;
+        this.window = builder.window;
+        this.requests = builder.requests;
+
+        // Se codifican una sola vez para medir al servidor, no al cliente
+        this.curps = new byte[builder.curps.size()][];
+        for (int i = 0; i < curps.length; i++) {
+            curps[i] = builder.curps.get(i).getBytes(StandardCharsets.ISO_8859_1);
+            if (curps[i].length > CURPBinaryServer.MAX_REQUEST_LENGTH) {
+                throw new IllegalArgumentException("La CURP excede "
+                        + CURPBinaryServer.MAX_REQUEST_LENGTH + " bytes: " + builder.curps.get(i));
+            }
+        }
+    }
+
+    /**
+     * @param address Dirección del servidor.
+     * @param curps CURPs por enviar; se repiten en ciclo si se piden más peticiones.
+     * @return Un constructor con los valores por omisión.
+     */
+    public static Builder builder(InetSocketAddress address, List<String> curps) {
+        return new Builder(address, curps);
+    }
+
+    /**
+     * Envía todas las peticiones y espera sus respuestas.
+     *
+     * @return Las respuestas por resultado y la latencia de cada petición.
+     * @throws IOException Si falla alguna conexión.
+     */
+    public Result run() throws IOException {
+        LatencyHistogram latency = new LatencyHistogram();
+        Connection[] workers = new Connection[connections];
+        try {
+            for (int i = 0; i < connections; i++) {
+                long count = requests / connections + (i < requests % connections ? 1 : 0);
+                workers[i] = new Connection(CURPBinaryClient.connect(address), count,
+                        (int) ((long) i * curps.length / connections), latency);
+            }
+        } catch (IOException e) {
+            for (Connection worker : workers) {
+                if (worker != null) {
+                    worker.client.close();
+                }
+            }
+            throw e;
+        }
+
+        long start = System.nanoTime();
+        for (Connection worker : workers) {
+            worker.sender.start();
+            worker.receiver.start();
+        }
+
+        long[] counts = new long[STATUSES];
+        IOException failure = null;
+        for (Connection worker : workers) {
+            try {
+                worker.sender.join();
+                worker.receiver.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Se interrumpió la prueba de carga", e);
+            }
+            worker.client.close();
+
+            if (worker.failure.get() != null && failure == null) {
+                failure = new IOException("Falló una conexión: " + worker.failure.get(), worker.failure.get());
+            }
+            for (int i = 0; i < STATUSES; i++) {
+                counts[i] += worker.counts[i];
+            }
+        }
+        long nanos = System.nanoTime() - start;
+
+        if (failure != null) {
+            throw failure;
+        }
+        return new Result(nanos, counts, latency.snapshot());
+    }
+
+    /**
+     * Una conexión con su hilo que envía y su hilo que recibe.
+     */
+    private final class Connection {
+        private final CURPBinaryClient client;
+        private final long count;
+        private final int first;
+        private final LatencyHistogram latency;
+        private final Semaphore inFlight = new Semaphore(window);
+        // Momento de envío de cada petición en vuelo, por número de petición
+        private final AtomicLongArray sentAt;
+        private final int mask;
+        private final long[] counts = new long[STATUSES];
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private final Thread sender;
+        private final Thread receiver;
+
+        Connection(CURPBinaryClient client, long count, int first, LatencyHistogram latency) {
+            this.client = client;
+            this.count = count;
+            this.first = first;
+            this.latency = latency;
+
+            int slots = Integer.highestOneBit(window - 1) << 1;
+            this.sentAt = new AtomicLongArray(Math.max(slots, 1));
+            this.mask = sentAt.length() - 1;
+
+            this.sender = new Thread(this::send, "curpsuite-load-send");
+            this.receiver = new Thread(this::receive, "curpsuite-load-receive");
+        }
+
+        private void send() {
+            try {
+                int next = first;
+                for (long i = 0; i < count; i++) {
+                    if (!inFlight.tryAcquire()) {
+                        // Se envía lo acumulado antes de esperar respuestas
+                        client.flush();
+                        inFlight.acquire();
+                    }
+                    byte[] curp = curps[next];
+                    sentAt.set((int) i & mask, System.nanoTime());
+                    client.send(curp, 0, curp.length);
+                    if (++next == curps.length) {
+                        next = 0;
+                    }
+                }
+                client.flush();
+            } catch (IOException | InterruptedException | RuntimeException e) {
+                fail(e);
+            }
+        }
+
+        private void receive() {
+            try {
+                for (long i = 0; i < count; i++) {
+                    CURPBinaryResponse response = client.receive();
+                    latency.record(System.nanoTime() - sentAt.get((int) i & mask));
+                    inFlight.release();
+                    counts[response.getStatus().getValue()]++;
+                }
+            } catch (IOException | RuntimeException e) {
+                fail(e);
+            }
+        }
+
+        /**
+         * Cierra la conexión para que el otro hilo también termine.
+         */
+        private void fail(Throwable e) {
+            if (failure.compareAndSet(null, e)) {
+                try {
+                    client.close();
+                } catch (IOException ignored) {
+                    // Ya se reportará el primer error
+                }
+                inFlight.release(window);
+            }
+        }
+    }
+
+    /**
+     * Resultado de una prueba de carga.
+     */
+    public static final class Result {
+        private final long nanos;
+        private final long[] counts;
+        private final HistogramSnapshot latency;
+
+        private Result(long nanos, long[] counts, HistogramSnapshot latency) {
+            this.nanos = nanos;
+            this.counts = counts;
+            this.latency = latency;
+        }
+
+        /**
+         * @return Duración de la prueba en nanosegundos.
+         */
+        public long getNanos() {
+            return nanos;
+        }
+
+        /**
+         * @return Respuestas recibidas.
+         */
+        public long getResponses() {
+            long total = 0;
+            for (long count : counts) {
+                total += count;
+            }
+            return total;
+        }
+
+        /**
+         * @return Respuestas por segundo.
+         */
+        public double getResponsesPerSecond() {
+            return nanos > 0 ? getResponses() * 1e9 / nanos : 0;
+        }
+
+        /**
+         * @return Respuestas con un resultado en particular.
+         */
+        public long getCount(CURPStatus status) {
+            return counts[status.getValue()];
+        }
+
+        /**
+         * @return Respuestas por resultado, sin los que no aparecieron.
+         */
+        public Map<CURPStatus, Long> getCounts() {
+            Map<CURPStatus, Long> map = new EnumMap<>(CURPStatus.class);
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] > 0) {
+                    map.put(CURPStatus.fromValue(i), counts[i]);
+                }
+            }
+            return map;
+        }
+
+        /**
+         * @return Latencia de cada petición, desde que se agregó al búfer de
+         *         envío hasta que se leyó su respuesta.
+         */
+        public HistogramSnapshot getLatency() {
+            return latency;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d respuestas en %.3f s (%.0f/s), latencia %s, resultados %s",
+                    getResponses(), nanos / 1e9, getResponsesPerSecond(), latency, getCounts());
+        }
+    }
+
+    /**
+     * Configuración de un {@link CURPBinaryLoadGenerator}.
+     */
+    public static final class Builder {
+        private final InetSocketAddress address;
+        private final List<String> curps;
+        private int connections = 1;
+        private int window = 4096;
+        private long requests = 1_000_000;
+
+        private Builder(InetSocketAddress address, List<String> curps) {
+            if (curps.isEmpty()) {
+                throw new IllegalArgumentException("Debe haber al menos una CURP");
+            }
+            this.address = address;
+            this.curps = curps;
+        }
+
+        /**
+         * @param connections Conexiones simultáneas; por omisión, 1.
+         */
+        public Builder connections(int connections) {
+            if (connections < 1) {
+                throw new IllegalArgumentException("Debe haber al menos una conexión");
+            }
+            this.connections = connections;
+            return this;
+        }
+
+        /**
+         * @param window Peticiones en vuelo por conexión; por omisión, 4096.
+         */
+        public Builder window(int window) {
+            if (window < 1 || window > 1 << 24) {
+                throw new IllegalArgumentException("Ventana inválida: " + window);
+            }
+            this.window = window;
+            return this;
+        }
+
+        /**
+         * @param requests Peticiones en total, repartidas entre las
+         *                 conexiones; por omisión, un millón.
+         */
+        public Builder requests(long requests) {
+            if (requests < 1) {
+                throw new IllegalArgumentException("Debe haber al menos una petición");
+            }
+            this.requests = requests;
+            return this;
+        }
+
+        public CURPBinaryLoadGenerator build() {
+            return new CURPBinaryLoadGenerator(this);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.curpsuite;
+
+import com.curpsuite.enums.CURPStatus;
+import com.curpsuite.enums.Region;
+import com.curpsuite.enums.Sexo;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+
+/**
+ * Respuesta de {@link CURPBinaryServer} a una CURP, leída por
+ * {@link CURPBinaryClient}.
+ */
+public final class CURPBinaryResponse {
+    private static final int STATUSES = CURPStatus.values().length;
+    private static final Sexo[] SEXOS = Sexo.values();
+    private static final Region[] REGIONS = Region.values();
+
+    private final CURPStatus status;
+    private final Sexo sexo;
+    private final Region region;
+    private final int fechaNacimiento;
+
+    private CURPBinaryResponse(CURPStatus status, Sexo sexo, Region region, int fechaNacimiento) {
+        this.status = status;
+        this.sexo = sexo;
+        this.region = region;
+        this.fechaNacimiento = fechaNacimiento;
+    }
+
+    /**
+     * Lee una respuesta de {@value CURPBinaryServer#RESPONSE_LENGTH} bytes
+     * desde la posición actual del buffer y la avanza.
+     *
+     * @throws IllegalArgumentException Si la respuesta tiene códigos desconocidos.
+     */
+    static CURPBinaryResponse read(ByteBuffer buffer) {
+        int status = buffer.get() & 0xFF;
+        int sexo = buffer.get() & 0xFF;
+        int region = buffer.get() & 0xFF;
+        buffer.get();
+        int fechaNacimiento = buffer.getInt();
+
+        if (status >= STATUSES || sexo >= SEXOS.length || region >= REGIONS.length) {
+            throw new IllegalArgumentException("Respuesta desconocida: " + status + " " + sexo + " " + region);
+        }
+        if (status != CURPStatus.VALID.getValue()) {
+            return new CURPBinaryResponse(CURPStatus.fromValue(status), null, null, 0);
+        }
+        return new CURPBinaryResponse(CURPStatus.VALID, SEXOS[sexo], REGIONS[region], fechaNacimiento);
+    }
+
+    public CURPStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * @return True si la CURP es válida.
+     */
+    public boolean isValid() {
+        return status == CURPStatus.VALID;
+    }
+
+    /**
+     * @return Sexo de la CURP, o null si no es válida.
+     */
+    public Sexo getSexo() {
+        return sexo;
+    }
+
+    /**
+     * @return Entidad de nacimiento de la CURP, o null si no es válida.
+     */
+    public Region getRegion() {
+        return region;
+    }
+
+    /**
+     * @return Fecha de nacimiento de la CURP, o null si no es válida.
+     */
+    public LocalDate getFechaNacimiento() {
+        return isValid() ? LocalDate.ofEpochDay(fechaNacimiento) : null;
+    }
+
+    /**
+     * @return Fecha de nacimiento, como días desde 1970-01-01; 0 si la CURP no es válida.
+     */
+    public int getFechaNacimientoEpoch() {
+        return fechaNacimiento;
+    }
+
+    @Override
+    public String toString() {
+        return isValid()
+                ? status + " " + getFechaNacimiento() + " " + sexo + " " + region.getCode()
+                : status.toString();
+    }
+}
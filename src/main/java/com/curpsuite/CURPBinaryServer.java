@@ -0,0 +1,430 @@
+package com.curpsuite;
+
+import com.curpsuite.enums.CURPStatus;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Servicio de validación de CURPs sobre TCP con un protocolo binario, para
+ * clientes que validan volúmenes tan grandes que el HTTP y el JSON de
+ * {@link CURPServer} cuestan más que la validación.
+ *
+ * Cada petición es un byte con la longitud seguido de la CURP en ASCII o
+ * Latin-1 (normalmente 18 bytes). Cada respuesta ocupa
+ * {@value #RESPONSE_LENGTH} bytes:
+ * <pre>
+ * 0     código de {@link CURPStatus}, 0 si la CURP es válida
+ * 1     valor de {@link com.curpsuite.enums.Sexo}
+ * 2     ordinal de {@link com.curpsuite.enums.Region}
+ * 3     reservado, 0
+ * 4-7   fecha de nacimiento como días desde 1970-01-01 (int big-endian)
+ * </pre>
+ * Si la CURP no es válida, los bytes 1 a 7 son 0. Una longitud distinta de
+ * 18 se responde con {@link CURPStatus#LENGTH} sin cerrar la conexión.
+ *
+ * Las peticiones se pueden encadenar (pipelining): el cliente puede enviar
+ * miles sin esperar las respuestas, que llegan en el mismo orden. Cada hilo
+ * atiende sus conexiones con un {@link Selector} sin bloquearse y valida
+ * directamente sobre el búfer de lectura con un {@link CURPView}. Si un
+ * cliente no lee sus respuestas, el servidor deja de leer sus peticiones
+ * en cuanto se llena el búfer de escritura. Al cerrar su lado de escritura,
+ * el cliente recibe las respuestas pendientes antes de que se cierre la
+ * conexión.
+ *
+ * Uso:
+ * <pre>
+ * {@code
+ * CURPBinaryServer server = CURPBinaryServer.builder().port(8081).build();
+ * server.start();
+ * }
+ * </pre>
+ *
+ * @see CURPBinaryClient
+ */
+public final class CURPBinaryServer implements Closeable {
+    /**
+     * Longitud máxima de una petición; cabe en el byte de longitud.
+     */
+    public static final int MAX_REQUEST_LENGTH = 255;
+
+    /**
+     * Longitud de cada respuesta.
+     */
+    public static final int RESPONSE_LENGTH = 8;
+
+    /**
+     * Puerto por omisión.
+     */
+    public static final int DEFAULT_PORT = 8081;
+
+    /**
+     * Tamaño por omisión de los búferes de lectura y escritura de cada conexión.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 64 << 10;
+
+    private final ServerSocketChannel acceptor;
+    private final Loop[] loops;
+    private final int bufferSize;
+    private volatile boolean running;
+    private int nextLoop;
+
+    private CURPBinaryServer(Builder builder) throws IOException {
+        this.bufferSize = builder.bufferSize;
+
+        InetSocketAddress address = builder.host != null
+                ? new InetSocketAddress(builder.host, builder.port)
+                : new InetSocketAddress(builder.port);
+        this.acceptor = ServerSocketChannel.open();
+        try {
+            acceptor.bind(address, builder.backlog);
+            acceptor.configureBlocking(false);
+
+            this.loops = new Loop[builder.threads];
+            for (int i = 0; i < loops.length; i++) {
+                loops[i] = new Loop(i);
+            }
+            acceptor.register(loops[0].selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException e) {
+            acceptor.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return Un constructor de servidores con los valores por omisión.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Empieza a atender conexiones en segundo plano.
+     */
+    public void start() {
+        running = true;
+        for (Loop loop : loops) {
+            loop.thread.start();
+        }
+    }
+
+    /**
+     * Deja de aceptar conexiones, cierra las abiertas y espera a que
+     * terminen los hilos del servidor.
+     */
+    @Override
+    public void close() {
+        running = false;
+        for (Loop loop : loops) {
+            loop.selector.wakeup();
+        }
+        for (Loop loop : loops) {
+            if (loop.thread.getState() == Thread.State.NEW) {
+                closeQuietly(loop.selector);
+            } else if (loop.thread != Thread.currentThread()) {
+                try {
+                    loop.thread.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        closeQuietly(acceptor);
+    }
+
+    /**
+     * @return La dirección donde escucha el servidor; útil si se usó el puerto 0.
+     */
+    public InetSocketAddress getAddress() {
+        try {
+            return (InetSocketAddress) acceptor.getLocalAddress();
+        } catch (IOException e) {
+            throw new IllegalStateException("El servidor está cerrado", e);
+        }
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            // Se está cerrando de todos modos
+        }
+    }
+
+    /**
+     * Hilo con su propio selector, que atiende una parte de las conexiones.
+     * El primero también acepta las conexiones nuevas y las reparte.
+     */
+    private final class Loop implements Runnable {
+        private final Selector selector;
+        private final Thread thread;
+        private final Queue<SocketChannel> accepted = new ConcurrentLinkedQueue<>();
+        private final CURPView view = new CURPView();
+
+        Loop(int index) throws IOException {
+            this.selector = Selector.open();
+            this.thread = new Thread(this, "curpsuite-binary-" + index);
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (running) {
+                    selector.select();
+                    registerAccepted();
+
+                    for (SelectionKey key : selector.selectedKeys()) {
+                        if (!key.isValid()) {
+                            continue;
+                        }
+                        if (key.isAcceptable()) {
+                            accept();
+                            continue;
+                        }
+
+                        Connection connection = (Connection) key.attachment();
+                        try {
+                            connection.handle(key.isReadable());
+                        } catch (IOException e) {
+                            connection.close();
+                        }
+                    }
+                    selector.selectedKeys().clear();
+                }
+            } catch (IOException e) {
+                // El selector ya no se puede usar; se cierran sus conexiones
+            } finally {
+                for (SelectionKey key : selector.keys()) {
+                    if (key.attachment() instanceof Connection) {
+                        ((Connection) key.attachment()).close();
+                    }
+                }
+                closeQuietly(selector);
+            }
+        }
+
+        private void accept() throws IOException {
+            SocketChannel channel;
+            while ((channel = acceptor.accept()) != null) {
+                channel.configureBlocking(false);
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+
+                Loop loop = loops[nextLoop];
+                nextLoop = (nextLoop + 1) % loops.length;
+                if (loop == this) {
+                    register(channel);
+                } else {
+                    loop.accepted.add(channel);
+                    loop.selector.wakeup();
+                }
+            }
+        }
+
+        private void registerAccepted() throws IOException {
+            SocketChannel channel;
+            while ((channel = accepted.poll()) != null) {
+                register(channel);
+            }
+        }
+
+        private void register(SocketChannel channel) throws IOException {
+            Connection connection = new Connection(channel, view);
+            connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+        }
+    }
+
+    /**
+     * Estado de una conexión: las peticiones recibidas que faltan por
+     * atender y las respuestas que faltan por enviar.
+     */
+    private final class Connection {
+        private final SocketChannel channel;
+        private final CURPView view;
+        private final ByteBuffer in = ByteBuffer.allocate(bufferSize);
+        private final ByteBuffer out = ByteBuffer.allocate(bufferSize);
+        private SelectionKey key;
+        private boolean eof;
+
+        Connection(SocketChannel channel, CURPView view) {
+            this.channel = channel;
+            this.view = view;
+        }
+
+        /**
+         * Lee lo que haya disponible, responde las peticiones completas y
+         * envía las respuestas que quepan en el socket.
+         */
+        void handle(boolean readable) throws IOException {
+            if (readable && channel.read(in) < 0) {
+                eof = true;
+            }
+
+            boolean blocked;
+            do {
+                blocked = respond();
+                flush();
+            } while (blocked && out.position() == 0);
+
+            if (eof && !blocked && out.position() == 0) {
+                close();
+                return;
+            }
+
+            // Mientras el cliente no lea sus respuestas no se leen más peticiones
+            int ops = 0;
+            if (out.position() > 0) {
+                ops |= SelectionKey.OP_WRITE;
+            }
+            if (!eof && !blocked) {
+                ops |= SelectionKey.OP_READ;
+            }
+            key.interestOps(ops);
+        }
+
+        /**
+         * Responde las peticiones completas del búfer de lectura.
+         *
+         * @return True si quedaron peticiones completas sin responder
+         *         porque se llenó el búfer de escritura.
+         */
+        private boolean respond() {
+            int start = 0;
+            int end = in.position();
+            boolean blocked = false;
+
+            while (start < end) {
+                int length = in.get(start) & 0xFF;
+                if (end - start - 1 < length) {
+                    break;
+                }
+                if (out.remaining() < RESPONSE_LENGTH) {
+                    blocked = true;
+                    break;
+                }
+
+                view.reset(in, start + 1, length);
+                if (view.isValid()) {
+                    out.put((byte) CURPStatus.VALID.getValue())
+                            .put((byte) view.getSexo().getValue())
+                            .put((byte) view.getRegion().ordinal())
+                            .put((byte) 0)
+                            .putInt(view.getFechaNacimientoEpoch());
+                } else {
+                    out.put((byte) view.getStatus().getValue())
+                            .put((byte) 0)
+                            .put((byte) 0)
+                            .put((byte) 0)
+                            .putInt(0);
+                }
+                start += 1 + length;
+            }
+
+            // Se conserva la petición incompleta al inicio del búfer
+            in.limit(end).position(start);
+            in.compact();
+            return blocked;
+        }
+
+        private void flush() throws IOException {
+            if (out.position() > 0) {
+                out.flip();
+                channel.write(out);
+                out.compact();
+            }
+        }
+
+        void close() {
+            if (key != null) {
+                key.cancel();
+            }
+            closeQuietly(channel);
+        }
+    }
+
+    /**
+     * Configuración de un {@link CURPBinaryServer}.
+     */
+    public static final class Builder {
+        private String host;
+        private int port = DEFAULT_PORT;
+        private int backlog = 0;
+        private int threads = Runtime.getRuntime().availableProcessors();
+        private int bufferSize = DEFAULT_BUFFER_SIZE;
+
+        private Builder() {
+        }
+
+        /**
+         * @param host Dirección donde escuchar; por omisión, todas.
+         */
+        public Builder host(String host) {
+            this.host = host;
+            return this;
+        }
+
+        /**
+         * @param port Puerto donde escuchar; 0 para elegir uno libre. Por omisión, 8081.
+         */
+        public Builder port(int port) {
+            if (port < 0 || port > 65535) {
+                throw new IllegalArgumentException("Puerto inválido: " + port);
+            }
+            this.port = port;
+            return this;
+        }
+
+        /**
+         * @param backlog Conexiones pendientes de aceptar; 0 para el valor del sistema.
+         */
+        public Builder backlog(int backlog) {
+            this.backlog = backlog;
+            return this;
+        }
+
+        /**
+         * @param threads Hilos que atienden conexiones, cada uno con su
+         *                selector; por omisión, uno por procesador.
+         */
+        public Builder threads(int threads) {
+            if (threads < 1) {
+                throw new IllegalArgumentException("Debe haber al menos un hilo");
+            }
+            this.threads = threads;
+            return this;
+        }
+
+        /**
+         * @param bufferSize Tamaño de los búferes de lectura y escritura de
+         *                   cada conexión; limita cuántas respuestas se
+         *                   acumulan si el cliente no las lee.
+         */
+        public Builder bufferSize(int bufferSize) {
+            if (bufferSize < 1 + MAX_REQUEST_LENGTH) {
+                throw new IllegalArgumentException("El búfer debe tener al menos "
+                        + (1 + MAX_REQUEST_LENGTH) + " bytes");
+            }
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        /**
+         * Crea el servidor y abre el puerto; no atiende conexiones hasta
+         * llamar {@link CURPBinaryServer#start()}.
+         *
+         * @throws IOException Si no se puede abrir el puerto.
+         */
+        public CURPBinaryServer build() throws IOException {
+            return new CURPBinaryServer(this);
+        }
+    }
+}
@@ -0,0 +1,618 @@
+package com.curpsuite;
+
+import com.curpsuite.data.Altisonantes;
+import com.curpsuite.enums.CURPChar;
+import com.curpsuite.enums.CURPStatus;
+import com.curpsuite.enums.Region;
+import com.curpsuite.enums.Sexo;
+import com.curpsuite.utils.AliasSampler;
+import com.curpsuite.utils.CharClasses;
+import com.curpsuite.utils.WordFeaturesCache;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+/**
+ * Genera registros sintéticos de personas con su CURP, para pruebas de
+ * carga sin usar datos reales.
+ *
+ * Con la misma semilla y la misma configuración siempre produce la misma
+ * secuencia de registros. Los nombres incluyen nombres compuestos y
+ * comunes que se omiten (María, José), partículas (De la, Del, Van der),
+ * Ñ y acentos; la entidad incluye nacidos en el extranjero (NE), los
+ * nacidos desde el 2000 usan letras de homonímia y las CURPs que empiezan
+ * con una palabra altisonante salen censuradas, igual que con
+ * {@link CURPGenerator}.
+ *
+ * Una fracción configurable de los registros lleva un error deliberado,
+ * cuyo tipo se elige con pesos por {@link CURPStatus}; el registro indica
+ * el resultado que debe dar la validación.
+ *
+ * Uso:
+ * <pre>
+ * {@code
+ * CURPCorpusGenerator generator = CURPCorpusGenerator.builder()
+ *         .seed(42)
+ *         .birthYears(1950, 2015)
+ *         .invalidRatio(0.05)
+ *         .build();
+ * generator.stream(1_000_000).forEach(record -> ...);
+ * }
+ * </pre>
+ *
+ * Cada registro sólo crea el String de la CURP; {@link #write(long, OutputStream, Format)}
+ * escribe registros sin crear objetos. No es seguro usar una instancia
+ * desde varios hilos; para generar en paralelo, usar un generador por
+ * hilo con semillas distintas.
+ */
+public final class CURPCorpusGenerator {
+    private static final int LENGTH = 18;
+
+    /**
+     * Formato de {@link #write(long, OutputStream, Format)}.
+     */
+    public enum Format {
+        /**
+         * Una línea por registro con CURP, nombre, primer apellido, segundo
+         * apellido, fecha, sexo (H o M), código de entidad y resultado
+         * esperado, separados por tabuladores.
+         */
+        TSV,
+
+        /**
+         * Un objeto JSON por línea con los mismos campos; el campo
+         * {@code error} sólo aparece en los registros con error.
+         */
+        JSONL
+    }
+
+    // Nombres y apellidos por defecto, de más a menos frecuentes
+    private static final List<String> MALE_NAMES = List.of(
+            "JOSE", "JUAN", "LUIS", "CARLOS", "JESUS", "MIGUEL ANGEL", "JOSE LUIS", "FRANCISCO",
+            "JORGE", "ALEJANDRO", "ANTONIO", "PEDRO", "MANUEL", "JUAN CARLOS", "RICARDO", "FERNANDO",
+            "EDUARDO", "ROBERTO", "DANIEL", "JAVIER", "RAÚL", "SERGIO", "ARTURO", "ÓSCAR", "ENRIQUE",
+            "JOSE DE JESUS", "J. REFUGIO", "MA. DE JESUS", "ÁNGEL", "SANTIAGO", "SEBASTIÁN", "MATÍAS",
+            "DIEGO", "EMILIANO", "IÑAKI", "ÍÑIGO", "ULISES", "EFRAÍN", "AGUSTÍN", "BRAULIO");
+
+    private static final List<String> FEMALE_NAMES = List.of(
+            "MARIA GUADALUPE", "MARIA", "GUADALUPE", "JUANA", "MARGARITA", "MARIA DE LOS ANGELES",
+            "VERÓNICA", "ROSA MARIA", "LETICIA", "MARIA DEL CARMEN", "MA. DE LOURDES", "ELIZABETH",
+            "PATRICIA", "ALEJANDRA", "ANA", "ANA MARIA", "GABRIELA", "SOFÍA", "XIMENA", "VALENTINA",
+            "REGINA", "CAMILA", "MARÍA JOSÉ", "ISABEL", "ESPERANZA", "OLGA", "ÚRSULA", "IRMA", "EVA",
+            "ÁNGELES", "NOEMÍ", "ITZEL", "XÓCHITL", "YOLANDA", "ODALYS", "EDITH", "CONSUELO");
+
+    private static final List<String> SURNAMES = List.of(
+            "HERNANDEZ", "GARCIA", "MARTINEZ", "LOPEZ", "GONZALEZ", "PEREZ", "RODRIGUEZ", "SANCHEZ",
+            "RAMIREZ", "CRUZ", "FLORES", "GOMEZ", "MORALES", "VÁZQUEZ", "REYES", "JIMENEZ", "TORRES",
+            "DÍAZ", "GUTIERREZ", "RUIZ", "MENDOZA", "AGUILAR", "ORTIZ", "MORENO", "CASTILLO", "ROMERO",
+            "ALVAREZ", "MÉNDEZ", "CHAVEZ", "RIVERA", "JUAREZ", "RAMOS", "DOMINGUEZ", "HERRERA", "MEDINA",
+            "CASTRO", "VARGAS", "GUZMAN", "VELAZQUEZ", "MUÑOZ", "ROJAS", "CONTRERAS", "SALAZAR", "LUNA",
+            "ORTEGA", "SANTIAGO", "GUERRERO", "BAUTISTA", "CORTÉS", "SOTO", "ALVARADO", "ESPINOZA",
+            "LARA", "ÁVILA", "RÍOS", "CERVANTES", "SILVA", "DELGADO", "VEGA", "MARQUEZ", "SANDOVAL",
+            "FERNANDEZ", "LEÓN", "CARRILLO", "MEJIA", "SOLIS", "NÚÑEZ", "ROSAS", "VALDEZ", "IBARRA",
+            "CAMPOS", "CAMACHO", "NAVARRO", "PEÑA", "MALDONADO", "ACOSTA", "MIRANDA", "CABRERA",
+            "CUEVAS", "BUENO", "BECERRA", "COLÍN", "KURI", "ECHEVERRÍA", "IBÁÑEZ", "YÁÑEZ", "ZÚÑIGA",
+            "DE LA CRUZ", "DEL ÁNGEL", "DE LOS SANTOS", "DE LA ROSA", "DE LEÓN", "DEL VALLE",
+            "DE LA TORRE", "MAC GREGOR", "VAN DER LINDEN", "O'FARRILL");
+
+    // Habitantes por entidad en miles (Censo 2020), en el orden de Region;
+    // los nacidos en el extranjero son cerca del 1%
+    private static final double[] REGION_POPULATION = {
+            1426, 3769, 798, 928, 3146, 731, 5543, 3741, 9209, 1832, 6166, 3540, 3082, 8348, 16992,
+            4748, 1971, 1235, 5784, 4132, 6583, 2368, 1857, 2822, 3026, 2944, 2402, 3527, 1342, 8062,
+            2320, 1622, 1260
+    };
+
+    private static final int DEFAULT_FIRST_YEAR = 1940;
+    private static final int DEFAULT_LAST_YEAR = 2020;
+    private static final double DEFAULT_SURNAME_SKEW = 1.0;
+    private static final double DEFAULT_NAME_SKEW = 0.8;
+    private static final double DEFAULT_MISSING_SECOND_SURNAME = 0.02;
+
+    // Errores que se pueden introducir, en el orden de la validación
+    private static final CURPStatus[] ERRORS = {
+            CURPStatus.LENGTH, CURPStatus.CHARSET, CURPStatus.VERIFICATION, CURPStatus.DATE_CHARS,
+            CURPStatus.DATE, CURPStatus.SEX, CURPStatus.REGION, CURPStatus.NAME_CHARS,
+            CURPStatus.NAME, CURPStatus.FIRST_SURNAME, CURPStatus.SECOND_SURNAME
+    };
+
+    // Caracteres fuera del alfabeto de la CURP
+    private static final String INVALID_CHARS = "-*. #";
+
+    // Mes y día de cada día del año, para años normales [0] y bisiestos [1]
+    private static final byte[][] MONTH_OF_DAY = new byte[2][366];
+    private static final byte[][] DAY_OF_MONTH = new byte[2][366];
+    static {
+        for (int leap = 0; leap < 2; leap++) {
+            LocalDate date = LocalDate.of(leap == 1 ? 2000 : 2001, 1, 1);
+            for (int day = 0; day < date.lengthOfYear(); day++) {
+                LocalDate current = date.plusDays(day);
+                MONTH_OF_DAY[leap][day] = (byte) current.getMonthValue();
+                DAY_OF_MONTH[leap][day] = (byte) current.getDayOfMonth();
+            }
+        }
+    }
+
+    private final SplittableRandom random;
+    private final Words maleNames;
+    private final Words femaleNames;
+    private final Words surnames;
+    private final Region[] regionValues = Region.values();
+    private final AliasSampler regions;
+    private final int firstYear;
+    private final AliasSampler years;
+    private final int[] yearStart;
+    private final double invalidRatio;
+    private final AliasSampler errors;
+    private final double missingSecondSurname;
+
+    // Registro actual
+    private final StringBuilder curp = new StringBuilder(LENGTH + 1);
+    private String nombre;
+    private String primerApellido;
+    private String segundoApellido;
+    private int year;
+    private int month;
+    private int day;
+    private int epochDay;
+    private Sexo sexo;
+    private Region region;
+    private CURPStatus status;
+
+    private CURPCorpusGenerator(Builder builder) {
+        random = new SplittableRandom(builder.seed);
+        maleNames = new Words(builder.maleNames, builder.nameSkew, true);
+        femaleNames = new Words(builder.femaleNames, builder.nameSkew, true);
+        surnames = new Words(builder.surnames, builder.surnameSkew, false);
+        regions = new AliasSampler(builder.regionWeights);
+
+        firstYear = builder.firstYear;
+        years = new AliasSampler(builder.yearWeights);
+        yearStart = new int[builder.yearWeights.length];
+        for (int i = 0; i < yearStart.length; i++) {
+            yearStart[i] = (int) LocalDate.of(firstYear + i, 1, 1).toEpochDay();
+        }
+
+        invalidRatio = builder.invalidRatio;
+        double[] errorWeights = new double[ERRORS.length];
+        for (int i = 0; i < ERRORS.length; i++) {
+            errorWeights[i] = builder.errorWeights.getOrDefault(ERRORS[i], 0.0);
+        }
+        errors = invalidRatio > 0 ? new AliasSampler(errorWeights) : null;
+        missingSecondSurname = builder.missingSecondSurname;
+    }
+
+    /**
+     * @return Un constructor con la configuración por defecto.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Genera el siguiente registro.
+     */
+    public CURPCorpusRecord next() {
+        generate();
+        return new CURPCorpusRecord(curp.toString(), nombre, primerApellido, segundoApellido,
+                epochDay, sexo, region, status);
+    }
+
+    /**
+     * Flujo secuencial con los siguientes registros del generador.
+     *
+     * @param count Número de registros.
+     */
+    public Stream<CURPCorpusRecord> stream(long count) {
+        return Stream.generate(this::next).limit(count);
+    }
+
+    /**
+     * Escribe los siguientes registros en UTF-8, uno por línea.
+     *
+     * @param count Número de registros.
+     * @param output Destino; no se cierra.
+     * @param format Formato de cada línea.
+     */
+    public void write(long count, OutputStream output, Format format) throws IOException {
+        StringBuilder line = new StringBuilder(256);
+        ByteBuffer buffer = ByteBuffer.allocate(64 << 10);
+
+        for (long i = 0; i < count; i++) {
+            generate();
+            line.setLength(0);
+            if (format == Format.TSV) {
+                appendTsv(line);
+            } else {
+                appendJson(line);
+            }
+            line.append('\n');
+
+            // Cada carácter ocupa a lo más tres bytes en UTF-8
+            if (buffer.remaining() < line.length() * 3) {
+                output.write(buffer.array(), 0, buffer.position());
+                buffer.clear();
+            }
+            CURPJson.encode(line, buffer);
+        }
+        output.write(buffer.array(), 0, buffer.position());
+        output.flush();
+    }
+
+    private void appendTsv(StringBuilder line) {
+        line.append(curp).append('\t')
+                .append(nombre).append('\t')
+                .append(primerApellido).append('\t');
+        if (segundoApellido != null) {
+            line.append(segundoApellido);
+        }
+        line.append('\t');
+        appendDate(line).append('\t')
+                .append(sexo == Sexo.HOMBRE ? 'H' : 'M').append('\t')
+                .append(region.getCode()).append('\t')
+                .append(status.name());
+    }
+
+    private void appendJson(StringBuilder line) {
+        // Los caracteres de la CURP, incluso los inválidos, no se escapan en JSON
+        line.append("{\"curp\":\"").append(curp).append('"');
+        CURPJson.appendString(line.append(",\"nombre\":"), nombre);
+        CURPJson.appendString(line.append(",\"primer_apellido\":"), primerApellido);
+        if (segundoApellido != null) {
+            CURPJson.appendString(line.append(",\"segundo_apellido\":"), segundoApellido);
+        }
+        appendDate(line.append(",\"fecha_nacimiento\":\"")).append('"');
+        line.append(",\"sexo\":\"").append(sexo.name()).append('"');
+        line.append(",\"entidad\":\"").append(region.getCode()).append('"');
+        if (status != CURPStatus.VALID) {
+            line.append(",\"error\":\"").append(status.name()).append('"');
+        }
+        line.append('}');
+    }
+
+    private StringBuilder appendDate(StringBuilder line) {
+        line.append(year).append('-');
+        line.append((char) ('0' + month / 10)).append((char) ('0' + month % 10)).append('-');
+        return line.append((char) ('0' + day / 10)).append((char) ('0' + day % 10));
+    }
+
+    /**
+     * Genera el siguiente registro en los campos del generador.
+     */
+    private void generate() {
+        sexo = random.nextBoolean() ? Sexo.HOMBRE : Sexo.MUJER;
+        Words names = sexo == Sexo.HOMBRE ? maleNames : femaleNames;
+        int name = names.sample(random);
+        int first = surnames.sample(random);
+        int second = random.nextDouble() < missingSecondSurname ? -1 : surnames.sample(random);
+        nombre = names.words[name];
+        primerApellido = surnames.words[first];
+        segundoApellido = second >= 0 ? surnames.words[second] : null;
+        region = regionValues[regions.sample(random)];
+
+        int yearIndex = years.sample(random);
+        year = firstYear + yearIndex;
+        int leap = Year.isLeap(year) ? 1 : 0;
+        int dayOfYear = random.nextInt(365 + leap);
+        month = MONTH_OF_DAY[leap][dayOfYear];
+        day = DAY_OF_MONTH[leap][dayOfYear];
+        epochDay = yearStart[yearIndex] + dayOfYear;
+
+        long firstFeatures = surnames.features[first];
+        long secondFeatures = second >= 0 ? surnames.features[second] : WordFeaturesCache.ABSENT;
+        long nameFeatures = names.features[name];
+
+        // Homonímia: casi siempre la primera, a veces otra como en los homónimos reales
+        char homonymy;
+        if (year < 2000) {
+            homonymy = random.nextInt(20) == 0 ? (char) ('1' + random.nextInt(9)) : '0';
+        } else {
+            homonymy = random.nextInt(10) == 0 ? (char) ('B' + random.nextInt(25)) : 'A';
+        }
+        CURPGenerator.write(curp, firstFeatures, secondFeatures, nameFeatures, year, month, day,
+                sexo == Sexo.HOMBRE ? 'H' : 'M', region, homonymy);
+
+        status = CURPStatus.VALID;
+        if (errors != null && random.nextDouble() < invalidRatio) {
+            status = ERRORS[errors.sample(random)];
+            corrupt(names, firstFeatures);
+        }
+    }
+
+    /**
+     * Introduce el error indicado por {@link #status}.
+     */
+    private void corrupt(Words names, long firstFeatures) {
+        boolean recompute = true;
+        switch (status) {
+            case LENGTH:
+                if (random.nextBoolean()) {
+                    curp.setLength(LENGTH - 1);
+                } else {
+                    curp.append((char) ('0' + random.nextInt(10)));
+                }
+                recompute = false;
+                break;
+            case CHARSET:
+                curp.setCharAt(random.nextInt(LENGTH),
+                        INVALID_CHARS.charAt(random.nextInt(INVALID_CHARS.length())));
+                recompute = false;
+                break;
+            case VERIFICATION:
+                char digit = curp.charAt(CURPChar.VERIFICATION.getValue());
+                curp.setCharAt(CURPChar.VERIFICATION.getValue(),
+                        (char) ('0' + (digit - '0' + 1 + random.nextInt(9)) % 10));
+                recompute = false;
+                break;
+            case DATE_CHARS:
+                curp.setCharAt(CURPChar.YEAR_0.getValue() + random.nextInt(6), 'O');
+                break;
+            case DATE:
+                if (random.nextBoolean()) {
+                    CURPGenerator.writeTwoDigits(curp, CURPChar.MONTH_0.getValue(), 13);
+                } else {
+                    CURPGenerator.writeTwoDigits(curp, CURPChar.DAY_0.getValue(), 0);
+                }
+                break;
+            case SEX:
+                curp.setCharAt(CURPChar.SEX.getValue(), 'X');
+                break;
+            case REGION:
+                curp.setCharAt(CURPChar.REGION_0.getValue(), 'Z');
+                curp.setCharAt(CURPChar.REGION_1.getValue(), 'Z');
+                break;
+            case NAME_CHARS:
+                if (Altisonantes.isCensored(curp)) {
+                    // Quitar la censura de la palabra altisonante
+                    curp.setCharAt(CURPChar.SURNAME_A_VOWEL.getValue(), WordFeaturesCache.vowelOf(firstFeatures));
+                } else {
+                    curp.setCharAt(CURPChar.SURNAME_A_CONSONANT.getValue(), (char) ('0' + random.nextInt(10)));
+                }
+                break;
+            case NAME:
+                nombre = names.mismatch(random, curp.charAt(CURPChar.NAME_CHAR.getValue()));
+                recompute = false;
+                break;
+            case FIRST_SURNAME:
+                primerApellido = surnames.mismatch(random, curp.charAt(CURPChar.SURNAME_A_CHAR.getValue()));
+                recompute = false;
+                break;
+            default:
+                segundoApellido = surnames.mismatch(random, curp.charAt(CURPChar.SURNAME_B_CHAR.getValue()));
+                recompute = false;
+                break;
+        }
+
+        if (recompute) {
+            curp.setCharAt(CURPChar.VERIFICATION.getValue(), CURPGenerator.checkDigit(curp));
+        }
+    }
+
+    /**
+     * Lista de nombres o apellidos con sus características precalculadas.
+     */
+    private static final class Words {
+        final String[] words;
+        final long[] features;
+        final AliasSampler sampler;
+
+        Words(List<String> list, double skew, boolean givenNames) {
+            words = list.toArray(new String[0]);
+            features = new long[words.length];
+            for (int i = 0; i < words.length; i++) {
+                features[i] = givenNames ? CURP.givenNameFeatures(words[i]) : CURP.wordFeatures(words[i]);
+                if (!CharClasses.is(WordFeaturesCache.charOf(features[i]), CharClasses.LETTER)) {
+                    throw new IllegalArgumentException("No se puede generar una CURP para: " + words[i]);
+                }
+            }
+            sampler = AliasSampler.zipf(words.length, skew);
+        }
+
+        int sample(SplittableRandom random) {
+            return sampler.sample(random);
+        }
+
+        /**
+         * Una palabra cuya inicial en la CURP no es la dada, para que no coincida.
+         */
+        String mismatch(SplittableRandom random, char initial) {
+            int start = random.nextInt(words.length);
+            for (int i = 0; i < words.length; i++) {
+                int index = (start + i) % words.length;
+                if (WordFeaturesCache.charOf(features[index]) != initial) {
+                    return words[index];
+                }
+            }
+            throw new IllegalStateException("Todas las palabras tienen la inicial " + initial);
+        }
+    }
+
+    /**
+     * Configuración de un {@link CURPCorpusGenerator}.
+     */
+    public static final class Builder {
+        private long seed;
+        private List<String> maleNames = MALE_NAMES;
+        private List<String> femaleNames = FEMALE_NAMES;
+        private List<String> surnames = SURNAMES;
+        private double nameSkew = DEFAULT_NAME_SKEW;
+        private double surnameSkew = DEFAULT_SURNAME_SKEW;
+        private double[] regionWeights = REGION_POPULATION.clone();
+        private int firstYear = DEFAULT_FIRST_YEAR;
+        private double[] yearWeights = uniform(DEFAULT_LAST_YEAR - DEFAULT_FIRST_YEAR + 1);
+        private double invalidRatio;
+        private Map<CURPStatus, Double> errorWeights = uniformErrors();
+        private double missingSecondSurname = DEFAULT_MISSING_SECOND_SURNAME;
+
+        private Builder() {
+        }
+
+        /**
+         * Semilla del generador; 0 por defecto.
+         */
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * Nombres de pila por sexo, de más a menos frecuentes.
+         */
+        public Builder names(Sexo sexo, List<String> names) {
+            requireNonEmpty(names);
+            if (sexo == Sexo.HOMBRE) {
+                maleNames = List.copyOf(names);
+            } else if (sexo == Sexo.MUJER) {
+                femaleNames = List.copyOf(names);
+            } else {
+                throw new IllegalArgumentException("El sexo debe ser HOMBRE o MUJER");
+            }
+            return this;
+        }
+
+        /**
+         * Apellidos, de más a menos frecuentes.
+         */
+        public Builder surnames(List<String> surnames) {
+            requireNonEmpty(surnames);
+            this.surnames = List.copyOf(surnames);
+            return this;
+        }
+
+        /**
+         * Exponente de la distribución de Zipf de los nombres de pila; 0 para
+         * que todos sean igual de frecuentes. Por defecto 0.8.
+         */
+        public Builder nameSkew(double exponent) {
+            nameSkew = requireNonNegative(exponent);
+            return this;
+        }
+
+        /**
+         * Exponente de la distribución de Zipf de los apellidos; 0 para que
+         * todos sean igual de frecuentes. Por defecto 1.
+         */
+        public Builder surnameSkew(double exponent) {
+            surnameSkew = requireNonNegative(exponent);
+            return this;
+        }
+
+        /**
+         * Peso de cada entidad de nacimiento; las que no aparecen no se
+         * generan. Por defecto, proporcional a su población.
+         */
+        public Builder regionWeights(Map<Region, Double> weights) {
+            double[] values = new double[Region.values().length];
+            for (Map.Entry<Region, Double> entry : weights.entrySet()) {
+                values[entry.getKey().ordinal()] = requireNonNegative(entry.getValue());
+            }
+            regionWeights = values;
+            return this;
+        }
+
+        /**
+         * Años de nacimiento con la misma probabilidad, incluyendo ambos
+         * extremos. Por defecto, de 1940 a 2020.
+         */
+        public Builder birthYears(int from, int to) {
+            if (from < 1900 || to > 2099 || from > to) {
+                throw new IllegalArgumentException("Los años deben estar entre 1900 y 2099");
+            }
+            return birthYearWeights(from, uniform(to - from + 1));
+        }
+
+        /**
+         * Peso de cada año de nacimiento, a partir de firstYear.
+         */
+        public Builder birthYearWeights(int firstYear, double... weights) {
+            if (firstYear < 1900 || firstYear + weights.length - 1 > 2099 || weights.length == 0) {
+                throw new IllegalArgumentException("Los años deben estar entre 1900 y 2099");
+            }
+            this.firstYear = firstYear;
+            this.yearWeights = weights.clone();
+            return this;
+        }
+
+        /**
+         * Fracción de registros con un error deliberado; 0 por defecto.
+         */
+        public Builder invalidRatio(double ratio) {
+            if (!(ratio >= 0 && ratio <= 1)) {
+                throw new IllegalArgumentException("La fracción debe estar entre 0 y 1");
+            }
+            invalidRatio = ratio;
+            return this;
+        }
+
+        /**
+         * Peso de cada tipo de error entre los registros con error. Se
+         * admiten los resultados de LENGTH a SECOND_SURNAME, excepto
+         * FULL_NAME; por defecto todos pesan lo mismo.
+         */
+        public Builder errorWeights(Map<CURPStatus, Double> weights) {
+            Map<CURPStatus, Double> copy = new EnumMap<>(CURPStatus.class);
+            for (Map.Entry<CURPStatus, Double> entry : weights.entrySet()) {
+                if (!Arrays.asList(ERRORS).contains(entry.getKey())) {
+                    throw new IllegalArgumentException("No se puede generar el error " + entry.getKey());
+                }
+                copy.put(entry.getKey(), requireNonNegative(entry.getValue()));
+            }
+            errorWeights = copy;
+            return this;
+        }
+
+        /**
+         * Fracción de personas sin segundo apellido; 0.02 por defecto.
+         */
+        public Builder missingSecondSurnameRatio(double ratio) {
+            if (!(ratio >= 0 && ratio <= 1)) {
+                throw new IllegalArgumentException("La fracción debe estar entre 0 y 1");
+            }
+            missingSecondSurname = ratio;
+            return this;
+        }
+
+        /**
+         * @throws IllegalArgumentException Si algún peso o nombre no es válido.
+         */
+        public CURPCorpusGenerator build() {
+            return new CURPCorpusGenerator(this);
+        }
+
+        private static double[] uniform(int size) {
+            double[] weights = new double[size];
+            Arrays.fill(weights, 1);
+            return weights;
+        }
+
+        private static Map<CURPStatus, Double> uniformErrors() {
+            Map<CURPStatus, Double> weights = new EnumMap<>(CURPStatus.class);
+            for (CURPStatus error : ERRORS) {
+                weights.put(error, 1.0);
+            }
+            return weights;
+        }
+
+        private static double requireNonNegative(double value) {
+            if (!(value >= 0) || Double.isInfinite(value)) {
+                throw new IllegalArgumentException("El valor debe ser un número no negativo");
+            }
+            return value;
+        }
+
+        private static void requireNonEmpty(List<String> words) {
+            if (words.isEmpty()) {
+                throw new IllegalArgumentException("La lista no puede estar vacía");
+            }
+        }
+    }
+}
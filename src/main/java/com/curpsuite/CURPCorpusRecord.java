@@ -0,0 +1,105 @@
+package com.curpsuite;
+
+import com.curpsuite.enums.CURPStatus;
+import com.curpsuite.enums.Region;
+import com.curpsuite.enums.Sexo;
+
+import java.time.LocalDate;
+
+/**
+ * Registro sintético producido por {@link CURPCorpusGenerator}: los datos
+ * de una persona inventada y su CURP.
+ *
+ * Si el registro tiene un error deliberado, {@link #getStatus()} indica el
+ * resultado que debe dar {@link CURP#parse(String, String, String, String, String)}
+ * con la CURP y las partes del nombre; los demás campos siguen siendo los
+ * datos de la persona, no los que se leerían de la CURP alterada.
+ */
+public final class CURPCorpusRecord {
+    private final String curp;
+    private final String nombre;
+    private final String primerApellido;
+    private final String segundoApellido;
+    private final int fechaNacimiento;
+    private final Sexo sexo;
+    private final Region region;
+    private final CURPStatus status;
+
+    CURPCorpusRecord(String curp, String nombre, String primerApellido, String segundoApellido,
+                     int fechaNacimiento, Sexo sexo, Region region, CURPStatus status) {
+        this.curp = curp;
+        this.nombre = nombre;
+        this.primerApellido = primerApellido;
+        this.segundoApellido = segundoApellido;
+        this.fechaNacimiento = fechaNacimiento;
+        this.sexo = sexo;
+        this.region = region;
+        this.status = status;
+    }
+
+    public String getCurp() {
+        return curp;
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public String getPrimerApellido() {
+        return primerApellido;
+    }
+
+    /**
+     * @return Segundo apellido, o null si no tiene.
+     */
+    public String getSegundoApellido() {
+        return segundoApellido;
+    }
+
+    /**
+     * @return Nombre, primer apellido y segundo apellido separados por espacios.
+     */
+    public String getNombreCompleto() {
+        return segundoApellido != null
+                ? nombre + " " + primerApellido + " " + segundoApellido
+                : nombre + " " + primerApellido;
+    }
+
+    public LocalDate getFechaNacimiento() {
+        return LocalDate.ofEpochDay(fechaNacimiento);
+    }
+
+    /**
+     * @return Fecha de nacimiento, como días desde 1970-01-01.
+     */
+    public int getFechaNacimientoEpoch() {
+        return fechaNacimiento;
+    }
+
+    public Sexo getSexo() {
+        return sexo;
+    }
+
+    public Region getRegion() {
+        return region;
+    }
+
+    /**
+     * @return {@link CURPStatus#VALID}, o el error que se introdujo deliberadamente.
+     */
+    public CURPStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * @return True si la CURP corresponde a los datos de la persona.
+     */
+    public boolean isValid() {
+        return status == CURPStatus.VALID;
+    }
+
+    @Override
+    public String toString() {
+        return curp + " " + getNombreCompleto() + " (" + status + ")";
+    }
+}
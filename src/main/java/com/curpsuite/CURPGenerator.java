@@ -0,0 +1,334 @@
+package com.curpsuite;
+
+import com.curpsuite.data.Altisonantes;
+import com.curpsuite.enums.CURPChar;
+import com.curpsuite.enums.Region;
+import com.curpsuite.enums.Sexo;
+import com.curpsuite.exceptions.CURPDateException;
+import com.curpsuite.exceptions.CURPException;
+import com.curpsuite.exceptions.CURPFirstSurnameException;
+import com.curpsuite.exceptions.CURPNameException;
+import com.curpsuite.exceptions.CURPRegionException;
+import com.curpsuite.exceptions.CURPSecondSurnameException;
+import com.curpsuite.exceptions.CURPSexException;
+import com.curpsuite.utils.CharClasses;
+import com.curpsuite.utils.WordFeaturesCache;
+
+import java.time.LocalDate;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Genera la CURP que corresponde a los datos de una persona.
+ *
+ * Es el camino inverso de {@link CURP}: aplica las mismas reglas para el
+ * nombre y los apellidos (palabras y nombres ignorados, vocal y consonante
+ * internas, censura de palabras altisonantes), agrega la fecha, el sexo y
+ * la entidad, y calcula el dígito verificador. Una CURP generada siempre
+ * es válida para los mismos datos.
+ * <pre>
+ * {@code
+ * String curp = CURPGenerator.generate("Consuelo", "Salas", "Bravo",
+ *         LocalDate.of(1956, 6, 26), Sexo.MUJER, Region.CIUDAD_DE_MEXICO);
+ * }
+ * </pre>
+ *
+ * Cada hilo reutiliza su propio buffer, así que generar una CURP sólo crea
+ * el String del resultado; con {@link CURP#setWordCacheSize(int)} los
+ * nombres y apellidos comunes tampoco se vuelven a analizar.
+ */
+public final class CURPGenerator {
+    private static final int LENGTH = 18;
+    private static final int PREFIX_LENGTH = 16;
+    private static final int MIN_YEAR = 1900;
+    private static final int MAX_YEAR = 2099;
+
+    // Lotes de hasta este tamaño se generan en el hilo que llama
+    private static final int SEQUENTIAL_THRESHOLD = 256;
+
+    private static final ThreadLocal<StringBuilder> SCRATCH =
+            ThreadLocal.withInitial(() -> new StringBuilder(LENGTH));
+
+    private CURPGenerator() {
+    }
+
+    /**
+     * Genera la CURP de una persona.
+     *
+     * @return Una CURP de 18 caracteres.
+     * @throws CURPException Si algún dato no puede representarse en una CURP.
+     */
+    public static String generate(CURPPerson person) {
+        return generate(person.getNombre(), person.getPrimerApellido(), person.getSegundoApellido(),
+                person.getFechaNacimiento(), person.getSexo(), person.getRegion(), person.getHomonimia());
+    }
+
+    /**
+     * Genera una CURP con el carácter de homonímia por defecto: '0' para
+     * nacidos antes del 2000 y 'A' desde el 2000.
+     *
+     * @return Una CURP de 18 caracteres.
+     * @throws CURPException Si algún dato no puede representarse en una CURP.
+     */
+    public static String generate(String nombre, String primerApellido, String segundoApellido,
+                                  LocalDate fechaNacimiento, Sexo sexo, Region region) {
+        return generate(nombre, primerApellido, segundoApellido, fechaNacimiento, sexo, region, '\0');
+    }
+
+    /**
+     * Genera una CURP.
+     *
+     * @param nombre Nombre de pila de la persona.
+     * @param primerApellido Primer apellido (paterno) de la persona.
+     * @param segundoApellido Segundo apellido (materno), o null si no tiene.
+     * @param fechaNacimiento Fecha de nacimiento, entre 1900 y 2099.
+     * @param sexo HOMBRE o MUJER.
+     * @param region Entidad de nacimiento.
+     * @param homonimia Un dígito si nació antes del 2000 o una letra si nació
+     *                  después; {@code '\0'} para usar '0' o 'A'.
+     * @return Una CURP de 18 caracteres.
+     * @throws CURPException Si algún dato no puede representarse en una CURP.
+     */
+    public static String generate(String nombre, String primerApellido, String segundoApellido,
+                                  LocalDate fechaNacimiento, Sexo sexo, Region region, char homonimia) {
+        StringBuilder curp = SCRATCH.get();
+        fill(curp, nombre, primerApellido, segundoApellido, fechaNacimiento, sexo, region, homonimia);
+        return curp.toString();
+    }
+
+    /**
+     * Genera los primeros 16 caracteres de una CURP, los que no dependen de
+     * la homonímia ni del dígito verificador, para compararlos con los
+     * registros existentes.
+     *
+     * @return Los primeros 16 caracteres de la CURP.
+     * @throws CURPException Si algún dato no puede representarse en una CURP.
+     */
+    public static String generatePrefix(String nombre, String primerApellido, String segundoApellido,
+                                        LocalDate fechaNacimiento, Sexo sexo, Region region) {
+        StringBuilder curp = SCRATCH.get();
+        fill(curp, nombre, primerApellido, segundoApellido, fechaNacimiento, sexo, region, '\0');
+        return curp.substring(0, PREFIX_LENGTH);
+    }
+
+    /**
+     * Genera las CURPs de un arreglo de personas en el hilo que llama.
+     *
+     * @param people Datos de cada persona.
+     * @param out Arreglo donde se guarda la CURP de cada persona, en la misma
+     *            posición; null si sus datos no pueden representarse.
+     * @return Número de CURPs generadas.
+     */
+    public static int generate(CURPPerson[] people, String[] out) {
+        if (out.length < people.length) {
+            throw new IllegalArgumentException("El arreglo de salida es más corto que el de entrada");
+        }
+        return generateRange(people, out, 0, people.length);
+    }
+
+    /**
+     * Genera las CURPs de un arreglo de personas, repartiendo el trabajo en un ForkJoinPool.
+     *
+     * @param people Datos de cada persona.
+     * @param out Arreglo donde se guarda la CURP de cada persona, en la misma
+     *            posición; null si sus datos no pueden representarse.
+     * @param pool El pool donde se generarán.
+     * @return Número de CURPs generadas.
+     */
+    public static int generate(CURPPerson[] people, String[] out, ForkJoinPool pool) {
+        if (out.length < people.length) {
+            throw new IllegalArgumentException("El arreglo de salida es más corto que el de entrada");
+        }
+        if (people.length <= SEQUENTIAL_THRESHOLD) {
+            return generateRange(people, out, 0, people.length);
+        }
+
+        int taskSize = Math.max(SEQUENTIAL_THRESHOLD, people.length / (pool.getParallelism() * 4));
+        GenerateTask task = new GenerateTask(people, out, 0, people.length, taskSize);
+        pool.invoke(task);
+        return task.generated;
+    }
+
+    private static int generateRange(CURPPerson[] people, String[] out, int from, int to) {
+        int generated = 0;
+        for (int i = from; i < to; i++) {
+            try {
+                out[i] = people[i] != null ? generate(people[i]) : null;
+            } catch (CURPException e) {
+                out[i] = null;
+            }
+            if (out[i] != null) {
+                generated++;
+            }
+        }
+        return generated;
+    }
+
+    /**
+     * Escribe la CURP completa en un buffer.
+     */
+    private static void fill(StringBuilder curp, String nombre, String primerApellido, String segundoApellido,
+                             LocalDate fechaNacimiento, Sexo sexo, Region region, char homonimia) {
+        if (isBlank(primerApellido)) {
+            throw new CURPFirstSurnameException("Falta el primer apellido", false);
+        }
+        if (isBlank(nombre)) {
+            throw new CURPNameException("Falta el nombre", false);
+        }
+        if (fechaNacimiento == null) {
+            throw new CURPDateException("Falta la fecha de nacimiento", false);
+        }
+        if (region == null) {
+            throw new CURPRegionException("Falta la entidad de nacimiento", false);
+        }
+
+        long first = features(primerApellido, CURPChar.SURNAME_A_CHAR);
+        long second = isBlank(segundoApellido) ? WordFeaturesCache.ABSENT
+                : features(segundoApellido, CURPChar.SURNAME_B_CHAR);
+        long name = features(nombre, CURPChar.NAME_CHAR);
+
+        int year = fechaNacimiento.getYear();
+        if (year < MIN_YEAR || year > MAX_YEAR) {
+            throw new CURPDateException("La fecha de nacimiento debe estar entre 1900 y 2099", false);
+        }
+        char sex = sexChar(sexo);
+
+        // El carácter de homonímia indica el siglo al decodificar la fecha
+        int centuryClass = year < 2000 ? CharClasses.DIGIT : CharClasses.LETTER;
+        if (homonimia == '\0') {
+            homonimia = year < 2000 ? '0' : 'A';
+        } else if (!CharClasses.is(homonimia, centuryClass)) {
+            throw new CURPDateException("La homonímia debe ser un dígito antes del 2000 y una letra después", false);
+        }
+
+        write(curp, first, second, name, year, fechaNacimiento.getMonthValue(), fechaNacimiento.getDayOfMonth(),
+                sex, region, homonimia);
+    }
+
+    /**
+     * Escribe los 18 caracteres de una CURP a partir de datos ya validados.
+     * También lo usa {@link CURPCorpusGenerator}, para que ambos generadores
+     * armen la CURP de la misma forma.
+     *
+     * @param first Características del primer apellido; ver {@link WordFeaturesCache#pack(char, char, char)}.
+     * @param second Características del segundo apellido, o {@link WordFeaturesCache#ABSENT}.
+     * @param name Características del nombre que se usa en la CURP.
+     * @param sex 'H' o 'M'.
+     */
+    static void write(StringBuilder curp, long first, long second, long name,
+                      int year, int month, int day, char sex, Region region, char homonimia) {
+        curp.setLength(LENGTH);
+        curp.setCharAt(CURPChar.SURNAME_A_CHAR.getValue(), WordFeaturesCache.charOf(first));
+        curp.setCharAt(CURPChar.SURNAME_A_VOWEL.getValue(), WordFeaturesCache.vowelOf(first));
+        curp.setCharAt(CURPChar.SURNAME_B_CHAR.getValue(), WordFeaturesCache.charOf(second));
+        curp.setCharAt(CURPChar.NAME_CHAR.getValue(), WordFeaturesCache.charOf(name));
+
+        // Las palabras altisonantes se censuran reemplazando la vocal por X
+        if (Altisonantes.isUncensored(curp)) {
+            curp.setCharAt(CURPChar.SURNAME_A_VOWEL.getValue(), 'X');
+        }
+
+        writeTwoDigits(curp, CURPChar.YEAR_0.getValue(), year % 100);
+        writeTwoDigits(curp, CURPChar.MONTH_0.getValue(), month);
+        writeTwoDigits(curp, CURPChar.DAY_0.getValue(), day);
+
+        curp.setCharAt(CURPChar.SEX.getValue(), sex);
+        curp.setCharAt(CURPChar.REGION_0.getValue(), region.getCode().charAt(0));
+        curp.setCharAt(CURPChar.REGION_1.getValue(), region.getCode().charAt(1));
+
+        curp.setCharAt(CURPChar.SURNAME_A_CONSONANT.getValue(), WordFeaturesCache.consonantOf(first));
+        curp.setCharAt(CURPChar.SURNAME_B_CONSONANT.getValue(), WordFeaturesCache.consonantOf(second));
+        curp.setCharAt(CURPChar.NAME_CONSONANT.getValue(), WordFeaturesCache.consonantOf(name));
+        curp.setCharAt(CURPChar.HOMONYMY.getValue(), homonimia);
+
+        curp.setCharAt(CURPChar.VERIFICATION.getValue(), checkDigit(curp));
+    }
+
+    /**
+     * Calcula el dígito verificador de los primeros 17 caracteres de una CURP.
+     *
+     * @param curp Texto con al menos 17 caracteres del alfabeto de la CURP.
+     * @return El dígito verificador que les corresponde.
+     */
+    public static char checkDigit(CharSequence curp) {
+        int sum = 0;
+        for (int i = 0; i < CURPChar.VERIFICATION.getValue(); i++) {
+            int value = CharClasses.value(curp.charAt(i));
+            if (value < 0) {
+                throw new CURPException("Carácter inválido en la posición " + i, false);
+            }
+            sum += (LENGTH - i) * value;
+        }
+        return (char) CheckDigits.expectedDigit(sum);
+    }
+
+    /**
+     * Características de una parte del nombre, revisando que su inicial
+     * pueda aparecer en una CURP.
+     */
+    private static long features(String word, CURPChar position) {
+        long features = position == CURPChar.NAME_CHAR ? CURP.givenNameFeatures(word) : CURP.wordFeatures(word);
+
+        if (!CharClasses.matches(WordFeaturesCache.charOf(features), position.getValue())) {
+            switch (position) {
+                case SURNAME_A_CHAR:
+                    throw new CURPFirstSurnameException("El primer apellido no empieza con una letra", false);
+                case SURNAME_B_CHAR:
+                    throw new CURPSecondSurnameException("El segundo apellido no empieza con una letra", false);
+                default:
+                    throw new CURPNameException("El nombre no empieza con una letra", false);
+            }
+        }
+        return features;
+    }
+
+    private static char sexChar(Sexo sexo) {
+        if (sexo == Sexo.HOMBRE) {
+            return 'H';
+        } else if (sexo == Sexo.MUJER) {
+            return 'M';
+        }
+        throw new CURPSexException("El sexo debe ser HOMBRE o MUJER", false);
+    }
+
+    static void writeTwoDigits(StringBuilder curp, int index, int value) {
+        curp.setCharAt(index, (char) ('0' + value / 10));
+        curp.setCharAt(index + 1, (char) ('0' + value % 10));
+    }
+
+    private static boolean isBlank(String text) {
+        return text == null || text.isBlank();
+    }
+
+    private static final class GenerateTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final CURPPerson[] people;
+        private final String[] out;
+        private final int from;
+        private final int to;
+        private final int taskSize;
+        int generated;
+
+        GenerateTask(CURPPerson[] people, String[] out, int from, int to, int taskSize) {
+            this.people = people;
+            this.out = out;
+            this.from = from;
+            this.to = to;
+            this.taskSize = taskSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= taskSize) {
+                generated = generateRange(people, out, from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            GenerateTask left = new GenerateTask(people, out, from, middle, taskSize);
+            GenerateTask right = new GenerateTask(people, out, middle, to, taskSize);
+            invokeAll(left, right);
+            generated = left.generated + right.generated;
+        }
+    }
+}
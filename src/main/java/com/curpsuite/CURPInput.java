@@ -0,0 +1,83 @@
+package com.curpsuite;
+
+/**
+ * Una CURP por validar, opcionalmente con el nombre de la persona.
+ *
+ * Las partes del nombre tienen el mismo significado que en
+ * {@link CURP#CURP(String, String, String, String, String)};
+ * las que sean null no se validan.
+ */
+public final class CURPInput {
+    private final String curp;
+    private final String nombre;
+    private final String primerApellido;
+    private final String segundoApellido;
+    private final String nombreCompleto;
+
+    /**
+     * @param curp Una CURP de 18 caracteres.
+     * @param nombre Nombre de pila de la persona.
+     * @param primerApellido Primer apellido (paterno) de la persona.
+     * @param segundoApellido Segundo apellido (materno) de la persona.
+     * @param nombreCompleto Nombre completo de la persona.
+     */
+    public CURPInput(String curp, String nombre, String primerApellido,
+                     String segundoApellido, String nombreCompleto) {
+        this.curp = curp;
+        this.nombre = nombre;
+        this.primerApellido = primerApellido;
+        this.segundoApellido = segundoApellido;
+        this.nombreCompleto = nombreCompleto;
+    }
+
+    /**
+     * @param curp Una CURP de 18 caracteres.
+     */
+    public CURPInput(String curp) {
+        this(curp, null, null, null, null);
+    }
+
+    /**
+     * Valida esta entrada sin lanzar excepciones.
+     *
+     * @return El resultado de {@link CURP#parse(String, String, String, String, String)}.
+     */
+    public CURPResult parse() {
+        return CURP.parse(curp, nombre, primerApellido, segundoApellido, nombreCompleto);
+    }
+
+    /**
+     * @return La CURP por validar.
+     */
+    public String getCurp() {
+        return curp;
+    }
+
+    /**
+     * @return Nombre de pila, o null si no se validará.
+     */
+    public String getNombre() {
+        return nombre;
+    }
+
+    /**
+     * @return Primer apellido, o null si no se validará.
+     */
+    public String getPrimerApellido() {
+        return primerApellido;
+    }
+
+    /**
+     * @return Segundo apellido, o null si no se validará.
+     */
+    public String getSegundoApellido() {
+        return segundoApellido;
+    }
+
+    /**
+     * @return Nombre completo, o null si no se validará.
+     */
+    public String getNombreCompleto() {
+        return nombreCompleto;
+    }
+}
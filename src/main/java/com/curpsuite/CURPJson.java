@@ -0,0 +1,335 @@
+package com.curpsuite;
+
+import com.curpsuite.enums.CURPStatus;
+import com.curpsuite.enums.Region;
+import com.curpsuite.enums.Sexo;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Escribe el objeto JSON de una CURP directamente en un destino, sin crear
+ * un Gson ni un mapa por cada CURP.
+ *
+ * La salida es idéntica, byte por byte, a la que producía {@link CURP#toJson()}
+ * con Gson: los campos aparecen en el orden en que los recorre un HashMap,
+ * los textos se escapan igual que en Gson (incluidos {@code < > & = '}) y
+ * los caracteres fuera de ASCII se escriben sin escapar. Los fragmentos del
+ * sexo y la entidad de nacimiento se calculan una sola vez por valor.
+ *
+ * Uso:
+ * <pre>
+ * {@code
+ * StringBuilder json = new StringBuilder();
+ * CURPJson.write(new CURP("SABC560626MDFLRN01"), json);
+ * }
+ * </pre>
+ */
+public final class CURPJson {
+    // Campos del objeto, en el orden en que CURP#toJson() los agregaba al mapa
+    private static final int FIELD_CURP = 0;
+    private static final int FIELD_SEXO = 1;
+    private static final int FIELD_FECHA = 2;
+    private static final int FIELD_ENTIDAD = 3;
+    private static final int FIELD_NOMBRE = 4;
+    private static final int FIELD_PRIMER_APELLIDO = 5;
+    private static final int FIELD_SEGUNDO_APELLIDO = 6;
+
+    private static final String[] KEYS = {
+            "curp", "sexo", "fecha_nacimiento", "entidad_nacimiento",
+            "nombre", "primer_apellido", "segundo_apellido"
+    };
+
+    // Orden de los campos por cada combinación de nombre y apellidos presentes
+    private static final int[][] ORDER = new int[8][];
+
+    // "sexo":"..." por cada valor de Sexo
+    private static final String[] SEX_FRAGMENTS = new String[Sexo.values().length];
+
+    // "entidad_nacimiento":{...} por cada valor de Region
+    private static final String[] REGION_FRAGMENTS = new String[Region.values().length];
+
+    // Reemplazos de los caracteres ASCII que se escapan, o null si no se escapa
+    private static final String[] REPLACEMENTS = new String[128];
+
+    private static final ThreadLocal<StringBuilder> SCRATCH =
+            ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    static {
+        for (int i = 0; i < 0x20; i++) {
+            REPLACEMENTS[i] = String.format("\\u%04x", i);
+        }
+        REPLACEMENTS['"'] = "\\\"";
+        REPLACEMENTS['\\'] = "\\\\";
+        REPLACEMENTS['\t'] = "\\t";
+        REPLACEMENTS['\b'] = "\\b";
+        REPLACEMENTS['\n'] = "\\n";
+        REPLACEMENTS['\r'] = "\\r";
+        REPLACEMENTS['\f'] = "\\f";
+        REPLACEMENTS['<'] = "\\u003c";
+        REPLACEMENTS['>'] = "\\u003e";
+        REPLACEMENTS['&'] = "\\u0026";
+        REPLACEMENTS['='] = "\\u003d";
+        REPLACEMENTS['\''] = "\\u0027";
+
+        // El orden de un HashMap depende sólo de sus claves, así que se
+        // obtiene llenando un mapa igual que lo hacía CURP#toJson()
+        for (int mask = 0; mask < ORDER.length; mask++) {
+            Map<String, Integer> fields = new HashMap<>();
+            for (int field = FIELD_CURP; field <= FIELD_ENTIDAD; field++) {
+                fields.put(KEYS[field], field);
+            }
+            for (int field = FIELD_NOMBRE; field <= FIELD_SEGUNDO_APELLIDO; field++) {
+                if ((mask & (1 << (field - FIELD_NOMBRE))) != 0) {
+                    fields.put(KEYS[field], field);
+                }
+            }
+            ORDER[mask] = fields.values().stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        StringBuilder fragment = new StringBuilder();
+        for (Sexo sex : Sexo.values()) {
+            fragment.setLength(0);
+            appendString(fragment.append('"').append(KEYS[FIELD_SEXO]).append("\":"), sex.name());
+            SEX_FRAGMENTS[sex.ordinal()] = fragment.toString();
+        }
+        for (Region region : Region.values()) {
+            fragment.setLength(0);
+            fragment.append('"').append(KEYS[FIELD_ENTIDAD]).append("\":{\"name\":");
+            appendString(fragment, region.toRegionData().getName());
+            // Gson omite los campos nulos, como el ISO de EXTRANJERO
+            if (region.toRegionData().getIso() != null) {
+                appendString(fragment.append(",\"iso\":"), region.toRegionData().getIso());
+            }
+            REGION_FRAGMENTS[region.ordinal()] = fragment.append('}').toString();
+        }
+    }
+
+    private CURPJson() {
+    }
+
+    /**
+     * Objeto JSON conteniendo los datos extraídos de la CURP; ver {@link CURP#toJson()}.
+     */
+    public static String toJson(CURP curp) {
+        StringBuilder out = scratch();
+        write(curp, out);
+        return out.toString();
+    }
+
+    /**
+     * Agrega el objeto JSON de la CURP al final de out.
+     *
+     * @throws com.curpsuite.exceptions.CURPException Si la fecha o la entidad
+     *         no se validaron y son incorrectas; en ese caso no se escribe nada.
+     */
+    public static void write(CURP curp, StringBuilder out) {
+        // Obtener primero los campos que pueden fallar, en el mismo orden
+        // que CURP#toJson(), para no dejar un objeto a medias
+        Sexo sex = curp.getSexo();
+        LocalDate date = curp.getFechaNacimiento();
+        Region region = curp.getRegion();
+        if (region == null) {
+            throw CURPStatus.REGION.toException();
+        }
+
+        String name = curp.getNombre();
+        String firstSurname = curp.getPrimerApellido();
+        String secondSurname = curp.getSegundoApellido();
+        int mask = (name != null ? 1 : 0)
+                | (firstSurname != null ? 2 : 0)
+                | (secondSurname != null ? 4 : 0);
+
+        out.append('{');
+        boolean first = true;
+        for (int field : ORDER[mask]) {
+            if (!first) {
+                out.append(',');
+            }
+            first = false;
+
+            switch (field) {
+                case FIELD_CURP:
+                    appendString(out.append("\"curp\":"), curp.getCurp());
+                    break;
+                case FIELD_SEXO:
+                    out.append(SEX_FRAGMENTS[sex.ordinal()]);
+                    break;
+                case FIELD_FECHA:
+                    appendDate(out.append("\"fecha_nacimiento\":\""), date).append('"');
+                    break;
+                case FIELD_ENTIDAD:
+                    out.append(REGION_FRAGMENTS[region.ordinal()]);
+                    break;
+                case FIELD_NOMBRE:
+                    appendString(out.append("\"nombre\":"), name);
+                    break;
+                case FIELD_PRIMER_APELLIDO:
+                    appendString(out.append("\"primer_apellido\":"), firstSurname);
+                    break;
+                default:
+                    appendString(out.append("\"segundo_apellido\":"), secondSurname);
+                    break;
+            }
+        }
+        out.append('}');
+    }
+
+    /**
+     * Escribe el objeto JSON de la CURP en out con una sola llamada a
+     * {@link Appendable#append(CharSequence)}. Acepta cualquier Writer.
+     */
+    public static void write(CURP curp, Appendable out) throws IOException {
+        if (out instanceof StringBuilder) {
+            write(curp, (StringBuilder) out);
+            return;
+        }
+        StringBuilder json = scratch();
+        write(curp, json);
+        out.append(json);
+    }
+
+    /**
+     * Escribe el objeto JSON de la CURP en UTF-8 a partir de la posición
+     * actual de out.
+     *
+     * @throws BufferOverflowException Si no cabe; la posición de out no cambia.
+     */
+    public static void write(CURP curp, ByteBuffer out) {
+        StringBuilder json = scratch();
+        write(curp, json);
+        encode(json, out);
+    }
+
+    /**
+     * Objeto JSON para una CURP inválida, con sus campos {@code curp} y
+     * {@code error}, igual al que escribe Gson para un JsonObject.
+     */
+    public static void writeError(String curp, String message, StringBuilder out) {
+        out.append('{');
+        // Gson omite las propiedades nulas
+        if (curp != null) {
+            appendString(out.append("\"curp\":"), curp);
+        }
+        if (message != null) {
+            if (curp != null) {
+                out.append(',');
+            }
+            appendString(out.append("\"error\":"), message);
+        }
+        out.append('}');
+    }
+
+    /**
+     * Valida una entrada y escribe su objeto JSON: el de la CURP si es
+     * válida, o uno con {@code curp} y {@code error} si no lo es.
+     *
+     * @return True si la CURP es válida.
+     */
+    static boolean write(CURPInput input, StringBuilder out) {
+        CURPResult result = input.parse();
+        if (result.isValid()) {
+            write(result.getCurp(), out);
+            return true;
+        }
+        writeError(result.getInput(), result.getMessage(), out);
+        return false;
+    }
+
+    /**
+     * Codifica en UTF-8 un texto ya escapado.
+     *
+     * @throws BufferOverflowException Si no cabe; la posición de out no cambia.
+     */
+    static void encode(CharSequence json, ByteBuffer out) {
+        int start = out.position();
+        int length = json.length();
+        try {
+            for (int i = 0; i < length; i++) {
+                char c = json.charAt(i);
+                if (c < 0x80) {
+                    out.put((byte) c);
+                } else if (c < 0x800) {
+                    out.put((byte) (0xC0 | (c >> 6)));
+                    out.put((byte) (0x80 | (c & 0x3F)));
+                } else if (Character.isSurrogate(c)) {
+                    char low = i + 1 < length ? json.charAt(i + 1) : 0;
+                    if (Character.isHighSurrogate(c) && Character.isLowSurrogate(low)) {
+                        int cp = Character.toCodePoint(c, low);
+                        out.put((byte) (0xF0 | (cp >> 18)));
+                        out.put((byte) (0x80 | ((cp >> 12) & 0x3F)));
+                        out.put((byte) (0x80 | ((cp >> 6) & 0x3F)));
+                        out.put((byte) (0x80 | (cp & 0x3F)));
+                        i++;
+                    } else {
+                        // Igual que String#getBytes con UTF-8
+                        out.put((byte) '?');
+                    }
+                } else {
+                    out.put((byte) (0xE0 | (c >> 12)));
+                    out.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                    out.put((byte) (0x80 | (c & 0x3F)));
+                }
+            }
+        } catch (BufferOverflowException e) {
+            out.position(start);
+            throw e;
+        }
+    }
+
+    /**
+     * Búfer de trabajo del hilo actual, vacío.
+     */
+    private static StringBuilder scratch() {
+        StringBuilder out = SCRATCH.get();
+        out.setLength(0);
+        return out;
+    }
+
+    /**
+     * Agrega value entre comillas, escapado igual que en Gson.
+     */
+    static StringBuilder appendString(StringBuilder out, String value) {
+        out.append('"');
+        int last = 0;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            String replacement;
+            if (c < 128) {
+                replacement = REPLACEMENTS[c];
+                if (replacement == null) {
+                    continue;
+                }
+            } else if (c == '\u2028') {
+                replacement = "\\u2028";
+            } else if (c == '\u2029') {
+                replacement = "\\u2029";
+            } else {
+                continue;
+            }
+            out.append(value, last, i).append(replacement);
+            last = i + 1;
+        }
+        return out.append(value, last, length).append('"');
+    }
+
+    /**
+     * Agrega la fecha con el formato de {@link LocalDate#toString()}.
+     */
+    private static StringBuilder appendDate(StringBuilder out, LocalDate date) {
+        int year = date.getYear();
+        if (year < 1000 || year > 9999) {
+            return out.append(date);
+        }
+        out.append(year).append('-');
+        int month = date.getMonthValue();
+        int day = date.getDayOfMonth();
+        out.append((char) ('0' + month / 10)).append((char) ('0' + month % 10)).append('-');
+        return out.append((char) ('0' + day / 10)).append((char) ('0' + day % 10));
+    }
+}
@@ -0,0 +1,120 @@
+package com.curpsuite;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Escribe objetos JSON de CURPs en formato JSONL, uno por línea, en UTF-8.
+ *
+ * Cada registro se escribe con {@link CURPJson} en un mismo búfer de texto
+ * y un mismo búfer de bytes, que se reutilizan para todos los registros;
+ * los bytes se envían al OutputStream sólo cuando el búfer se llena o al
+ * llamar {@link #flush()}. No es seguro usar una instancia desde varios hilos.
+ *
+ * Uso:
+ * <pre>
+ * {@code
+ * try (CURPJsonLinesWriter writer = new CURPJsonLinesWriter(System.out)) {
+ *     for (String curp : curps) {
+ *         writer.write(CURP.parse(curp));
+ *     }
+ * }
+ * }
+ * </pre>
+ */
+public final class CURPJsonLinesWriter implements Closeable, Flushable {
+    private static final int DEFAULT_BUFFER_SIZE = 64 << 10;
+
+    private final OutputStream output;
+    private final StringBuilder record = new StringBuilder(256);
+    private ByteBuffer buffer;
+    private long records;
+
+    /**
+     * @param output Destino de los registros.
+     */
+    public CURPJsonLinesWriter(OutputStream output) {
+        this(output, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param output Destino de los registros.
+     * @param bufferSize Bytes que se acumulan antes de escribir en output.
+     */
+    public CURPJsonLinesWriter(OutputStream output, int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("El tamaño del búfer debe ser positivo");
+        }
+        this.output = output;
+        this.buffer = ByteBuffer.allocate(bufferSize);
+    }
+
+    /**
+     * Escribe el objeto JSON de una CURP; ver {@link CURP#toJson()}.
+     */
+    public void write(CURP curp) throws IOException {
+        record.setLength(0);
+        CURPJson.write(curp, record);
+        writeRecord();
+    }
+
+    /**
+     * Escribe el objeto JSON de una CURP válida, o sus campos {@code curp} y
+     * {@code error} si es inválida.
+     */
+    public void write(CURPResult result) throws IOException {
+        record.setLength(0);
+        if (result.isValid()) {
+            CURPJson.write(result.getCurp(), record);
+        } else {
+            CURPJson.writeError(result.getInput(), result.getMessage(), record);
+        }
+        writeRecord();
+    }
+
+    /**
+     * @return Número de registros escritos.
+     */
+    public long getRecords() {
+        return records;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        drain();
+        output.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            drain();
+        } finally {
+            output.close();
+        }
+    }
+
+    private void writeRecord() throws IOException {
+        record.append('\n');
+        // Cada carácter ocupa a lo más tres bytes en UTF-8
+        int maxBytes = record.length() * 3;
+        if (buffer.remaining() < maxBytes) {
+            drain();
+            if (buffer.capacity() < maxBytes) {
+                buffer = ByteBuffer.allocate(maxBytes);
+            }
+        }
+        CURPJson.encode(record, buffer);
+        records++;
+    }
+
+    private void drain() throws IOException {
+        if (buffer.position() > 0) {
+            output.write(buffer.array(), 0, buffer.position());
+            buffer.clear();
+        }
+    }
+}
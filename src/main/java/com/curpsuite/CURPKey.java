@@ -0,0 +1,229 @@
+package com.curpsuite;
+
+import com.curpsuite.exceptions.CURPLengthException;
+import com.curpsuite.exceptions.CURPValueException;
+
+import java.util.Arrays;
+
+/**
+ * Representación compacta y sin pérdida de una CURP en dos {@code long}.
+ *
+ * Cada uno de los 37 caracteres posibles de una CURP se codifica en 6 bits,
+ * nueve caracteres por {@code long}, del más significativo al menos
+ * significativo. Los códigos siguen el orden de los caracteres en
+ * {@link String#compareTo(String)} (la Ñ después de la Z), por lo que
+ * ordenar claves equivale a ordenar las CURPs como texto.
+ *
+ * Para guardar millones de CURPs sin crear objetos, {@link #high(CharSequence)}
+ * y {@link #low(CharSequence)} calculan directamente cada mitad.
+ */
+public final class CURPKey implements Comparable<CURPKey> {
+    private static final int LENGTH = 18;
+    private static final int CHARS_PER_LONG = 9;
+    private static final int BITS_PER_CHAR = 6;
+    private static final int CHAR_MASK = (1 << BITS_PER_CHAR) - 1;
+
+    // Alfabeto de la CURP en orden de String.compareTo
+    private static final String ALPHABET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZÑ";
+
+    // Código de cada carácter Latin-1, o -1 si no pertenece al alfabeto
+    private static final byte[] CODES = new byte[256];
+    static {
+        Arrays.fill(CODES, (byte) -1);
+        for (int i = 0; i < ALPHABET.length(); i++) {
+            CODES[ALPHABET.charAt(i)] = (byte) i;
+        }
+    }
+
+    private final long high;
+    private final long low;
+
+    /**
+     * Reconstruye una clave a partir de sus dos mitades.
+     *
+     * @param high Mitad obtenida con {@link #getHigh()} o {@link #high(CharSequence)}.
+     * @param low Mitad obtenida con {@link #getLow()} o {@link #low(CharSequence)}.
+     * @throws IllegalArgumentException Las mitades no corresponden a una CURP.
+     */
+    public CURPKey(long high, long low) {
+        if (!isValidHalf(high) || !isValidHalf(low)) {
+            throw new IllegalArgumentException("Las mitades no corresponden a una CURP");
+        }
+        this.high = high;
+        this.low = low;
+    }
+
+    /**
+     * Codifica una CURP.
+     *
+     * @param curp Una CURP de 18 caracteres.
+     * @return La clave de la CURP.
+     * @throws CURPLengthException La CURP no tiene 18 caracteres.
+     * @throws CURPValueException La CURP contiene caracteres no válidos.
+     */
+    public static CURPKey of(CharSequence curp) {
+        return new CURPKey(high(curp), low(curp));
+    }
+
+    /**
+     * Codifica una CURP guardada como 18 bytes ASCII/Latin-1.
+     *
+     * @param bytes Arreglo con la CURP.
+     * @param offset Posición del primer carácter de la CURP.
+     * @return La clave de la CURP.
+     * @throws CURPLengthException El arreglo no contiene 18 bytes a partir de offset.
+     * @throws CURPValueException La CURP contiene caracteres no válidos.
+     */
+    public static CURPKey of(byte[] bytes, int offset) {
+        return new CURPKey(high(bytes, offset), low(bytes, offset));
+    }
+
+    /**
+     * Calcula la primera mitad de la clave de una CURP.
+     */
+    public static long high(CharSequence curp) {
+        checkLength(curp.length() == LENGTH);
+        return pack(curp, 0);
+    }
+
+    /**
+     * Calcula la segunda mitad de la clave de una CURP.
+     */
+    public static long low(CharSequence curp) {
+        checkLength(curp.length() == LENGTH);
+        return pack(curp, CHARS_PER_LONG);
+    }
+
+    /**
+     * Calcula la primera mitad de la clave de una CURP guardada como bytes.
+     */
+    public static long high(byte[] bytes, int offset) {
+        checkLength(offset >= 0 && bytes.length - offset >= LENGTH);
+        return pack(bytes, offset);
+    }
+
+    /**
+     * Calcula la segunda mitad de la clave de una CURP guardada como bytes.
+     */
+    public static long low(byte[] bytes, int offset) {
+        checkLength(offset >= 0 && bytes.length - offset >= LENGTH);
+        return pack(bytes, offset + CHARS_PER_LONG);
+    }
+
+    /**
+     * Decodifica una clave guardada como dos mitades.
+     *
+     * @return La CURP correspondiente.
+     */
+    public static String decode(long high, long low) {
+        char[] chars = new char[LENGTH];
+        unpack(high, chars, 0);
+        unpack(low, chars, CHARS_PER_LONG);
+        return new String(chars);
+    }
+
+    /**
+     * @return La primera mitad de la clave.
+     */
+    public long getHigh() {
+        return high;
+    }
+
+    /**
+     * @return La segunda mitad de la clave.
+     */
+    public long getLow() {
+        return low;
+    }
+
+    /**
+     * @return La CURP representada por esta clave.
+     */
+    @Override
+    public String toString() {
+        return decode(high, low);
+    }
+
+    @Override
+    public int compareTo(CURPKey other) {
+        int result = Long.compare(high, other.high);
+        return result != 0 ? result : Long.compare(low, other.low);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CURPKey)) {
+            return false;
+        }
+        CURPKey other = (CURPKey) o;
+        return high == other.high && low == other.low;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash(high, low);
+    }
+
+    /**
+     * Hash de una clave guardada como dos mitades, igual a {@link #hashCode()}.
+     */
+    public static int hash(long high, long low) {
+        long h = high * 0x9E3779B97F4A7C15L + low;
+        h ^= h >>> 29;
+        h *= 0xBF58476D1CE4E5B9L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static void checkLength(boolean valid) {
+        if (!valid) {
+            throw new CURPLengthException("La CURP no tiene el tamaño correcto");
+        }
+    }
+
+    private static long pack(CharSequence curp, int start) {
+        long packed = 0;
+        for (int i = start; i < start + CHARS_PER_LONG; i++) {
+            packed = (packed << BITS_PER_CHAR) | code(curp.charAt(i));
+        }
+        return packed;
+    }
+
+    private static long pack(byte[] bytes, int start) {
+        long packed = 0;
+        for (int i = start; i < start + CHARS_PER_LONG; i++) {
+            packed = (packed << BITS_PER_CHAR) | code((char) (bytes[i] & 0xFF));
+        }
+        return packed;
+    }
+
+    private static int code(char c) {
+        int code = c < CODES.length ? CODES[c] : -1;
+        if (code < 0) {
+            throw new CURPValueException("La CURP contiene caracteres no válidos.");
+        }
+        return code;
+    }
+
+    private static void unpack(long packed, char[] chars, int start) {
+        for (int i = start + CHARS_PER_LONG - 1; i >= start; i--) {
+            chars[i] = ALPHABET.charAt((int) (packed & CHAR_MASK));
+            packed >>>= BITS_PER_CHAR;
+        }
+    }
+
+    private static boolean isValidHalf(long packed) {
+        if (packed >>> (CHARS_PER_LONG * BITS_PER_CHAR) != 0) {
+            return false;
+        }
+        for (int i = 0; i < CHARS_PER_LONG; i++) {
+            if ((packed & CHAR_MASK) >= ALPHABET.length()) {
+                return false;
+            }
+            packed >>>= BITS_PER_CHAR;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,90 @@
+package com.curpsuite;
+
+import com.curpsuite.enums.Region;
+import com.curpsuite.enums.Sexo;
+
+import java.time.LocalDate;
+
+/**
+ * Datos de una persona a partir de los cuales se genera su CURP con
+ * {@link CURPGenerator}.
+ */
+public final class CURPPerson {
+    private final String nombre;
+    private final String primerApellido;
+    private final String segundoApellido;
+    private final LocalDate fechaNacimiento;
+    private final Sexo sexo;
+    private final Region region;
+    private final char homonimia;
+
+    /**
+     * @param nombre Nombre de pila de la persona.
+     * @param primerApellido Primer apellido (paterno) de la persona.
+     * @param segundoApellido Segundo apellido (materno), o null si no tiene.
+     * @param fechaNacimiento Fecha de nacimiento, entre 1900 y 2099.
+     * @param sexo HOMBRE o MUJER.
+     * @param region Entidad de nacimiento.
+     * @param homonimia Carácter de homonímia: un dígito si nació antes del 2000
+     *                  o una letra si nació después; {@code '\0'} para usar '0' o 'A'.
+     */
+    public CURPPerson(String nombre, String primerApellido, String segundoApellido,
+                      LocalDate fechaNacimiento, Sexo sexo, Region region, char homonimia) {
+        this.nombre = nombre;
+        this.primerApellido = primerApellido;
+        this.segundoApellido = segundoApellido;
+        this.fechaNacimiento = fechaNacimiento;
+        this.sexo = sexo;
+        this.region = region;
+        this.homonimia = homonimia;
+    }
+
+    /**
+     * Datos de una persona con el carácter de homonímia por defecto.
+     */
+    public CURPPerson(String nombre, String primerApellido, String segundoApellido,
+                      LocalDate fechaNacimiento, Sexo sexo, Region region) {
+        this(nombre, primerApellido, segundoApellido, fechaNacimiento, sexo, region, '\0');
+    }
+
+    /**
+     * @return Genera la CURP de esta persona; ver {@link CURPGenerator#generate(CURPPerson)}.
+     */
+    public String toCurp() {
+        return CURPGenerator.generate(this);
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public String getPrimerApellido() {
+        return primerApellido;
+    }
+
+    /**
+     * @return Segundo apellido, o null si no tiene.
+     */
+    public String getSegundoApellido() {
+        return segundoApellido;
+    }
+
+    public LocalDate getFechaNacimiento() {
+        return fechaNacimiento;
+    }
+
+    public Sexo getSexo() {
+        return sexo;
+    }
+
+    public Region getRegion() {
+        return region;
+    }
+
+    /**
+     * @return Carácter de homonímia, o {@code '\0'} si se usa el de por defecto.
+     */
+    public char getHomonimia() {
+        return homonimia;
+    }
+}
@@ -0,0 +1,439 @@
+package com.curpsuite;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Lee las CURPs por validar del cuerpo de una petición a {@link CURPServer}.
+ *
+ * Cada registro puede ser una cadena JSON con la CURP, o un objeto con los
+ * campos {@code curp}, {@code nombre}, {@code primerApellido},
+ * {@code segundoApellido} y {@code nombreCompleto}; los demás campos se
+ * ignoran. Los registros pueden venir en un arreglo JSON o uno por línea
+ * (NDJSON), donde también se acepta la CURP sin comillas.
+ *
+ * Sólo se reconoce el JSON necesario para esto, sin construir un árbol.
+ * También lo usa el modo {@code --stream} de {@link Main}, que conserva
+ * el campo {@code id} de cada objeto.
+ */
+final class CURPRequestParser {
+    private final String text;
+    private final int maxRecords;
+    private int pos;
+    // Valor JSON del campo id del último objeto leído, tal como venía
+    private String id;
+
+    private CURPRequestParser(String text, int maxRecords) {
+        this.text = text;
+        this.maxRecords = maxRecords;
+    }
+
+    /**
+     * @return True si el cuerpo es un arreglo JSON, es decir, si empieza con '['.
+     */
+    static boolean isArray(String body) {
+        CURPRequestParser parser = new CURPRequestParser(body, 0);
+        parser.skipWhitespace();
+        return parser.pos < body.length() && body.charAt(parser.pos) == '[';
+    }
+
+    /**
+     * Lee un arreglo JSON de registros.
+     *
+     * @throws IllegalArgumentException Si el JSON es incorrecto.
+     * @throws TooManyRecordsException Si hay más de maxRecords registros.
+     */
+    static List<CURPInput> parseArray(String body, int maxRecords) {
+        CURPRequestParser parser = new CURPRequestParser(body, maxRecords);
+        List<CURPInput> inputs = new ArrayList<>();
+
+        parser.skipWhitespace();
+        parser.expect('[');
+        parser.skipWhitespace();
+        if (parser.peek() == ']') {
+            parser.pos++;
+        } else {
+            while (true) {
+                parser.add(inputs, parser.readRecord());
+                parser.skipWhitespace();
+                char c = parser.next();
+                if (c == ']') {
+                    break;
+                }
+                if (c != ',') {
+                    throw parser.error();
+                }
+            }
+        }
+
+        parser.skipWhitespace();
+        if (parser.pos < body.length()) {
+            throw parser.error();
+        }
+        return inputs;
+    }
+
+    /**
+     * Lee un registro por línea; las líneas vacías se ignoran.
+     *
+     * @throws IllegalArgumentException Si un registro es incorrecto.
+     * @throws TooManyRecordsException Si hay más de maxRecords registros.
+     */
+    static List<CURPInput> parseLines(String body, int maxRecords) {
+        CURPRequestParser parser = new CURPRequestParser(body, maxRecords);
+        List<CURPInput> inputs = new ArrayList<>();
+
+        int length = body.length();
+        while (parser.pos < length) {
+            int end = body.indexOf('\n', parser.pos);
+            if (end < 0) {
+                end = length;
+            }
+
+            parser.skipSpaces(end);
+            if (parser.pos < end) {
+                char c = body.charAt(parser.pos);
+                if (c == '"' || c == '{') {
+                    parser.add(inputs, parser.readRecord());
+                    parser.skipSpaces(end);
+                    if (parser.pos != end) {
+                        throw parser.error();
+                    }
+                } else {
+                    // CURP sin comillas
+                    int last = end;
+                    while (last > parser.pos && isSpace(body.charAt(last - 1))) {
+                        last--;
+                    }
+                    parser.add(inputs, new CURPInput(body.substring(parser.pos, last)));
+                }
+            }
+            parser.pos = end + 1;
+        }
+        return inputs;
+    }
+
+    /**
+     * Lee un solo registro de una línea, como en NDJSON, conservando el
+     * campo {@code id} de un objeto.
+     *
+     * @throws IllegalArgumentException Si el registro es incorrecto.
+     */
+    static Record parseRecord(String line) {
+        CURPRequestParser parser = new CURPRequestParser(line, 1);
+        int length = line.length();
+        parser.skipWhitespace();
+        if (parser.pos == length) {
+            return new Record(new CURPInput(""), null);
+        }
+
+        char c = line.charAt(parser.pos);
+        if (c != '"' && c != '{') {
+            // CURP sin comillas
+            int last = length;
+            while (last > parser.pos && isWhitespace(line.charAt(last - 1))) {
+                last--;
+            }
+            return new Record(new CURPInput(line.substring(parser.pos, last)), null);
+        }
+
+        CURPInput input = parser.readRecord();
+        parser.skipWhitespace();
+        if (parser.pos != length) {
+            throw parser.error();
+        }
+        return new Record(input, parser.id);
+    }
+
+    private void add(List<CURPInput> inputs, CURPInput input) {
+        if (inputs.size() >= maxRecords) {
+            throw new TooManyRecordsException(maxRecords);
+        }
+        inputs.add(input);
+    }
+
+    /**
+     * Lee una cadena con la CURP o un objeto con la CURP y el nombre.
+     */
+    private CURPInput readRecord() {
+        skipWhitespace();
+        char c = peek();
+        if (c == '"') {
+            return new CURPInput(readString());
+        }
+        if (c != '{') {
+            throw error();
+        }
+        pos++;
+
+        String curp = null;
+        String nombre = null;
+        String primerApellido = null;
+        String segundoApellido = null;
+        String nombreCompleto = null;
+        id = null;
+
+        skipWhitespace();
+        if (peek() == '}') {
+            pos++;
+            return new CURPInput(null);
+        }
+
+        while (true) {
+            skipWhitespace();
+            String key = readString();
+            skipWhitespace();
+            expect(':');
+            skipWhitespace();
+
+            switch (key) {
+                case "curp":
+                    curp = readNullableString();
+                    break;
+                case "nombre":
+                    nombre = readNullableString();
+                    break;
+                case "primerApellido":
+                    primerApellido = readNullableString();
+                    break;
+                case "segundoApellido":
+                    segundoApellido = readNullableString();
+                    break;
+                case "nombreCompleto":
+                    nombreCompleto = readNullableString();
+                    break;
+                case "id":
+                    int start = pos;
+                    skipValue();
+                    id = text.substring(start, pos);
+                    break;
+                default:
+                    skipValue();
+            }
+
+            skipWhitespace();
+            char next = next();
+            if (next == '}') {
+                break;
+            }
+            if (next != ',') {
+                throw error();
+            }
+        }
+
+        return new CURPInput(curp, nombre, primerApellido, segundoApellido, nombreCompleto);
+    }
+
+    private String readNullableString() {
+        if (text.startsWith("null", pos)) {
+            pos += 4;
+            return null;
+        }
+        return readString();
+    }
+
+    private String readString() {
+        expect('"');
+        StringBuilder value = null;
+        int start = pos;
+        while (true) {
+            char c = next();
+            if (c == '"') {
+                return value == null ? text.substring(start, pos - 1) : value.append(text, start, pos - 1).toString();
+            }
+            if (c < 0x20) {
+                throw error();
+            }
+            if (c == '\\') {
+                if (value == null) {
+                    value = new StringBuilder();
+                }
+                value.append(text, start, pos - 1).append(readEscape());
+                start = pos;
+            }
+        }
+    }
+
+    private char readEscape() {
+        char c = next();
+        switch (c) {
+            case '"':
+            case '\\':
+            case '/':
+                return c;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                if (pos + 4 > text.length()) {
+                    throw error();
+                }
+                int code = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(text.charAt(pos++), 16);
+                    if (digit < 0) {
+                        throw error();
+                    }
+                    code = code * 16 + digit;
+                }
+                return (char) code;
+            default:
+                throw error();
+        }
+    }
+
+    /**
+     * Salta un valor JSON cualquiera de un campo que no se usa.
+     *
+     * Los arreglos y objetos anidados se recorren sin recursión, con una
+     * pila de los caracteres que los cierran, para que un valor muy
+     * anidado no agote la pila del hilo.
+     */
+    private void skipValue() {
+        char[] closing = new char[8];
+        int depth = 0;
+
+        while (true) {
+            char c = peek();
+            boolean complete = true;
+            if (c == '"') {
+                readString();
+            } else if (c == '{' || c == '[') {
+                char close = c == '{' ? '}' : ']';
+                pos++;
+                skipWhitespace();
+                if (peek() == close) {
+                    pos++;
+                } else {
+                    if (depth == closing.length) {
+                        closing = Arrays.copyOf(closing, depth * 2);
+                    }
+                    closing[depth++] = close;
+                    if (close == '}') {
+                        readKey();
+                    }
+                    complete = false;
+                }
+            } else {
+                // Número, true, false o null
+                int start = pos;
+                while (pos < text.length() && "{}[],: \t\r\n\"".indexOf(text.charAt(pos)) < 0) {
+                    pos++;
+                }
+                if (pos == start) {
+                    throw error();
+                }
+            }
+
+            // Después de un valor completo se cierran los contenedores que
+            // terminen, hasta encontrar el siguiente elemento
+            while (complete) {
+                if (depth == 0) {
+                    return;
+                }
+                skipWhitespace();
+                char next = next();
+                if (next == closing[depth - 1]) {
+                    depth--;
+                } else if (next == ',') {
+                    skipWhitespace();
+                    if (closing[depth - 1] == '}') {
+                        readKey();
+                    }
+                    complete = false;
+                } else {
+                    throw error();
+                }
+            }
+        }
+    }
+
+    /**
+     * Lee la clave de un campo y los dos puntos, hasta el inicio del valor.
+     */
+    private void readKey() {
+        skipWhitespace();
+        readString();
+        skipWhitespace();
+        expect(':');
+        skipWhitespace();
+    }
+
+    private void skipWhitespace() {
+        while (pos < text.length() && isWhitespace(text.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    private void skipSpaces(int end) {
+        while (pos < end && isSpace(text.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\r' || c == '\n';
+    }
+
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\r';
+    }
+
+    private char peek() {
+        if (pos >= text.length()) {
+            throw error();
+        }
+        return text.charAt(pos);
+    }
+
+    private char next() {
+        char c = peek();
+        pos++;
+        return c;
+    }
+
+    private void expect(char c) {
+        if (next() != c) {
+            pos--;
+            throw error();
+        }
+    }
+
+    private IllegalArgumentException error() {
+        return new IllegalArgumentException("JSON inválido en la posición " + pos);
+    }
+
+    /**
+     * Un registro leído de una línea, con el identificador que le dio quien
+     * lo envió.
+     */
+    static final class Record {
+        final CURPInput input;
+        // Valor JSON del identificador, o null si no tiene
+        final String id;
+
+        Record(CURPInput input, String id) {
+            this.input = input;
+            this.id = id;
+        }
+    }
+
+    /**
+     * La petición tiene más registros de los permitidos.
+     */
+    static final class TooManyRecordsException extends IllegalArgumentException {
+        private static final long serialVersionUID = 1L;
+
+        TooManyRecordsException(int maxRecords) {
+            super("La petición tiene más de " + maxRecords + " registros");
+        }
+    }
+}
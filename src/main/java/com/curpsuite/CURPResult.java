@@ -0,0 +1,111 @@
+package com.curpsuite;
+
+import com.curpsuite.enums.CURPStatus;
+import com.curpsuite.exceptions.CURPException;
+
+/**
+ * Resultado de analizar una CURP con {@link CURP#parse(String)}.
+ *
+ * Contiene la CURP construida si es válida, o el error encontrado y la
+ * posición del carácter que lo produjo si no lo es.
+ *
+ * Uso:
+ * <pre>
+ * {@code
+ * CURPResult result = CURP.parse("SABC560626MDFLRN01");
+ * if (result.isValid()) {
+ *     System.out.println(result.getCurp().getFechaNacimiento());
+ * } else {
+ *     System.out.println(result.getMessage() + " en " + result.getPosition());
+ * }
+ * }
+ * </pre>
+ */
+public final class CURPResult {
+    private final String input;
+    private final CURP curp;
+    private final CURPStatus status;
+    private final int position;
+
+    private CURPResult(String input, CURP curp, CURPStatus status, int position) {
+        this.input = input;
+        this.curp = curp;
+        this.status = status;
+        this.position = position;
+    }
+
+    static CURPResult success(CURP curp) {
+        return new CURPResult(curp.getCurp(), curp, CURPStatus.VALID, -1);
+    }
+
+    static CURPResult failure(String input, CURPStatus status, int position) {
+        return new CURPResult(input, null, status, position);
+    }
+
+    /**
+     * @return True si la CURP es válida.
+     */
+    public boolean isValid() {
+        return status == CURPStatus.VALID;
+    }
+
+    /**
+     * @return El texto que se analizó.
+     */
+    public String getInput() {
+        return input;
+    }
+
+    /**
+     * @return La CURP construida, o null si no es válida.
+     */
+    public CURP getCurp() {
+        return curp;
+    }
+
+    /**
+     * @return El resultado de la validación.
+     */
+    public CURPStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * @return La posición del carácter que produjo el error,
+     *         o -1 si la CURP es válida o el error no corresponde a un carácter.
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * @return El mensaje de error, o null si la CURP es válida.
+     */
+    public String getMessage() {
+        return status.getMessage();
+    }
+
+    /**
+     * Obtiene la CURP, lanzando la excepción correspondiente si no es válida.
+     *
+     * La excepción se construye sin traza de pila, ya que una CURP inválida
+     * es un resultado normal de la validación.
+     *
+     * @return La CURP construida.
+     * @throws CURPException La CURP no es válida.
+     */
+    public CURP orElseThrow() {
+        if (curp == null) {
+            throw status.toException(false);
+        }
+        return curp;
+    }
+
+    @Override
+    public String toString() {
+        if (isValid()) {
+            return "<CURPResult " + curp + ">";
+        }
+        return "<CURPResult " + status + " [" + position + "]>";
+    }
+}
@@ -0,0 +1,447 @@
+package com.curpsuite;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Servicio HTTP de validación de CURPs, sobre el servidor HTTP del JDK
+ * ({@code com.sun.net.httpserver}).
+ *
+ * Permite validar CURPs desde otros lenguajes sin iniciar una JVM por cada
+ * una. Las respuestas usan el mismo formato que {@link CURP#toJson()}, y
+ * una CURP inválida se describe con sus campos {@code curp} y {@code error}.
+ *
+ * <ul>
+ *   <li>{@code GET /curp/{curp}} o {@code GET /curp?curp=...}: valida una
+ *   CURP; los parámetros {@code nombre}, {@code primerApellido},
+ *   {@code segundoApellido} y {@code nombreCompleto} son opcionales.
+ *   Responde 200 si es válida o 422 si no lo es.</li>
+ *   <li>{@code POST /curp/batch}: valida un lote. El cuerpo puede ser un
+ *   arreglo JSON, que se responde con un arreglo, o un registro por línea
+ *   (NDJSON), que se responde con un objeto por línea en el mismo orden.
+ *   Cada registro es la CURP como cadena (en NDJSON también sin comillas)
+ *   o un objeto con {@code curp} y las partes del nombre.</li>
+ *   <li>{@code GET /health}: responde 200 mientras el servidor esté activo.</li>
+ * </ul>
+ *
+ * Las conexiones se mantienen abiertas entre peticiones (keep-alive) porque
+ * todas las respuestas llevan {@code Content-Length}. Si no se especifica
+ * otra cosa, se activa {@code -Dsun.net.httpserver.nodelay=true} para que
+ * las respuestas pequeñas no esperen al ACK del cliente; la propiedad sólo
+ * tiene efecto si es el primer servidor HTTP del JDK en el proceso.
+ *
+ * Uso:
+ * <pre>
+ * {@code
+ * CURPServer server = CURPServer.builder().port(8080).threads(8).build();
+ * server.start();
+ * }
+ * </pre>
+ */
+public final class CURPServer implements Closeable {
+    /**
+     * Tamaño máximo por omisión del cuerpo de una petición: 16 MiB.
+     */
+    public static final int DEFAULT_MAX_REQUEST_BYTES = 16 << 20;
+
+    /**
+     * Número máximo por omisión de registros en un lote.
+     */
+    public static final int DEFAULT_MAX_BATCH_SIZE = 100_000;
+
+    // El servidor del JDK escribe los encabezados y el cuerpo por separado;
+    // con el algoritmo de Nagle, cada respuesta pequeña en una conexión
+    // keep-alive esperaría el ACK retrasado del cliente (unos 40 ms)
+    private static final String NODELAY = "sun.net.httpserver.nodelay";
+
+    private static final String JSON = "application/json; charset=utf-8";
+    private static final String NDJSON = "application/x-ndjson; charset=utf-8";
+
+    private final HttpServer server;
+    private final ExecutorService ownExecutor;
+    private final int maxRequestBytes;
+    private final int maxBatchSize;
+
+    private CURPServer(Builder builder) throws IOException {
+        this.maxRequestBytes = builder.maxRequestBytes;
+        this.maxBatchSize = builder.maxBatchSize;
+
+        if (System.getProperty(NODELAY) == null) {
+            System.setProperty(NODELAY, "true");
+        }
+
+        InetSocketAddress address = builder.host != null
+                ? new InetSocketAddress(builder.host, builder.port)
+                : new InetSocketAddress(builder.port);
+        this.server = HttpServer.create(address, builder.backlog);
+
+        Executor executor = builder.executor;
+        if (executor == null) {
+            ownExecutor = Executors.newFixedThreadPool(builder.threads, r -> {
+                Thread thread = new Thread(r, "curpsuite-http");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor = ownExecutor;
+        } else {
+            ownExecutor = null;
+        }
+        server.setExecutor(executor);
+
+        server.createContext("/curp", this::handleSingle);
+        server.createContext("/curp/batch", this::handleBatch);
+        server.createContext("/health", this::handleHealth);
+    }
+
+    /**
+     * @return Un constructor de servidores con los valores por omisión.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Empieza a atender peticiones en segundo plano.
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Deja de aceptar conexiones y espera hasta cierto tiempo a que terminen
+     * las peticiones en curso. Si el servidor creó sus propios hilos, los detiene.
+     *
+     * @param delaySeconds Segundos máximos de espera.
+     */
+    public void stop(int delaySeconds) {
+        server.stop(delaySeconds);
+        if (ownExecutor != null) {
+            ownExecutor.shutdown();
+        }
+    }
+
+    /**
+     * Detiene el servidor sin esperar a las peticiones en curso.
+     */
+    @Override
+    public void close() {
+        stop(0);
+    }
+
+    /**
+     * @return La dirección donde escucha el servidor; útil si se usó el puerto 0.
+     */
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    private void handleSingle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            if (!path.equals("/curp") && !path.equals("/curp/") && !path.startsWith("/curp/")) {
+                sendError(exchange, 404, "Ruta desconocida: " + path);
+                return;
+            }
+            if (!allow(exchange, "GET")) {
+                return;
+            }
+
+            String[] params = parseQuery(exchange.getRequestURI().getRawQuery());
+            String curp = path.length() > "/curp/".length() ? path.substring("/curp/".length()) : params[0];
+            if (curp == null) {
+                sendError(exchange, 400, "Falta la CURP");
+                return;
+            }
+
+            CURPInput input = new CURPInput(curp, params[1], params[2], params[3], params[4]);
+            StringBuilder json = new StringBuilder(256);
+            boolean valid = CURPJson.write(input, json);
+            send(exchange, valid ? 200 : 422, JSON, json);
+        }
+    }
+
+    private void handleBatch(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!exchange.getRequestURI().getPath().equals("/curp/batch")) {
+                sendError(exchange, 404, "Ruta desconocida: " + exchange.getRequestURI().getPath());
+                return;
+            }
+            if (!allow(exchange, "POST")) {
+                return;
+            }
+
+            String body = readBody(exchange);
+            if (body == null) {
+                return;
+            }
+
+            String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+            boolean lines = contentType != null && isLineFormat(contentType.toLowerCase(Locale.ROOT));
+            boolean array = !lines && CURPRequestParser.isArray(body);
+
+            List<CURPInput> inputs;
+            try {
+                inputs = array
+                        ? CURPRequestParser.parseArray(body, maxBatchSize)
+                        : CURPRequestParser.parseLines(body, maxBatchSize);
+            } catch (IllegalArgumentException e) {
+                boolean tooMany = e instanceof CURPRequestParser.TooManyRecordsException;
+                sendError(exchange, tooMany ? 413 : 400, e.getMessage());
+                return;
+            }
+
+            StringBuilder json = new StringBuilder(inputs.size() * 160 + 2);
+            if (array) {
+                json.append('[');
+            }
+            for (int i = 0; i < inputs.size(); i++) {
+                if (array && i > 0) {
+                    json.append(',');
+                }
+                CURPJson.write(inputs.get(i), json);
+                if (!array) {
+                    json.append('\n');
+                }
+            }
+            if (array) {
+                json.append(']');
+            }
+
+            send(exchange, 200, array ? JSON : NDJSON, json);
+        }
+    }
+
+    private void handleHealth(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (allow(exchange, "GET")) {
+                send(exchange, 200, JSON, new StringBuilder("{\"status\":\"ok\"}"));
+            }
+        }
+    }
+
+    private static boolean isLineFormat(String contentType) {
+        return contentType.contains("ndjson") || contentType.contains("jsonl")
+                || contentType.contains("json-seq") || contentType.startsWith("text/plain");
+    }
+
+    /**
+     * Responde 405 si el método no es el esperado.
+     *
+     * @return True si el método es el esperado.
+     */
+    private static boolean allow(HttpExchange exchange, String method) throws IOException {
+        if (exchange.getRequestMethod().equals(method)) {
+            return true;
+        }
+        exchange.getResponseHeaders().set("Allow", method);
+        sendError(exchange, 405, "Método no permitido: " + exchange.getRequestMethod());
+        return false;
+    }
+
+    /**
+     * Lee el cuerpo de la petición como UTF-8, respondiendo 413 si excede el límite.
+     *
+     * @return El cuerpo, o null si ya se respondió con un error.
+     */
+    private String readBody(HttpExchange exchange) throws IOException {
+        // Sin Content-Length (cuerpo por partes) el búfer crece hasta el límite
+        long expected = 8192;
+        String declared = exchange.getRequestHeaders().getFirst("Content-Length");
+        if (declared != null) {
+            try {
+                expected = Math.max(Long.parseLong(declared.trim()), 1);
+            } catch (NumberFormatException e) {
+                sendError(exchange, 400, "Content-Length inválido");
+                return null;
+            }
+            if (expected > maxRequestBytes) {
+                sendError(exchange, 413, "La petición excede " + maxRequestBytes + " bytes");
+                return null;
+            }
+        }
+
+        byte[] buffer = new byte[(int) Math.min(expected, maxRequestBytes)];
+        int length = 0;
+        try (InputStream in = exchange.getRequestBody()) {
+            int read;
+            while ((read = in.read(buffer, length, buffer.length - length)) >= 0) {
+                length += read;
+                if (length == buffer.length) {
+                    if (length >= maxRequestBytes) {
+                        // Puede haber más bytes de los permitidos
+                        if (in.read() >= 0) {
+                            sendError(exchange, 413, "La petición excede " + maxRequestBytes + " bytes");
+                            return null;
+                        }
+                        break;
+                    }
+                    buffer = Arrays.copyOf(buffer, (int) Math.min((long) length * 2, maxRequestBytes));
+                }
+            }
+        }
+        return new String(buffer, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return Los valores de curp, nombre, primerApellido, segundoApellido y
+     *         nombreCompleto, o null los que no estén.
+     */
+    private static String[] parseQuery(String query) {
+        String[] values = new String[5];
+        if (query == null) {
+            return values;
+        }
+        for (String pair : query.split("&")) {
+            int equals = pair.indexOf('=');
+            String key = equals < 0 ? pair : pair.substring(0, equals);
+            String value = equals < 0 ? "" : URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8);
+            switch (key) {
+                case "curp":
+                    values[0] = value;
+                    break;
+                case "nombre":
+                    values[1] = value;
+                    break;
+                case "primerApellido":
+                    values[2] = value;
+                    break;
+                case "segundoApellido":
+                    values[3] = value;
+                    break;
+                case "nombreCompleto":
+                    values[4] = value;
+                    break;
+                default:
+                    // Parámetros desconocidos se ignoran
+            }
+        }
+        return values;
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        StringBuilder json = new StringBuilder(message.length() + 16);
+        CURPJson.writeError(null, message, json);
+        send(exchange, status, JSON, json);
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, CharSequence json)
+            throws IOException {
+        byte[] bytes = json.toString().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Configuración de un {@link CURPServer}.
+     */
+    public static final class Builder {
+        private String host;
+        private int port = 8080;
+        private int backlog = 0;
+        private Executor executor;
+        private int threads = Runtime.getRuntime().availableProcessors();
+        private int maxRequestBytes = DEFAULT_MAX_REQUEST_BYTES;
+        private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+        private Builder() {
+        }
+
+        /**
+         * @param host Dirección donde escuchar; por omisión, todas.
+         */
+        public Builder host(String host) {
+            this.host = host;
+            return this;
+        }
+
+        /**
+         * @param port Puerto donde escuchar; 0 para elegir uno libre. Por omisión, 8080.
+         */
+        public Builder port(int port) {
+            if (port < 0 || port > 65535) {
+                throw new IllegalArgumentException("Puerto inválido: " + port);
+            }
+            this.port = port;
+            return this;
+        }
+
+        /**
+         * @param backlog Conexiones pendientes de aceptar; 0 para el valor del sistema.
+         */
+        public Builder backlog(int backlog) {
+            this.backlog = backlog;
+            return this;
+        }
+
+        /**
+         * Atiende las peticiones en un executor propio, que el servidor no detiene.
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * @param threads Hilos que atienden peticiones si no se da un executor;
+         *                por omisión, uno por procesador.
+         */
+        public Builder threads(int threads) {
+            if (threads < 1) {
+                throw new IllegalArgumentException("Debe haber al menos un hilo");
+            }
+            this.threads = threads;
+            return this;
+        }
+
+        /**
+         * @param maxRequestBytes Tamaño máximo del cuerpo de una petición; las
+         *                        mayores se responden con 413.
+         */
+        public Builder maxRequestBytes(int maxRequestBytes) {
+            if (maxRequestBytes < 1) {
+                throw new IllegalArgumentException("El tamaño máximo debe ser positivo");
+            }
+            this.maxRequestBytes = maxRequestBytes;
+            return this;
+        }
+
+        /**
+         * @param maxBatchSize Número máximo de registros en un lote; los lotes
+         *                     mayores se responden con 413.
+         */
+        public Builder maxBatchSize(int maxBatchSize) {
+            if (maxBatchSize < 1) {
+                throw new IllegalArgumentException("El tamaño máximo debe ser positivo");
+            }
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Crea el servidor y abre el puerto; no atiende peticiones hasta
+         * llamar {@link CURPServer#start()}.
+         *
+         * @throws IOException Si no se puede abrir el puerto.
+         */
+        public CURPServer build() throws IOException {
+            return new CURPServer(this);
+        }
+    }
+}
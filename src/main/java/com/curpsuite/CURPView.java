@@ -0,0 +1,255 @@
+package com.curpsuite;
+
+import com.curpsuite.data.RegionData;
+import com.curpsuite.enums.CURPChar;
+import com.curpsuite.enums.CURPStatus;
+import com.curpsuite.enums.Region;
+import com.curpsuite.enums.Sexo;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Vista reutilizable de una CURP guardada como bytes ASCII/Latin-1
+ * dentro de un {@code byte[]} o un {@link ByteBuffer}.
+ *
+ * La CURP se valida y se decodifica directamente sobre los bytes, sin
+ * copiarlos ni construir Strings, por lo que una sola instancia por hilo
+ * puede recorrer un buffer completo:
+ * <pre>
+ * {@code
+ * CURPView view = new CURPView();
+ * for (int offset = 0; offset + 18 <= data.length; offset += 19) {
+ *     if (view.reset(data, offset).isValid()) {
+ *         int year = view.getAnioNacimiento();
+ *     }
+ * }
+ * }
+ * </pre>
+ *
+ * La vista no copia los bytes, así que no deben modificarse mientras se usa.
+ * Una instancia no debe compartirse entre hilos.
+ */
+public final class CURPView implements CharSequence {
+    private static final int LENGTH = 18;
+
+    private byte[] bytes;
+    private ByteBuffer buffer;
+    private int offset;
+    private int length;
+    private CURPStatus status = CURPStatus.LENGTH;
+    private final BirthDateDecoder dates;
+
+    /**
+     * Construye una vista que deduce el siglo de nacimiento con el
+     * decodificador de fechas por defecto.
+     */
+    public CURPView() {
+        this(BirthDateDecoder.getDefault());
+    }
+
+    /**
+     * Construye una vista que deduce el siglo de nacimiento con un
+     * decodificador de fechas en particular.
+     *
+     * @param dates Decodificador de la fecha de nacimiento.
+     */
+    public CURPView(BirthDateDecoder dates) {
+        this.dates = dates;
+    }
+
+    /**
+     * Apunta la vista a una CURP de 18 bytes dentro de un arreglo.
+     *
+     * @param bytes Arreglo con la CURP en ASCII o Latin-1.
+     * @param offset Posición del primer carácter de la CURP.
+     * @return Esta vista, ya validada.
+     */
+    public CURPView reset(byte[] bytes, int offset) {
+        return reset(bytes, offset, Math.min(LENGTH, bytes.length - offset));
+    }
+
+    /**
+     * Apunta la vista a un registro dentro de un arreglo.
+     *
+     * @param bytes Arreglo con la CURP en ASCII o Latin-1.
+     * @param offset Posición del primer carácter del registro.
+     * @param length Longitud del registro; debe ser 18 para que sea válido.
+     * @return Esta vista, ya validada.
+     */
+    public CURPView reset(byte[] bytes, int offset, int length) {
+        this.bytes = bytes;
+        this.buffer = null;
+        this.offset = offset;
+        this.length = Math.max(length, 0);
+        this.status = CURP.validate(this, dates);
+        return this;
+    }
+
+    /**
+     * Apunta la vista a una CURP de 18 bytes dentro de un buffer.
+     *
+     * La posición y el límite del buffer no se modifican.
+     *
+     * @param buffer Buffer con la CURP en ASCII o Latin-1.
+     * @param index Posición absoluta del primer carácter de la CURP.
+     * @return Esta vista, ya validada.
+     */
+    public CURPView reset(ByteBuffer buffer, int index) {
+        return reset(buffer, index, Math.min(LENGTH, buffer.limit() - index));
+    }
+
+    /**
+     * Apunta la vista a un registro dentro de un buffer.
+     *
+     * La posición y el límite del buffer no se modifican.
+     *
+     * @param buffer Buffer con la CURP en ASCII o Latin-1.
+     * @param index Posición absoluta del primer carácter del registro.
+     * @param length Longitud del registro; debe ser 18 para que sea válido.
+     * @return Esta vista, ya validada.
+     */
+    public CURPView reset(ByteBuffer buffer, int index, int length) {
+        this.bytes = null;
+        this.buffer = buffer;
+        this.offset = index;
+        this.length = Math.max(length, 0);
+        this.status = CURP.validate(this, dates);
+        return this;
+    }
+
+    /**
+     * @return El resultado de validar la CURP a la que apunta la vista.
+     */
+    public CURPStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * @return True si la CURP a la que apunta la vista es válida.
+     */
+    public boolean isValid() {
+        return status == CURPStatus.VALID;
+    }
+
+    /**
+     * @return Año de nacimiento de la CURP.
+     * @throws IllegalStateException La CURP no es válida.
+     */
+    public int getAnioNacimiento() {
+        checkValid();
+        return dates.birthYear(this);
+    }
+
+    /**
+     * @return Fecha de nacimiento de la CURP, como días desde 1970-01-01.
+     * @throws IllegalStateException La CURP no es válida.
+     */
+    public int getFechaNacimientoEpoch() {
+        checkValid();
+        return dates.epochDay(this);
+    }
+
+    /**
+     * @return Mes de nacimiento de la CURP, de 1 a 12.
+     * @throws IllegalStateException La CURP no es válida.
+     */
+    public int getMesNacimiento() {
+        checkValid();
+        return BirthDateDecoder.twoDigits(this, CURPChar.MONTH_0.getValue());
+    }
+
+    /**
+     * @return Día de nacimiento de la CURP, de 1 a 31.
+     * @throws IllegalStateException La CURP no es válida.
+     */
+    public int getDiaNacimiento() {
+        checkValid();
+        return BirthDateDecoder.twoDigits(this, CURPChar.DAY_0.getValue());
+    }
+
+    /**
+     * @return Sexo extraído de la CURP.
+     * @throws IllegalStateException La CURP no es válida.
+     */
+    public Sexo getSexo() {
+        checkValid();
+        return Sexo.fromChar(charAt(CURPChar.SEX.getValue()));
+    }
+
+    /**
+     * @return Entidad federativa de nacimiento de la CURP.
+     * @throws IllegalStateException La CURP no es válida.
+     */
+    public RegionData getEntidadNacimiento() {
+        checkValid();
+        return CURP.region(this);
+    }
+
+    /**
+     * @return Entidad federativa de nacimiento de la CURP, como enum.
+     * @throws IllegalStateException La CURP no es válida.
+     */
+    public Region getRegion() {
+        checkValid();
+        return CURP.regionOf(this);
+    }
+
+    /**
+     * @return Dígito verificador de la CURP.
+     * @throws IllegalStateException La CURP no es válida.
+     */
+    public char getDigitoVerificador() {
+        checkValid();
+        return charAt(CURPChar.VERIFICATION.getValue());
+    }
+
+    /**
+     * Construye un objeto CURP a partir de la vista.
+     *
+     * @return Una nueva CURP con los datos de la vista.
+     * @throws IllegalStateException La CURP no es válida.
+     */
+    public CURP toCURP() {
+        checkValid();
+        return new CURP(toString());
+    }
+
+    private void checkValid() {
+        if (status != CURPStatus.VALID) {
+            throw new IllegalStateException("La CURP no es válida: " + status);
+        }
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        if (bytes != null) {
+            return (char) (bytes[offset + index] & 0xFF);
+        }
+        return (char) (buffer.get(offset + index) & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return toString().substring(start, end);
+    }
+
+    /**
+     * @return La CURP a la que apunta la vista, como un nuevo String.
+     */
+    @Override
+    public String toString() {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = charAt(i);
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,216 @@
+package com.curpsuite;
+
+import com.curpsuite.utils.CharClasses;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Verificación por lotes del dígito verificador de CURPs guardadas como bytes.
+ *
+ * Es el primer filtro al revisar archivos grandes: solo confirma que los
+ * primeros 17 caracteres pertenezcan al alfabeto de la CURP y que el último
+ * sea el dígito verificador que les corresponde. Para la validación completa
+ * se usa {@link CURP#validate(CharSequence)} o {@link CURPView}.
+ *
+ * Las CURPs deben estar en ASCII o Latin-1, con la Ñ como el byte {@code 0xD1}.
+ *
+ * Si la JVM se inicia con {@code --add-modules jdk.incubator.vector} y el
+ * procesador tiene registros de al menos 256 bits, la suma ponderada se
+ * calcula con la Vector API; en cualquier otro caso se usa una tabla de
+ * búsqueda escalar. Ambos caminos dan el mismo resultado. La propiedad
+ * {@code curpsuite.vector=false} desactiva el camino vectorial.
+ */
+public final class CheckDigits {
+    private static final int LENGTH = 18;
+    private static final int VERIFICATION = LENGTH - 1;
+    private static final int SCRATCH_SIZE = 64 * 1024;
+
+    /**
+     * Valor de cada byte en el alfabeto de la CURP, o -1 si no pertenece a él.
+     */
+    static final byte[] VALUES = new byte[256];
+
+    static {
+        for (int c = 0; c < VALUES.length; c++) {
+            VALUES[c] = (byte) CharClasses.value((char) c);
+        }
+    }
+
+    private static final Kernel KERNEL = loadKernel();
+
+    private CheckDigits() {
+    }
+
+    /**
+     * Verifica el dígito de una CURP guardada como 18 bytes.
+     *
+     * @param bytes Arreglo con la CURP.
+     * @param offset Posición del primer carácter.
+     * @return True si el dígito verificador es correcto.
+     */
+    public static boolean verifyDigit(byte[] bytes, int offset) {
+        if (offset < 0 || offset > bytes.length - LENGTH) {
+            throw new IndexOutOfBoundsException("La CURP no cabe en el arreglo en la posición " + offset);
+        }
+        return KERNEL.verify(bytes, offset);
+    }
+
+    /**
+     * Verifica el dígito de varias CURPs, cada una en su propio arreglo.
+     *
+     * Los arreglos nulos o que no miden 18 bytes se marcan como inválidos.
+     *
+     * @param curps Arreglos con las CURPs.
+     * @param count Número de CURPs a verificar, desde la primera.
+     * @param out Recibe, en la misma posición, si el dígito de cada CURP es correcto.
+     * @return Número de CURPs con el dígito correcto.
+     */
+    public static int verifyDigits(byte[][] curps, int count, boolean[] out) {
+        checkCount(count, Math.min(curps.length, out.length));
+
+        int valid = 0;
+        for (int i = 0; i < count; i++) {
+            byte[] curp = curps[i];
+            out[i] = curp != null && curp.length == LENGTH && KERNEL.verify(curp, 0);
+            if (out[i]) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * Verifica el dígito de varias CURPs de 18 bytes guardadas una tras otra
+     * a partir de la posición actual del buffer.
+     *
+     * @param buffer Buffer con las CURPs. Su posición y límite no se modifican.
+     * @param count Número de CURPs a verificar.
+     * @param out Recibe, en la misma posición, si el dígito de cada CURP es correcto.
+     * @return Número de CURPs con el dígito correcto.
+     */
+    public static int verifyDigits(ByteBuffer buffer, int count, boolean[] out) {
+        return verifyDigits(buffer, LENGTH, count, out);
+    }
+
+    /**
+     * Verifica el dígito de varias CURPs guardadas en registros de tamaño fijo
+     * a partir de la posición actual del buffer, por ejemplo líneas de 19 bytes
+     * que terminan en salto de línea.
+     *
+     * @param buffer Buffer con los registros. Su posición y límite no se modifican.
+     * @param stride Tamaño de cada registro; la CURP ocupa sus primeros 18 bytes.
+     * @param count Número de registros a verificar.
+     * @param out Recibe, en la misma posición, si el dígito de cada CURP es correcto.
+     * @return Número de CURPs con el dígito correcto.
+     */
+    public static int verifyDigits(ByteBuffer buffer, int stride, int count, boolean[] out) {
+        if (stride < LENGTH) {
+            throw new IllegalArgumentException("Cada registro debe medir al menos " + LENGTH + " bytes");
+        }
+        checkCount(count, out.length);
+        if (count == 0) {
+            return 0;
+        }
+
+        int start = buffer.position();
+        long span = (long) (count - 1) * stride + LENGTH;
+        if (span > buffer.limit() - start) {
+            throw new IndexOutOfBoundsException("El buffer no contiene " + count + " registros");
+        }
+
+        if (buffer.hasArray()) {
+            return verify(buffer.array(), buffer.arrayOffset() + start, stride, 0, count, out);
+        }
+
+        // Buffers directos o mapeados: se copian por bloques a un arreglo.
+        int perChunk = Math.max(1, SCRATCH_SIZE / stride);
+        byte[] scratch = new byte[(perChunk - 1) * stride + LENGTH];
+        int valid = 0;
+        for (int first = 0; first < count; first += perChunk) {
+            int n = Math.min(perChunk, count - first);
+            buffer.get(start + first * stride, scratch, 0, (n - 1) * stride + LENGTH);
+            valid += verify(scratch, 0, stride, first, n, out);
+        }
+        return valid;
+    }
+
+    private static int verify(byte[] data, int offset, int stride, int first, int count, boolean[] out) {
+        int valid = 0;
+        for (int i = 0; i < count; i++) {
+            boolean ok = KERNEL.verify(data, offset + i * stride);
+            out[first + i] = ok;
+            if (ok) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    private static void checkCount(int count, int available) {
+        if (count < 0 || count > available) {
+            throw new IndexOutOfBoundsException("Número de CURPs fuera de rango: " + count);
+        }
+    }
+
+    /**
+     * @return True si el camino vectorial está en uso.
+     */
+    public static boolean isVectorized() {
+        return !(KERNEL instanceof ScalarKernel);
+    }
+
+    /**
+     * Elige la implementación vectorial si el módulo está disponible y el
+     * procesador la soporta; en otro caso, la escalar.
+     */
+    private static Kernel loadKernel() {
+        if (!Boolean.parseBoolean(System.getProperty("curpsuite.vector", "true"))
+                || ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return new ScalarKernel();
+        }
+
+        try {
+            Class<?> type = Class.forName("com.curpsuite.VectorCheckDigits");
+            if ((boolean) type.getDeclaredMethod("isSupported").invoke(null)) {
+                return (Kernel) type.getDeclaredConstructor().newInstance();
+            }
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // La clase no se compiló o el módulo no puede usarse: se queda la versión escalar.
+        }
+        return new ScalarKernel();
+    }
+
+    /**
+     * Cálculo del dígito verificador de una CURP en bytes.
+     */
+    interface Kernel {
+        /**
+         * @param bytes Arreglo con la CURP; debe contener 18 bytes desde offset.
+         * @param offset Posición del primer carácter.
+         * @return True si el dígito verificador es correcto.
+         */
+        boolean verify(byte[] bytes, int offset);
+    }
+
+    /**
+     * Dígito verificador esperado para una suma ponderada, como carácter ASCII.
+     */
+    static byte expectedDigit(int sum) {
+        int d = sum % 10;
+        return (byte) ('0' + (d == 0 ? 0 : 10 - d));
+    }
+
+    static final class ScalarKernel implements Kernel {
+        @Override
+        public boolean verify(byte[] bytes, int offset) {
+            int sum = 0;
+            int invalid = 0;
+            for (int i = 0; i < VERIFICATION; i++) {
+                int value = VALUES[bytes[offset + i] & 0xFF];
+                invalid |= value;
+                sum += (LENGTH - i) * value;
+            }
+            return invalid >= 0 && bytes[offset + VERIFICATION] == expectedDigit(sum);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.curpsuite;
+
+/**
+ * División de un nombre completo en nombre de pila y apellidos, hecha por
+ * {@link CURP#dividirNombreCompleto(String)}.
+ *
+ * Cada parte se guarda como un intervalo dentro del texto original, así que
+ * dividir el nombre no crea Strings; éstos se crean sólo al pedir una parte.
+ * <pre>
+ * {@code
+ * FullNameMatch match = curp.dividirNombreCompleto("María Consuelo Sánchez Beltrán");
+ * if (match != null) {
+ *     String apellido = match.getPrimerApellido();   // "Sánchez"
+ *     int inicio = match.getStart(FullNameMatch.PRIMER_APELLIDO);   // 15
+ * }
+ * }
+ * </pre>
+ */
+public final class FullNameMatch {
+    /** Índice del nombre de pila. */
+    public static final int NOMBRE = 0;
+    /** Índice del primer apellido. */
+    public static final int PRIMER_APELLIDO = 1;
+    /** Índice del segundo apellido. */
+    public static final int SEGUNDO_APELLIDO = 2;
+
+    private final String source;
+    private final int[] bounds;
+
+    /**
+     * @param source Nombre completo que se dividió.
+     * @param bounds Inicio y fin de cada una de las tres partes.
+     */
+    FullNameMatch(String source, int[] bounds) {
+        this.source = source;
+        this.bounds = bounds;
+    }
+
+    /**
+     * @return El nombre completo que se dividió.
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * @param part {@link #NOMBRE}, {@link #PRIMER_APELLIDO} o {@link #SEGUNDO_APELLIDO}.
+     * @return Índice del primer carácter de la parte.
+     */
+    public int getStart(int part) {
+        return bounds[part * 2];
+    }
+
+    /**
+     * @param part {@link #NOMBRE}, {@link #PRIMER_APELLIDO} o {@link #SEGUNDO_APELLIDO}.
+     * @return Índice siguiente al último carácter de la parte.
+     */
+    public int getEnd(int part) {
+        return bounds[part * 2 + 1];
+    }
+
+    /**
+     * @param part {@link #NOMBRE}, {@link #PRIMER_APELLIDO} o {@link #SEGUNDO_APELLIDO}.
+     * @return El texto de la parte, tal como aparece en el nombre completo.
+     */
+    public String get(int part) {
+        return source.substring(getStart(part), getEnd(part));
+    }
+
+    public String getNombre() {
+        return get(NOMBRE);
+    }
+
+    public String getPrimerApellido() {
+        return get(PRIMER_APELLIDO);
+    }
+
+    public String getSegundoApellido() {
+        return get(SEGUNDO_APELLIDO);
+    }
+
+    /**
+     * @return Las tres partes en un arreglo, como las devuelve {@link CURP#nombreCompletoValido(String)}.
+     */
+    public String[] toArray() {
+        return new String[]{getNombre(), getPrimerApellido(), getSegundoApellido()};
+    }
+
+    @Override
+    public String toString() {
+        return String.format("<FullNameMatch nombre=%s primerApellido=%s segundoApellido=%s>",
+                getNombre(), getPrimerApellido(), getSegundoApellido());
+    }
+}
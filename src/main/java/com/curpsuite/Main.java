@@ -1,6 +1,20 @@
 package com.curpsuite;
 import com.curpsuite.exceptions.CURPException;
 
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 
 
 public class Main {
@@ -10,6 +24,36 @@ public class Main {
             System.exit(1);
         }
 
+        if (args[0].equals("--batch")) {
+            batch(args);
+            return;
+        }
+
+        if (args[0].equals("--stream")) {
+            stream(args);
+            return;
+        }
+
+        if (args[0].equals("--generate")) {
+            generate(args);
+            return;
+        }
+
+        if (args[0].equals("--serve")) {
+            serve(args);
+            return;
+        }
+
+        if (args[0].equals("--serve-binary")) {
+            serveBinary(args);
+            return;
+        }
+
+        if (args[0].equals("--load-binary")) {
+            loadBinary(args);
+            return;
+        }
+
         String curpValue = args[0];
         String nombre = null;
         String primerApellido = null;
@@ -60,15 +104,490 @@ public class Main {
         }
     }
 
+    /**
+     * Valida un archivo con una CURP por línea.
+     */
+    private static void batch(String[] args) {
+        if (args.length < 2) {
+            printUsage();
+            System.exit(1);
+        }
+
+        Path input = Path.of(args[1]);
+        Path outputFile = null;
+        int threads = Runtime.getRuntime().availableProcessors();
+        boolean ordered = true;
+
+        // Procesar argumentos
+        for (int i = 2; i < args.length; i++) {
+            String option = args[i];
+
+            switch (option) {
+                case "-u":
+                case "--unordered":
+                    ordered = false;
+                    break;
+                case "-t":
+                case "--threads":
+                case "-o":
+                case "--output":
+                    if (i + 1 >= args.length) {
+                        System.err.println("Error: Opción sin valor: " + option);
+                        printUsage();
+                        System.exit(1);
+                    }
+                    String value = args[++i];
+                    if (option.equals("-o") || option.equals("--output")) {
+                        outputFile = Path.of(value);
+                    } else {
+                        threads = parsePositive(option, value);
+                    }
+                    break;
+                default:
+                    System.err.println("Opción desconocida: " + option);
+                    printUsage();
+                    System.exit(1);
+            }
+        }
+
+        try (OutputStream output = new BufferedOutputStream(outputFile == null
+                ? System.out : Files.newOutputStream(outputFile), 1 << 16)) {
+            new BatchCommand(input, output, threads, ordered).run();
+        } catch (IOException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.exit(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Atiende peticiones de la entrada estándar, una por línea, hasta que
+     * se termine la entrada.
+     */
+    private static void stream(String[] args) {
+        int threads = Runtime.getRuntime().availableProcessors();
+        int batchSize = StreamCommand.DEFAULT_BATCH_SIZE;
+
+        // Procesar argumentos; los errores y el uso van a la salida de
+        // errores porque la salida estándar es el canal de respuestas
+        for (int i = 1; i < args.length; i += 2) {
+            if (i + 1 >= args.length) {
+                System.err.println("Error: Opción sin valor: " + args[i]);
+                printUsage(System.err);
+                System.exit(1);
+            }
+
+            String option = args[i];
+            String value = args[i + 1];
+
+            switch (option) {
+                case "-t":
+                case "--threads":
+                    threads = parsePositive(option, value);
+                    break;
+                case "-b":
+                case "--batch-size":
+                    batchSize = parsePositive(option, value);
+                    break;
+                default:
+                    System.err.println("Opción desconocida: " + option);
+                    printUsage(System.err);
+                    System.exit(1);
+            }
+        }
+
+        BufferedReader input = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8), 1 << 16);
+        try (OutputStream output = new BufferedOutputStream(System.out, 1 << 16)) {
+            new StreamCommand(input, output, threads, batchSize).run();
+        } catch (IOException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.exit(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Genera registros sintéticos con su CURP.
+     */
+    private static void generate(String[] args) {
+        if (args.length < 2) {
+            printUsage();
+            System.exit(1);
+        }
+
+        long count = 0;
+        try {
+            count = Long.parseLong(args[1]);
+        } catch (NumberFormatException e) {
+            // Se reporta abajo igual que una cantidad menor a 1
+        }
+        if (count < 1) {
+            System.err.println("Error: Cantidad inválida: " + args[1]);
+            printUsage();
+            System.exit(1);
+        }
+
+        Path outputFile = null;
+        CURPCorpusGenerator.Format format = CURPCorpusGenerator.Format.TSV;
+        CURPCorpusGenerator.Builder builder = CURPCorpusGenerator.builder();
+
+        // Procesar argumentos
+        for (int i = 2; i < args.length; i += 2) {
+            if (i + 1 >= args.length) {
+                System.err.println("Error: Opción sin valor: " + args[i]);
+                printUsage();
+                System.exit(1);
+            }
+
+            String option = args[i];
+            String value = args[i + 1];
+
+            try {
+                switch (option) {
+                    case "--seed":
+                        builder.seed(Long.parseLong(value));
+                        break;
+                    case "--invalid-ratio":
+                        builder.invalidRatio(Double.parseDouble(value));
+                        break;
+                    case "--years":
+                        // Exactamente dos años; con el límite -1 se conservan las partes vacías
+                        String[] years = value.split("-", -1);
+                        if (years.length != 2) {
+                            throw new IllegalArgumentException("Se esperaba DESDE-HASTA: " + value);
+                        }
+                        builder.birthYears(Integer.parseInt(years[0]), Integer.parseInt(years[1]));
+                        break;
+                    case "--format":
+                        format = CURPCorpusGenerator.Format.valueOf(value.toUpperCase());
+                        break;
+                    case "-o":
+                    case "--output":
+                        outputFile = Path.of(value);
+                        break;
+                    default:
+                        System.err.println("Opción desconocida: " + option);
+                        printUsage();
+                        System.exit(1);
+                }
+            } catch (IllegalArgumentException e) {
+                System.err.println("Error: Valor inválido para " + option + ": " + value);
+                printUsage();
+                System.exit(1);
+            }
+        }
+
+        try (OutputStream output = outputFile == null
+                ? System.out : Files.newOutputStream(outputFile)) {
+            builder.build().write(count, output, format);
+        } catch (IOException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Inicia el servicio HTTP de validación y lo mantiene activo hasta que
+     * se termine el proceso.
+     */
+    private static void serve(String[] args) {
+        CURPServer.Builder builder = CURPServer.builder();
+
+        // Procesar argumentos
+        for (int i = 1; i < args.length; i += 2) {
+            if (i + 1 >= args.length) {
+                System.err.println("Error: Opción sin valor: " + args[i]);
+                printUsage();
+                System.exit(1);
+            }
+
+            String option = args[i];
+            String value = args[i + 1];
+
+            try {
+                switch (option) {
+                    case "--port":
+                        builder.port(Integer.parseInt(value));
+                        break;
+                    case "--host":
+                        builder.host(value);
+                        break;
+                    case "-t":
+                    case "--threads":
+                        builder.threads(Integer.parseInt(value));
+                        break;
+                    case "--max-request-bytes":
+                        builder.maxRequestBytes(Integer.parseInt(value));
+                        break;
+                    case "--max-batch":
+                        builder.maxBatchSize(Integer.parseInt(value));
+                        break;
+                    default:
+                        System.err.println("Opción desconocida: " + option);
+                        printUsage();
+                        System.exit(1);
+                }
+            } catch (IllegalArgumentException e) {
+                System.err.println("Error: Valor inválido para " + option + ": " + value);
+                System.exit(1);
+            }
+        }
+
+        try {
+            CURPServer server = builder.build();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> server.stop(1)));
+            server.start();
+            System.err.println("Escuchando en http://" + server.getAddress().getHostString()
+                    + ":" + server.getAddress().getPort());
+        } catch (IOException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Inicia el servicio binario de validación y lo mantiene activo hasta
+     * que se termine el proceso.
+     */
+    private static void serveBinary(String[] args) {
+        CURPBinaryServer.Builder builder = CURPBinaryServer.builder();
+
+        // Procesar argumentos
+        for (int i = 1; i < args.length; i += 2) {
+            if (i + 1 >= args.length) {
+                System.err.println("Error: Opción sin valor: " + args[i]);
+                printUsage();
+                System.exit(1);
+            }
+
+            String option = args[i];
+            String value = args[i + 1];
+
+            try {
+                switch (option) {
+                    case "--port":
+                        builder.port(Integer.parseInt(value));
+                        break;
+                    case "--host":
+                        builder.host(value);
+                        break;
+                    case "-t":
+                    case "--threads":
+                        builder.threads(Integer.parseInt(value));
+                        break;
+                    case "--buffer-size":
+                        builder.bufferSize(Integer.parseInt(value));
+                        break;
+                    default:
+                        System.err.println("Opción desconocida: " + option);
+                        printUsage();
+                        System.exit(1);
+                }
+            } catch (IllegalArgumentException e) {
+                System.err.println("Error: Valor inválido para " + option + ": " + value);
+                System.exit(1);
+            }
+        }
+
+        try {
+            CURPBinaryServer server = builder.build();
+            Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+            server.start();
+            System.err.println("Escuchando en " + server.getAddress().getHostString()
+                    + ":" + server.getAddress().getPort());
+        } catch (IOException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Envía peticiones a un servicio binario y reporta su rendimiento.
+     */
+    private static void loadBinary(String[] args) {
+        if (args.length < 2) {
+            printUsage();
+            System.exit(1);
+        }
+
+        int colon = args[1].lastIndexOf(':');
+        String host = colon < 0 ? "localhost" : args[1].substring(0, colon);
+        int port = -1;
+        try {
+            port = Integer.parseInt(args[1].substring(colon + 1));
+        } catch (NumberFormatException e) {
+            // Se reporta abajo junto con los puertos fuera de rango
+        }
+        if (port < 1 || port > 65535) {
+            System.err.println("Error: Puerto inválido: " + args[1]);
+            printUsage();
+            System.exit(1);
+        }
+        Path input = null;
+        long seed = 1;
+        int connections = 1;
+        int window = 4096;
+        long requests = 1_000_000;
+
+        // Procesar argumentos
+        for (int i = 2; i < args.length; i += 2) {
+            if (i + 1 >= args.length) {
+                System.err.println("Error: Opción sin valor: " + args[i]);
+                printUsage();
+                System.exit(1);
+            }
+
+            String option = args[i];
+            String value = args[i + 1];
+
+            try {
+                switch (option) {
+                    case "-c":
+                    case "--connections":
+                        connections = Integer.parseInt(value);
+                        break;
+                    case "-w":
+                    case "--window":
+                        window = Integer.parseInt(value);
+                        break;
+                    case "-n":
+                    case "--requests":
+                        requests = Long.parseLong(value);
+                        break;
+                    case "-i":
+                    case "--input":
+                        input = Path.of(value);
+                        break;
+                    case "--seed":
+                        seed = Long.parseLong(value);
+                        break;
+                    default:
+                        System.err.println("Opción desconocida: " + option);
+                        printUsage();
+                        System.exit(1);
+                }
+            } catch (IllegalArgumentException e) {
+                System.err.println("Error: Valor inválido para " + option + ": " + value);
+                System.exit(1);
+            }
+        }
+
+        try {
+            InetSocketAddress address = new InetSocketAddress(host, port);
+            List<String> curps;
+            if (input != null) {
+                try (Stream<String> lines = Files.lines(input)) {
+                    curps = lines.map(String::trim).filter(line -> !line.isEmpty()).collect(Collectors.toList());
+                }
+            } else {
+                curps = CURPCorpusGenerator.builder().seed(seed).invalidRatio(0.05).build()
+                        .stream(100_000).map(CURPCorpusRecord::getCurp).collect(Collectors.toList());
+            }
+
+            CURPBinaryLoadGenerator.Result result = CURPBinaryLoadGenerator.builder(address, curps)
+                    .connections(connections)
+                    .window(window)
+                    .requests(requests)
+                    .build()
+                    .run();
+            System.out.println(result);
+        } catch (IllegalArgumentException | IOException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Lee el valor numérico de una opción; si no es un entero positivo,
+     * imprime el error y las instrucciones de uso y termina el programa.
+     */
+    private static int parsePositive(String option, String value) {
+        try {
+            int number = Integer.parseInt(value);
+            if (number >= 1) {
+                return number;
+            }
+        } catch (NumberFormatException e) {
+            // Se reporta abajo igual que un valor fuera de rango
+        }
+        System.err.println("Error: Valor inválido para " + option + ": " + value);
+        printUsage(System.err);
+        System.exit(1);
+        return 0;
+    }
+
     /**
      * Imprime instrucciones de uso del programa.
      */
     private static void printUsage() {
-        System.out.println("Uso: java -jar curpsuite.jar CURP [opciones]");
-        System.out.println("Opciones:");
-        System.out.println("  -n, --nombre NOMBRE              Nombre de pila para validar la CURP");
-        System.out.println("  -p, --primer-apellido APELLIDO   Primer apellido para validar la CURP");
-        System.out.println("  -s, --segundo-apellido APELLIDO  Segundo apellido para validar la CURP");
-        System.out.println("  -c, --nombre-completo NOMBRE     Nombre completo para validar la CURP");
+        printUsage(System.out);
+    }
+
+    /**
+     * Imprime instrucciones de uso del programa en out; en el modo
+     * {@code --stream} la salida estándar lleva las respuestas, así que
+     * ahí se usa la salida de errores.
+     */
+    private static void printUsage(PrintStream out) {
+        out.println("Uso: java -jar curpsuite.jar CURP [opciones]");
+        out.println("Opciones:");
+        out.println("  -n, --nombre NOMBRE              Nombre de pila para validar la CURP");
+        out.println("  -p, --primer-apellido APELLIDO   Primer apellido para validar la CURP");
+        out.println("  -s, --segundo-apellido APELLIDO  Segundo apellido para validar la CURP");
+        out.println("  -c, --nombre-completo NOMBRE     Nombre completo para validar la CURP");
+        out.println();
+        out.println("Uso: java -jar curpsuite.jar --batch ARCHIVO [opciones]");
+        out.println("Valida un archivo con una CURP por línea y escribe un JSON por línea.");
+        out.println("Opciones:");
+        out.println("  -t, --threads N                  Número de hilos (por defecto, uno por procesador)");
+        out.println("  -u, --unordered                  Escribir resultados sin conservar el orden de entrada");
+        out.println("  -o, --output ARCHIVO             Escribir resultados en un archivo en lugar de la salida estándar");
+        out.println();
+        out.println("Uso: java -jar curpsuite.jar --stream [opciones]");
+        out.println("Lee peticiones de la entrada estándar y responde un JSON por línea, en el mismo orden.");
+        out.println("Cada línea es una CURP, un objeto JSON con curp, partes del nombre e id,");
+        out.println("o campos separados por tabuladores: id, CURP, nombre, primer apellido, segundo apellido.");
+        out.println("Opciones:");
+        out.println("  -t, --threads N                  Número de hilos (por defecto, uno por procesador)");
+        out.println("  -b, --batch-size N               Máximo de líneas por lote enviado (por defecto, 1024)");
+        out.println();
+        out.println("Uso: java -jar curpsuite.jar --generate N [opciones]");
+        out.println("Genera N personas sintéticas con su CURP, una por línea.");
+        out.println("Opciones:");
+        out.println("  --seed N                         Semilla; la misma semilla genera los mismos registros");
+        out.println("  --invalid-ratio R                Fracción de registros con un error deliberado (0 a 1)");
+        out.println("  --years DESDE-HASTA              Años de nacimiento (por defecto, 1940-2020)");
+        out.println("  --format tsv|jsonl               Formato de cada línea (por defecto, tsv)");
+        out.println("  -o, --output ARCHIVO             Escribir registros en un archivo en lugar de la salida estándar");
+        out.println();
+        out.println("Uso: java -jar curpsuite.jar --serve [opciones]");
+        out.println("Inicia un servicio HTTP: GET /curp/{curp} y POST /curp/batch (arreglo JSON o NDJSON).");
+        out.println("Opciones:");
+        out.println("  --port N                         Puerto (por defecto, 8080)");
+        out.println("  --host DIRECCION                 Dirección donde escuchar (por defecto, todas)");
+        out.println("  -t, --threads N                  Hilos que atienden peticiones (por defecto, uno por procesador)");
+        out.println("  --max-request-bytes N            Tamaño máximo del cuerpo de una petición (por defecto, 16 MiB)");
+        out.println("  --max-batch N                    Número máximo de registros por lote (por defecto, 100000)");
+        out.println();
+        out.println("Uso: java -jar curpsuite.jar --serve-binary [opciones]");
+        out.println("Inicia el servicio binario: por cada CURP, 1 byte de longitud y sus bytes; responde 8 bytes.");
+        out.println("Opciones:");
+        out.println("  --port N                         Puerto (por defecto, 8081)");
+        out.println("  --host DIRECCION                 Dirección donde escuchar (por defecto, todas)");
+        out.println("  -t, --threads N                  Hilos con selector (por defecto, uno por procesador)");
+        out.println("  --buffer-size N                  Búfer de lectura y escritura por conexión (por defecto, 65536)");
+        out.println();
+        out.println("Uso: java -jar curpsuite.jar --load-binary [HOST:]PUERTO [opciones]");
+        out.println("Envía peticiones encadenadas a un servicio binario y reporta respuestas por segundo y latencia.");
+        out.println("Opciones:");
+        out.println("  -c, --connections N              Conexiones simultáneas (por defecto, 1)");
+        out.println("  -w, --window N                   Peticiones en vuelo por conexión (por defecto, 4096)");
+        out.println("  -n, --requests N                 Peticiones en total (por defecto, 1000000)");
+        out.println("  -i, --input ARCHIVO              CURPs por enviar, una por línea (por defecto, 100000 sintéticas)");
+        out.println("  --seed N                         Semilla de las CURPs sintéticas");
     }
 }
\ No newline at end of file
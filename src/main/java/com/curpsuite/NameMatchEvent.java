@@ -0,0 +1,92 @@
+package com.curpsuite;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.SettingDefinition;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Evento de JFR con la duración y el resultado de comparar una parte del
+ * nombre con la CURP: {@link CURP#nombreValido(String)},
+ * {@link CURP#primerApellidoValido(String)},
+ * {@link CURP#segundoApellidoValido(String)} y
+ * {@link CURP#dividirNombreCompleto(String)} (que también usa
+ * {@link CURP#nombreCompletoValido(String)}).
+ *
+ * Al construir una CURP con nombres, estos eventos quedan dentro del
+ * {@link ValidationEvent} correspondiente.
+ */
+@Name("curpsuite.NameMatch")
+@Label("CURP Name Match")
+@Category("CURPSuite")
+@Description("Comparación de un nombre, apellido o nombre completo con la CURP")
+@StackTrace(false)
+@Threshold("100 us")
+final class NameMatchEvent extends Event {
+    static final String NOMBRE = "NOMBRE";
+    static final String PRIMER_APELLIDO = "PRIMER_APELLIDO";
+    static final String SEGUNDO_APELLIDO = "SEGUNDO_APELLIDO";
+    static final String NOMBRE_COMPLETO = "NOMBRE_COMPLETO";
+
+    @Label("Part")
+    @Description("Parte del nombre que se comparó")
+    String part;
+
+    @Label("Input Length")
+    @Description("Longitud del texto recibido, o -1 si era null")
+    int inputLength;
+
+    @Label("Matched")
+    boolean matched;
+
+    @Label("Exception")
+    @Description("Excepción lanzada durante la comparación, si la hubo")
+    Class<?> exception;
+
+    @Name("sampling")
+    @Label("Sampling")
+    @Description("Registrar sólo uno de cada N eventos que pasen el umbral")
+    @SettingDefinition
+    protected boolean sampling(SamplingSetting setting) {
+        return setting.sample();
+    }
+
+    /**
+     * Empieza a medir, si el evento está activado.
+     */
+    void start() {
+        if (isEnabled()) {
+            begin();
+        }
+    }
+
+    /**
+     * Registra el resultado de la comparación si pasa el umbral y el muestreo.
+     */
+    void finish(String part, String input, boolean matched) {
+        // commit() ya revisa el umbral y el muestreo; preguntar antes con
+        // shouldCommit() evaluaría el muestreo dos veces
+        if (isEnabled()) {
+            this.part = part;
+            this.inputLength = input != null ? input.length() : -1;
+            this.matched = matched;
+            commit();
+        }
+    }
+
+    /**
+     * Registra una excepción lanzada durante la comparación.
+     */
+    void fail(String part, String input, Throwable e) {
+        if (isEnabled()) {
+            this.part = part;
+            this.inputLength = input != null ? input.length() : -1;
+            this.exception = e.getClass();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.curpsuite;
+
+import jdk.jfr.SettingControl;
+
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Ajuste {@code sampling} de los eventos de JFR de CURPSuite: registra sólo
+ * uno de cada N eventos que pasen el umbral, elegidos al azar.
+ *
+ * El valor es el número N ("1" registra todos). Si varias grabaciones lo
+ * fijan, se usa el menor, para que cada una reciba al menos lo que pidió.
+ */
+final class SamplingSetting extends SettingControl {
+    private static final String ALL = "1";
+
+    private volatile int rate = 1;
+
+    @Override
+    public String combine(Set<String> settingValues) {
+        int min = Integer.MAX_VALUE;
+        for (String value : settingValues) {
+            min = Math.min(min, parse(value));
+        }
+        return min == Integer.MAX_VALUE ? ALL : Integer.toString(min);
+    }
+
+    @Override
+    public void setValue(String settingValue) {
+        rate = parse(settingValue);
+    }
+
+    @Override
+    public String getValue() {
+        return Integer.toString(rate);
+    }
+
+    /**
+     * @return True si el evento actual debe registrarse.
+     */
+    boolean sample() {
+        int n = rate;
+        return n <= 1 || ThreadLocalRandom.current().nextInt(n) == 0;
+    }
+
+    private static int parse(String value) {
+        try {
+            return Math.max(1, Integer.parseInt(value.trim()));
+        } catch (NumberFormatException e) {
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.curpsuite;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Valida peticiones que llegan una por línea y responde un objeto JSON por
+ * línea, en el mismo orden, para usar la JVM como coproceso de otro
+ * programa en lugar de iniciarla por cada CURP.
+ *
+ * Cada línea puede ser:
+ * <ul>
+ *   <li>Una CURP sola.</li>
+ *   <li>Un objeto JSON con {@code curp}, las partes del nombre y un
+ *   {@code id} opcional de cualquier tipo, que se copia tal cual a la
+ *   respuesta.</li>
+ *   <li>Campos separados por tabuladores: id, CURP, nombre, primer
+ *   apellido y segundo apellido; los vacíos o faltantes no se validan.</li>
+ * </ul>
+ *
+ * Las líneas se agrupan en lotes que se validan en paralelo. Un lote se
+ * cierra al llegar a su tamaño máximo o cuando no hay más entrada
+ * disponible; antes de esperar más entrada se escriben y se envían todas
+ * las respuestas pendientes, así que quien envía una línea y espera su
+ * respuesta la recibe sin tener que completar un lote.
+ */
+final class StreamCommand {
+    /**
+     * Líneas por lote si no se especifica otra cosa.
+     */
+    static final int DEFAULT_BATCH_SIZE = 1024;
+
+    // Lotes pendientes por hilo antes de esperar a que se escriban
+    private static final int BATCHES_PER_THREAD = 4;
+
+    private final BufferedReader input;
+    private final OutputStream output;
+    private final int threads;
+    private final int batchSize;
+
+    /**
+     * @param input Peticiones, una por línea.
+     * @param output Destino de las respuestas en formato JSONL.
+     * @param threads Número de hilos de validación.
+     * @param batchSize Máximo de líneas por lote; cada lote se envía al escribirse.
+     */
+    StreamCommand(BufferedReader input, OutputStream output, int threads, int batchSize) {
+        this.input = input;
+        this.output = output;
+        this.threads = threads;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Atiende peticiones hasta que se termine la entrada.
+     */
+    void run() throws IOException, InterruptedException {
+        ExecutorService workers = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "curpsuite-stream");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Deque<Future<byte[]>> pending = new ArrayDeque<>();
+        int maxPending = threads * BATCHES_PER_THREAD;
+        List<String> lines = new ArrayList<>(batchSize);
+
+        try {
+            while (true) {
+                if (!input.ready()) {
+                    // Se respondería tarde lo ya leído si se esperara más entrada
+                    submit(lines, workers, pending);
+                    lines = new ArrayList<>(batchSize);
+                    while (!pending.isEmpty()) {
+                        write(pending.poll());
+                    }
+                }
+
+                String line = input.readLine();
+                if (line == null) {
+                    break;
+                }
+                lines.add(line);
+
+                if (lines.size() >= batchSize) {
+                    submit(lines, workers, pending);
+                    lines = new ArrayList<>(batchSize);
+                    if (pending.size() >= maxPending) {
+                        write(pending.poll());
+                    }
+                }
+            }
+
+            submit(lines, workers, pending);
+            while (!pending.isEmpty()) {
+                write(pending.poll());
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private static void submit(List<String> lines, ExecutorService workers, Deque<Future<byte[]>> pending) {
+        if (!lines.isEmpty()) {
+            pending.add(workers.submit(() -> validate(lines)));
+        }
+    }
+
+    private void write(Future<byte[]> future) throws IOException, InterruptedException {
+        try {
+            output.write(future.get());
+        } catch (ExecutionException e) {
+            throw new IOException("Error al validar las peticiones", e.getCause());
+        }
+        output.flush();
+    }
+
+    /**
+     * Valida un lote de líneas y codifica sus respuestas.
+     */
+    private static byte[] validate(List<String> lines) {
+        StringBuilder json = new StringBuilder(lines.size() * 160);
+        for (String line : lines) {
+            write(line, json);
+            json.append('\n');
+        }
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Escribe la respuesta a una línea, con el id de la petición como
+     * primer campo si lo tiene.
+     */
+    private static void write(String line, StringBuilder json) {
+        int start = json.length();
+        String id;
+        CURPInput input;
+
+        if (line.indexOf('\t') >= 0) {
+            String[] fields = line.split("\t", -1);
+            String value = field(fields, 0);
+            id = value == null ? null : CURPJson.appendString(new StringBuilder(), value).toString();
+            String curp = field(fields, 1);
+            input = new CURPInput(curp == null ? "" : curp,
+                    field(fields, 2), field(fields, 3), field(fields, 4), null);
+        } else {
+            try {
+                CURPRequestParser.Record record = CURPRequestParser.parseRecord(line);
+                id = record.id;
+                input = record.input;
+            } catch (IllegalArgumentException e) {
+                CURPJson.writeError(null, e.getMessage(), json);
+                return;
+            }
+        }
+
+        CURPJson.write(input, json);
+        if (id != null) {
+            json.insert(start + 1, "\"id\":" + id + ",");
+        }
+    }
+
+    /**
+     * @return El campo sin espacios alrededor, o null si está vacío o no existe.
+     */
+    private static String field(String[] fields, int index) {
+        if (index >= fields.length) {
+            return null;
+        }
+        String value = fields[index].trim();
+        return value.isEmpty() ? null : value;
+    }
+}
@@ -0,0 +1,114 @@
+package com.curpsuite;
+
+import com.curpsuite.enums.CURPStatus;
+import com.curpsuite.enums.ValidationLevel;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.SettingDefinition;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Evento de JFR con la duración y el resultado de construir una CURP, con
+ * {@code new CURP(...)} o {@link CURP#parse(String)}.
+ *
+ * Mientras no haya una grabación que lo active, {@link #start()} y
+ * {@link #finish} no hacen nada. Por omisión sólo se registran las
+ * validaciones que tardan más de 100 µs; el perfil {@code curpsuite.jfc}
+ * baja el umbral y registra una de cada cien.
+ */
+@Name("curpsuite.Validation")
+@Label("CURP Validation")
+@Category("CURPSuite")
+@Description("Validación de una CURP y, si se proporcionaron, de su nombre y apellidos")
+@StackTrace(false)
+@Threshold("100 us")
+final class ValidationEvent extends Event {
+    // Excepción que corresponde a cada resultado, sin construirla
+    private static final Class<?>[] EXCEPTIONS = new Class<?>[CURPStatus.values().length];
+
+    static {
+        for (CURPStatus status : CURPStatus.values()) {
+            if (status != CURPStatus.VALID) {
+                EXCEPTIONS[status.ordinal()] = status.toException(false).getClass();
+            }
+        }
+    }
+
+    @Label("Input Length")
+    @Description("Longitud del texto recibido, o -1 si era null")
+    int inputLength;
+
+    @Label("Validation Level")
+    String level;
+
+    @Label("With Names")
+    @Description("Si se validaron también el nombre o los apellidos")
+    boolean withNames;
+
+    @Label("Valid")
+    boolean valid;
+
+    @Label("Failed Stage")
+    @Description("Verificación que falló (CURPStatus), o null si la CURP es válida")
+    String stage;
+
+    @Label("Exception")
+    @Description("Excepción lanzada por el constructor, o inesperada al analizar")
+    Class<?> exception;
+
+    @Name("sampling")
+    @Label("Sampling")
+    @Description("Registrar sólo uno de cada N eventos que pasen el umbral")
+    @SettingDefinition
+    protected boolean sampling(SamplingSetting setting) {
+        return setting.sample();
+    }
+
+    /**
+     * Empieza a medir, si el evento está activado.
+     */
+    void start() {
+        if (isEnabled()) {
+            begin();
+        }
+    }
+
+    /**
+     * Registra el resultado de la validación si pasa el umbral y el muestreo.
+     *
+     * @param thrown True si el resultado se lanzará como excepción.
+     */
+    void finish(CharSequence curp, ValidationLevel level, boolean withNames,
+                CURPStatus status, boolean thrown) {
+        // commit() ya revisa el umbral y el muestreo; preguntar antes con
+        // shouldCommit() evaluaría el muestreo dos veces
+        if (isEnabled()) {
+            set(curp, level, withNames);
+            this.valid = status == CURPStatus.VALID;
+            this.stage = valid ? null : status.name();
+            this.exception = thrown ? EXCEPTIONS[status.ordinal()] : null;
+            commit();
+        }
+    }
+
+    /**
+     * Registra una excepción inesperada durante la validación.
+     */
+    void fail(CharSequence curp, ValidationLevel level, boolean withNames, Throwable e) {
+        if (isEnabled()) {
+            set(curp, level, withNames);
+            this.exception = e.getClass();
+            commit();
+        }
+    }
+
+    private void set(CharSequence curp, ValidationLevel level, boolean withNames) {
+        this.inputLength = curp != null ? curp.length() : -1;
+        this.level = level.name();
+        this.withNames = withNames;
+    }
+}
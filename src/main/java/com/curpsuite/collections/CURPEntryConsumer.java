@@ -0,0 +1,10 @@
+package com.curpsuite.collections;
+
+/**
+ * Recibe las entradas de un mapa de CURPs: la clave, como las dos mitades
+ * de un {@link com.curpsuite.CURPKey}, y su valor.
+ */
+@FunctionalInterface
+public interface CURPEntryConsumer {
+    void accept(long high, long low, long value);
+}
@@ -0,0 +1,10 @@
+package com.curpsuite.collections;
+
+/**
+ * Recibe las claves de una colección de CURPs, como las dos mitades de un
+ * {@link com.curpsuite.CURPKey}.
+ */
+@FunctionalInterface
+public interface CURPKeyConsumer {
+    void accept(long high, long low);
+}
@@ -0,0 +1,203 @@
+package com.curpsuite.collections;
+
+import com.curpsuite.CURPKey;
+
+import java.util.function.LongFunction;
+
+/**
+ * Mapa de CURPs, guardadas como {@link CURPKey}, a valores {@code long},
+ * sin un objeto por entrada.
+ *
+ * Cada entrada ocupa 24 bytes por posición de la tabla. Como
+ * {@link CURPSet}, el mapa puede vivir en el heap, en memoria directa
+ * ({@link #offHeap(long)}) o sobre cualquier {@link LongStorage}.
+ *
+ * No es seguro para varios hilos; para eso existe {@link ConcurrentCURPMap}.
+ * Las entradas no pueden eliminarse.
+ */
+public class CURPMap extends CURPTable {
+    static final int WIDTH = 3;
+    private static final int VALUE = 2;
+
+    /**
+     * Construye un mapa vacío en el heap.
+     */
+    public CURPMap() {
+        this(0);
+    }
+
+    /**
+     * Construye un mapa vacío en el heap, con espacio para cierto número de CURPs.
+     * El mapa crece si se agregan más.
+     *
+     * @param expectedSize Número de CURPs esperado.
+     */
+    public CURPMap(long expectedSize) {
+        super(WIDTH, expectedSize, LongStorage::heap);
+    }
+
+    /**
+     * Construye un mapa de capacidad fija sobre un almacenamiento.
+     * Las entradas que ya contenga el almacenamiento se conservan.
+     *
+     * @param storage Almacenamiento del mapa, de {@link #storageLength(long)} longs.
+     */
+    public CURPMap(LongStorage storage) {
+        super(WIDTH, storage);
+    }
+
+    private CURPMap(long expectedSize, LongFunction<LongStorage> allocator) {
+        super(WIDTH, expectedSize, allocator);
+    }
+
+    /**
+     * Construye un mapa vacío fuera del heap, en memoria directa.
+     * El mapa crece si se agregan más CURPs de las esperadas.
+     *
+     * @param expectedSize Número de CURPs esperado.
+     */
+    public static CURPMap offHeap(long expectedSize) {
+        return new CURPMap(expectedSize, LongStorage::direct);
+    }
+
+    /**
+     * Número de longs que necesita un almacenamiento fijo para cierto número de CURPs.
+     *
+     * @param expectedSize Número de CURPs esperado.
+     */
+    public static long storageLength(long expectedSize) {
+        return storageLength(WIDTH, expectedSize);
+    }
+
+    /**
+     * Asigna un valor a una CURP.
+     *
+     * @param curp Una CURP de 18 caracteres.
+     * @param value El valor.
+     * @return True si la CURP no estaba en el mapa.
+     */
+    public boolean put(CharSequence curp, long value) {
+        return put(CURPKey.high(curp), CURPKey.low(curp), value);
+    }
+
+    /**
+     * Asigna un valor a una CURP dada como las dos mitades de su clave.
+     *
+     * @return True si la CURP no estaba en el mapa.
+     */
+    public boolean put(long high, long low, long value) {
+        long slot = insert(high, low);
+        boolean added = slot < 0;
+        setField(added ? -slot - 1 : slot, VALUE, value);
+        return added;
+    }
+
+    /**
+     * Suma una cantidad al valor de una CURP, que vale 0 si no estaba en el mapa.
+     *
+     * @param curp Una CURP de 18 caracteres.
+     * @param delta La cantidad a sumar.
+     * @return El nuevo valor.
+     */
+    public long addTo(CharSequence curp, long delta) {
+        return addTo(CURPKey.high(curp), CURPKey.low(curp), delta);
+    }
+
+    /**
+     * Suma una cantidad al valor de una CURP dada como las dos mitades de su clave.
+     *
+     * @return El nuevo valor.
+     */
+    public long addTo(long high, long low, long delta) {
+        long slot = insert(high, low);
+        if (slot < 0) {
+            slot = -slot - 1;
+        }
+        long value = field(slot, VALUE) + delta;
+        setField(slot, VALUE, value);
+        return value;
+    }
+
+    /**
+     * @param curp Una CURP de 18 caracteres.
+     * @param defaultValue Valor si la CURP no está en el mapa.
+     * @return El valor de la CURP.
+     */
+    public long get(CharSequence curp, long defaultValue) {
+        return get(CURPKey.high(curp), CURPKey.low(curp), defaultValue);
+    }
+
+    /**
+     * @param defaultValue Valor si la CURP no está en el mapa.
+     * @return El valor de la CURP dada como las dos mitades de su clave.
+     */
+    public long get(long high, long low, long defaultValue) {
+        long slot = find(high, low);
+        return slot < 0 ? defaultValue : field(slot, VALUE);
+    }
+
+    /**
+     * @param curp Una CURP de 18 caracteres.
+     * @return True si la CURP está en el mapa.
+     */
+    public boolean containsKey(CharSequence curp) {
+        return containsKey(CURPKey.high(curp), CURPKey.low(curp));
+    }
+
+    /**
+     * @return True si la CURP dada como las dos mitades de su clave está en el mapa.
+     */
+    public boolean containsKey(long high, long low) {
+        return find(high, low) >= 0;
+    }
+
+    /**
+     * Asigna valores a varias CURPs.
+     *
+     * @param curps CURPs de 18 caracteres.
+     * @param values Valor de cada CURP, en la misma posición.
+     * @return Número de CURPs que no estaban en el mapa.
+     */
+    public int putAll(CharSequence[] curps, long[] values) {
+        int added = 0;
+        for (int i = 0; i < curps.length; i++) {
+            if (put(curps[i], values[i])) {
+                added++;
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Busca los valores de varias CURPs.
+     *
+     * @param curps CURPs de 18 caracteres.
+     * @param values Recibe, en la misma posición, el valor de cada CURP.
+     * @param defaultValue Valor de las CURPs que no están en el mapa.
+     * @return Número de CURPs encontradas.
+     */
+    public int get(CharSequence[] curps, long[] values, long defaultValue) {
+        int count = 0;
+        for (int i = 0; i < curps.length; i++) {
+            long slot = find(CURPKey.high(curps[i]), CURPKey.low(curps[i]));
+            if (slot >= 0) {
+                values[i] = value(slot);
+                count++;
+            } else {
+                values[i] = defaultValue;
+            }
+        }
+        return count;
+    }
+
+    long value(long slot) {
+        return field(slot, VALUE);
+    }
+
+    /**
+     * Recorre todas las entradas del mapa, sin un orden en particular.
+     */
+    public void forEach(CURPEntryConsumer consumer) {
+        forEachSlot((slot, high, low) -> consumer.accept(high, low, field(slot, VALUE)));
+    }
+}
@@ -0,0 +1,420 @@
+package com.curpsuite.collections;
+
+import com.curpsuite.enums.CURPChar;
+import com.curpsuite.enums.Region;
+import com.curpsuite.utils.CharClasses;
+import com.curpsuite.utils.WordFeautres;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Índice inmutable de CURPs para buscarlas por los datos de la persona.
+ *
+ * Los primeros 16 caracteres de una CURP sólo dependen del nombre, la fecha
+ * de nacimiento, el sexo y la entidad; el índice devuelve todas las CURPs
+ * completas que comparten esos 16 caracteres, por ejemplo los generados con
+ * {@link com.curpsuite.CURPGenerator#generatePrefix}. Las consonantes
+ * internas (posiciones 13 a 15) pueden ser desconocidas y marcarse con
+ * {@link #WILDCARD}:
+ * <pre>
+ * {@code
+ * CURPPrefixIndex index = CURPPrefixIndex.build(Files.lines(path));
+ * List<String> exactas = index.find("SABC560626MDFLRN");
+ * List<String> parecidas = index.find("SABC560626MDF???");
+ * }
+ * </pre>
+ *
+ * Cada CURP se guarda como un solo {@code long}: cada posición se codifica
+ * con sólo los valores que admite (27 letras, 6 vocales, 22 consonantes,
+ * 33 entidades, la fecha como año, mes y día), y las consonantes y los dos
+ * últimos caracteres ocupan los dígitos menos significativos. Así, las CURPs
+ * con el mismo prefijo quedan contiguas en un arreglo ordenado, y tanto la
+ * búsqueda exacta como la que ignora las consonantes son una búsqueda
+ * binaria seguida de un recorrido secuencial. Cien millones de CURPs ocupan
+ * unos 800 MB.
+ *
+ * Las CURPs que no se pueden codificar (letras en posiciones de dígitos,
+ * fechas con mes o día fuera de rango, entidades desconocidas) no se indexan.
+ * Es seguro consultar el índice desde varios hilos.
+ */
+public final class CURPPrefixIndex implements Iterable<String> {
+    /** Carácter que marca una consonante interna desconocida al buscar. */
+    public static final char WILDCARD = '?';
+
+    private static final int LENGTH = 18;
+    private static final int PREFIX_LENGTH = 16;
+
+    private static final String LETTERS = "ABCDEFGHIJKLMNÑOPQRSTUVWXYZ";
+    private static final String VOWELS = WordFeautres.VOWELS + "X";
+    private static final String CONSONANTS = WordFeautres.CONSONANTS;
+    private static final String ALPHABET = "0123456789" + LETTERS;
+    private static final Region[] REGIONS = Region.values();
+
+    // Año, mes y día: 100 * 12 * 31 combinaciones
+    private static final int DATE_RADIX = 100 * 12 * 31;
+    // Homonímia (37 caracteres) y dígito verificador (10)
+    private static final int SUFFIX_RADIX = 37 * 10;
+    private static final long CONSONANT_SPAN = (long) CONSONANTS.length() * CONSONANTS.length()
+            * CONSONANTS.length() * SUFFIX_RADIX;
+
+    private static final byte[] LETTER_CODES = codes(LETTERS);
+    private static final byte[] VOWEL_CODES = codes(VOWELS);
+    private static final byte[] CONSONANT_CODES = codes(CONSONANTS);
+
+    private final long[] keys;
+
+    private CURPPrefixIndex(long[] keys) {
+        this.keys = keys;
+    }
+
+    /**
+     * @return Un constructor de índices vacío.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Construye un índice a partir de un flujo de CURPs, por ejemplo las
+     * líneas de un archivo.
+     */
+    public static CURPPrefixIndex build(Stream<? extends CharSequence> curps) {
+        Builder builder = new Builder();
+        curps.forEach(builder::add);
+        return builder.build();
+    }
+
+    /**
+     * Construye un índice a partir de una colección de CURPs.
+     */
+    public static CURPPrefixIndex build(Iterable<? extends CharSequence> curps) {
+        Builder builder = new Builder();
+        for (CharSequence curp : curps) {
+            builder.add(curp);
+        }
+        return builder.build();
+    }
+
+    /**
+     * @return Número de CURPs distintas en el índice.
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * @return Memoria ocupada por el índice, en bytes.
+     */
+    public long memoryBytes() {
+        return (long) keys.length * Long.BYTES;
+    }
+
+    /**
+     * @return True si la CURP completa está en el índice.
+     */
+    public boolean contains(CharSequence curp) {
+        long key = encode(curp);
+        return key >= 0 && Arrays.binarySearch(keys, key) >= 0;
+    }
+
+    /**
+     * Busca las CURPs que empiezan con un prefijo de 16 caracteres.
+     *
+     * @param prefix Los primeros 16 caracteres de una CURP (los demás se
+     *               ignoran); las posiciones 13 a 15 pueden ser {@link #WILDCARD}.
+     * @return Las CURPs completas encontradas, en el orden del índice.
+     */
+    public List<String> find(CharSequence prefix) {
+        List<String> found = new ArrayList<>();
+        forEach(prefix, found::add);
+        return found;
+    }
+
+    /**
+     * @param prefix Igual que en {@link #find(CharSequence)}.
+     * @return Número de CURPs que empiezan con el prefijo.
+     */
+    public int count(CharSequence prefix) {
+        int[] count = new int[1];
+        forEach(prefix, curp -> count[0]++);
+        return count[0];
+    }
+
+    /**
+     * Recorre las CURPs que empiezan con un prefijo de 16 caracteres.
+     *
+     * @param prefix Igual que en {@link #find(CharSequence)}.
+     * @param action Recibe cada CURP completa encontrada, en el orden del índice.
+     */
+    public void forEach(CharSequence prefix, Consumer<String> action) {
+        if (prefix.length() < PREFIX_LENGTH) {
+            throw new IllegalArgumentException("El prefijo debe tener 16 caracteres");
+        }
+
+        long data = encodeData(prefix);
+        if (data < 0) {
+            return;
+        }
+
+        // Las consonantes conocidas al inicio reducen el intervalo;
+        // las que siguen a un comodín sólo filtran
+        long from = data * CONSONANT_SPAN;
+        long span = CONSONANT_SPAN;
+        boolean filter = false;
+        for (int i = CURPChar.SURNAME_A_CONSONANT.getValue(); i < PREFIX_LENGTH; i++) {
+            char c = prefix.charAt(i);
+            if (c == WILDCARD) {
+                filter = true;
+            } else if (code(CONSONANT_CODES, c) < 0) {
+                return;
+            } else if (!filter) {
+                span /= CONSONANTS.length();
+                from += code(CONSONANT_CODES, c) * span;
+            }
+        }
+
+        long to = from + span;
+        for (int i = lowerBound(from); i < keys.length && keys[i] < to; i++) {
+            String curp = decode(keys[i]);
+            if (!filter || matches(prefix, curp)) {
+                action.accept(curp);
+            }
+        }
+    }
+
+    /**
+     * @return Un iterador sobre todas las CURPs del índice, en el orden del índice.
+     */
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < keys.length;
+            }
+
+            @Override
+            public String next() {
+                if (next >= keys.length) {
+                    throw new NoSuchElementException();
+                }
+                return decode(keys[next++]);
+            }
+        };
+    }
+
+    private static boolean matches(CharSequence prefix, String curp) {
+        for (int i = CURPChar.SURNAME_A_CONSONANT.getValue(); i < PREFIX_LENGTH; i++) {
+            char c = prefix.charAt(i);
+            if (c != WILDCARD && c != curp.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int lowerBound(long key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys[middle] < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Codifica una CURP completa, o devuelve -1 si no se puede codificar.
+     */
+    static long encode(CharSequence curp) {
+        if (curp.length() != LENGTH) {
+            return -1;
+        }
+
+        long key = encodeData(curp);
+        for (int i = CURPChar.SURNAME_A_CONSONANT.getValue(); i < PREFIX_LENGTH && key >= 0; i++) {
+            key = append(key, CONSONANTS.length(), code(CONSONANT_CODES, curp.charAt(i)));
+        }
+
+        int homonymy = CharClasses.value(curp.charAt(CURPChar.HOMONYMY.getValue()));
+        char verification = curp.charAt(CURPChar.VERIFICATION.getValue());
+        int digit = CharClasses.is(verification, CharClasses.DIGIT) ? verification - '0' : -1;
+        if (key < 0 || homonymy < 0 || digit < 0) {
+            return -1;
+        }
+        return key * SUFFIX_RADIX + homonymy * 10 + digit;
+    }
+
+    /**
+     * Codifica los caracteres 0 a 12 (nombre, fecha, sexo y entidad), o
+     * devuelve -1 si no se pueden codificar.
+     */
+    private static long encodeData(CharSequence curp) {
+        long key = code(LETTER_CODES, curp.charAt(CURPChar.SURNAME_A_CHAR.getValue()));
+        key = append(key, VOWELS.length(), code(VOWEL_CODES, curp.charAt(CURPChar.SURNAME_A_VOWEL.getValue())));
+        key = append(key, LETTERS.length(), code(LETTER_CODES, curp.charAt(CURPChar.SURNAME_B_CHAR.getValue())));
+        key = append(key, LETTERS.length(), code(LETTER_CODES, curp.charAt(CURPChar.NAME_CHAR.getValue())));
+        key = append(key, DATE_RADIX, dateCode(curp));
+
+        char sex = curp.charAt(CURPChar.SEX.getValue());
+        key = append(key, 2, sex == 'H' ? 0 : sex == 'M' ? 1 : -1);
+
+        Region region = Region.fromCode(curp.charAt(CURPChar.REGION_0.getValue()),
+                curp.charAt(CURPChar.REGION_1.getValue()));
+        return append(key, REGIONS.length, region != null ? region.ordinal() : -1);
+    }
+
+    private static int dateCode(CharSequence curp) {
+        for (int i = CURPChar.YEAR_0.getValue(); i <= CURPChar.DAY_1.getValue(); i++) {
+            if (!CharClasses.is(curp.charAt(i), CharClasses.DIGIT)) {
+                return -1;
+            }
+        }
+        int year = twoDigits(curp, CURPChar.YEAR_0.getValue());
+        int month = twoDigits(curp, CURPChar.MONTH_0.getValue());
+        int day = twoDigits(curp, CURPChar.DAY_0.getValue());
+        if (month < 1 || month > 12 || day < 1 || day > 31) {
+            return -1;
+        }
+        return (year * 12 + month - 1) * 31 + day - 1;
+    }
+
+    private static long append(long key, int radix, int code) {
+        return key < 0 || code < 0 ? -1 : key * radix + code;
+    }
+
+    /**
+     * Reconstruye una CURP a partir de su código.
+     */
+    static String decode(long key) {
+        char[] curp = new char[LENGTH];
+
+        curp[CURPChar.VERIFICATION.getValue()] = (char) ('0' + key % 10);
+        key /= 10;
+        curp[CURPChar.HOMONYMY.getValue()] = ALPHABET.charAt((int) (key % 37));
+        key /= 37;
+        for (int i = PREFIX_LENGTH - 1; i >= CURPChar.SURNAME_A_CONSONANT.getValue(); i--) {
+            curp[i] = CONSONANTS.charAt((int) (key % CONSONANTS.length()));
+            key /= CONSONANTS.length();
+        }
+
+        String region = REGIONS[(int) (key % REGIONS.length)].getCode();
+        curp[CURPChar.REGION_0.getValue()] = region.charAt(0);
+        curp[CURPChar.REGION_1.getValue()] = region.charAt(1);
+        key /= REGIONS.length;
+
+        curp[CURPChar.SEX.getValue()] = key % 2 == 0 ? 'H' : 'M';
+        key /= 2;
+
+        int date = (int) (key % DATE_RADIX);
+        key /= DATE_RADIX;
+        writeTwoDigits(curp, CURPChar.DAY_0.getValue(), date % 31 + 1);
+        writeTwoDigits(curp, CURPChar.MONTH_0.getValue(), date / 31 % 12 + 1);
+        writeTwoDigits(curp, CURPChar.YEAR_0.getValue(), date / (31 * 12));
+
+        curp[CURPChar.NAME_CHAR.getValue()] = LETTERS.charAt((int) (key % LETTERS.length()));
+        key /= LETTERS.length();
+        curp[CURPChar.SURNAME_B_CHAR.getValue()] = LETTERS.charAt((int) (key % LETTERS.length()));
+        key /= LETTERS.length();
+        curp[CURPChar.SURNAME_A_VOWEL.getValue()] = VOWELS.charAt((int) (key % VOWELS.length()));
+        key /= VOWELS.length();
+        curp[CURPChar.SURNAME_A_CHAR.getValue()] = LETTERS.charAt((int) key);
+
+        return new String(curp);
+    }
+
+    private static int twoDigits(CharSequence curp, int index) {
+        return (curp.charAt(index) - '0') * 10 + (curp.charAt(index + 1) - '0');
+    }
+
+    private static void writeTwoDigits(char[] curp, int index, int value) {
+        curp[index] = (char) ('0' + value / 10);
+        curp[index + 1] = (char) ('0' + value % 10);
+    }
+
+    private static int code(byte[] codes, char c) {
+        return c < codes.length ? codes[c] : -1;
+    }
+
+    private static byte[] codes(String chars) {
+        byte[] codes = new byte[256];
+        Arrays.fill(codes, (byte) -1);
+        for (int i = 0; i < chars.length(); i++) {
+            codes[chars.charAt(i)] = (byte) i;
+        }
+        return codes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("<CURPPrefixIndex size=%d memory=%d>", size(), memoryBytes());
+    }
+
+    /**
+     * Acumula CURPs para construir un {@link CURPPrefixIndex}.
+     *
+     * No es seguro para varios hilos.
+     */
+    public static final class Builder {
+        private long[] keys = new long[1024];
+        private int count;
+        private long rejected;
+
+        private Builder() {
+        }
+
+        /**
+         * Agrega una CURP al índice.
+         *
+         * @return False si la CURP no se puede codificar y no se agregó.
+         */
+        public boolean add(CharSequence curp) {
+            long key = encode(curp);
+            if (key < 0) {
+                rejected++;
+                return false;
+            }
+            if (count == keys.length) {
+                keys = Arrays.copyOf(keys, (int) Math.min(Integer.MAX_VALUE - 8, keys.length * 2L));
+            }
+            keys[count++] = key;
+            return true;
+        }
+
+        /**
+         * @return Número de CURPs que no se pudieron codificar.
+         */
+        public long getRejected() {
+            return rejected;
+        }
+
+        /**
+         * Ordena las CURPs acumuladas y construye el índice, descartando repetidas.
+         * El constructor puede seguir usándose después.
+         */
+        public CURPPrefixIndex build() {
+            long[] sorted = Arrays.copyOf(keys, count);
+            Arrays.parallelSort(sorted);
+
+            int unique = 0;
+            for (int i = 0; i < sorted.length; i++) {
+                if (i == 0 || sorted[i] != sorted[i - 1]) {
+                    sorted[unique++] = sorted[i];
+                }
+            }
+            return new CURPPrefixIndex(unique == sorted.length ? sorted : Arrays.copyOf(sorted, unique));
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.curpsuite.collections;
+
+import com.curpsuite.CURPKey;
+
+import java.util.function.LongFunction;
+
+/**
+ * Conjunto de CURPs guardadas como {@link CURPKey}, sin un objeto por elemento.
+ *
+ * Cada CURP ocupa 16 bytes por posición de la tabla. El conjunto puede
+ * vivir en el heap de Java, en memoria directa ({@link #offHeap(long)}) o
+ * sobre cualquier {@link LongStorage}, por ejemplo un archivo mapeado:
+ * <pre>
+ * {@code
+ * long length = CURPSet.storageLength(500_000_000L);
+ * FileChannel channel = FileChannel.open(path, CREATE, READ, WRITE);
+ * CURPSet set = new CURPSet(LongStorage.mapped(channel, 0, length));
+ * }
+ * </pre>
+ *
+ * No es seguro para varios hilos; para eso existe {@link ConcurrentCURPSet}.
+ * Los elementos no pueden eliminarse.
+ */
+public class CURPSet extends CURPTable {
+    static final int WIDTH = 2;
+
+    /**
+     * Construye un conjunto vacío en el heap.
+     */
+    public CURPSet() {
+        this(0);
+    }
+
+    /**
+     * Construye un conjunto vacío en el heap, con espacio para cierto número de CURPs.
+     * El conjunto crece si se agregan más.
+     *
+     * @param expectedSize Número de CURPs esperado.
+     */
+    public CURPSet(long expectedSize) {
+        super(WIDTH, expectedSize, LongStorage::heap);
+    }
+
+    /**
+     * Construye un conjunto de capacidad fija sobre un almacenamiento.
+     * Las CURPs que ya contenga el almacenamiento se conservan.
+     *
+     * @param storage Almacenamiento del conjunto, de {@link #storageLength(long)} longs.
+     */
+    public CURPSet(LongStorage storage) {
+        super(WIDTH, storage);
+    }
+
+    private CURPSet(long expectedSize, LongFunction<LongStorage> allocator) {
+        super(WIDTH, expectedSize, allocator);
+    }
+
+    /**
+     * Construye un conjunto vacío fuera del heap, en memoria directa.
+     * El conjunto crece si se agregan más CURPs de las esperadas.
+     *
+     * @param expectedSize Número de CURPs esperado.
+     */
+    public static CURPSet offHeap(long expectedSize) {
+        return new CURPSet(expectedSize, LongStorage::direct);
+    }
+
+    /**
+     * Número de longs que necesita un almacenamiento fijo para cierto número de CURPs.
+     *
+     * @param expectedSize Número de CURPs esperado.
+     */
+    public static long storageLength(long expectedSize) {
+        return storageLength(WIDTH, expectedSize);
+    }
+
+    /**
+     * Agrega una CURP.
+     *
+     * @param curp Una CURP de 18 caracteres.
+     * @return True si la CURP no estaba en el conjunto.
+     */
+    public boolean add(CharSequence curp) {
+        return add(CURPKey.high(curp), CURPKey.low(curp));
+    }
+
+    /**
+     * Agrega una CURP guardada como 18 bytes ASCII/Latin-1.
+     *
+     * @return True si la CURP no estaba en el conjunto.
+     */
+    public boolean add(byte[] bytes, int offset) {
+        return add(CURPKey.high(bytes, offset), CURPKey.low(bytes, offset));
+    }
+
+    /**
+     * Agrega una CURP.
+     *
+     * @return True si la CURP no estaba en el conjunto.
+     */
+    public boolean add(CURPKey key) {
+        return add(key.getHigh(), key.getLow());
+    }
+
+    /**
+     * Agrega una CURP dada como las dos mitades de su clave.
+     *
+     * @return True si la CURP no estaba en el conjunto.
+     */
+    public boolean add(long high, long low) {
+        return insert(high, low) < 0;
+    }
+
+    /**
+     * Agrega varias CURPs.
+     *
+     * @param curps CURPs de 18 caracteres.
+     * @return Número de CURPs que no estaban en el conjunto.
+     */
+    public int addAll(CharSequence[] curps) {
+        int added = 0;
+        for (CharSequence curp : curps) {
+            if (add(curp)) {
+                added++;
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Agrega varias CURPs.
+     *
+     * @param curps CURPs de 18 caracteres.
+     * @return Número de CURPs que no estaban en el conjunto.
+     */
+    public long addAll(Iterable<? extends CharSequence> curps) {
+        long added = 0;
+        for (CharSequence curp : curps) {
+            if (add(curp)) {
+                added++;
+            }
+        }
+        return added;
+    }
+
+    /**
+     * @param curp Una CURP de 18 caracteres.
+     * @return True si la CURP está en el conjunto.
+     */
+    public boolean contains(CharSequence curp) {
+        return contains(CURPKey.high(curp), CURPKey.low(curp));
+    }
+
+    /**
+     * @return True si la CURP guardada como 18 bytes ASCII/Latin-1 está en el conjunto.
+     */
+    public boolean contains(byte[] bytes, int offset) {
+        return contains(CURPKey.high(bytes, offset), CURPKey.low(bytes, offset));
+    }
+
+    /**
+     * @return True si la CURP está en el conjunto.
+     */
+    public boolean contains(CURPKey key) {
+        return contains(key.getHigh(), key.getLow());
+    }
+
+    /**
+     * @return True si la CURP dada como las dos mitades de su clave está en el conjunto.
+     */
+    public boolean contains(long high, long low) {
+        return find(high, low) >= 0;
+    }
+
+    /**
+     * Busca varias CURPs.
+     *
+     * @param curps CURPs de 18 caracteres.
+     * @param found Recibe, en la misma posición, si cada CURP está en el conjunto.
+     * @return Número de CURPs encontradas.
+     */
+    public int contains(CharSequence[] curps, boolean[] found) {
+        int count = 0;
+        for (int i = 0; i < curps.length; i++) {
+            found[i] = contains(curps[i]);
+            if (found[i]) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Recorre todas las CURPs del conjunto, sin un orden en particular.
+     */
+    public void forEach(CURPKeyConsumer consumer) {
+        forEachSlot((slot, high, low) -> consumer.accept(high, low));
+    }
+}
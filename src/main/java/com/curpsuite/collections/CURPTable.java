@@ -0,0 +1,267 @@
+package com.curpsuite.collections;
+
+import com.curpsuite.CURPKey;
+
+import java.util.function.LongFunction;
+
+/**
+ * Tabla hash de direccionamiento abierto con sondeo lineal, indexada por
+ * las dos mitades de un {@link CURPKey}.
+ *
+ * Cada posición ocupa {@code width} longs consecutivos: la primera mitad
+ * de la clave (marcada con {@link #OCCUPIED}), la segunda mitad y, en los
+ * mapas, el valor. Una posición en ceros está vacía, por lo que un
+ * almacenamiento nuevo es una tabla vacía.
+ */
+abstract class CURPTable {
+    // Las mitades de una clave usan 54 bits, así que el bit 62 marca una posición ocupada
+    static final long OCCUPIED = 1L << 62;
+
+    // Carga máxima antes de crecer, o antes de rechazar claves si la tabla no puede crecer
+    static final double GROWABLE_MAX_LOAD = 0.75;
+    static final double FIXED_MAX_LOAD = 0.95;
+    // Carga con la que se calcula el tamaño de un almacenamiento fijo
+    static final double FIXED_TARGET_LOAD = 0.9;
+
+    private static final long MAX_CAPACITY = 1L << 32;
+    private static final long MIN_CAPACITY = 16;
+
+    private final int width;
+    private final LongFunction<LongStorage> allocator;
+    private LongStorage storage;
+    private long capacity;
+    private long size;
+
+    /**
+     * Construye una tabla que crece al llenarse.
+     *
+     * @param width Longs por posición.
+     * @param expectedSize Número de claves esperado.
+     * @param allocator Crea el almacenamiento para un número de longs.
+     */
+    CURPTable(int width, long expectedSize, LongFunction<LongStorage> allocator) {
+        this.width = width;
+        this.allocator = allocator;
+        this.capacity = capacityFor(expectedSize, GROWABLE_MAX_LOAD);
+        this.storage = allocator.apply(capacity * width);
+    }
+
+    /**
+     * Construye una tabla de capacidad fija sobre un almacenamiento existente.
+     * Las claves que ya contenga el almacenamiento se conservan.
+     *
+     * @param width Longs por posición.
+     * @param storage El almacenamiento de la tabla.
+     */
+    CURPTable(int width, LongStorage storage) {
+        if (storage.length() < width || storage.length() / width > MAX_CAPACITY) {
+            throw new IllegalArgumentException("El tamaño del almacenamiento no es válido");
+        }
+        this.width = width;
+        this.allocator = null;
+        this.storage = storage;
+        this.capacity = storage.length() / width;
+
+        for (long slot = 0; slot < capacity; slot++) {
+            if (storage.get(slot * width) != 0) {
+                size++;
+            }
+        }
+    }
+
+    /**
+     * Número de longs que necesita un almacenamiento fijo para cierto número de claves.
+     */
+    static long storageLength(int width, long expectedSize) {
+        return capacityFor(expectedSize, FIXED_TARGET_LOAD) * width;
+    }
+
+    private static long capacityFor(long expectedSize, double load) {
+        long capacity = Math.max(MIN_CAPACITY, (long) Math.ceil(expectedSize / load));
+        if (capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Demasiadas claves para una sola tabla");
+        }
+        return capacity;
+    }
+
+    /**
+     * Busca una clave.
+     *
+     * @return La posición de la clave, o -1 si no está en la tabla.
+     */
+    final long find(long high, long low) {
+        long stored = high | OCCUPIED;
+        long slot = indexFor(high, low);
+
+        while (true) {
+            long base = slot * width;
+            long current = storage.get(base);
+            if (current == 0) {
+                return -1;
+            }
+            if (current == stored && storage.get(base + 1) == low) {
+                return slot;
+            }
+            if (++slot == capacity) {
+                slot = 0;
+            }
+        }
+    }
+
+    /**
+     * Agrega una clave si no está en la tabla.
+     *
+     * @return La posición de la clave si ya existía, o {@code -posición - 1} si se agregó.
+     * @throws IllegalStateException La tabla no puede crecer y está llena.
+     */
+    final long insert(long high, long low) {
+        ensureCapacity(size + 1);
+
+        long stored = high | OCCUPIED;
+        long slot = indexFor(high, low);
+
+        while (true) {
+            long base = slot * width;
+            long current = storage.get(base);
+            if (current == 0) {
+                storage.set(base, stored);
+                storage.set(base + 1, low);
+                size++;
+                return -slot - 1;
+            }
+            if (current == stored && storage.get(base + 1) == low) {
+                return slot;
+            }
+            if (++slot == capacity) {
+                slot = 0;
+            }
+        }
+    }
+
+    /**
+     * @return El long {@code field} (0 y 1 son la clave) de una posición ocupada.
+     */
+    final long field(long slot, int field) {
+        return storage.get(slot * width + field);
+    }
+
+    final void setField(long slot, int field, long value) {
+        storage.set(slot * width + field, value);
+    }
+
+    /**
+     * Recorre todas las posiciones ocupadas.
+     */
+    final void forEachSlot(SlotConsumer consumer) {
+        for (long slot = 0; slot < capacity; slot++) {
+            long high = storage.get(slot * width);
+            if (high != 0) {
+                consumer.accept(slot, high & ~OCCUPIED, storage.get(slot * width + 1));
+            }
+        }
+    }
+
+    private long indexFor(long high, long low) {
+        // Reduce el hash de 32 bits al rango [0, capacity) sin usar módulo
+        return ((CURPKey.hash(high, low) & 0xFFFFFFFFL) * capacity) >>> 32;
+    }
+
+    private void ensureCapacity(long needed) {
+        if (allocator == null) {
+            if (needed > capacity * FIXED_MAX_LOAD) {
+                throw new IllegalStateException("La tabla está llena");
+            }
+            return;
+        }
+
+        if (needed > capacity * GROWABLE_MAX_LOAD) {
+            rehash(Math.min(MAX_CAPACITY, capacity * 2));
+        }
+    }
+
+    private void rehash(long newCapacity) {
+        if (newCapacity <= capacity) {
+            throw new IllegalStateException("La tabla está llena");
+        }
+
+        LongStorage old = storage;
+        long oldCapacity = capacity;
+
+        storage = allocator.apply(newCapacity * width);
+        capacity = newCapacity;
+
+        for (long oldSlot = 0; oldSlot < oldCapacity; oldSlot++) {
+            long oldBase = oldSlot * width;
+            long stored = old.get(oldBase);
+            if (stored == 0) {
+                continue;
+            }
+
+            long low = old.get(oldBase + 1);
+            long slot = indexFor(stored & ~OCCUPIED, low);
+            while (storage.get(slot * width) != 0) {
+                if (++slot == capacity) {
+                    slot = 0;
+                }
+            }
+
+            long base = slot * width;
+            for (int field = 0; field < width; field++) {
+                storage.set(base + field, old.get(oldBase + field));
+            }
+        }
+    }
+
+    /**
+     * @return Número de claves en la tabla.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * @return True si la tabla no contiene claves.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return Número de posiciones de la tabla.
+     */
+    public long capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return Fracción de posiciones ocupadas.
+     */
+    public double loadFactor() {
+        return (double) size / capacity;
+    }
+
+    /**
+     * @return Memoria ocupada por la tabla, en bytes.
+     */
+    public long memoryBytes() {
+        return storage.memoryBytes();
+    }
+
+    /**
+     * @return True si la tabla está fuera del heap de Java.
+     */
+    public boolean isOffHeap() {
+        return storage.isOffHeap();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("<%s size=%d capacity=%d load=%.2f memory=%d%s>",
+                getClass().getSimpleName(), size, capacity, loadFactor(), memoryBytes(),
+                isOffHeap() ? " off-heap" : "");
+    }
+
+    interface SlotConsumer {
+        void accept(long slot, long high, long low);
+    }
+}
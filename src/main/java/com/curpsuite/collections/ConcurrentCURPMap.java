@@ -0,0 +1,229 @@
+package com.curpsuite.collections;
+
+import com.curpsuite.CURPKey;
+
+/**
+ * Mapa de CURPs a valores {@code long} seguro para varios hilos, dividido en franjas.
+ *
+ * Cada franja es un {@link CURPMap} con su propio candado, de modo que
+ * varios hilos pueden escribir al mismo tiempo mientras caigan en
+ * franjas distintas. Las operaciones por lotes toman el candado de cada
+ * franja una sola vez.
+ */
+public class ConcurrentCURPMap {
+    private final CURPMap[] stripes;
+    private final int mask;
+
+    /**
+     * Construye un mapa vacío en el heap.
+     *
+     * @param stripes Número de franjas; se redondea a una potencia de dos.
+     * @param expectedSize Número de CURPs esperado en total.
+     */
+    public ConcurrentCURPMap(int stripes, long expectedSize) {
+        this(stripes, expectedSize, false);
+    }
+
+    private ConcurrentCURPMap(int stripes, long expectedSize, boolean offHeap) {
+        int count = Stripes.count(stripes);
+        this.stripes = new CURPMap[count];
+        this.mask = count - 1;
+        for (int i = 0; i < count; i++) {
+            this.stripes[i] = offHeap ? CURPMap.offHeap(expectedSize / count) : new CURPMap(expectedSize / count);
+        }
+    }
+
+    /**
+     * Construye un mapa vacío fuera del heap, en memoria directa.
+     *
+     * @param stripes Número de franjas; se redondea a una potencia de dos.
+     * @param expectedSize Número de CURPs esperado en total.
+     */
+    public static ConcurrentCURPMap offHeap(int stripes, long expectedSize) {
+        return new ConcurrentCURPMap(stripes, expectedSize, true);
+    }
+
+    private CURPMap stripe(long high, long low) {
+        return stripes[CURPKey.hash(high, low) & mask];
+    }
+
+    /**
+     * Asigna un valor a una CURP.
+     *
+     * @param curp Una CURP de 18 caracteres.
+     * @param value El valor.
+     * @return True si la CURP no estaba en el mapa.
+     */
+    public boolean put(CharSequence curp, long value) {
+        long high = CURPKey.high(curp);
+        long low = CURPKey.low(curp);
+        CURPMap stripe = stripe(high, low);
+        synchronized (stripe) {
+            return stripe.put(high, low, value);
+        }
+    }
+
+    /**
+     * Suma una cantidad al valor de una CURP, que vale 0 si no estaba en el mapa.
+     *
+     * @param curp Una CURP de 18 caracteres.
+     * @param delta La cantidad a sumar.
+     * @return El nuevo valor.
+     */
+    public long addTo(CharSequence curp, long delta) {
+        long high = CURPKey.high(curp);
+        long low = CURPKey.low(curp);
+        CURPMap stripe = stripe(high, low);
+        synchronized (stripe) {
+            return stripe.addTo(high, low, delta);
+        }
+    }
+
+    /**
+     * @param curp Una CURP de 18 caracteres.
+     * @param defaultValue Valor si la CURP no está en el mapa.
+     * @return El valor de la CURP.
+     */
+    public long get(CharSequence curp, long defaultValue) {
+        long high = CURPKey.high(curp);
+        long low = CURPKey.low(curp);
+        CURPMap stripe = stripe(high, low);
+        synchronized (stripe) {
+            return stripe.get(high, low, defaultValue);
+        }
+    }
+
+    /**
+     * @param curp Una CURP de 18 caracteres.
+     * @return True si la CURP está en el mapa.
+     */
+    public boolean containsKey(CharSequence curp) {
+        long high = CURPKey.high(curp);
+        long low = CURPKey.low(curp);
+        CURPMap stripe = stripe(high, low);
+        synchronized (stripe) {
+            return stripe.containsKey(high, low);
+        }
+    }
+
+    /**
+     * Asigna valores a varias CURPs, tomando el candado de cada franja una sola vez.
+     *
+     * @param curps CURPs de 18 caracteres.
+     * @param values Valor de cada CURP, en la misma posición.
+     * @return Número de CURPs que no estaban en el mapa.
+     */
+    public int putAll(CharSequence[] curps, long[] values) {
+        Stripes.Batch batch = Stripes.group(curps, mask);
+        int added = 0;
+
+        for (int s = 0; s < stripes.length; s++) {
+            CURPMap stripe = stripes[s];
+            synchronized (stripe) {
+                for (int j = batch.start(s); j < batch.start(s + 1); j++) {
+                    int i = batch.index(j);
+                    if (stripe.put(batch.high(i), batch.low(i), values[i])) {
+                        added++;
+                    }
+                }
+            }
+        }
+
+        return added;
+    }
+
+    /**
+     * Busca los valores de varias CURPs, tomando el candado de cada franja una sola vez.
+     *
+     * @param curps CURPs de 18 caracteres.
+     * @param values Recibe, en la misma posición, el valor de cada CURP.
+     * @param defaultValue Valor de las CURPs que no están en el mapa.
+     * @return Número de CURPs encontradas.
+     */
+    public int get(CharSequence[] curps, long[] values, long defaultValue) {
+        Stripes.Batch batch = Stripes.group(curps, mask);
+        int count = 0;
+
+        for (int s = 0; s < stripes.length; s++) {
+            CURPMap stripe = stripes[s];
+            synchronized (stripe) {
+                for (int j = batch.start(s); j < batch.start(s + 1); j++) {
+                    int i = batch.index(j);
+                    long slot = stripe.find(batch.high(i), batch.low(i));
+                    if (slot >= 0) {
+                        values[i] = stripe.value(slot);
+                        count++;
+                    } else {
+                        values[i] = defaultValue;
+                    }
+                }
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Recorre todas las entradas del mapa, sin un orden en particular.
+     * Cada franja se bloquea mientras se recorre.
+     */
+    public void forEach(CURPEntryConsumer consumer) {
+        for (CURPMap stripe : stripes) {
+            synchronized (stripe) {
+                stripe.forEach(consumer);
+            }
+        }
+    }
+
+    /**
+     * @return Número de CURPs en el mapa.
+     */
+    public long size() {
+        long size = 0;
+        for (CURPMap stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * @return Número de posiciones de todas las franjas.
+     */
+    public long capacity() {
+        long capacity = 0;
+        for (CURPMap stripe : stripes) {
+            synchronized (stripe) {
+                capacity += stripe.capacity();
+            }
+        }
+        return capacity;
+    }
+
+    /**
+     * @return Memoria ocupada por todas las franjas, en bytes.
+     */
+    public long memoryBytes() {
+        long bytes = 0;
+        for (CURPMap stripe : stripes) {
+            synchronized (stripe) {
+                bytes += stripe.memoryBytes();
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * @return Número de franjas.
+     */
+    public int stripes() {
+        return stripes.length;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("<ConcurrentCURPMap size=%d capacity=%d stripes=%d memory=%d>",
+                size(), capacity(), stripes.length, memoryBytes());
+    }
+}
@@ -0,0 +1,205 @@
+package com.curpsuite.collections;
+
+import com.curpsuite.CURPKey;
+
+/**
+ * Conjunto de CURPs seguro para varios hilos, dividido en franjas.
+ *
+ * Cada franja es un {@link CURPSet} con su propio candado, de modo que
+ * varios hilos pueden agregar CURPs al mismo tiempo mientras caigan en
+ * franjas distintas. Las operaciones por lotes toman el candado de cada
+ * franja una sola vez.
+ */
+public class ConcurrentCURPSet {
+    private final CURPSet[] stripes;
+    private final int mask;
+
+    /**
+     * Construye un conjunto vacío en el heap.
+     *
+     * @param stripes Número de franjas; se redondea a una potencia de dos.
+     * @param expectedSize Número de CURPs esperado en total.
+     */
+    public ConcurrentCURPSet(int stripes, long expectedSize) {
+        this(stripes, expectedSize, false);
+    }
+
+    private ConcurrentCURPSet(int stripes, long expectedSize, boolean offHeap) {
+        int count = Stripes.count(stripes);
+        this.stripes = new CURPSet[count];
+        this.mask = count - 1;
+        for (int i = 0; i < count; i++) {
+            this.stripes[i] = offHeap ? CURPSet.offHeap(expectedSize / count) : new CURPSet(expectedSize / count);
+        }
+    }
+
+    /**
+     * Construye un conjunto vacío fuera del heap, en memoria directa.
+     *
+     * @param stripes Número de franjas; se redondea a una potencia de dos.
+     * @param expectedSize Número de CURPs esperado en total.
+     */
+    public static ConcurrentCURPSet offHeap(int stripes, long expectedSize) {
+        return new ConcurrentCURPSet(stripes, expectedSize, true);
+    }
+
+    private CURPSet stripe(long high, long low) {
+        return stripes[CURPKey.hash(high, low) & mask];
+    }
+
+    /**
+     * Agrega una CURP.
+     *
+     * @param curp Una CURP de 18 caracteres.
+     * @return True si la CURP no estaba en el conjunto.
+     */
+    public boolean add(CharSequence curp) {
+        return add(CURPKey.high(curp), CURPKey.low(curp));
+    }
+
+    /**
+     * Agrega una CURP dada como las dos mitades de su clave.
+     *
+     * @return True si la CURP no estaba en el conjunto.
+     */
+    public boolean add(long high, long low) {
+        CURPSet stripe = stripe(high, low);
+        synchronized (stripe) {
+            return stripe.add(high, low);
+        }
+    }
+
+    /**
+     * Agrega varias CURPs, tomando el candado de cada franja una sola vez.
+     *
+     * @param curps CURPs de 18 caracteres.
+     * @return Número de CURPs que no estaban en el conjunto.
+     */
+    public int addAll(CharSequence[] curps) {
+        Stripes.Batch batch = Stripes.group(curps, mask);
+        int added = 0;
+
+        for (int s = 0; s < stripes.length; s++) {
+            CURPSet stripe = stripes[s];
+            synchronized (stripe) {
+                for (int j = batch.start(s); j < batch.start(s + 1); j++) {
+                    int i = batch.index(j);
+                    if (stripe.add(batch.high(i), batch.low(i))) {
+                        added++;
+                    }
+                }
+            }
+        }
+
+        return added;
+    }
+
+    /**
+     * @param curp Una CURP de 18 caracteres.
+     * @return True si la CURP está en el conjunto.
+     */
+    public boolean contains(CharSequence curp) {
+        return contains(CURPKey.high(curp), CURPKey.low(curp));
+    }
+
+    /**
+     * @return True si la CURP dada como las dos mitades de su clave está en el conjunto.
+     */
+    public boolean contains(long high, long low) {
+        CURPSet stripe = stripe(high, low);
+        synchronized (stripe) {
+            return stripe.contains(high, low);
+        }
+    }
+
+    /**
+     * Busca varias CURPs, tomando el candado de cada franja una sola vez.
+     *
+     * @param curps CURPs de 18 caracteres.
+     * @param found Recibe, en la misma posición, si cada CURP está en el conjunto.
+     * @return Número de CURPs encontradas.
+     */
+    public int contains(CharSequence[] curps, boolean[] found) {
+        Stripes.Batch batch = Stripes.group(curps, mask);
+        int count = 0;
+
+        for (int s = 0; s < stripes.length; s++) {
+            CURPSet stripe = stripes[s];
+            synchronized (stripe) {
+                for (int j = batch.start(s); j < batch.start(s + 1); j++) {
+                    int i = batch.index(j);
+                    found[i] = stripe.contains(batch.high(i), batch.low(i));
+                    if (found[i]) {
+                        count++;
+                    }
+                }
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Recorre todas las CURPs del conjunto, sin un orden en particular.
+     * Cada franja se bloquea mientras se recorre.
+     */
+    public void forEach(CURPKeyConsumer consumer) {
+        for (CURPSet stripe : stripes) {
+            synchronized (stripe) {
+                stripe.forEach(consumer);
+            }
+        }
+    }
+
+    /**
+     * @return Número de CURPs en el conjunto.
+     */
+    public long size() {
+        long size = 0;
+        for (CURPSet stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * @return Número de posiciones de todas las franjas.
+     */
+    public long capacity() {
+        long capacity = 0;
+        for (CURPSet stripe : stripes) {
+            synchronized (stripe) {
+                capacity += stripe.capacity();
+            }
+        }
+        return capacity;
+    }
+
+    /**
+     * @return Memoria ocupada por todas las franjas, en bytes.
+     */
+    public long memoryBytes() {
+        long bytes = 0;
+        for (CURPSet stripe : stripes) {
+            synchronized (stripe) {
+                bytes += stripe.memoryBytes();
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * @return Número de franjas.
+     */
+    public int stripes() {
+        return stripes.length;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("<ConcurrentCURPSet size=%d capacity=%d stripes=%d memory=%d>",
+                size(), capacity(), stripes.length, memoryBytes());
+    }
+}
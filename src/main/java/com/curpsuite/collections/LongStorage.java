@@ -0,0 +1,164 @@
+package com.curpsuite.collections;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Arreglo de {@code long} de tamaño fijo, dentro o fuera del heap de Java.
+ *
+ * Se divide en segmentos de 1 GiB, por lo que su tamaño no está limitado
+ * al de un arreglo de Java ni al de un {@link ByteBuffer}. Todas las
+ * posiciones inician en cero.
+ */
+public abstract class LongStorage {
+    // 2^27 longs (1 GiB) por segmento
+    static final int SEGMENT_SHIFT = 27;
+    static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+    static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+    private final long length;
+
+    LongStorage(long length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("La longitud no puede ser negativa");
+        }
+        this.length = length;
+    }
+
+    /**
+     * Crea un arreglo dentro del heap de Java.
+     *
+     * @param length Número de longs.
+     */
+    public static LongStorage heap(long length) {
+        return new Heap(length);
+    }
+
+    /**
+     * Crea un arreglo fuera del heap, en buffers directos.
+     *
+     * @param length Número de longs.
+     */
+    public static LongStorage direct(long length) {
+        ByteBuffer[] buffers = new ByteBuffer[segments(length)];
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = ByteBuffer.allocateDirect(segmentLength(length, i) * Long.BYTES);
+        }
+        return new Buffers(length, buffers);
+    }
+
+    /**
+     * Crea un arreglo mapeado a un archivo.
+     *
+     * El contenido se lee y se escribe directamente en el archivo, por lo
+     * que una tabla construida sobre el mismo archivo conserva sus datos.
+     * Un archivo nuevo inicia en ceros, es decir, vacío.
+     *
+     * @param channel Canal del archivo, abierto para lectura y escritura.
+     * @param position Posición del arreglo dentro del archivo, en bytes.
+     * @param length Número de longs.
+     */
+    public static LongStorage mapped(FileChannel channel, long position, long length) throws IOException {
+        ByteBuffer[] buffers = new ByteBuffer[segments(length)];
+        for (int i = 0; i < buffers.length; i++) {
+            long segmentPosition = position + ((long) i << SEGMENT_SHIFT) * Long.BYTES;
+            buffers[i] = channel.map(FileChannel.MapMode.READ_WRITE, segmentPosition,
+                    (long) segmentLength(length, i) * Long.BYTES);
+        }
+        return new Buffers(length, buffers);
+    }
+
+    /**
+     * @return El long en la posición indicada.
+     */
+    public abstract long get(long index);
+
+    /**
+     * Guarda un long en la posición indicada.
+     */
+    public abstract void set(long index, long value);
+
+    /**
+     * @return Número de longs del arreglo.
+     */
+    public long length() {
+        return length;
+    }
+
+    /**
+     * @return Memoria ocupada por el arreglo, en bytes.
+     */
+    public long memoryBytes() {
+        return length * Long.BYTES;
+    }
+
+    /**
+     * @return True si el arreglo está fuera del heap de Java.
+     */
+    public abstract boolean isOffHeap();
+
+    private static int segments(long length) {
+        return (int) ((length + SEGMENT_SIZE - 1) >>> SEGMENT_SHIFT);
+    }
+
+    private static int segmentLength(long length, int segment) {
+        return (int) Math.min(SEGMENT_SIZE, length - ((long) segment << SEGMENT_SHIFT));
+    }
+
+    private static final class Heap extends LongStorage {
+        private final long[][] segments;
+
+        Heap(long length) {
+            super(length);
+            segments = new long[segments(length)][];
+            for (int i = 0; i < segments.length; i++) {
+                segments[i] = new long[segmentLength(length, i)];
+            }
+        }
+
+        @Override
+        public long get(long index) {
+            return segments[(int) (index >>> SEGMENT_SHIFT)][(int) (index & SEGMENT_MASK)];
+        }
+
+        @Override
+        public void set(long index, long value) {
+            segments[(int) (index >>> SEGMENT_SHIFT)][(int) (index & SEGMENT_MASK)] = value;
+        }
+
+        @Override
+        public boolean isOffHeap() {
+            return false;
+        }
+    }
+
+    private static final class Buffers extends LongStorage {
+        private final LongBuffer[] segments;
+
+        Buffers(long length, ByteBuffer[] buffers) {
+            super(length);
+            segments = new LongBuffer[buffers.length];
+            for (int i = 0; i < buffers.length; i++) {
+                segments[i] = buffers[i].order(ByteOrder.nativeOrder()).asLongBuffer();
+            }
+        }
+
+        @Override
+        public long get(long index) {
+            return segments[(int) (index >>> SEGMENT_SHIFT)].get((int) (index & SEGMENT_MASK));
+        }
+
+        @Override
+        public void set(long index, long value) {
+            segments[(int) (index >>> SEGMENT_SHIFT)].put((int) (index & SEGMENT_MASK), value);
+        }
+
+        @Override
+        public boolean isOffHeap() {
+            return true;
+        }
+    }
+}
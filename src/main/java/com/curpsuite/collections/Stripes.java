@@ -0,0 +1,94 @@
+package com.curpsuite.collections;
+
+import com.curpsuite.CURPKey;
+
+/**
+ * Utilidades para las colecciones divididas en franjas.
+ */
+final class Stripes {
+    private static final int MAX_STRIPES = 1 << 16;
+
+    private Stripes() {
+    }
+
+    /**
+     * @return El número de franjas redondeado a una potencia de dos.
+     */
+    static int count(int stripes) {
+        if (stripes < 1) {
+            throw new IllegalArgumentException("Debe haber al menos una franja");
+        }
+        int count = Integer.highestOneBit(Math.min(stripes, MAX_STRIPES));
+        return count < stripes && count < MAX_STRIPES ? count << 1 : count;
+    }
+
+    /**
+     * Calcula las claves de un lote de CURPs y las agrupa por franja.
+     */
+    static Batch group(CharSequence[] curps, int mask) {
+        int n = curps.length;
+        long[] highs = new long[n];
+        long[] lows = new long[n];
+        int[] stripeOf = new int[n];
+        int[] starts = new int[mask + 2];
+
+        for (int i = 0; i < n; i++) {
+            highs[i] = CURPKey.high(curps[i]);
+            lows[i] = CURPKey.low(curps[i]);
+            stripeOf[i] = CURPKey.hash(highs[i], lows[i]) & mask;
+            starts[stripeOf[i] + 1]++;
+        }
+
+        for (int s = 1; s < starts.length; s++) {
+            starts[s] += starts[s - 1];
+        }
+
+        int[] next = new int[mask + 1];
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            int s = stripeOf[i];
+            order[starts[s] + next[s]++] = i;
+        }
+
+        return new Batch(highs, lows, starts, order);
+    }
+
+    /**
+     * Claves de un lote, con los índices ordenados por franja.
+     */
+    static final class Batch {
+        private final long[] highs;
+        private final long[] lows;
+        private final int[] starts;
+        private final int[] order;
+
+        Batch(long[] highs, long[] lows, int[] starts, int[] order) {
+            this.highs = highs;
+            this.lows = lows;
+            this.starts = starts;
+            this.order = order;
+        }
+
+        /**
+         * @return La primera posición de {@link #index(int)} que corresponde a una franja.
+         */
+        int start(int stripe) {
+            return starts[stripe];
+        }
+
+        /**
+         * @return El índice en el lote original de la posición j.
+         */
+        int index(int j) {
+            return order[j];
+        }
+
+        long high(int i) {
+            return highs[i];
+        }
+
+        long low(int i) {
+            return lows[i];
+        }
+    }
+}
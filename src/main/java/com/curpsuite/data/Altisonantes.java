@@ -1,5 +1,7 @@
 package com.curpsuite.data;
 
+import com.curpsuite.utils.CharClasses;
+
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -8,6 +10,13 @@ public class Altisonantes {
 
     private static final Map<String, String[]> ALTISONANTES;
 
+    // Índice de los primeros cuatro caracteres de una CURP, por la primera,
+    // tercera y cuarta letra. Cada byte indica con un bit si la palabra
+    // censurada existe y con otros cinco qué vocales reales puede tener.
+    private static final int LETTERS = 27;
+    private static final int CENSORED = 1 << 5;
+    private static final byte[] INDEX = new byte[LETTERS * LETTERS * LETTERS];
+
     static {
         Map<String, String[]> map = new HashMap<>();
 
@@ -89,6 +98,14 @@ public class Altisonantes {
         map.put("WXEY", new String[]{"U"});
 
         ALTISONANTES = Collections.unmodifiableMap(map);
+
+        for (Map.Entry<String, String[]> entry : ALTISONANTES.entrySet()) {
+            int index = index(entry.getKey());
+            INDEX[index] |= CENSORED;
+            for (String vowel : entry.getValue()) {
+                INDEX[index] |= vowelBit(vowel.charAt(0));
+            }
+        }
     }
 
     /**
@@ -99,4 +116,78 @@ public class Altisonantes {
     public static Map<String, String[]> getAltisonantes() {
         return ALTISONANTES;
     }
+
+    /**
+     * Verifica si una CURP empieza con una palabra altisonante censurada,
+     * por ejemplo "BXCA".
+     *
+     * @param curp Una CURP o cualquier texto de al menos cuatro caracteres.
+     * @return True si los primeros cuatro caracteres son una palabra censurada.
+     */
+    public static boolean isCensored(CharSequence curp) {
+        int index = index(curp);
+        return index >= 0 && curp.charAt(1) == 'X' && (INDEX[index] & CENSORED) != 0;
+    }
+
+    /**
+     * Verifica si una CURP empieza con una palabra altisonante sin censurar,
+     * por ejemplo "BACA", algo que nunca ocurre en una CURP válida.
+     *
+     * @param curp Una CURP o cualquier texto de al menos cuatro caracteres.
+     * @return True si los primeros cuatro caracteres son una palabra sin censura.
+     */
+    public static boolean isUncensored(CharSequence curp) {
+        int index = index(curp);
+        return index >= 0 && (INDEX[index] & vowelBit(curp.charAt(1))) != 0;
+    }
+
+    /**
+     * Verifica si una vocal es una de las vocales reales de la palabra
+     * censurada con la que empieza una CURP.
+     *
+     * @param curp Una CURP o cualquier texto de al menos cuatro caracteres.
+     * @param vowel La vocal a buscar.
+     * @return True si la CURP empieza con una palabra censurada cuya vocal real puede ser la dada.
+     */
+    public static boolean isCensoredVowel(CharSequence curp, char vowel) {
+        return isCensored(curp) && (INDEX[index(curp)] & vowelBit(vowel)) != 0;
+    }
+
+    /**
+     * @return La posición en el índice de los primeros cuatro caracteres, o -1 si
+     *         la primera, tercera o cuarta no son letras.
+     */
+    private static int index(CharSequence text) {
+        int first = letter(text.charAt(0));
+        int third = letter(text.charAt(2));
+        int fourth = letter(text.charAt(3));
+        if ((first | third | fourth) < 0) {
+            return -1;
+        }
+        return (first * LETTERS + third) * LETTERS + fourth;
+    }
+
+    /**
+     * @return La posición de la letra en el alfabeto (A-Z y Ñ), o -1 si no es letra.
+     */
+    private static int letter(char c) {
+        return CharClasses.is(c, CharClasses.LETTER) ? CharClasses.value(c) - 10 : -1;
+    }
+
+    private static int vowelBit(char vowel) {
+        switch (vowel) {
+            case 'A':
+                return 1;
+            case 'E':
+                return 1 << 1;
+            case 'I':
+                return 1 << 2;
+            case 'O':
+                return 1 << 3;
+            case 'U':
+                return 1 << 4;
+            default:
+                return 0;
+        }
+    }
 }
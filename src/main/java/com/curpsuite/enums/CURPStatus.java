@@ -0,0 +1,114 @@
+package com.curpsuite.enums;
+
+import com.curpsuite.exceptions.*;
+
+/**
+ * Resultado de la validación de una CURP.
+ *
+ * Cada valor distinto de {@link #VALID} corresponde a una de las
+ * excepciones de {@code com.curpsuite.exceptions}.
+ */
+public enum CURPStatus {
+    VALID(0, null),
+
+    // Estructura de la CURP
+    LENGTH(1, "La CURP no tiene el tamaño correcto"),
+    CHARSET(2, "La CURP contiene caracteres no válidos."),
+    VERIFICATION(3, "El dígito verificador no coincide con la CURP"),
+    DATE_CHARS(4, "La fecha de nacimiento contiene caracteres no numéricos"),
+    DATE(5, "La fecha de nacimiento es incorrecta"),
+    SEX(6, "El sexo de la CURP no es válido"),
+    REGION(7, "La entidad de nacimiento es incorrecta"),
+    NAME_CHARS(8, "Los caracteres del nombre/apellidos contienen errores"),
+
+    // Nombre y apellidos
+    NAME(9, "El nombre de pila no coincide con la CURP"),
+    FIRST_SURNAME(10, "El primer apellido no coincide con la CURP"),
+    SECOND_SURNAME(11, "El segundo apellido no coincide con la CURP"),
+    FULL_NAME(12, "El nombre completo no parece coincidir con la CURP");
+
+    private static final CURPStatus[] VALUES = values();
+
+    private final int value;
+    private final String message;
+
+    CURPStatus(int value, String message) {
+        this.value = value;
+        this.message = message;
+    }
+
+    /**
+     * @return Código numérico del resultado, 0 si la CURP es válida.
+     */
+    public int getValue() {
+        return value;
+    }
+
+    /**
+     * @return Mensaje de la excepción correspondiente, o null si la CURP es válida.
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * @return True si el resultado no contiene errores.
+     */
+    public boolean isValid() {
+        return this == VALID;
+    }
+
+    /**
+     * Obtiene el resultado correspondiente a un código numérico.
+     *
+     * @param value Código numérico devuelto por {@link #getValue()}
+     * @return El resultado correspondiente
+     */
+    public static CURPStatus fromValue(int value) {
+        return VALUES[value];
+    }
+
+    /**
+     * Construye la excepción que corresponde a este resultado.
+     *
+     * @return La excepción correspondiente, o null si la CURP es válida.
+     */
+    public CURPException toException() {
+        return toException(true);
+    }
+
+    /**
+     * Construye la excepción que corresponde a este resultado.
+     *
+     * @param writableStackTrace false para construir la excepción sin traza de pila
+     * @return La excepción correspondiente, o null si la CURP es válida.
+     */
+    public CURPException toException(boolean writableStackTrace) {
+        switch (this) {
+            case LENGTH:
+                return new CURPLengthException(message, writableStackTrace);
+            case CHARSET:
+            case DATE_CHARS:
+            case NAME_CHARS:
+                return new CURPValueException(message, writableStackTrace);
+            case VERIFICATION:
+                return new CURPVerificationException(message, writableStackTrace);
+            case DATE:
+                return new CURPDateException(message, writableStackTrace);
+            case SEX:
+                return new CURPSexException(message, writableStackTrace);
+            case REGION:
+                return new CURPRegionException(message, writableStackTrace);
+            case NAME:
+                return new CURPNameException(message, writableStackTrace);
+            case FIRST_SURNAME:
+                return new CURPFirstSurnameException(message, writableStackTrace);
+            case SECOND_SURNAME:
+                return new CURPSecondSurnameException(message, writableStackTrace);
+            case FULL_NAME:
+                return new CURPFullNameException(message, writableStackTrace);
+            default:
+                return null;
+        }
+    }
+}
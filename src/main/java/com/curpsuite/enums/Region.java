@@ -0,0 +1,125 @@
+package com.curpsuite.enums;
+
+import com.curpsuite.data.RegionData;
+
+/**
+ * Entidades federativas de nacimiento que puede indicar una CURP.
+ *
+ * Cada entidad conserva su {@link RegionData}, la misma instancia que
+ * devuelve {@link com.curpsuite.data.Estados#getEstados()}, para que el
+ * código existente que trabaja con RegionData siga funcionando.
+ */
+public enum Region {
+    AGUASCALIENTES("AS", "Aguascalientes", "MX-AGU"),
+    BAJA_CALIFORNIA("BC", "Baja California", "MX-BCN"),
+    BAJA_CALIFORNIA_SUR("BS", "Baja California Sur", "MX-BCS"),
+    CAMPECHE("CC", "Campeche", "MX-CAM"),
+    COAHUILA("CL", "Coahuila de Zaragoza", "MX-COA"),
+    COLIMA("CM", "Colima", "MX-COL"),
+    CHIAPAS("CS", "Chiapas", "MX-CHP"),
+    CHIHUAHUA("CH", "Chihuahua", "MX-CHH"),
+    CIUDAD_DE_MEXICO("DF", "Ciudad de México", "MX-CMX"),
+    DURANGO("DG", "Durango", "MX-DUR"),
+    GUANAJUATO("GT", "Guanajuato", "MX-GUA"),
+    GUERRERO("GR", "Guerrero", "MX-GRO"),
+    HIDALGO("HG", "Hidalgo", "MX-HID"),
+    JALISCO("JC", "Jalisco", "MX-JAL"),
+    MEXICO("MC", "México", "MX-MEX"),
+    MICHOACAN("MN", "Michoacán de Ocampo", "MX-MIC"),
+    MORELOS("MS", "Morelos", "MX-MOR"),
+    NAYARIT("NT", "Nayarit", "MX-NAY"),
+    NUEVO_LEON("NL", "Nuevo León", "MX-NLE"),
+    OAXACA("OC", "Oaxaca", "MX-OAX"),
+    PUEBLA("PL", "Puebla", "MX-PUE"),
+    QUERETARO("QT", "Querétaro", "MX-QUE"),
+    QUINTANA_ROO("QR", "Quintana Roo", "MX-ROO"),
+    SAN_LUIS_POTOSI("SP", "San Luis Potosí", "MX-SLP"),
+    SINALOA("SL", "Sinaloa", "MX-SIN"),
+    SONORA("SR", "Sonora", "MX-SON"),
+    TABASCO("TC", "Tabasco", "MX-TAB"),
+    TAMAULIPAS("TS", "Tamaulipas", "MX-TAM"),
+    TLAXCALA("TL", "Tlaxcala", "MX-TLA"),
+    VERACRUZ("VZ", "Veracruz de Ignacio de la Llave", "MX-VER"),
+    YUCATAN("YN", "Yucatán", "MX-YUC"),
+    ZACATECAS("ZS", "Zacatecas", "MX-ZAC"),
+    EXTRANJERO("NE", "Extranjero", null);
+
+    // Entidades indexadas por sus dos letras
+    private static final Region[] BY_CODE = new Region[26 * 26];
+    static {
+        for (Region region : values()) {
+            BY_CODE[index(region.code.charAt(0), region.code.charAt(1))] = region;
+        }
+    }
+
+    private final String code;
+    private final RegionData data;
+
+    Region(String code, String name, String iso) {
+        this.code = code;
+        this.data = new RegionData(name, iso);
+    }
+
+    /**
+     * Busca una entidad por las dos letras que la representan en la CURP.
+     *
+     * @return La entidad, o null si el código es incorrecto.
+     */
+    public static Region fromCode(char first, char second) {
+        if (first < 'A' || first > 'Z' || second < 'A' || second > 'Z') {
+            return null;
+        }
+        return BY_CODE[index(first, second)];
+    }
+
+    /**
+     * Busca una entidad por su código de dos letras, por ejemplo "DF".
+     *
+     * @return La entidad, o null si el código es incorrecto.
+     */
+    public static Region fromCode(CharSequence code) {
+        if (code == null || code.length() != 2) {
+            return null;
+        }
+        return fromCode(code.charAt(0), code.charAt(1));
+    }
+
+    private static int index(char first, char second) {
+        return (first - 'A') * 26 + (second - 'A');
+    }
+
+    /**
+     * @return Las dos letras que representan a la entidad en la CURP.
+     */
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * @return Nombre de la entidad federativa
+     */
+    public String getName() {
+        return data.getName();
+    }
+
+    /**
+     * @return Código ISO de la entidad o null si es extranjero
+     */
+    public String getIso() {
+        return data.getIso();
+    }
+
+    /**
+     * @return True si la entidad corresponde a alguien nacido en el extranjero.
+     */
+    public boolean isExtranjero() {
+        return data.getIso() == null;
+    }
+
+    /**
+     * @return Los datos de la entidad como RegionData.
+     */
+    public RegionData toRegionData() {
+        return data;
+    }
+}
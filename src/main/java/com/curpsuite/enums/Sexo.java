@@ -5,6 +5,13 @@ public enum Sexo {
     HOMBRE(1),
     MUJER(2);
 
+    // Sexo indexado por el carácter que lo representa en la CURP
+    private static final Sexo[] BY_CHAR = new Sexo[128];
+    static {
+        BY_CHAR['H'] = HOMBRE;
+        BY_CHAR['M'] = MUJER;
+    }
+
     private final int value;
 
     Sexo(int value) {
@@ -15,6 +22,16 @@ public enum Sexo {
         return value;
     }
 
+    /**
+     * Obtiene el sexo a partir del carácter que lo representa en la CURP.
+     *
+     * @return HOMBRE para 'H', MUJER para 'M' y DESCONOCIDO para cualquier otro.
+     */
+    public static Sexo fromChar(char c) {
+        Sexo sex = c < BY_CHAR.length ? BY_CHAR[c] : null;
+        return sex != null ? sex : DESCONOCIDO;
+    }
+
     @Override
     public String toString() {
         return name().charAt(0) + "";
@@ -0,0 +1,34 @@
+package com.curpsuite.enums;
+
+/**
+ * Qué tanto se valida una CURP antes de aceptarla.
+ *
+ * Cada nivel incluye las verificaciones de los anteriores, en el mismo
+ * orden que la validación completa, así que el error reportado para una
+ * CURP inválida es el mismo en cualquier nivel que lo detecte.
+ */
+public enum ValidationLevel {
+    /**
+     * Longitud, alfabeto y dígito verificador. Detecta la mayoría de los
+     * errores de captura con una sola pasada por los caracteres.
+     */
+    CHECKSUM,
+
+    /**
+     * Además, fecha de nacimiento, sexo y entidad federativa.
+     */
+    STRUCTURE,
+
+    /**
+     * Además, los caracteres del nombre y apellidos, incluidas las palabras
+     * altisonantes sin censura. Es la validación de {@code new CURP(curp)}.
+     */
+    FULL;
+
+    /**
+     * @return True si este nivel realiza las verificaciones de otro.
+     */
+    public boolean includes(ValidationLevel other) {
+        return compareTo(other) >= 0;
+    }
+}
@@ -9,4 +9,8 @@ public class CURPDateException extends CURPValueException {
     public CURPDateException(String message) {
         super(message);
     }
+
+    public CURPDateException(String message, boolean writableStackTrace) {
+        super(message, writableStackTrace);
+    }
 }
@@ -39,4 +39,18 @@ public class CURPException extends RuntimeException {
     public CURPException(Throwable cause) {
         super(cause);
     }
+
+    /**
+     * Construye una nueva CURPException con el mensaje especificado,
+     * opcionalmente sin traza de pila.
+     *
+     * Una excepción sin traza de pila es mucho más barata de construir,
+     * por lo que conviene cuando una CURP inválida es un resultado esperado.
+     *
+     * @param message El mensaje de error
+     * @param writableStackTrace false para no capturar la traza de pila
+     */
+    public CURPException(String message, boolean writableStackTrace) {
+        super(message, null, true, writableStackTrace);
+    }
 }
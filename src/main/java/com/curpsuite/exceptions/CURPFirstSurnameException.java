@@ -9,4 +9,8 @@ public class CURPFirstSurnameException extends CURPValueException {
     public CURPFirstSurnameException(String message) {
         super(message);
     }
+
+    public CURPFirstSurnameException(String message, boolean writableStackTrace) {
+        super(message, writableStackTrace);
+    }
 }
@@ -9,4 +9,8 @@ public class CURPFullNameException extends CURPValueException {
     public CURPFullNameException(String message) {
         super(message);
     }
+
+    public CURPFullNameException(String message, boolean writableStackTrace) {
+        super(message, writableStackTrace);
+    }
 }
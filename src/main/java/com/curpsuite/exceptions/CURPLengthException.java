@@ -6,4 +6,8 @@ public class CURPLengthException extends CURPValueException {
     public CURPLengthException(String message) {
         super(message);
     }
+
+    public CURPLengthException(String message, boolean writableStackTrace) {
+        super(message, writableStackTrace);
+    }
 }
\ No newline at end of file
@@ -9,4 +9,8 @@ public class CURPNameException extends CURPValueException {
     public CURPNameException(String message) {
         super(message);
     }
+
+    public CURPNameException(String message, boolean writableStackTrace) {
+        super(message, writableStackTrace);
+    }
 }
\ No newline at end of file
@@ -8,4 +8,8 @@ public class CURPRegionException extends CURPValueException {
     public CURPRegionException(String message) {
         super(message);
     }
+
+    public CURPRegionException(String message, boolean writableStackTrace) {
+        super(message, writableStackTrace);
+    }
 }
\ No newline at end of file
@@ -9,4 +9,8 @@ public class CURPSecondSurnameException extends CURPValueException {
     public CURPSecondSurnameException(String message) {
         super(message);
     }
+
+    public CURPSecondSurnameException(String message, boolean writableStackTrace) {
+        super(message, writableStackTrace);
+    }
 }
@@ -9,4 +9,8 @@ public class CURPSexException extends CURPValueException {
     public CURPSexException(String message) {
         super(message);
     }
+
+    public CURPSexException(String message, boolean writableStackTrace) {
+        super(message, writableStackTrace);
+    }
 }
@@ -9,4 +9,8 @@ public class CURPValueException extends CURPException {
     public CURPValueException(String message) {
         super(message);
     }
+
+    public CURPValueException(String message, boolean writableStackTrace) {
+        super(message, writableStackTrace);
+    }
 }
\ No newline at end of file
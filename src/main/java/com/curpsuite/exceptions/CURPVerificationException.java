@@ -9,4 +9,8 @@ public class CURPVerificationException extends CURPValueException {
     public CURPVerificationException(String message) {
         super(message);
     }
+
+    public CURPVerificationException(String message, boolean writableStackTrace) {
+        super(message, writableStackTrace);
+    }
 }
@@ -0,0 +1,160 @@
+package com.curpsuite.metrics;
+
+import com.curpsuite.enums.CURPStatus;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contadores y latencias de la validación de CURPs.
+ *
+ * Se activa con {@code CURP.setMetrics(new CURPMetrics())} o al iniciar con
+ * {@code -Dcurpsuite.metrics=true}; desde entonces cada validación de
+ * {@code CURP} (constructores, {@code parse}, {@code validate} y
+ * {@code CURPView}) cuenta su resultado.
+ *
+ * Contar cuesta un incremento de un {@link LongAdder}. Medir la latencia
+ * necesita leer el reloj antes y después de cada etapa, así que sólo se mide
+ * una de cada {@link #getTimingRate()} validaciones, elegida al azar; los
+ * percentiles de esa muestra representan a todas.
+ *
+ * Uso:
+ * <pre>
+ * {@code
+ * CURPMetrics metrics = new CURPMetrics();
+ * CURP.setMetrics(metrics);
+ * // ...
+ * MetricsSnapshot snapshot = metrics.snapshot();
+ * System.out.println(snapshot.getFailureRate() + " " + snapshot.getLatency().getP99());
+ * }
+ * </pre>
+ */
+public final class CURPMetrics {
+    /**
+     * Medir la latencia de una de cada este número de validaciones.
+     */
+    public static final int DEFAULT_TIMING_RATE = 128;
+
+    private static final CURPStatus[] STATUSES = CURPStatus.values();
+    private static final ValidationStage[] STAGES = ValidationStage.values();
+
+    private final int timingMask;
+    private final LongAdder[] results = new LongAdder[STATUSES.length];
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LatencyHistogram[] stages = new LatencyHistogram[STAGES.length];
+    private volatile long since = System.nanoTime();
+
+    /**
+     * Construye métricas que miden una de cada {@link #DEFAULT_TIMING_RATE} validaciones.
+     */
+    public CURPMetrics() {
+        this(DEFAULT_TIMING_RATE);
+    }
+
+    /**
+     * @param timingRate Medir la latencia de una de cada este número de
+     *                   validaciones; se redondea a una potencia de dos.
+     *                   1 mide todas.
+     */
+    public CURPMetrics(int timingRate) {
+        if (timingRate < 1) {
+            throw new IllegalArgumentException("La frecuencia de medición debe ser al menos 1");
+        }
+        int rate = Integer.highestOneBit(timingRate);
+        this.timingMask = (rate < timingRate ? rate << 1 : rate) - 1;
+
+        for (int i = 0; i < results.length; i++) {
+            results[i] = new LongAdder();
+        }
+        for (int i = 0; i < stages.length; i++) {
+            stages[i] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * @return Una de cada cuántas validaciones se mide la latencia.
+     */
+    public int getTimingRate() {
+        return timingMask + 1;
+    }
+
+    /**
+     * Decide si la validación que va a empezar debe medirse.
+     *
+     * @return True para una de cada {@link #getTimingRate()} llamadas, en promedio.
+     */
+    public boolean shouldTime() {
+        return (ThreadLocalRandom.current().nextInt() & timingMask) == 0;
+    }
+
+    /**
+     * Cuenta el resultado de una validación que no se midió.
+     */
+    public void record(CURPStatus status) {
+        results[status.ordinal()].increment();
+    }
+
+    /**
+     * Cuenta el resultado de una validación y su latencia total.
+     *
+     * @param nanos Duración de la validación, en nanosegundos.
+     */
+    public void record(CURPStatus status, long nanos) {
+        results[status.ordinal()].increment();
+        latency.record(nanos);
+    }
+
+    /**
+     * Registra la latencia de una etapa de una validación que se está midiendo.
+     *
+     * @param nanos Duración de la etapa, en nanosegundos.
+     */
+    public void recordStage(ValidationStage stage, long nanos) {
+        stages[stage.ordinal()].record(nanos);
+    }
+
+    /**
+     * @return Copia de las métricas desde que se construyeron o desde el último reinicio.
+     */
+    public MetricsSnapshot snapshot() {
+        return read(false);
+    }
+
+    /**
+     * Copia las métricas y las reinicia, para reportarlas por intervalos.
+     *
+     * Una validación que termina mientras se reinicia puede contarse en
+     * esta copia o en la siguiente.
+     */
+    public MetricsSnapshot snapshotAndReset() {
+        return read(true);
+    }
+
+    /**
+     * Reinicia todos los contadores y latencias.
+     */
+    public void reset() {
+        read(true);
+    }
+
+    private MetricsSnapshot read(boolean reset) {
+        long now = System.nanoTime();
+        long start = since;
+        if (reset) {
+            since = now;
+        }
+
+        long[] counts = new long[results.length];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = reset ? results[i].sumThenReset() : results[i].sum();
+        }
+
+        HistogramSnapshot total = reset ? latency.snapshotAndReset() : latency.snapshot();
+        HistogramSnapshot[] perStage = new HistogramSnapshot[stages.length];
+        for (int i = 0; i < perStage.length; i++) {
+            perStage[i] = reset ? stages[i].snapshotAndReset() : stages[i].snapshot();
+        }
+
+        return new MetricsSnapshot(now - start, counts, total, perStage);
+    }
+}
@@ -0,0 +1,42 @@
+package com.curpsuite.metrics;
+
+import java.util.Map;
+
+/**
+ * Atributos JMX de las métricas de validación que publica {@link JmxMetricsSink}.
+ *
+ * Todos corresponden al último intervalo publicado; las latencias están en
+ * nanosegundos.
+ */
+public interface CURPMetricsMXBean {
+    long getValidations();
+
+    double getValidationsPerSecond();
+
+    long getFailures();
+
+    double getFailureRate();
+
+    /**
+     * @return Fallos por nombre simple de la clase de excepción.
+     */
+    Map<String, Long> getFailuresByException();
+
+    long getLatencyP50();
+
+    long getLatencyP99();
+
+    long getLatencyP999();
+
+    long getLatencyMax();
+
+    /**
+     * @return Percentiles de cada etapa, con claves como {@code CHECKSUM.p99}.
+     */
+    Map<String, Long> getStageLatencies();
+
+    /**
+     * @return Duración del último intervalo, en milisegundos.
+     */
+    long getIntervalMillis();
+}
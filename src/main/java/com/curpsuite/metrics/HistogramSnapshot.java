@@ -0,0 +1,95 @@
+package com.curpsuite.metrics;
+
+/**
+ * Copia inmutable de un {@link LatencyHistogram}, con sus percentiles.
+ *
+ * Los percentiles se calculan a partir de las cubetas, así que son el punto
+ * medio de la cubeta donde cae el valor, nunca mayores al máximo registrado.
+ */
+public final class HistogramSnapshot {
+    private final long[] buckets;
+    private final long count;
+    private final long sum;
+    private final long max;
+
+    HistogramSnapshot(long[] buckets, long count, long sum, long max) {
+        this.buckets = buckets;
+        this.count = count;
+        this.sum = sum;
+        this.max = max;
+    }
+
+    /**
+     * @return Número de valores registrados.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return Suma de los valores registrados, en nanosegundos.
+     */
+    public long getSum() {
+        return sum;
+    }
+
+    /**
+     * @return Promedio en nanosegundos, o 0 si no hay valores.
+     */
+    public double getMean() {
+        return count > 0 ? (double) sum / count : 0;
+    }
+
+    /**
+     * @return Mayor valor registrado, en nanosegundos.
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Valor por debajo del cual queda cierta fracción de los registrados.
+     *
+     * @param quantile Fracción entre 0 y 1; por ejemplo 0.99 para el percentil 99.
+     * @return El valor en nanosegundos, o 0 si no hay valores.
+     */
+    public long getValueAtQuantile(double quantile) {
+        if (!(quantile >= 0 && quantile <= 1)) {
+            throw new IllegalArgumentException("El cuantil debe estar entre 0 y 1");
+        }
+
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                long lower = LatencyHistogram.lowerBound(i);
+                long middle = lower + (LatencyHistogram.upperBound(i) - lower) / 2;
+                return max > 0 ? Math.min(middle, max) : middle;
+            }
+        }
+        return max;
+    }
+
+    public long getP50() {
+        return getValueAtQuantile(0.5);
+    }
+
+    public long getP99() {
+        return getValueAtQuantile(0.99);
+    }
+
+    public long getP999() {
+        return getValueAtQuantile(0.999);
+    }
+
+    @Override
+    public String toString() {
+        return "count=" + count + " p50=" + getP50() + "ns p99=" + getP99()
+                + "ns p999=" + getP999() + "ns max=" + max + "ns";
+    }
+}
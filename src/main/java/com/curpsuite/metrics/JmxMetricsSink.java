@@ -0,0 +1,153 @@
+package com.curpsuite.metrics;
+
+import com.curpsuite.exceptions.CURPException;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Destino de métricas que las expone como MXBean, para JConsole, VisualVM
+ * o un exportador de JMX.
+ *
+ * Guarda la última copia publicada; los atributos cambian con cada
+ * publicación del {@link MetricsReporter}.
+ */
+public final class JmxMetricsSink implements MetricsSink, CURPMetricsMXBean {
+    /**
+     * Nombre con el que se registra por omisión.
+     */
+    public static final String DEFAULT_NAME = "com.curpsuite:type=CURPMetrics";
+
+    private static final MetricsSnapshot EMPTY = new CURPMetrics().snapshot();
+
+    private final ObjectName name;
+    private volatile MetricsSnapshot last = EMPTY;
+
+    private JmxMetricsSink(ObjectName name) {
+        this.name = name;
+    }
+
+    /**
+     * Registra un destino en el servidor de MBeans de la plataforma con {@link #DEFAULT_NAME}.
+     */
+    public static JmxMetricsSink register() {
+        return register(DEFAULT_NAME);
+    }
+
+    /**
+     * Registra un destino en el servidor de MBeans de la plataforma.
+     *
+     * @param name Nombre del MBean, como {@code com.curpsuite:type=CURPMetrics,name=api}.
+     * @throws IllegalStateException Si ya hay un MBean con ese nombre o no se puede registrar.
+     */
+    public static JmxMetricsSink register(String name) {
+        try {
+            JmxMetricsSink sink = new JmxMetricsSink(new ObjectName(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(sink, sink.name);
+            return sink;
+        } catch (InstanceAlreadyExistsException e) {
+            throw new IllegalStateException("Ya existe un MBean llamado " + name, e);
+        } catch (JMException e) {
+            throw new IllegalStateException("No se pudo registrar el MBean " + name, e);
+        }
+    }
+
+    /**
+     * Quita el MBean del servidor de la plataforma.
+     */
+    public void unregister() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("No se pudo quitar el MBean " + name, e);
+        }
+    }
+
+    @Override
+    public void publish(MetricsSnapshot snapshot) {
+        last = snapshot;
+    }
+
+    /**
+     * @return La última copia publicada.
+     */
+    public MetricsSnapshot getLastSnapshot() {
+        return last;
+    }
+
+    @Override
+    public long getValidations() {
+        return last.getValidations();
+    }
+
+    @Override
+    public double getValidationsPerSecond() {
+        return last.getValidationsPerSecond();
+    }
+
+    @Override
+    public long getFailures() {
+        return last.getFailures();
+    }
+
+    @Override
+    public double getFailureRate() {
+        return last.getFailureRate();
+    }
+
+    @Override
+    public Map<String, Long> getFailuresByException() {
+        Map<String, Long> failures = new LinkedHashMap<>();
+        for (Map.Entry<Class<? extends CURPException>, Long> entry : last.getFailuresByException().entrySet()) {
+            failures.put(entry.getKey().getSimpleName(), entry.getValue());
+        }
+        return Collections.unmodifiableMap(failures);
+    }
+
+    @Override
+    public long getLatencyP50() {
+        return last.getLatency().getP50();
+    }
+
+    @Override
+    public long getLatencyP99() {
+        return last.getLatency().getP99();
+    }
+
+    @Override
+    public long getLatencyP999() {
+        return last.getLatency().getP999();
+    }
+
+    @Override
+    public long getLatencyMax() {
+        return last.getLatency().getMax();
+    }
+
+    @Override
+    public Map<String, Long> getStageLatencies() {
+        MetricsSnapshot snapshot = last;
+        Map<String, Long> latencies = new LinkedHashMap<>();
+        for (ValidationStage stage : ValidationStage.values()) {
+            HistogramSnapshot histogram = snapshot.getLatency(stage);
+            latencies.put(stage + ".p50", histogram.getP50());
+            latencies.put(stage + ".p99", histogram.getP99());
+            latencies.put(stage + ".p999", histogram.getP999());
+        }
+        return Collections.unmodifiableMap(latencies);
+    }
+
+    @Override
+    public long getIntervalMillis() {
+        return last.getIntervalNanos() / 1_000_000;
+    }
+}
@@ -0,0 +1,75 @@
+package com.curpsuite.metrics;
+
+import java.io.Closeable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publica periódicamente las métricas de un intervalo en un {@link MetricsSink}.
+ *
+ * Cada publicación reinicia las métricas, así que cada copia cubre sólo
+ * su intervalo. Usa un hilo daemon propio.
+ *
+ * Uso:
+ * <pre>
+ * {@code
+ * JmxMetricsSink jmx = JmxMetricsSink.register();
+ * MetricsReporter reporter = MetricsReporter.start(metrics, jmx, 10, TimeUnit.SECONDS);
+ * }
+ * </pre>
+ */
+public final class MetricsReporter implements Closeable {
+    private final CURPMetrics metrics;
+    private final MetricsSink sink;
+    private final ScheduledExecutorService scheduler;
+
+    private MetricsReporter(CURPMetrics metrics, MetricsSink sink) {
+        this.metrics = metrics;
+        this.sink = sink;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "curpsuite-metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Empieza a publicar las métricas cada cierto periodo.
+     *
+     * @param metrics Métricas a publicar.
+     * @param sink Destino de las métricas.
+     * @param period Periodo entre publicaciones.
+     * @param unit Unidad del periodo.
+     * @return El reporteador, que se detiene con {@link #close()}.
+     */
+    public static MetricsReporter start(CURPMetrics metrics, MetricsSink sink, long period, TimeUnit unit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("El periodo debe ser positivo");
+        }
+        MetricsReporter reporter = new MetricsReporter(metrics, sink);
+        metrics.reset();
+        reporter.scheduler.scheduleAtFixedRate(reporter::report, period, period, unit);
+        return reporter;
+    }
+
+    /**
+     * Publica las métricas acumuladas hasta ahora, sin esperar al periodo.
+     */
+    public void report() {
+        try {
+            sink.publish(metrics.snapshotAndReset());
+        } catch (RuntimeException e) {
+            // Un fallo del destino no debe detener las siguientes publicaciones
+        }
+    }
+
+    /**
+     * Deja de publicar. Las métricas acumuladas desde la última publicación
+     * no se publican.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
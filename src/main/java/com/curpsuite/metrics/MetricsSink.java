@@ -0,0 +1,15 @@
+package com.curpsuite.metrics;
+
+/**
+ * Destino de las métricas que publica un {@link MetricsReporter}: un
+ * sistema de monitoreo, un registro, o {@link JmxMetricsSink}.
+ */
+@FunctionalInterface
+public interface MetricsSink {
+    /**
+     * Recibe las métricas de un intervalo.
+     *
+     * Se llama desde el hilo del reporteador, nunca desde varios a la vez.
+     */
+    void publish(MetricsSnapshot snapshot);
+}
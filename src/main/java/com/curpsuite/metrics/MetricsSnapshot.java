@@ -0,0 +1,138 @@
+package com.curpsuite.metrics;
+
+import com.curpsuite.enums.CURPStatus;
+import com.curpsuite.exceptions.CURPException;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Copia inmutable de {@link CURPMetrics} en un intervalo: desde que se
+ * construyeron las métricas o desde el último reinicio.
+ */
+public final class MetricsSnapshot {
+    private static final CURPStatus[] STATUSES = CURPStatus.values();
+
+    private final long intervalNanos;
+    private final long[] counts;
+    private final HistogramSnapshot latency;
+    private final HistogramSnapshot[] stages;
+
+    MetricsSnapshot(long intervalNanos, long[] counts, HistogramSnapshot latency, HistogramSnapshot[] stages) {
+        this.intervalNanos = intervalNanos;
+        this.counts = counts;
+        this.latency = latency;
+        this.stages = stages;
+    }
+
+    /**
+     * @return Duración del intervalo, en nanosegundos.
+     */
+    public long getIntervalNanos() {
+        return intervalNanos;
+    }
+
+    /**
+     * @return Número de validaciones, válidas o no.
+     */
+    public long getValidations() {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * @return Validaciones por segundo en el intervalo.
+     */
+    public double getValidationsPerSecond() {
+        return intervalNanos > 0 ? getValidations() * 1e9 / intervalNanos : 0;
+    }
+
+    /**
+     * @return Número de validaciones con cierto resultado.
+     */
+    public long getCount(CURPStatus status) {
+        return counts[status.ordinal()];
+    }
+
+    /**
+     * @return Número de CURPs inválidas.
+     */
+    public long getFailures() {
+        return getValidations() - counts[CURPStatus.VALID.ordinal()];
+    }
+
+    /**
+     * @return Fracción de validaciones que fallaron, entre 0 y 1.
+     */
+    public double getFailureRate() {
+        long total = getValidations();
+        return total > 0 ? (double) getFailures() / total : 0;
+    }
+
+    /**
+     * @return Número de validaciones por cada error, sólo los que ocurrieron.
+     */
+    public Map<CURPStatus, Long> getFailuresByStatus() {
+        Map<CURPStatus, Long> failures = new EnumMap<>(CURPStatus.class);
+        for (CURPStatus status : STATUSES) {
+            if (status != CURPStatus.VALID && counts[status.ordinal()] > 0) {
+                failures.put(status, counts[status.ordinal()]);
+            }
+        }
+        return Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * Número de fallos por cada subclase de {@link CURPException} que
+     * corresponde a los errores; varios errores comparten
+     * {@code CURPValueException}.
+     *
+     * @return Fallos por clase de excepción, sólo las que ocurrieron.
+     */
+    public Map<Class<? extends CURPException>, Long> getFailuresByException() {
+        Map<Class<? extends CURPException>, Long> failures = new LinkedHashMap<>();
+        for (CURPStatus status : STATUSES) {
+            long count = counts[status.ordinal()];
+            if (status != CURPStatus.VALID && count > 0) {
+                failures.merge(exceptionOf(status), count, Long::sum);
+            }
+        }
+        return Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * @return Latencia total de las validaciones medidas.
+     */
+    public HistogramSnapshot getLatency() {
+        return latency;
+    }
+
+    /**
+     * @return Latencia de una etapa en las validaciones medidas que llegaron a ella.
+     */
+    public HistogramSnapshot getLatency(ValidationStage stage) {
+        return stages[stage.ordinal()];
+    }
+
+    private static Class<? extends CURPException> exceptionOf(CURPStatus status) {
+        return status.toException(false).getClass();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("validaciones=").append(getValidations())
+          .append(String.format(" (%.0f/s)", getValidationsPerSecond()))
+          .append(" fallos=").append(getFailures())
+          .append(" latencia: ").append(latency);
+        for (ValidationStage stage : ValidationStage.values()) {
+            sb.append("; ").append(stage).append(": ").append(stages[stage.ordinal()]);
+        }
+        return sb.toString();
+    }
+}
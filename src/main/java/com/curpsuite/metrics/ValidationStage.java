@@ -0,0 +1,31 @@
+package com.curpsuite.metrics;
+
+/**
+ * Etapas de la validación de una CURP cuya latencia se mide por separado.
+ */
+public enum ValidationStage {
+    /**
+     * Longitud, alfabeto y dígito verificador.
+     */
+    CHECKSUM,
+
+    /**
+     * Caracteres y validez de la fecha de nacimiento.
+     */
+    DATE,
+
+    /**
+     * Sexo y entidad federativa.
+     */
+    REGION,
+
+    /**
+     * Caracteres del nombre y apellidos, incluidas las palabras altisonantes.
+     */
+    NAME_CHARS,
+
+    /**
+     * Comparación del nombre y apellidos proporcionados con la CURP.
+     */
+    NAMES
+}
@@ -0,0 +1,98 @@
+package com.curpsuite.utils;
+
+import java.util.SplittableRandom;
+
+/**
+ * Elige índices al azar según una lista de pesos, en tiempo constante.
+ *
+ * Usa el método de alias de Vose: cada índice tiene una probabilidad de
+ * quedarse y un índice alternativo, así que cada muestra sólo necesita
+ * un número aleatorio entero y uno real, sin importar cuántos pesos haya.
+ */
+public final class AliasSampler {
+    private final double[] probability;
+    private final int[] alias;
+
+    /**
+     * @param weights Peso de cada índice; no negativos y con suma positiva.
+     */
+    public AliasSampler(double[] weights) {
+        int n = weights.length;
+        double total = 0;
+        for (double weight : weights) {
+            if (!(weight >= 0) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("Los pesos deben ser números no negativos");
+            }
+            total += weight;
+        }
+        if (n == 0 || total <= 0) {
+            throw new IllegalArgumentException("La suma de los pesos debe ser positiva");
+        }
+
+        probability = new double[n];
+        alias = new int[n];
+
+        // Pesos escalados para que el promedio sea 1, separados en menores y mayores
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            if (scaled[i] < 1) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1;
+            if (scaled[more] < 1) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+
+        // Lo que queda es 1 salvo por errores de redondeo
+        while (largeCount > 0) {
+            probability[large[--largeCount]] = 1;
+        }
+        while (smallCount > 0) {
+            probability[small[--smallCount]] = 1;
+        }
+    }
+
+    /**
+     * Pesos de una distribución de Zipf: el índice {@code i} tiene peso
+     * {@code 1 / (i + 1)^exponent}. Con exponente 0 todos pesan lo mismo.
+     */
+    public static AliasSampler zipf(int size, double exponent) {
+        double[] weights = new double[size];
+        for (int i = 0; i < size; i++) {
+            weights[i] = 1 / Math.pow(i + 1, exponent);
+        }
+        return new AliasSampler(weights);
+    }
+
+    /**
+     * @return Un índice entre 0 y {@link #size()} - 1.
+     */
+    public int sample(SplittableRandom random) {
+        int i = random.nextInt(probability.length);
+        return random.nextDouble() < probability[i] ? i : alias[i];
+    }
+
+    /**
+     * @return Número de índices.
+     */
+    public int size() {
+        return probability.length;
+    }
+}
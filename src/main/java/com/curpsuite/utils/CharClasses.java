@@ -0,0 +1,126 @@
+package com.curpsuite.utils;
+
+import com.curpsuite.enums.CURPChar;
+
+import java.util.Arrays;
+
+/**
+ * Tablas precalculadas con la clase de cada carácter que puede aparecer en una CURP.
+ *
+ * Cada carácter Latin-1 tiene un conjunto de bits con sus clases (dígito,
+ * letra, vocal, consonante, sexo) y su valor en el alfabeto de la CURP, de
+ * modo que clasificar un carácter es una sola lectura de un arreglo en lugar
+ * de recorrer {@link WordFeautres#VOWELS}, {@link WordFeautres#CONSONANTS}
+ * o el alfabeto con {@code indexOf}.
+ */
+public final class CharClasses {
+    /** Dígito del 0 al 9. */
+    public static final int DIGIT = 1;
+    /** Letra mayúscula de la A a la Z, o Ñ. */
+    public static final int LETTER = 1 << 1;
+    /** Vocal: {@link WordFeautres#VOWELS}. */
+    public static final int VOWEL = 1 << 2;
+    /** Vocal interna del primer apellido en la CURP: una vocal o X. */
+    public static final int INTERNAL_VOWEL = 1 << 3;
+    /** Consonante: {@link WordFeautres#CONSONANTS}. */
+    public static final int CONSONANT = 1 << 4;
+    /** Carácter de sexo: H o M. */
+    public static final int SEX = 1 << 5;
+
+    private static final int TABLE_SIZE = 256;
+    private static final int LENGTH = 18;
+
+    private static final byte[] CLASSES = new byte[TABLE_SIZE];
+    private static final byte[] VALUES = new byte[TABLE_SIZE];
+
+    // Clases permitidas en cada posición de la CURP
+    private static final int[] POSITIONS = new int[LENGTH];
+
+    static {
+        String charset = "0123456789ABCDEFGHIJKLMNÑOPQRSTUVWXYZ";
+        Arrays.fill(VALUES, (byte) -1);
+        for (int i = 0; i < charset.length(); i++) {
+            VALUES[charset.charAt(i)] = (byte) i;
+        }
+
+        for (char c = '0'; c <= '9'; c++) {
+            CLASSES[c] |= DIGIT;
+        }
+        for (char c = 'A'; c <= 'Z'; c++) {
+            CLASSES[c] |= LETTER;
+        }
+        CLASSES['Ñ'] |= LETTER;
+
+        mark(WordFeautres.VOWELS, VOWEL);
+        mark(WordFeautres.VOWELS + "X", INTERNAL_VOWEL);
+        mark(WordFeautres.CONSONANTS, CONSONANT);
+        mark("HM", SEX);
+
+        for (int i = 0; i < LENGTH; i++) {
+            POSITIONS[i] = DIGIT | LETTER;
+        }
+        POSITIONS[CURPChar.SURNAME_A_CHAR.getValue()] = LETTER;
+        POSITIONS[CURPChar.SURNAME_A_VOWEL.getValue()] = INTERNAL_VOWEL;
+        POSITIONS[CURPChar.SURNAME_B_CHAR.getValue()] = LETTER;
+        POSITIONS[CURPChar.NAME_CHAR.getValue()] = LETTER;
+        for (int i = CURPChar.YEAR_0.getValue(); i <= CURPChar.DAY_1.getValue(); i++) {
+            POSITIONS[i] = DIGIT;
+        }
+        POSITIONS[CURPChar.SEX.getValue()] = SEX;
+        POSITIONS[CURPChar.REGION_0.getValue()] = LETTER;
+        POSITIONS[CURPChar.REGION_1.getValue()] = LETTER;
+        POSITIONS[CURPChar.SURNAME_A_CONSONANT.getValue()] = CONSONANT;
+        POSITIONS[CURPChar.SURNAME_B_CONSONANT.getValue()] = CONSONANT;
+        POSITIONS[CURPChar.NAME_CONSONANT.getValue()] = CONSONANT;
+        POSITIONS[CURPChar.VERIFICATION.getValue()] = DIGIT;
+    }
+
+    private CharClasses() {
+    }
+
+    private static void mark(String chars, int mask) {
+        for (int i = 0; i < chars.length(); i++) {
+            CLASSES[chars.charAt(i)] |= mask;
+        }
+    }
+
+    /**
+     * @return Los bits de clase de un carácter, o 0 si no pertenece a ninguna.
+     */
+    public static int of(char c) {
+        return c < TABLE_SIZE ? CLASSES[c] : 0;
+    }
+
+    /**
+     * @param mask Una o varias clases combinadas con {@code |}.
+     * @return True si el carácter pertenece a alguna de las clases.
+     */
+    public static boolean is(char c, int mask) {
+        return (of(c) & mask) != 0;
+    }
+
+    /**
+     * @param position Posición dentro de la CURP, de 0 a 17.
+     * @return True si el carácter es válido para esa posición.
+     */
+    public static boolean matches(char c, int position) {
+        return (of(c) & POSITIONS[position]) != 0;
+    }
+
+    /**
+     * @param position Posición dentro de la CURP, de 0 a 17.
+     * @return Las clases permitidas en esa posición.
+     */
+    public static int allowed(int position) {
+        return POSITIONS[position];
+    }
+
+    /**
+     * Valor de un carácter en el alfabeto de la CURP.
+     *
+     * @return El equivalente a {@code CHARSET.indexOf(c)}, o -1 si no pertenece al alfabeto.
+     */
+    public static int value(char c) {
+        return c < TABLE_SIZE ? VALUES[c] : -1;
+    }
+}
@@ -0,0 +1,179 @@
+package com.curpsuite.utils;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Normalización de nombres en una sola pasada, con una tabla precalculada.
+ *
+ * Da exactamente el mismo resultado que convertir a mayúsculas, descomponer
+ * con {@link Normalizer.Form#NFD} y eliminar los diacríticos, pero para los
+ * caracteres Latin-1 y Latin Extended-A (hasta U+017F) cada carácter se
+ * resuelve con una lectura de la tabla, sin expresiones regulares ni
+ * Strings intermedios. Si el texto contiene otro carácter se usa el camino
+ * original completo.
+ *
+ * Cada instancia puede además convertir un conjunto de caracteres
+ * especiales en espacios durante la misma pasada:
+ * <pre>
+ * {@code
+ * NameFolding folding = NameFolding.withSeparators(List.of("/", "-", "."));
+ * folding.apply("Peña-Nieto");   // "PENA NIETO"
+ * }
+ * </pre>
+ *
+ * Nótese que la Ñ se descompone en N y tilde antes de cualquier reemplazo,
+ * así que, igual que en el camino original, termina como N.
+ */
+public final class NameFolding {
+    private static final int TABLE_SIZE = 0x180;
+    static final char MULTIPLE = '\uffff';
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{InCombiningDiacriticalMarks}+");
+
+    // Resultado de cada carácter por separado; MULTIPLE si produce más de uno
+    private static final char[] SINGLE = new char[TABLE_SIZE];
+    private static final String[] EXPANDED = new String[TABLE_SIZE];
+
+    static {
+        for (char c = 0; c < TABLE_SIZE; c++) {
+            String folded = slowFold(String.valueOf(c));
+            if (folded.length() == 1 && folded.charAt(0) != MULTIPLE) {
+                SINGLE[c] = folded.charAt(0);
+            } else {
+                SINGLE[c] = MULTIPLE;
+                EXPANDED[c] = folded;
+            }
+        }
+    }
+
+    private static final NameFolding PLAIN = new NameFolding(SINGLE, null);
+
+    private final char[] single;
+    private final List<String> separators;
+
+    private NameFolding(char[] single, List<String> separators) {
+        this.single = single;
+        this.separators = separators;
+    }
+
+    /**
+     * Convierte a mayúsculas y elimina acentos.
+     *
+     * @param text Texto a normalizar.
+     * @return El texto normalizado.
+     */
+    public static String fold(CharSequence text) {
+        return PLAIN.apply(text);
+    }
+
+    /**
+     * Crea una normalización que además reemplaza caracteres especiales por espacios.
+     *
+     * @param separators Caracteres que sirven como separador de palabras.
+     */
+    public static NameFolding withSeparators(List<String> separators) {
+        char[] single = SINGLE.clone();
+        boolean simple = true;
+
+        for (String separator : separators) {
+            if (separator.length() != 1) {
+                simple = false;
+                continue;
+            }
+            // Los reemplazos se aplican sobre el texto ya normalizado,
+            // así que se marcan los caracteres cuyo resultado es el separador
+            for (int c = 0; c < TABLE_SIZE; c++) {
+                if (single[c] == separator.charAt(0)) {
+                    single[c] = ' ';
+                } else if (single[c] == MULTIPLE && EXPANDED[c].indexOf(separator.charAt(0)) >= 0) {
+                    simple = false;
+                }
+            }
+        }
+
+        return new NameFolding(simple ? single : null, List.copyOf(separators));
+    }
+
+    /**
+     * Convierte a mayúsculas, elimina acentos y reemplaza los caracteres
+     * especiales de esta instancia por espacios.
+     *
+     * @param text Texto a normalizar.
+     * @return El texto normalizado.
+     */
+    public String apply(CharSequence text) {
+        if (single == null) {
+            return slowApply(text);
+        }
+
+        int length = text.length();
+        char[] out = new char[length];
+        int count = 0;
+
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c >= TABLE_SIZE) {
+                return slowApply(text);
+            }
+
+            char folded = single[c];
+            if (folded != MULTIPLE) {
+                out[count++] = folded;
+            } else {
+                String expanded = EXPANDED[c];
+                // Espacio para la expansión y para el resto del texto
+                int needed = count + expanded.length() + (length - i - 1);
+                if (needed > out.length) {
+                    out = Arrays.copyOf(out, needed + length);
+                }
+                expanded.getChars(0, expanded.length(), out, count);
+                count += expanded.length();
+            }
+        }
+
+        return new String(out, 0, count);
+    }
+
+    /**
+     * @return El resultado de normalizar un carácter menor a {@link #TABLE_SIZE}
+     *         por sí solo, o {@link #MULTIPLE} si produce varios; ver {@link #expanded(char)}.
+     */
+    static char single(char c) {
+        return SINGLE[c];
+    }
+
+    /**
+     * @return Los caracteres que produce un carácter marcado como {@link #MULTIPLE}.
+     */
+    static String expanded(char c) {
+        return EXPANDED[c];
+    }
+
+    /**
+     * @return True si un carácter puede normalizarse por sí solo con la tabla.
+     */
+    static boolean inTable(char c) {
+        return c < TABLE_SIZE;
+    }
+
+    private String slowApply(CharSequence text) {
+        String word = slowFold(text.toString());
+        if (separators != null) {
+            for (String c : separators) {
+                word = word.replace(c, " ");
+            }
+        }
+        return word;
+    }
+
+    /**
+     * El camino original: mayúsculas, NFD y eliminación de diacríticos.
+     */
+    private static String slowFold(String text) {
+        String normalized = Normalizer.normalize(text.toUpperCase(), Normalizer.Form.NFD);
+        normalized = DIACRITICS.matcher(normalized).replaceAll("");
+        return normalized.replace('Ñ', 'X').replace('ñ', 'X');
+    }
+}
@@ -0,0 +1,225 @@
+package com.curpsuite.utils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caché acotada y segura para varios hilos de los resultados de {@link WordFeautres}.
+ *
+ * Los nombres y apellidos siguen una distribución muy sesgada (HERNANDEZ,
+ * GARCIA, MARIA, JOSE...), así que guardar el carácter, la vocal y la
+ * consonante de cada palabra evita volver a analizarla. Cada resultado se
+ * guarda empacado en un {@code long}; una consulta que acierta es una sola
+ * búsqueda en un {@link ConcurrentHashMap}, sin candados.
+ *
+ * Cuando la caché está llena se desaloja con el algoritmo del reloj
+ * (CLOCK): cada entrada tiene un bit de uso que se enciende al consultarla,
+ * y la manecilla desaloja la primera entrada cuyo bit esté apagado,
+ * apagando los que encuentra en el camino.
+ *
+ * Las palabras se guardan ya normalizadas con {@link NameFolding}, que es
+ * lo primero que hace {@link WordFeautres}, así que "María", "MARIA" y
+ * "maria" comparten una sola entrada.
+ *
+ * Una caché corresponde a una lista de palabras ignoradas y de caracteres
+ * especiales en particular.
+ */
+public final class WordFeaturesCache {
+    /**
+     * Características empacadas de una palabra ausente, como un segundo
+     * apellido vacío: X como carácter, vocal y consonante.
+     */
+    public static final long ABSENT = pack('X', 'X', 'X');
+
+    private final int capacity;
+    private final List<String> ignoredWords;
+    private final List<String> specialChars;
+    private final NameFolding folding;
+
+    private final ConcurrentHashMap<String, Entry> entries;
+
+    // Reloj de desalojo, protegido por el candado de la instancia
+    private final String[] clock;
+    private int hand;
+    private int count;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Construye una caché vacía.
+     *
+     * @param capacity Número máximo de palabras guardadas.
+     * @param ignoredWords Lista de palabras ignoradas que se pasa a {@link WordFeautres}.
+     * @param specialChars Lista de caracteres especiales que se pasa a {@link WordFeautres}.
+     */
+    public WordFeaturesCache(int capacity, List<String> ignoredWords, List<String> specialChars) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("La capacidad debe ser al menos 1");
+        }
+        this.capacity = capacity;
+        this.ignoredWords = ignoredWords;
+        this.specialChars = specialChars;
+        this.folding = NameFolding.withSeparators(specialChars);
+        this.entries = new ConcurrentHashMap<>(capacity * 4 / 3 + 1);
+        this.clock = new String[capacity];
+    }
+
+    /**
+     * Obtiene las características de una palabra, analizándola sólo si no
+     * está en la caché.
+     *
+     * @param word Palabra a analizar.
+     * @return El carácter, la vocal y la consonante empacados; ver {@link #pack(WordFeautres)}.
+     */
+    public long features(String word) {
+        // Las características dependen sólo de la palabra normalizada
+        String key = folding.apply(word);
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            if (!entry.referenced) {
+                entry.referenced = true;
+            }
+            hits.increment();
+            return entry.features;
+        }
+
+        misses.increment();
+        long features = pack(new WordFeautres(word, ignoredWords, specialChars));
+        insert(key, new Entry(features));
+        return features;
+    }
+
+    private synchronized void insert(String word, Entry entry) {
+        if (entries.putIfAbsent(word, entry) != null) {
+            return;
+        }
+
+        if (count < capacity) {
+            clock[count++] = word;
+            return;
+        }
+
+        // Avanzar la manecilla hasta encontrar una entrada sin usar
+        while (true) {
+            Entry candidate = entries.get(clock[hand]);
+            if (candidate != null && candidate.referenced) {
+                candidate.referenced = false;
+                hand = (hand + 1) % capacity;
+            } else {
+                entries.remove(clock[hand]);
+                evictions.increment();
+                clock[hand] = word;
+                hand = (hand + 1) % capacity;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Vacía la caché. Los contadores se conservan.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        Arrays.fill(clock, null);
+        hand = 0;
+        count = 0;
+    }
+
+    /**
+     * Empaca las características de una palabra en un long.
+     */
+    public static long pack(WordFeautres features) {
+        return pack(features.getChar(), features.getVowel(), features.getConsonant());
+    }
+
+    /**
+     * Empaca un carácter, una vocal y una consonante en un long.
+     */
+    public static long pack(char character, char vowel, char consonant) {
+        return (long) character << 32 | (long) vowel << 16 | consonant;
+    }
+
+    /**
+     * @return El primer carácter de unas características empacadas.
+     */
+    public static char charOf(long features) {
+        return (char) (features >>> 32);
+    }
+
+    /**
+     * @return La primera vocal interna de unas características empacadas.
+     */
+    public static char vowelOf(long features) {
+        return (char) (features >>> 16);
+    }
+
+    /**
+     * @return La primera consonante interna de unas características empacadas.
+     */
+    public static char consonantOf(long features) {
+        return (char) features;
+    }
+
+    /**
+     * @return Número máximo de palabras guardadas.
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return Número de palabras guardadas.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return Número de consultas que encontraron la palabra en la caché.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return Número de consultas que tuvieron que analizar la palabra.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return Número de palabras desalojadas para hacer espacio.
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return Proporción de consultas que encontraron la palabra, de 0 a 1.
+     */
+    public double hitRate() {
+        long hits = getHits();
+        long total = hits + getMisses();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("<WordFeaturesCache size=%d capacity=%d hits=%d misses=%d evictions=%d>",
+                size(), capacity, getHits(), getMisses(), getEvictions());
+    }
+
+    private static final class Entry {
+        final long features;
+        volatile boolean referenced;
+
+        Entry(long features) {
+            this.features = features;
+        }
+    }
+}
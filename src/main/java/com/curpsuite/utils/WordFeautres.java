@@ -1,12 +1,13 @@
 package com.curpsuite.utils;
 
-import java.text.Normalizer;
 import java.util.List;
 
 public class WordFeautres {
     public static final String VOWELS = "AEIOU";
     public static final String CONSONANTS = "BCDFGHJKLMNÑPQRSTVWXYZ";
 
+    private static volatile CachedFolding lastFolding;
+
     private final char character;
     private final char vowel;
     private final char consonant;
@@ -23,24 +24,22 @@ public class WordFeautres {
         char character1;
         character1 = 'X';
 
-        // Reemplazar Ñ's y normalizar
-        word = normalizeWord(word.toUpperCase());
-
-        // Reemplazar caracteres especiales con espacios
-        for (String c : specialChars) {
-            word = word.replace(c, " ");
-        }
+        // Normalizar y reemplazar caracteres especiales con espacios
+        word = folding(specialChars).apply(word);
 
         // Remover preposiciones, conjunciones, etc.
-        String[] pieces = word.split("\\s+");
+        // Una sola palabra sin espacios ni caracteres de control queda igual
+        String[] pieces = isSingleWord(word) ? null : word.split("\\s+");
 
-        if (pieces.length > 0) {
+        if (pieces == null) {
+            character1 = word.charAt(0);
+        } else if (pieces.length > 0) {
             // Preservar última palabra
             StringBuilder sb = new StringBuilder();
 
             // Agregar todas las palabras que no son ignoradas excepto la última
             for (int i = 0; i < pieces.length - 1; i++) {
-                if (!ignoredWords.contains(normalizeWord(pieces[i]))) {
+                if (!ignoredWords.contains(NameFolding.fold(pieces[i]))) {
                     sb.append(pieces[i]).append(" ");
                 }
             }
@@ -51,9 +50,11 @@ public class WordFeautres {
             String processedWord = sb.toString().trim();
             pieces = processedWord.split("\\s+");
 
-            // Usar primera palabra
+            // Usar primera palabra; un apellido vacío se representa con X
             word = pieces[0];
-            character1 = word.charAt(0);
+            if (!word.isEmpty()) {
+                character1 = word.charAt(0);
+            }
         } else {
             word = "";
         }
@@ -61,8 +62,8 @@ public class WordFeautres {
         // Asegurarse que word tenga al menos 1 caracter para evitar errores
         this.character = character1;
         if (word.length() > 1) {
-            this.vowel = findVowel(word.substring(1));
-            this.consonant = findConsonant(word.substring(1));
+            this.vowel = findVowel(word);
+            this.consonant = findConsonant(word);
         } else {
             this.vowel = 'X';
             this.consonant = 'X';
@@ -70,28 +71,42 @@ public class WordFeautres {
     }
 
     /**
-     * Normaliza una palabra eliminando acentos y reemplazando "Ñ" con "X".
-     *
-     * @param word La palabra a normalizar
-     * @return La palabra normalizada
+     * Normalización para una lista de caracteres especiales. Se conserva la
+     * última usada, que casi siempre es la misma lista de {@code CURP}.
+     */
+    private static NameFolding folding(List<String> specialChars) {
+        CachedFolding cached = lastFolding;
+        if (cached == null || (cached.specialChars != specialChars && !cached.specialChars.equals(specialChars))) {
+            cached = new CachedFolding(specialChars, NameFolding.withSeparators(specialChars));
+            lastFolding = cached;
+        }
+        return cached.folding;
+    }
+
+    /**
+     * @return True si la palabra no está vacía y no tiene caracteres que
+     *         {@code split("\\s+")} o {@code trim()} fueran a quitar.
      */
-    private String normalizeWord(String word) {
-        String normalized = Normalizer.normalize(word, Normalizer.Form.NFD)
-                .replaceAll("\\p{InCombiningDiacriticalMarks}+", "");
-        return normalized.replace('Ñ', 'X').replace('ñ', 'X');
+    private static boolean isSingleWord(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (word.charAt(i) <= ' ') {
+                return false;
+            }
+        }
+        return !word.isEmpty();
     }
 
     /**
-     * Encuentra cualquier carácter de un conjunto en una palabra.
+     * Encuentra cualquier carácter de una clase en una palabra, sin contar el primero.
      *
-     * @param charset El conjunto de caracteres a buscar
+     * @param charClass La clase de caracteres a buscar, de {@link CharClasses}
      * @param word La palabra donde buscar
      * @return El primer carácter encontrado o "X" si no hay coincidencias
      */
-    private static char findChar(String charset, String word) {
-        for (int i = 0; i < word.length(); i++) {
+    private static char findChar(int charClass, String word) {
+        for (int i = 1; i < word.length(); i++) {
             char c = word.charAt(i);
-            if (charset.indexOf(c) >= 0) {
+            if (CharClasses.is(c, charClass)) {
                 return c;
             }
         }
@@ -99,23 +114,23 @@ public class WordFeautres {
     }
 
     /**
-     * Encuentra la primera vocal en una palabra.
+     * Encuentra la primera vocal interna en una palabra.
      *
      * @param word La palabra donde buscar
      * @return La primera vocal encontrada o "X" si no hay coincidencias
      */
     private static char findVowel(String word) {
-        return findChar(VOWELS, word);
+        return findChar(CharClasses.VOWEL, word);
     }
 
     /**
-     * Encuentra la primera consonante en una palabra.
+     * Encuentra la primera consonante interna en una palabra.
      *
      * @param word La palabra donde buscar
      * @return La primera consonante encontrada o "X" si no hay coincidencias
      */
     private static char findConsonant(String word) {
-        return findChar(CONSONANTS, word);
+        return findChar(CharClasses.CONSONANT, word);
     }
 
     /**
@@ -138,4 +153,14 @@ public class WordFeautres {
     public char getConsonant() {
         return consonant;
     }
+
+    private static final class CachedFolding {
+        final List<String> specialChars;
+        final NameFolding folding;
+
+        CachedFolding(List<String> specialChars, NameFolding folding) {
+            this.specialChars = specialChars;
+            this.folding = folding;
+        }
+    }
 }
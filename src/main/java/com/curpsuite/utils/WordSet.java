@@ -0,0 +1,169 @@
+package com.curpsuite.utils;
+
+import java.util.Collection;
+import java.util.SplittableRandom;
+
+/**
+ * Conjunto inmutable de palabras cortas con búsqueda por hash perfecto.
+ *
+ * Responde si la versión normalizada ({@link NameFolding#fold(CharSequence)})
+ * de un fragmento de texto está en el conjunto, sin crear Strings: los
+ * caracteres normalizados se empacan en un {@code long} de 5 bits por
+ * carácter y ese número se busca en una tabla sin colisiones. Sirve para
+ * las partículas (DE, DEL, LA...) y los nombres comunes (MARIA, JOSE...)
+ * que se ignoran al dividir un nombre completo.
+ *
+ * Las palabras del conjunto pueden tener hasta {@link #MAX_LENGTH} caracteres
+ * de la A a la Z, punto, apóstrofo, guion, diagonal o espacio.
+ */
+public final class WordSet {
+    /** Longitud máxima de las palabras del conjunto. */
+    public static final int MAX_LENGTH = 12;
+
+    private static final int BITS = 5;
+    private static final long NOT_FOUND = -1;
+
+    // Código de 5 bits de cada carácter representable; 0 si no lo es
+    private static final byte[] CODES = new byte[128];
+
+    static {
+        for (char c = 'A'; c <= 'Z'; c++) {
+            CODES[c] = (byte) (c - 'A' + 1);
+        }
+        String others = ".'-/ ";
+        for (int i = 0; i < others.length(); i++) {
+            CODES[others.charAt(i)] = (byte) (27 + i);
+        }
+    }
+
+    private final long[] keys;
+    private final long multiplier;
+    private final int shift;
+    private final boolean containsEmpty;
+
+    private WordSet(long[] keys, long multiplier, int shift, boolean containsEmpty) {
+        this.keys = keys;
+        this.multiplier = multiplier;
+        this.shift = shift;
+        this.containsEmpty = containsEmpty;
+    }
+
+    /**
+     * Construye un conjunto, buscando un multiplicador que no produzca colisiones.
+     *
+     * @param words Palabras ya normalizadas.
+     * @throws IllegalArgumentException Si alguna palabra no se puede representar.
+     */
+    public static WordSet of(Collection<String> words) {
+        long[] packed = new long[words.size()];
+        int count = 0;
+        boolean containsEmpty = false;
+
+        for (String word : words) {
+            long key = pack(word, 0, word.length());
+            if (key == NOT_FOUND) {
+                throw new IllegalArgumentException("No se puede representar la palabra: " + word);
+            }
+            if (key == 0) {
+                containsEmpty = true;
+            } else {
+                packed[count++] = key;
+            }
+        }
+
+        SplittableRandom random = new SplittableRandom(0x43555250L);
+        for (int bits = Math.max(4, 64 - Long.numberOfLeadingZeros(count * 4L)); ; bits++) {
+            for (int attempt = 0; attempt < 1000; attempt++) {
+                long multiplier = random.nextLong() | 1;
+                long[] keys = fill(packed, count, multiplier, bits);
+                if (keys != null) {
+                    return new WordSet(keys, multiplier, 64 - bits, containsEmpty);
+                }
+            }
+        }
+    }
+
+    private static long[] fill(long[] packed, int count, long multiplier, int bits) {
+        long[] keys = new long[1 << bits];
+        for (int i = 0; i < count; i++) {
+            int slot = (int) ((packed[i] * multiplier) >>> (64 - bits));
+            if (keys[slot] != 0 && keys[slot] != packed[i]) {
+                return null;
+            }
+            keys[slot] = packed[i];
+        }
+        return keys;
+    }
+
+    /**
+     * @return True si el texto normalizado está en el conjunto.
+     */
+    public boolean containsFolded(CharSequence text) {
+        return containsFolded(text, 0, text.length());
+    }
+
+    /**
+     * Busca un fragmento de texto, normalizándolo sin crear Strings.
+     *
+     * @param text Texto que contiene la palabra.
+     * @param start Índice del primer carácter de la palabra.
+     * @param end Índice siguiente al último carácter de la palabra.
+     * @return True si el fragmento normalizado está en el conjunto.
+     */
+    public boolean containsFolded(CharSequence text, int start, int end) {
+        long key = 0;
+        int length = 0;
+
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (!NameFolding.inTable(c)) {
+                // Caracteres combinables y otros fuera de la tabla: normalizar todo el fragmento
+                String folded = NameFolding.fold(text.subSequence(start, end));
+                return contains(pack(folded, 0, folded.length()));
+            }
+
+            char folded = NameFolding.single(c);
+            if (folded != NameFolding.MULTIPLE) {
+                if (++length > MAX_LENGTH || (key = append(key, folded)) == NOT_FOUND) {
+                    return false;
+                }
+            } else {
+                String expanded = NameFolding.expanded(c);
+                for (int j = 0; j < expanded.length(); j++) {
+                    if (++length > MAX_LENGTH || (key = append(key, expanded.charAt(j))) == NOT_FOUND) {
+                        return false;
+                    }
+                }
+            }
+        }
+
+        return contains(key);
+    }
+
+    private boolean contains(long key) {
+        if (key == 0) {
+            return containsEmpty;
+        }
+        return key != NOT_FOUND && keys[(int) ((key * multiplier) >>> shift)] == key;
+    }
+
+    /**
+     * Empaca una palabra ya normalizada, o devuelve {@link #NOT_FOUND} si no
+     * se puede representar.
+     */
+    private static long pack(CharSequence word, int start, int end) {
+        if (end - start > MAX_LENGTH) {
+            return NOT_FOUND;
+        }
+        long key = 0;
+        for (int i = start; i < end && key != NOT_FOUND; i++) {
+            key = append(key, word.charAt(i));
+        }
+        return key;
+    }
+
+    private static long append(long key, char c) {
+        int code = c < CODES.length ? CODES[c] : 0;
+        return code != 0 ? key << BITS | code : NOT_FOUND;
+    }
+}
@@ -0,0 +1,179 @@
+package com.curpsuite;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.Year;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Prueba la deducción del siglo, la validación de fechas y el cálculo de
+ * edad de {@link BirthDateDecoder}.
+ */
+class BirthDateDecoderTest {
+    private static final String CURP = "SABC560626MDFLRN01";
+
+    @Test
+    void deducesTheCentury() {
+        // Con dígito de homonímia siempre es 19xx
+        for (int currentYear : new int[]{1999, 2000, 2024, 2099, 2100, 2150}) {
+            BirthDateDecoder decoder = BirthDateDecoder.ofCurrentYear(currentYear);
+            assertEquals(currentYear, decoder.currentYear());
+            for (int yy = 0; yy < 100; yy++) {
+                assertYear(1900 + yy, decoder, yy, '0');
+            }
+        }
+
+        // Con letra es 20xx hasta 2099; después, los años mayores al actual son del siglo pasado
+        BirthDateDecoder decoder = BirthDateDecoder.ofCurrentYear(2024);
+        for (int yy = 0; yy < 100; yy++) {
+            assertYear(2000 + yy, decoder, yy, 'A');
+        }
+        decoder = BirthDateDecoder.ofCurrentYear(2150);
+        for (int yy = 0; yy < 100; yy++) {
+            assertYear(yy <= 50 ? 2100 + yy : 2000 + yy, decoder, yy, 'Z');
+        }
+        decoder = BirthDateDecoder.ofCurrentYear(2100);
+        assertYear(2100, decoder, 0, 'Ñ');
+        assertYear(2001, decoder, 1, 'Ñ');
+        assertYear(2099, decoder, 99, 'Ñ');
+
+        // Antes de 2000 una letra también es 20xx
+        decoder = BirthDateDecoder.ofCurrentYear(1999);
+        assertYear(2000, decoder, 0, 'B');
+        assertYear(2099, decoder, 99, 'B');
+    }
+
+    @Test
+    void validatesTheDay() {
+        BirthDateDecoder decoder = BirthDateDecoder.ofCurrentYear(2024);
+        assertEquals(LocalDate.of(1956, 6, 26), decoder.birthDate(CURP));
+        assertEquals((int) LocalDate.of(1956, 6, 26).toEpochDay(), decoder.epochDay(CURP));
+
+        // 29 de febrero en años bisiestos y no bisiestos, incluido 1900
+        assertEquals(LocalDate.of(1996, 2, 29), decoder.birthDate(curp("960229", '0')));
+        assertEquals(LocalDate.of(2000, 2, 29), decoder.birthDate(curp("000229", 'A')));
+        assertEquals(LocalDate.of(2024, 2, 29), decoder.birthDate(curp("240229", 'A')));
+        assertEquals(BirthDateDecoder.INVALID, decoder.epochDay(curp("970229", '0')));
+        assertEquals(BirthDateDecoder.INVALID, decoder.epochDay(curp("000229", '0')));
+        assertEquals(BirthDateDecoder.INVALID, decoder.epochDay(curp("230229", 'A')));
+        assertEquals(LocalDate.of(1900, 2, 28), decoder.birthDate(curp("000228", '0')));
+
+        // En 2150 la letra con 00 es 2100, que no es bisiesto
+        assertNull(BirthDateDecoder.ofCurrentYear(2150).birthDate(curp("000229", 'A')));
+
+        for (String date : new String[]{"560001", "561301", "560600", "560631", "560532", "5606A6", "5 0626"}) {
+            assertEquals(BirthDateDecoder.INVALID, decoder.epochDay(curp(date, '0')), date);
+        }
+        assertEquals(LocalDate.of(1956, 12, 31), decoder.birthDate(curp("561231", '0')));
+        assertEquals(LocalDate.of(1956, 1, 1), decoder.birthDate(curp("560101", '0')));
+
+        // Todos los días de un siglo, contra LocalDate
+        for (LocalDate date = LocalDate.of(1900, 1, 1); date.getYear() < 2000; date = date.plusDays(1)) {
+            String text = String.format("%02d%02d%02d", date.getYear() % 100, date.getMonthValue(),
+                    date.getDayOfMonth());
+            assertEquals((int) date.toEpochDay(), decoder.epochDay(curp(text, '5')), text);
+        }
+    }
+
+    @Test
+    void refreshesTheYearFromTheClock() {
+        MutableClock clock = new MutableClock(Instant.parse("2099-12-31T23:59:30Z"));
+        BirthDateDecoder decoder = BirthDateDecoder.of(clock);
+        BirthDateDecoder fixed = BirthDateDecoder.ofCurrentYear(2099);
+        String curp = curp("000101", 'A');
+        assertEquals(2099, decoder.currentYear());
+        assertEquals(2000, decoder.birthYear(curp));
+
+        // El reloj se consulta como máximo una vez por minuto
+        clock.now = Instant.parse("2100-01-01T00:00:10Z");
+        assertEquals(2099, decoder.currentYear());
+        clock.now = Instant.parse("2100-01-01T00:00:31Z");
+        assertEquals(2100, decoder.currentYear());
+        assertEquals(2100, decoder.birthYear(curp));
+
+        // El año fijo no cambia
+        assertEquals(2099, fixed.currentYear());
+        assertEquals(2000, fixed.birthYear(curp));
+
+        // El decodificador por defecto sigue al reloj del sistema
+        assertEquals(Year.now().getValue(), BirthDateDecoder.getDefault().currentYear());
+    }
+
+    @Test
+    void computesTheAge() {
+        int birth = (int) LocalDate.of(1956, 6, 26).toEpochDay();
+        assertEquals(0, BirthDateDecoder.age(birth, birth));
+        assertEquals(67, BirthDateDecoder.age(birth, day(2024, 6, 25)));
+        assertEquals(68, BirthDateDecoder.age(birth, day(2024, 6, 26)));
+        assertEquals(68, BirthDateDecoder.age(birth, day(2024, 6, 27)));
+
+        // Nacido un 29 de febrero cumple el 1 de marzo en años no bisiestos
+        int leap = day(2000, 2, 29);
+        assertEquals(0, BirthDateDecoder.age(leap, day(2001, 2, 28)));
+        assertEquals(1, BirthDateDecoder.age(leap, day(2001, 3, 1)));
+        assertEquals(4, BirthDateDecoder.age(leap, day(2004, 2, 29)));
+
+        // Antes del nacimiento la edad es negativa
+        assertEquals(-1, BirthDateDecoder.age(birth, birth - 1));
+        assertEquals(-1, BirthDateDecoder.age(birth, day(1955, 6, 26)));
+        assertEquals(-2, BirthDateDecoder.age(birth, day(1955, 6, 25)));
+        assertEquals(-1, BirthDateDecoder.age(day(1970, 1, 1), day(1969, 12, 31)));
+
+        Random random = new Random(11);
+        for (int i = 0; i < 10_000; i++) {
+            int from = day(1900, 1, 1) + random.nextInt(250 * 366);
+            int on = from + random.nextInt(150 * 366);
+            assertEquals(Period.between(LocalDate.ofEpochDay(from), LocalDate.ofEpochDay(on)).getYears(),
+                    BirthDateDecoder.age(from, on), LocalDate.ofEpochDay(from) + " " + LocalDate.ofEpochDay(on));
+        }
+    }
+
+    private static void assertYear(int expected, BirthDateDecoder decoder, int yy, char homonymy) {
+        String curp = curp(String.format("%02d0615", yy), homonymy);
+        assertEquals(expected, decoder.birthYear(curp), curp);
+        assertEquals((int) LocalDate.of(expected, 6, 15).toEpochDay(), decoder.epochDay(curp), curp);
+    }
+
+    /**
+     * La CURP de prueba con otra fecha (yymmdd) y otro carácter de homonímia.
+     */
+    private static String curp(String date, char homonymy) {
+        return CURP.substring(0, 4) + date + CURP.substring(10, 16) + homonymy + CURP.charAt(17);
+    }
+
+    private static int day(int year, int month, int day) {
+        return (int) LocalDate.of(year, month, day).toEpochDay();
+    }
+
+    private static final class MutableClock extends Clock {
+        Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.curpsuite;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compara los lotes de {@link CURPBatchValidator} con {@link CURP#parse}
+ * CURP por CURP, con distintos executors.
+ */
+@Timeout(30)
+class CURPBatchValidatorTest {
+    private static final List<String> CURPS = CURPCorpusGenerator.builder()
+            .seed(4)
+            .invalidRatio(0.3)
+            .build()
+            .stream(10_000)
+            .map(CURPCorpusRecord::getCurp)
+            .collect(Collectors.toList());
+
+    @Test
+    void matchesParse() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertResults(new CURPBatchValidator(pool).validate(CURPS));
+            assertResults(new CURPBatchValidator(executor, 4).validate(CURPS));
+            assertResults(new CURPBatchValidator(executor, 1).validate(CURPS.toArray(new String[0])));
+            assertResults(new CURPBatchValidator(Runnable::run, 8).validate(CURPS));
+        } finally {
+            executor.shutdownNow();
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void validatesFromInsideABoundedExecutor() throws Exception {
+        // El único hilo del executor valida un lote que se reparte en el mismo executor
+        ExecutorService executor = Executors.newFixedThreadPool(1);
+        try {
+            CURPBatchValidator validator = new CURPBatchValidator(executor, 4);
+            Future<CURPResult[]> results = executor.submit(() -> validator.validate(CURPS));
+            assertResults(results.get(20, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void validatesWhenTheExecutorRejectsTasks() {
+        CURPBatchValidator validator = new CURPBatchValidator(task -> {
+            throw new RejectedExecutionException();
+        }, 4);
+        assertResults(validator.validate(CURPS));
+    }
+
+    private static void assertResults(CURPResult[] results) {
+        assertEquals(CURPS.size(), results.length);
+        for (int i = 0; i < results.length; i++) {
+            CURPResult expected = CURP.parse(CURPS.get(i));
+            assertEquals(expected.getInput(), results[i].getInput());
+            assertEquals(expected.getStatus(), results[i].getStatus(), expected.getInput());
+            assertEquals(expected.getPosition(), results[i].getPosition(), expected.getInput());
+        }
+    }
+}
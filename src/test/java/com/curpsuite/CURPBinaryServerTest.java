@@ -0,0 +1,133 @@
+package com.curpsuite;
+
+import com.curpsuite.enums.CURPStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Prueba {@link CURPBinaryServer} y {@link CURPBinaryClient} sobre loopback.
+ */
+class CURPBinaryServerTest {
+
+    @Test
+    @Timeout(30)
+    void validatesOneCurp() throws IOException {
+        try (CURPBinaryServer server = startServer(CURPBinaryServer.DEFAULT_BUFFER_SIZE);
+             CURPBinaryClient client = CURPBinaryClient.connect(server.getAddress())) {
+            CURPBinaryResponse response = client.validate("SABC560626MDFLRN01");
+            assertTrue(response.isValid());
+            assertEquals("1956-06-26", response.getFechaNacimiento().toString());
+
+            response = client.validate("SABC560626MDFLRN02");
+            assertEquals(CURPStatus.VERIFICATION, response.getStatus());
+            assertNull(response.getFechaNacimiento());
+        }
+    }
+
+    @Test
+    @Timeout(60)
+    void pipelinesWithBackpressure() throws Exception {
+        List<String> curps = requests();
+
+        // Con búferes de 256 bytes el servidor deja de leer en cuanto
+        // acumula 32 respuestas que el cliente no ha leído
+        try (CURPBinaryServer server = startServer(256);
+             CURPBinaryClient client = CURPBinaryClient.connect(server.getAddress())) {
+            AtomicReference<Exception> failure = new AtomicReference<>();
+            Thread sender = new Thread(() -> {
+                try {
+                    for (String curp : curps) {
+                        client.send(curp);
+                    }
+                    client.shutdownOutput();
+                } catch (IOException e) {
+                    failure.set(e);
+                }
+            });
+            sender.start();
+
+            CURPView view = new CURPView();
+            for (int i = 0; i < curps.size(); i++) {
+                String curp = curps.get(i);
+                CURPBinaryResponse response = client.receive();
+                byte[] bytes = curp.getBytes(StandardCharsets.ISO_8859_1);
+                view.reset(bytes, 0, bytes.length);
+
+                assertEquals(view.getStatus(), response.getStatus(), "Petición " + i + ": " + curp);
+                assertEquals(CURP.parse(curp).getStatus(), response.getStatus(), "Petición " + i + ": " + curp);
+                if (view.isValid()) {
+                    assertEquals(view.getFechaNacimientoEpoch(), response.getFechaNacimientoEpoch(), curp);
+                    assertEquals(view.getSexo(), response.getSexo(), curp);
+                    assertEquals(view.getRegion(), response.getRegion(), curp);
+                } else {
+                    assertNull(response.getSexo(), curp);
+                    assertNull(response.getRegion(), curp);
+                    assertEquals(0, response.getFechaNacimientoEpoch(), curp);
+                }
+            }
+
+            // Después de las respuestas pendientes, el servidor cierra la conexión
+            assertThrows(EOFException.class, client::receive);
+            sender.join();
+            assertNull(failure.get());
+        }
+    }
+
+    @Test
+    @Timeout(30)
+    void rejectsRequestsLongerThanTheLengthByte() throws IOException {
+        try (CURPBinaryServer server = startServer(CURPBinaryServer.DEFAULT_BUFFER_SIZE);
+             CURPBinaryClient client = CURPBinaryClient.connect(server.getAddress())) {
+            assertThrows(IllegalArgumentException.class, () -> client.send("A".repeat(256)));
+            assertFalse(client.validate("A".repeat(255)).isValid());
+        }
+    }
+
+    private static CURPBinaryServer startServer(int bufferSize) throws IOException {
+        CURPBinaryServer server = CURPBinaryServer.builder()
+                .host("127.0.0.1")
+                .port(0)
+                .threads(2)
+                .bufferSize(bufferSize)
+                .build();
+        server.start();
+        return server;
+    }
+
+    /**
+     * CURPs válidas e inválidas, con algunas de longitud incorrecta intercaladas.
+     */
+    private static List<String> requests() {
+        List<String> generated = CURPCorpusGenerator.builder()
+                .seed(24)
+                .invalidRatio(0.3)
+                .build()
+                .stream(5000)
+                .map(CURPCorpusRecord::getCurp)
+                .collect(Collectors.toList());
+
+        String[] wrongLength = {"", "X", "SABC560626MDFLRN0", "SABC560626MDFLRN011", "Ñ".repeat(255)};
+        List<String> curps = new ArrayList<>();
+        for (int i = 0; i < generated.size(); i++) {
+            curps.add(generated.get(i));
+            if (i % 97 == 0) {
+                curps.add(wrongLength[i % wrongLength.length]);
+            }
+        }
+        return curps;
+    }
+}
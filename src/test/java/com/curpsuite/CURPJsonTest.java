@@ -0,0 +1,193 @@
+package com.curpsuite;
+
+import com.curpsuite.enums.Region;
+import com.curpsuite.enums.Sexo;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Compara la salida de {@link CURPJson} con la que escribía Gson.
+ */
+class CURPJsonTest {
+    private static final String CURP = "SABC560626MDFLRN01";
+    private static final String FECHA = "\"fecha_nacimiento\":\"1956-06-26\"";
+    private static final String ENTIDAD = "\"entidad_nacimiento\":{\"name\":\"Ciudad de México\",\"iso\":\"MX-CMX\"}";
+    private static final String SEXO = "\"sexo\":\"MUJER\"";
+    private static final String NOMBRE = "\"nombre\":\"CONSUELO\"";
+    private static final String PRIMER = "\"primer_apellido\":\"SALAS\"";
+    private static final String SEGUNDO = "\"segundo_apellido\":\"BRAVO\"";
+    private static final String CLAVE = "\"curp\":\"" + CURP + "\"";
+
+    @Test
+    void escapesLikeGson() {
+        assertEquals("\"a\\u003c\\u003e\\u0026\\u003d\\u0027\\\"\\\\b\"", string("a<>&='\"\\b"));
+        assertEquals("\"\\n\\t\\b\\f\\r\\u0000\\u0001\\u001f\"", string("\n\t\b\f\r\u0000\u0001\u001f"));
+        assertEquals("\"\\u2028\\u2029\"", string("\u2028\u2029"));
+
+        // DEL, lo que no es ASCII y las barras normales van sin escapar
+        assertEquals("\"\u007fÑé€😀/\"", string("\u007fÑé€😀/"));
+        assertEquals("\"\"", string(""));
+    }
+
+    @Test
+    void keepsTheFieldOrderOfEachMask() {
+        // Gson recorría un HashMap; el orden cambia según los nombres presentes
+        String[] expected = {
+                "{" + String.join(",", FECHA, ENTIDAD, SEXO, CLAVE) + "}",
+                "{" + String.join(",", FECHA, ENTIDAD, SEXO, NOMBRE, CLAVE) + "}",
+                "{" + String.join(",", FECHA, ENTIDAD, PRIMER, SEXO, CLAVE) + "}",
+                "{" + String.join(",", FECHA, ENTIDAD, PRIMER, SEXO, NOMBRE, CLAVE) + "}",
+                "{" + String.join(",", SEGUNDO, FECHA, ENTIDAD, SEXO, CLAVE) + "}",
+                "{" + String.join(",", SEGUNDO, FECHA, ENTIDAD, SEXO, NOMBRE, CLAVE) + "}",
+                "{" + String.join(",", SEGUNDO, FECHA, ENTIDAD, PRIMER, SEXO, CLAVE) + "}",
+                "{" + String.join(",", SEGUNDO, FECHA, ENTIDAD, PRIMER, SEXO, NOMBRE, CLAVE) + "}",
+        };
+
+        for (int mask = 0; mask < expected.length; mask++) {
+            CURP curp = new CURP(CURP, (mask & 1) != 0 ? "Consuelo" : null, (mask & 2) != 0 ? "Salas" : null,
+                    (mask & 4) != 0 ? "Bravo" : null, null);
+            assertEquals(expected[mask], curp.toJson(), "máscara " + mask);
+            assertEquals(String.join(",", hashMapOrder(mask)), String.join(",", fieldNames(expected[mask])));
+        }
+    }
+
+    @Test
+    void omitsTheIsoCodeAbroad() {
+        String text = CURPGenerator.generate("Juan", "Perez", "Lopez", LocalDate.of(1990, 1, 2), Sexo.HOMBRE,
+                Region.EXTRANJERO);
+        assertEquals("PELJ900102HNERPN04", text);
+        assertEquals("{\"fecha_nacimiento\":\"1990-01-02\",\"entidad_nacimiento\":{\"name\":\"Extranjero\"},"
+                + "\"sexo\":\"HOMBRE\",\"curp\":\"PELJ900102HNERPN04\"}", new CURP(text).toJson());
+    }
+
+    @Test
+    void writesTheSameJsonEverywhere() throws IOException {
+        CURP curp = new CURP(CURP, "Consuelo", "Salas", "Bravo", null);
+        String json = curp.toJson();
+
+        StringBuilder builder = new StringBuilder("x");
+        CURPJson.write(curp, builder);
+        assertEquals("x" + json, builder.toString());
+
+        StringBuilder appendable = new StringBuilder();
+        CURPJson.write(curp, (Appendable) appendable);
+        assertEquals(json, appendable.toString());
+
+        ByteBuffer bytes = ByteBuffer.allocate(256);
+        bytes.put((byte) '[');
+        CURPJson.write(curp, bytes);
+        assertEquals("[" + json, new String(bytes.array(), 0, bytes.position(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void writesErrors() {
+        assertEquals("{\"curp\":\"A\\u003c\\\"\",\"error\":\"x\\u0027\\u2028\"}", error("A<\"", "x'\u2028"));
+        assertEquals("{\"error\":\"sin CURP\"}", error(null, "sin CURP"));
+        assertEquals("{\"curp\":\"A\"}", error("A", null));
+        assertEquals("{}", error(null, null));
+    }
+
+    @Test
+    void encodesLikeGetBytes() {
+        assertArrayEquals(new byte[]{(byte) 0xF0, (byte) 0x9F, (byte) 0x98, (byte) 0x80}, encode("😀"));
+        assertArrayEquals(new byte[]{'a', '?', 'b'}, encode("a\uD83Db"));
+        assertArrayEquals(new byte[]{'a', '?'}, encode("a\uD83D"));
+        assertArrayEquals(new byte[]{'?', 'b'}, encode("\uDE00b"));
+        assertArrayEquals(new byte[]{'?', '?'}, encode("\uDE00\uD83D"));
+
+        // Texto al azar con los cuatro tamaños de UTF-8 y sustitutos sueltos
+        Random random = new Random(18);
+        char[] samples = {'a', '\u007f', 'ñ', '\u07ff', '\u0800', '€', '\uffff', '\uD83D', '\uDE00'};
+        for (int i = 0; i < 2000; i++) {
+            char[] text = new char[random.nextInt(12)];
+            for (int j = 0; j < text.length; j++) {
+                text[j] = random.nextBoolean()
+                        ? samples[random.nextInt(samples.length)]
+                        : (char) random.nextInt(0x10000);
+            }
+            String value = new String(text);
+            assertArrayEquals(value.getBytes(StandardCharsets.UTF_8), encode(value), Arrays.toString(text));
+        }
+    }
+
+    @Test
+    void keepsThePositionWhenTheBufferIsFull() {
+        ByteBuffer out = ByteBuffer.allocate(8);
+        out.put((byte) '[');
+        assertThrows(BufferOverflowException.class, () -> CURPJson.encode("abcdefgh", out));
+        assertEquals(1, out.position());
+
+        // Se desborda a la mitad de un carácter de varios bytes
+        assertThrows(BufferOverflowException.class, () -> CURPJson.encode("abcde😀", out));
+        assertEquals(1, out.position());
+
+        CURPJson.encode("abcdeñ", out);
+        assertEquals(8, out.position());
+
+        ByteBuffer small = ByteBuffer.allocate(32);
+        small.position(3);
+        assertThrows(BufferOverflowException.class, () -> CURPJson.write(new CURP(CURP), small));
+        assertEquals(3, small.position());
+    }
+
+    private static String string(String value) {
+        return CURPJson.appendString(new StringBuilder(), value).toString();
+    }
+
+    private static String error(String curp, String message) {
+        StringBuilder out = new StringBuilder();
+        CURPJson.writeError(curp, message, out);
+        return out.toString();
+    }
+
+    private static byte[] encode(String value) {
+        ByteBuffer out = ByteBuffer.allocate(64);
+        CURPJson.encode(value, out);
+        return Arrays.copyOf(out.array(), out.position());
+    }
+
+    /**
+     * Orden de las llaves de un HashMap con los campos de la máscara.
+     */
+    private static String[] hashMapOrder(int mask) {
+        Map<String, Boolean> fields = new HashMap<>();
+        fields.put("curp", true);
+        fields.put("sexo", true);
+        fields.put("fecha_nacimiento", true);
+        fields.put("entidad_nacimiento", true);
+        if ((mask & 1) != 0) {
+            fields.put("nombre", true);
+        }
+        if ((mask & 2) != 0) {
+            fields.put("primer_apellido", true);
+        }
+        if ((mask & 4) != 0) {
+            fields.put("segundo_apellido", true);
+        }
+        return fields.keySet().toArray(new String[0]);
+    }
+
+    /**
+     * Nombres de los campos del primer nivel del objeto, en orden.
+     */
+    private static String[] fieldNames(String json) {
+        return Arrays.stream(json.substring(1, json.length() - 1)
+                        .replaceAll("\\{[^}]*}", "")
+                        .split(","))
+                .map(field -> field.substring(1, field.indexOf('"', 1)))
+                .toArray(String[]::new);
+    }
+}
@@ -0,0 +1,113 @@
+package com.curpsuite;
+
+import com.curpsuite.exceptions.CURPLengthException;
+import com.curpsuite.exceptions.CURPValueException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Prueba que {@link CURPKey} conserve la CURP y su orden como texto.
+ */
+class CURPKeyTest {
+    private static final String ALPHABET = "0123456789ABCDEFGHIJKLMNÑOPQRSTUVWXYZ";
+
+    @Test
+    void decodesWhatItEncodes() {
+        for (String curp : curps()) {
+            CURPKey key = CURPKey.of(curp);
+            assertEquals(curp, key.toString());
+            assertEquals(curp, CURPKey.decode(key.getHigh(), key.getLow()));
+            assertEquals(key, new CURPKey(key.getHigh(), key.getLow()));
+            assertEquals(key.hashCode(), CURPKey.hash(key.getHigh(), key.getLow()));
+
+            // Los mismos códigos desde bytes Latin-1, a partir de una posición
+            byte[] bytes = ("xx" + curp).getBytes(StandardCharsets.ISO_8859_1);
+            assertEquals(key, CURPKey.of(bytes, 2));
+            assertEquals(key.getHigh(), CURPKey.high(bytes, 2));
+            assertEquals(key.getLow(), CURPKey.low(bytes, 2));
+            assertEquals(key.getHigh(), CURPKey.high(new StringBuilder(curp)));
+        }
+
+        assertNotEquals(CURPKey.of("SABC560626MDFLRN01"), CURPKey.of("SABC560626MDFLRN02"));
+    }
+
+    @Test
+    void sortsLikeStrings() {
+        List<String> curps = curps();
+        for (int i = 1; i < curps.size(); i++) {
+            String a = curps.get(i - 1);
+            String b = curps.get(i);
+            assertEquals(Integer.signum(a.compareTo(b)), Integer.signum(CURPKey.of(a).compareTo(CURPKey.of(b))),
+                    a + " " + b);
+        }
+
+        // La Ñ va después de la Z, en cualquier mitad
+        assertTrue(CURPKey.of("ÑAAA000000HAAAAA00").compareTo(CURPKey.of("ZZZZ999999MZZZZZ99")) > 0);
+        assertTrue(CURPKey.of("AAAA00000ÑAAAAAA00").compareTo(CURPKey.of("AAAA00000ZZZZZZZ99")) > 0);
+        assertTrue(CURPKey.of("AAAA000000HAAAAAÑ0").compareTo(CURPKey.of("AAAA000000HAAAAAZ9")) > 0);
+        assertTrue(CURPKey.of("AAAA000000HAAAAAA0").compareTo(CURPKey.of("AAAA000000HAAAAA99")) > 0);
+    }
+
+    @Test
+    void rejectsWhatIsNotACurp() {
+        assertThrows(CURPLengthException.class, () -> CURPKey.of("SABC560626MDFLRN0"));
+        assertThrows(CURPLengthException.class, () -> CURPKey.of("SABC560626MDFLRN011"));
+        assertThrows(CURPLengthException.class, () -> CURPKey.of(new byte[20], 3));
+        assertThrows(CURPLengthException.class, () -> CURPKey.of(new byte[20], -1));
+        assertThrows(CURPValueException.class, () -> CURPKey.of("sABC560626MDFLRN01"));
+        assertThrows(CURPValueException.class, () -> CURPKey.of("SABC560626MDFLRN-1"));
+        assertThrows(CURPValueException.class, () -> CURPKey.of("SABC560626MDFLRN0Ā"));
+        assertThrows(CURPValueException.class, () -> CURPKey.of(new byte[18], 0));
+
+        // decode sólo es correcto con mitades que el constructor acepta
+        long high = CURPKey.of("SABC560626MDFLRN01").getHigh();
+        long low = CURPKey.of("SABC560626MDFLRN01").getLow();
+        assertThrows(IllegalArgumentException.class, () -> new CURPKey(high | 1L << 54, low));
+        assertThrows(IllegalArgumentException.class, () -> new CURPKey(high, -1));
+        assertThrows(IllegalArgumentException.class, () -> new CURPKey(high, low | 63));
+        assertThrows(IllegalArgumentException.class, () -> new CURPKey((high & ~(63L << 48)) | 37L << 48, low));
+        assertEquals(CURPKey.of("0000000000000000Ñ0"), new CURPKey(0, 36L << 6));
+    }
+
+    /**
+     * CURPs generadas, textos al azar del alfabeto y pares que difieren en una N, Ñ, O o Z.
+     */
+    private static List<String> curps() {
+        Random random = new Random(6);
+        List<String> curps = new ArrayList<>();
+        CURPCorpusGenerator.builder().seed(6).build().stream(2000)
+                .map(CURPCorpusRecord::getCurp)
+                .filter(curp -> curp.length() == 18 && curp.chars().allMatch(c -> ALPHABET.indexOf(c) >= 0))
+                .forEach(curps::add);
+        int generated = curps.size();
+        assertTrue(generated > 1000);
+
+        for (int i = 0; i < 2000; i++) {
+            char[] curp = i < generated ? curps.get(i).toCharArray() : new char[18];
+            for (int j = 0; j < curp.length; j++) {
+                if (i >= generated || random.nextInt(6) == 0) {
+                    curp[j] = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+                }
+            }
+            curps.add(new String(curp));
+        }
+
+        for (int i = 0; i < 200; i++) {
+            String original = curps.get(i);
+            char[] curp = original.toCharArray();
+            curp[random.nextInt(18)] = "NÑOZ".charAt(random.nextInt(4));
+            curps.add(original);
+            curps.add(new String(curp));
+        }
+        return curps;
+    }
+}
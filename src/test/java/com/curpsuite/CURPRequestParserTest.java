@@ -0,0 +1,177 @@
+package com.curpsuite;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Prueba la lectura de los cuerpos de {@link CURPServer} y de las líneas
+ * del modo {@code --stream}.
+ */
+class CURPRequestParserTest {
+    private static final String CURP = "SABC560626MDFLRN01";
+
+    @Test
+    void parsesArrays() {
+        String body = " [ \"" + CURP + "\" ,\n{\"curp\":\"" + CURP + "\", \"nombre\":\"Consuelo\","
+                + "\"primerApellido\":\"Salas\",\"segundoApellido\":\"Bravo\","
+                + "\"nombreCompleto\":\"Consuelo Salas Bravo\"} ] ";
+        assertTrue(CURPRequestParser.isArray(body));
+
+        List<CURPInput> inputs = CURPRequestParser.parseArray(body, 10);
+        assertEquals(2, inputs.size());
+        assertInput(inputs.get(0), CURP, null, null, null, null);
+        assertInput(inputs.get(1), CURP, "Consuelo", "Salas", "Bravo", "Consuelo Salas Bravo");
+
+        assertEquals(0, CURPRequestParser.parseArray("[]", 10).size());
+        assertEquals(0, CURPRequestParser.parseArray("\n[ \t]\n", 10).size());
+    }
+
+    @Test
+    void parsesLines() {
+        String body = "\"" + CURP + "\"\n"
+                + "\n"
+                + "  {\"curp\":\"" + CURP + "\",\"nombre\":\"Consuelo\"}  \r\n"
+                + " \t" + CURP + " \r\n"
+                + "SIN COMILLAS";
+        assertFalse(CURPRequestParser.isArray(body));
+
+        List<CURPInput> inputs = CURPRequestParser.parseLines(body, 10);
+        assertEquals(4, inputs.size());
+        assertInput(inputs.get(0), CURP, null, null, null, null);
+        assertInput(inputs.get(1), CURP, "Consuelo", null, null, null);
+        assertInput(inputs.get(2), CURP, null, null, null, null);
+        assertInput(inputs.get(3), "SIN COMILLAS", null, null, null, null);
+
+        assertEquals(0, CURPRequestParser.parseLines("", 10).size());
+        assertEquals(0, CURPRequestParser.parseLines("\n \n\r\n", 10).size());
+    }
+
+    @Test
+    void decodesEscapes() {
+        String body = "[\"\\u0053ABC\\u00d1\\\"\\\\\\/\\b\\f\\n\\r\\t\", \"sin escapes\"]";
+        List<CURPInput> inputs = CURPRequestParser.parseArray(body, 10);
+        assertEquals("SABCÑ\"\\/\b\f\n\r\t", inputs.get(0).getCurp());
+        assertEquals("sin escapes", inputs.get(1).getCurp());
+
+        // Los caracteres fuera de ASCII pueden venir sin escapar
+        assertEquals("PEÑA", CURPRequestParser.parseArray("[\"PEÑA\"]", 10).get(0).getCurp());
+
+        assertInvalid("[\"\\x\"]");
+        assertInvalid("[\"\\u12\"]");
+        assertInvalid("[\"\\u12G4\"]");
+        assertInvalid("[\"\\");
+        assertInvalid("[\"sin cerrar]");
+        assertInvalid("[\"salto\nde línea\"]");
+    }
+
+    @Test
+    void readsNullFields() {
+        String body = "[{\"curp\":null,\"nombre\":null,\"primerApellido\":null,"
+                + "\"segundoApellido\":null,\"nombreCompleto\":null}, {}]";
+        List<CURPInput> inputs = CURPRequestParser.parseArray(body, 10);
+        assertInput(inputs.get(0), null, null, null, null, null);
+        assertInput(inputs.get(1), null, null, null, null, null);
+    }
+
+    @Test
+    void skipsUnknownFields() {
+        String body = "[{\"otro\":{\"a\":[1,-2.5e3,true,false,null,\"}\"],\"b\":{}},"
+                + "\"vacio\":[ ],\"numero\":12,\"curp\":\"" + CURP + "\",\"ultimo\":\"x\"}]";
+        assertInput(CURPRequestParser.parseArray(body, 10).get(0), CURP, null, null, null, null);
+
+        assertInvalid("[{\"otro\":[1}]");
+        assertInvalid("[{\"otro\":{\"a\" 1}}]");
+        assertInvalid("[{\"otro\":{1:2}}]");
+        assertInvalid("[{\"otro\":,\"curp\":\"x\"}]");
+    }
+
+    @Test
+    void skipsDeeplyNestedValues() {
+        // Más profundo que la pila inicial de 8 y que la pila del hilo con recursión
+        for (int depth : new int[]{9, 17, 100_000}) {
+            StringBuilder value = new StringBuilder();
+            for (int i = 0; i < depth; i++) {
+                value.append(i % 2 == 0 ? "[" : "{\"k\":");
+            }
+            value.append("1");
+            for (int i = depth - 1; i >= 0; i--) {
+                value.append(i % 2 == 0 ? "]" : "}");
+            }
+
+            String body = "[{\"otro\":" + value + ",\"curp\":\"" + CURP + "\"}]";
+            assertInput(CURPRequestParser.parseArray(body, 10).get(0), CURP, null, null, null, null);
+
+            // Sin cerrar, el error es de JSON y no de la pila
+            String unclosed = "[{\"otro\":" + value.substring(0, value.length() - 1) + ",\"curp\":\"x\"}]";
+            assertInvalid(unclosed);
+        }
+    }
+
+    @Test
+    void rejectsTrailingGarbage() {
+        assertInvalid("[\"" + CURP + "\"] x");
+        assertInvalid("[\"" + CURP + "\"]]");
+        assertInvalid("[\"" + CURP + "\" \"" + CURP + "\"]");
+        assertInvalid("[\"" + CURP + "\",]");
+        assertInvalid("[1]");
+        assertInvalid("[");
+
+        assertThrows(IllegalArgumentException.class,
+                () -> CURPRequestParser.parseLines("\"" + CURP + "\" x\n", 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> CURPRequestParser.parseLines("{\"curp\":\"" + CURP + "\"} {}\n", 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> CURPRequestParser.parseRecord("{\"curp\":\"" + CURP + "\"},"));
+    }
+
+    @Test
+    void limitsTheNumberOfRecords() {
+        assertEquals(3, CURPRequestParser.parseArray("[\"A\",\"B\",\"C\"]", 3).size());
+        assertEquals(3, CURPRequestParser.parseLines("A\nB\n\nC\n", 3).size());
+
+        assertThrows(CURPRequestParser.TooManyRecordsException.class,
+                () -> CURPRequestParser.parseArray("[\"A\",\"B\",\"C\",\"D\"]", 3));
+        assertThrows(CURPRequestParser.TooManyRecordsException.class,
+                () -> CURPRequestParser.parseLines("A\nB\nC\nD", 3));
+    }
+
+    @Test
+    void keepsTheRawId() {
+        CURPRequestParser.Record record = CURPRequestParser.parseRecord(
+                " {\"id\": {\"a\":[1, \"\\u0041\"]} , \"curp\":\"" + CURP + "\"} ");
+        assertEquals("{\"a\":[1, \"\\u0041\"]}", record.id);
+        assertInput(record.input, CURP, null, null, null, null);
+
+        assertEquals("-12.5", CURPRequestParser.parseRecord("{\"id\":-12.5}").id);
+        assertEquals("\"x\\\"y\"", CURPRequestParser.parseRecord("{\"curp\":\"A\",\"id\":\"x\\\"y\"}").id);
+        assertNull(CURPRequestParser.parseRecord("{\"curp\":\"A\"}").id);
+
+        record = CURPRequestParser.parseRecord("\t" + CURP + " ");
+        assertNull(record.id);
+        assertEquals(CURP, record.input.getCurp());
+
+        assertEquals("", CURPRequestParser.parseRecord("   ").input.getCurp());
+    }
+
+    private static void assertInput(CURPInput input, String curp, String nombre, String primerApellido,
+                                    String segundoApellido, String nombreCompleto) {
+        assertEquals(curp, input.getCurp());
+        assertEquals(nombre, input.getNombre());
+        assertEquals(primerApellido, input.getPrimerApellido());
+        assertEquals(segundoApellido, input.getSegundoApellido());
+        assertEquals(nombreCompleto, input.getNombreCompleto());
+    }
+
+    private static void assertInvalid(String body) {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> CURPRequestParser.parseArray(body, 10), body);
+        assertTrue(e.getMessage().startsWith("JSON inválido"), e.getMessage());
+    }
+}
@@ -0,0 +1,199 @@
+package com.curpsuite;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Prueba {@link CURPServer} sobre loopback.
+ */
+@Timeout(30)
+class CURPServerTest {
+    private static final String VALID = "SABC560626MDFLRN01";
+    private static final String INVALID = "SABC560626MDFLRN02";
+    private static final int MAX_REQUEST_BYTES = 1024;
+    private static final int MAX_BATCH_SIZE = 3;
+
+    private CURPServer server;
+    private HttpClient client;
+    private String base;
+
+    @BeforeEach
+    void start() throws IOException {
+        server = CURPServer.builder()
+                .host("127.0.0.1")
+                .port(0)
+                .threads(2)
+                .maxRequestBytes(MAX_REQUEST_BYTES)
+                .maxBatchSize(MAX_BATCH_SIZE)
+                .build();
+        server.start();
+        client = HttpClient.newHttpClient();
+        base = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void stop() {
+        server.close();
+    }
+
+    @Test
+    void validatesOneCurp() throws Exception {
+        HttpResponse<String> response = get("/curp/" + VALID);
+        assertEquals(200, response.statusCode());
+        assertEquals("application/json; charset=utf-8", response.headers().firstValue("Content-Type").orElse(null));
+        assertEquals(new CURP(VALID).toJson(), response.body());
+
+        response = get("/curp?curp=" + VALID + "&nombre=" + URLEncoder.encode("Consuelo", StandardCharsets.UTF_8)
+                + "&primerApellido=Salas&segundoApellido=Bravo&desconocido=1");
+        assertEquals(200, response.statusCode());
+        assertEquals(expected(new CURPInput(VALID, "Consuelo", "Salas", "Bravo", null)), response.body());
+
+        response = get("/curp/" + INVALID);
+        assertEquals(422, response.statusCode());
+        assertEquals(expected(new CURPInput(INVALID)), response.body());
+        assertTrue(response.body().contains("\"error\":"), response.body());
+
+        // El nombre que no coincide también es un error de validación
+        response = get("/curp?curp=" + VALID + "&nombre=Juan");
+        assertEquals(422, response.statusCode());
+        assertEquals(expected(new CURPInput(VALID, "Juan", null, null, null)), response.body());
+
+        assertEquals(200, get("/health").statusCode());
+    }
+
+    @Test
+    void validatesArrayBatches() throws Exception {
+        String body = "[\"" + VALID + "\",{\"curp\":\"" + INVALID + "\"},"
+                + "{\"curp\":\"" + VALID + "\",\"nombre\":\"Consuelo\"}]";
+        HttpResponse<String> response = post("/curp/batch", "application/json", body);
+
+        assertEquals(200, response.statusCode());
+        assertEquals("application/json; charset=utf-8", response.headers().firstValue("Content-Type").orElse(null));
+        assertEquals("[" + expected(new CURPInput(VALID)) + "," + expected(new CURPInput(INVALID)) + ","
+                + expected(new CURPInput(VALID, "Consuelo", null, null, null)) + "]", response.body());
+
+        assertEquals("[]", post("/curp/batch", "application/json", " [ ] ").body());
+    }
+
+    @Test
+    void validatesLineBatches() throws Exception {
+        String body = VALID + "\n\n\"" + INVALID + "\"\r\n{\"curp\":\"" + VALID + "\"}";
+        String expected = expected(new CURPInput(VALID)) + "\n" + expected(new CURPInput(INVALID)) + "\n"
+                + expected(new CURPInput(VALID)) + "\n";
+
+        HttpResponse<String> response = post("/curp/batch", "application/x-ndjson", body);
+        assertEquals(200, response.statusCode());
+        assertEquals("application/x-ndjson; charset=utf-8",
+                response.headers().firstValue("Content-Type").orElse(null));
+        assertEquals(expected, response.body());
+
+        // Sin tipo de contenido de líneas, un cuerpo que no empieza con '[' también se lee por líneas
+        assertEquals(expected, post("/curp/batch", "application/json", body).body());
+
+        // Con tipo de líneas, un arreglo en una línea es una CURP sin comillas
+        String array = "[\"" + VALID + "\"]";
+        assertEquals(expected(new CURPInput(array)) + "\n", post("/curp/batch", "text/plain", array).body());
+    }
+
+    @Test
+    void rejectsBadRequests() throws Exception {
+        assertError(400, get("/curp"));
+        assertError(400, get("/curp/"));
+        assertError(400, post("/curp/batch", "application/json", "[\"" + VALID + "\""));
+        assertError(400, post("/curp/batch", "application/x-ndjson", "{\"curp\":}"));
+
+        assertError(404, get("/curpx"));
+        assertError(404, post("/curp/batch/otro", "application/json", "[]"));
+
+        HttpResponse<String> response = post("/curp/" + VALID, "application/json", "");
+        assertError(405, response);
+        assertEquals("GET", response.headers().firstValue("Allow").orElse(null));
+        response = get("/curp/batch");
+        assertError(405, response);
+        assertEquals("POST", response.headers().firstValue("Allow").orElse(null));
+    }
+
+    @Test
+    void rejectsLargeRequests() throws Exception {
+        assertError(413, post("/curp/batch", "application/json", "[\"A\",\"B\",\"C\",\"D\"]"));
+        assertError(413, post("/curp/batch", "application/x-ndjson", "A\nB\nC\nD\n"));
+
+        // Un cuerpo mayor al límite, con Content-Length y por partes
+        String large = "[\"" + "A".repeat(MAX_REQUEST_BYTES) + "\"]";
+        assertError(413, post("/curp/batch", "application/json", large));
+        HttpRequest chunked = HttpRequest.newBuilder(URI.create(base + "/curp/batch"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofInputStream(
+                        () -> new ByteArrayInputStream(large.getBytes(StandardCharsets.UTF_8))))
+                .build();
+        assertError(413, client.send(chunked, HttpResponse.BodyHandlers.ofString()));
+
+        // Exactamente en el límite se acepta
+        String limit = "\"" + "A".repeat(MAX_REQUEST_BYTES - 2) + "\"";
+        assertEquals(200, post("/curp/batch", "application/x-ndjson", limit).statusCode());
+    }
+
+    @Test
+    void rejectsDeclaredLengthBeforeReadingTheBody() throws IOException {
+        // El servidor responde sin esperar un cuerpo que nunca se envía
+        try (Socket socket = new Socket("127.0.0.1", server.getAddress().getPort())) {
+            OutputStream out = socket.getOutputStream();
+            out.write(("POST /curp/batch HTTP/1.1\r\nHost: localhost\r\nContent-Type: application/json\r\n"
+                    + "Content-Length: " + (MAX_REQUEST_BYTES + 1) + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+
+            InputStream in = socket.getInputStream();
+            StringBuilder status = new StringBuilder();
+            int c;
+            while ((c = in.read()) >= 0 && c != '\r') {
+                status.append((char) c);
+            }
+            assertEquals("HTTP/1.1 413 Request Entity Too Large", status.toString());
+        }
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(base + path)).GET().build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String path, String contentType, String body)
+            throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(base + path))
+                .header("Content-Type", contentType)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static String expected(CURPInput input) {
+        StringBuilder json = new StringBuilder();
+        CURPJson.write(input, json);
+        return json.toString();
+    }
+
+    private static void assertError(int status, HttpResponse<String> response) {
+        assertEquals(status, response.statusCode(), response.body());
+        assertTrue(response.body().startsWith("{\"error\":\""), response.body());
+        List<String> type = response.headers().allValues("Content-Type");
+        assertEquals(List.of("application/json; charset=utf-8"), type);
+    }
+}
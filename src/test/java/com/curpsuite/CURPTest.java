@@ -0,0 +1,46 @@
+package com.curpsuite;
+
+import com.curpsuite.enums.Region;
+import com.curpsuite.enums.Sexo;
+import com.curpsuite.enums.ValidationLevel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Prueba los datos que {@link CURP} extrae después de validar.
+ */
+class CURPTest {
+    private final BirthDateDecoder original = BirthDateDecoder.getDefault();
+
+    @AfterEach
+    void restoreDefault() {
+        BirthDateDecoder.setDefault(original);
+    }
+
+    @Test
+    void keepsTheDateOfTheDecoderThatValidatedIt() {
+        // Con letra de homonímia, el 00 es 2000 con año actual 2024 y 2100 con 2150
+        LocalDate leapDay = LocalDate.of(2000, 2, 29);
+        String text = CURPGenerator.generate("Consuelo", "Salas", "Bravo", leapDay, Sexo.MUJER,
+                Region.CIUDAD_DE_MEXICO);
+
+        BirthDateDecoder.setDefault(BirthDateDecoder.ofCurrentYear(2024));
+        CURP curp = new CURP(text);
+        CURP checksum = new CURP(text, ValidationLevel.CHECKSUM);
+        CURPResult parsed = CURP.parse(text);
+
+        // En 2100 no hay 29 de febrero; la CURP ya validada conserva su fecha
+        BirthDateDecoder.setDefault(BirthDateDecoder.ofCurrentYear(2150));
+        assertFalse(CURP.parse(text).isValid());
+
+        for (CURP validated : new CURP[]{curp, checksum, parsed.getCurp()}) {
+            assertEquals((int) leapDay.toEpochDay(), validated.getFechaNacimientoEpoch());
+            assertEquals(leapDay, validated.getFechaNacimiento());
+        }
+    }
+}
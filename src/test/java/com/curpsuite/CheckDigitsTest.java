@@ -0,0 +1,197 @@
+package com.curpsuite;
+
+import com.curpsuite.enums.CURPStatus;
+import com.curpsuite.enums.ValidationLevel;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compara, CURP por CURP, el resultado de {@link CheckDigits} con el de
+ * {@link CURP#validate(CharSequence, ValidationLevel)} al nivel
+ * {@link ValidationLevel#CHECKSUM}, con los kernels escalar y vectorial.
+ */
+class CheckDigitsTest {
+    private static final int LENGTH = 18;
+    private static final int STRIDE = LENGTH + 1;
+    private static final String CHARSET = "0123456789ABCDEFGHIJKLMNÑOPQRSTUVWXYZ";
+
+    // Bytes fuera del alfabeto, incluidos los vecinos de cada rango
+    private static final byte[] INVALID_BYTES = {
+            '-', ' ', '/', ':', '@', '[', '`', 'a', 'n', 'z', '\n', 0, (byte) 0xF1, (byte) 0xD0,
+            (byte) 0xD2, (byte) 0x80, (byte) 0xFF
+    };
+
+    @Test
+    void kernelsMatchValidate() {
+        Rows rows = rows();
+        for (CheckDigits.Kernel kernel : kernels()) {
+            for (int i = 0; i < rows.count; i++) {
+                assertEquals(rows.expected[i], kernel.verify(rows.data, i * STRIDE),
+                        kernel.getClass().getSimpleName() + ", fila " + i + ": " + rows.text(i));
+            }
+        }
+    }
+
+    @Test
+    void verifyDigitsMatchesValidate() {
+        Rows rows = rows();
+        int valid = rows.valid();
+
+        boolean[] out = new boolean[rows.count];
+        assertEquals(valid, CheckDigits.verifyDigits(ByteBuffer.wrap(rows.data), STRIDE, rows.count, out));
+        assertArrayEquals(rows.expected, out);
+
+        // Un buffer directo se copia por bloques; el corpus ocupa varios
+        ByteBuffer direct = ByteBuffer.allocateDirect(rows.data.length).put(rows.data).flip();
+        out = new boolean[rows.count];
+        assertEquals(valid, CheckDigits.verifyDigits(direct, STRIDE, rows.count, out));
+        assertArrayEquals(rows.expected, out);
+        assertEquals(0, direct.position());
+
+        // Desde una posición distinta de cero, sin que cambie
+        ByteBuffer sliced = ByteBuffer.allocate(rows.data.length + 5);
+        sliced.position(5);
+        sliced.put(rows.data).position(5);
+        out = new boolean[rows.count];
+        assertEquals(valid, CheckDigits.verifyDigits(sliced, STRIDE, rows.count, out));
+        assertArrayEquals(rows.expected, out);
+        assertEquals(5, sliced.position());
+
+        byte[][] curps = new byte[rows.count][];
+        for (int i = 0; i < rows.count; i++) {
+            curps[i] = rows.text(i).getBytes(StandardCharsets.ISO_8859_1);
+            assertEquals(rows.expected[i], CheckDigits.verifyDigit(rows.data, i * STRIDE), rows.text(i));
+        }
+        out = new boolean[rows.count];
+        assertEquals(valid, CheckDigits.verifyDigits(curps, rows.count, out));
+        assertArrayEquals(rows.expected, out);
+    }
+
+    @Test
+    void verifyDigitsRejectsMissingOrWrongLength() {
+        byte[] valid = "SABC560626MDFLRN01".getBytes(StandardCharsets.ISO_8859_1);
+        byte[][] curps = {valid, null, "SABC560626MDFLRN0".getBytes(StandardCharsets.ISO_8859_1),
+                "SABC560626MDFLRN011".getBytes(StandardCharsets.ISO_8859_1)};
+        boolean[] out = new boolean[curps.length];
+
+        assertEquals(1, CheckDigits.verifyDigits(curps, curps.length, out));
+        assertArrayEquals(new boolean[]{true, false, false, false}, out);
+    }
+
+    /**
+     * El kernel escalar y, si la JVM tiene el módulo, el vectorial.
+     */
+    private static List<CheckDigits.Kernel> kernels() {
+        List<CheckDigits.Kernel> kernels = new ArrayList<>();
+        kernels.add(new CheckDigits.ScalarKernel());
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                kernels.add((CheckDigits.Kernel) Class.forName("com.curpsuite.VectorCheckDigits")
+                        .getDeclaredConstructor().newInstance());
+            } catch (ReflectiveOperationException e) {
+                throw new AssertionError("No se pudo cargar el kernel vectorial", e);
+            }
+        }
+        return kernels;
+    }
+
+    /**
+     * CURPs válidas, con otro dígito verificador, con un byte fuera del
+     * alfabeto en cada posición y con bytes al azar, en líneas de 19 bytes.
+     */
+    private static Rows rows() {
+        List<String> curps = new ArrayList<>();
+        Random random = new Random(8);
+
+        List<String> generated = new ArrayList<>();
+        CURPCorpusGenerator.builder().seed(8).build().stream(4000)
+                .forEach(record -> generated.add(record.getCurp()));
+        for (String curp : generated) {
+            curps.add(curp);
+
+            char digit = curp.charAt(LENGTH - 1);
+            curps.add(curp.substring(0, LENGTH - 1) + (char) ('0' + (digit - '0' + 1 + random.nextInt(9)) % 10));
+        }
+
+        // Con Ñ, que en Latin-1 es el byte 0xD1
+        for (int i = 0; i < 500; i++) {
+            StringBuilder curp = new StringBuilder(generated.get(i));
+            curp.setCharAt(random.nextInt(LENGTH - 1), 'Ñ');
+            curp.setCharAt(LENGTH - 1, CURPGenerator.checkDigit(curp));
+            curps.add(curp.toString());
+        }
+
+        // Un carácter inválido en cada posición, incluido el dígito verificador
+        for (int i = 0; i < 2000; i++) {
+            char[] curp = generated.get(i).toCharArray();
+            curp[i % LENGTH] = (char) (INVALID_BYTES[random.nextInt(INVALID_BYTES.length)] & 0xFF);
+            curps.add(new String(curp));
+        }
+        for (int i = 0; i < 200; i++) {
+            char[] curp = generated.get(i).toCharArray();
+            curp[LENGTH - 1] = CHARSET.charAt(10 + random.nextInt(CHARSET.length() - 10));
+            curps.add(new String(curp));
+        }
+
+        // Bytes al azar y caracteres del alfabeto al azar
+        for (int i = 0; i < 2000; i++) {
+            char[] curp = new char[LENGTH];
+            for (int j = 0; j < LENGTH; j++) {
+                curp[j] = i % 2 == 0 ? (char) random.nextInt(256) : CHARSET.charAt(random.nextInt(CHARSET.length()));
+            }
+            curps.add(new String(curp));
+        }
+
+        Rows rows = new Rows(curps.size());
+        for (int i = 0; i < rows.count; i++) {
+            String curp = curps.get(i);
+            byte[] bytes = curp.getBytes(StandardCharsets.ISO_8859_1);
+            assertEquals(LENGTH, bytes.length, curp);
+            System.arraycopy(bytes, 0, rows.data, i * STRIDE, LENGTH);
+            rows.data[i * STRIDE + LENGTH] = '\n';
+            rows.expected[i] = CURP.validate(curp, ValidationLevel.CHECKSUM) == CURPStatus.VALID;
+        }
+
+        // Que haya filas de cada tipo: las generadas son válidas y las alteradas no
+        assertTrue(rows.expected[0]);
+        assertFalse(rows.expected[1]);
+        assertTrue(rows.valid() > generated.size() && rows.valid() < rows.count - generated.size());
+        return rows;
+    }
+
+    private static final class Rows {
+        final int count;
+        final byte[] data;
+        final boolean[] expected;
+
+        Rows(int count) {
+            this.count = count;
+            this.data = new byte[count * STRIDE];
+            this.expected = new boolean[count];
+        }
+
+        String text(int index) {
+            return new String(data, index * STRIDE, LENGTH, StandardCharsets.ISO_8859_1);
+        }
+
+        int valid() {
+            int valid = 0;
+            for (boolean ok : expected) {
+                if (ok) {
+                    valid++;
+                }
+            }
+            return valid;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.curpsuite;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PipedReader;
+import java.io.PipedWriter;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Prueba {@link StreamCommand} con flujos en memoria.
+ */
+@Timeout(30)
+class StreamCommandTest {
+    private static final String VALID = "SABC560626MDFLRN01";
+    private static final String INVALID = "SABC560626MDFLRN02";
+
+    @Test
+    void keepsTheInputOrder() throws Exception {
+        // Muchos lotes pequeños repartidos entre varios hilos
+        List<String> curps = CURPCorpusGenerator.builder()
+                .seed(25)
+                .invalidRatio(0.3)
+                .build()
+                .stream(5000)
+                .map(CURPCorpusRecord::getCurp)
+                .collect(Collectors.toList());
+
+        // Una CURP sola se recibe sin los espacios alrededor
+        StringBuilder expected = new StringBuilder();
+        for (String curp : curps) {
+            CURPJson.write(new CURPInput(curp.trim()), expected);
+            expected.append('\n');
+        }
+
+        assertEquals(expected.toString(), run(String.join("\n", curps), 4, 7));
+        assertEquals(expected.toString(), run(String.join("\r\n", curps) + "\n", 3, 1));
+    }
+
+    @Test
+    void copiesTheJsonId() throws Exception {
+        String input = "{\"id\": {\"a\":[1, \"x\"]}, \"curp\":\"" + VALID + "\"}\n"
+                + "{\"curp\":\"" + INVALID + "\",\"id\":-7.5e2}\n"
+                + "{\"curp\":\"" + VALID + "\",\"nombre\":\"Consuelo\",\"id\":\"a\\u0041\"}\n"
+                + "{\"curp\":\"" + VALID + "\"}\n"
+                + "{\"id\":1,\"curp\":}\n"
+                + VALID + "\n";
+
+        String expected = "{\"id\":{\"a\":[1, \"x\"]}," + json(new CURPInput(VALID)).substring(1) + "\n"
+                + "{\"id\":-7.5e2," + json(new CURPInput(INVALID)).substring(1) + "\n"
+                + "{\"id\":\"a\\u0041\","
+                + json(new CURPInput(VALID, "Consuelo", null, null, null)).substring(1) + "\n"
+                + json(new CURPInput(VALID)) + "\n"
+                + "{\"error\":\"JSON inválido en la posición 15\"}\n"
+                + json(new CURPInput(VALID)) + "\n";
+        assertEquals(expected, run(input, 2, 2));
+    }
+
+    @Test
+    void escapesTheTsvId() throws Exception {
+        String input = "a\"b\\c<\t" + VALID + "\tConsuelo\tSalas\tBravo\n"
+                + " 42 \t" + INVALID + "\n"
+                + "\t" + VALID + "\t\t\t\n"
+                + "sin-curp\t\n";
+
+        String expected = "{\"id\":\"a\\\"b\\\\c\\u003c\","
+                + json(new CURPInput(VALID, "Consuelo", "Salas", "Bravo", null)).substring(1) + "\n"
+                + "{\"id\":\"42\"," + json(new CURPInput(INVALID)).substring(1) + "\n"
+                + json(new CURPInput(VALID)) + "\n"
+                + "{\"id\":\"sin-curp\"," + json(new CURPInput("")).substring(1) + "\n";
+        assertEquals(expected, run(input, 1, 16));
+    }
+
+    @Test
+    void flushesWhenTheInputIsIdle() throws Exception {
+        PipedWriter requests = new PipedWriter();
+        BufferedReader input = new BufferedReader(new PipedReader(requests));
+        FlushRecorder output = new FlushRecorder();
+
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        Thread command = new Thread(() -> {
+            try {
+                new StreamCommand(input, output, 2, 1024).run();
+            } catch (IOException | InterruptedException e) {
+                failure.set(e);
+            }
+        });
+        command.setDaemon(true);
+        command.start();
+
+        // Cada respuesta llega sin completar un lote ni cerrar la entrada
+        requests.write(VALID + "\n");
+        requests.flush();
+        assertEquals(json(new CURPInput(VALID)) + "\n", output.nextFlush());
+
+        requests.write(INVALID + "\n" + VALID + "\n");
+        requests.flush();
+        String responses = output.nextFlush();
+        while (responses.split("\n").length < 2) {
+            responses += output.nextFlush();
+        }
+        assertEquals(json(new CURPInput(INVALID)) + "\n" + json(new CURPInput(VALID)) + "\n", responses);
+
+        requests.close();
+        command.join();
+        assertNull(failure.get());
+    }
+
+    private static String run(String input, int threads, int batchSize) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new StreamCommand(new BufferedReader(new StringReader(input)), output, threads, batchSize).run();
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    private static String json(CURPInput input) {
+        StringBuilder json = new StringBuilder();
+        CURPJson.write(input, json);
+        return json.toString();
+    }
+
+    /**
+     * Guarda lo escrito desde la última llamada a flush() cada vez que se llama.
+     */
+    private static final class FlushRecorder extends OutputStream {
+        private final ByteArrayOutputStream pending = new ByteArrayOutputStream();
+        private final BlockingQueue<String> flushes = new LinkedBlockingQueue<>();
+
+        @Override
+        public synchronized void write(int b) {
+            pending.write(b);
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            pending.write(b, off, len);
+        }
+
+        @Override
+        public synchronized void flush() {
+            if (pending.size() == 0) {
+                return;
+            }
+            flushes.add(pending.toString(StandardCharsets.UTF_8));
+            pending.reset();
+        }
+
+        String nextFlush() throws InterruptedException {
+            String flushed = flushes.poll(10, TimeUnit.SECONDS);
+            if (flushed == null) {
+                throw new AssertionError("No se enviaron las respuestas pendientes");
+            }
+            return flushed;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.curpsuite.collections;
+
+import com.curpsuite.CURPCorpusGenerator;
+import com.curpsuite.CURPCorpusRecord;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compara las búsquedas de {@link CURPPrefixIndex} con un recorrido de
+ * todas las CURPs.
+ */
+class CURPPrefixIndexTest {
+    private static final String CONSONANTS = "BCDFGHJKLMNÑPQRSTVWXYZ";
+    private static final String HOMONYMY = "0123456789ABCDEFGHIJKLMNÑOPQRSTUVWXYZ";
+
+    @Test
+    void decodesWhatItEncodes() {
+        List<String> curps = curps();
+        curps.add("ÑXÑÑ991231MNECÑÑÑ9");
+        curps.add("AAAA000101HASBBB00");
+        curps.add("ZUZZ990101HZSZZZZ0");
+        curps.add("BXYZ000229MYNÑXZ00");
+
+        // CURPs distintas tienen códigos distintos
+        Set<String> distinct = new HashSet<>(curps);
+        Set<Long> keys = new HashSet<>();
+        for (String curp : distinct) {
+            long key = CURPPrefixIndex.encode(curp);
+            assertTrue(key >= 0, curp);
+            assertEquals(curp, CURPPrefixIndex.decode(key));
+            keys.add(key);
+        }
+        assertEquals(distinct.size(), keys.size());
+    }
+
+    @Test
+    void findsExactPrefixes() {
+        List<String> curps = curps();
+        CURPPrefixIndex index = CURPPrefixIndex.build(curps);
+        assertEquals(new TreeSet<>(curps).size(), index.size());
+
+        for (int i = 0; i < curps.size(); i += 7) {
+            String curp = curps.get(i);
+            List<String> found = index.find(curp.substring(0, 16));
+            assertEquals(expected(curps, curp.substring(0, 16)), new TreeSet<>(found), curp);
+            assertInIndexOrder(found);
+            assertTrue(index.contains(curp), curp);
+            assertEquals(found.size(), index.count(curp));
+
+            // Los caracteres después del 16 se ignoran
+            assertEquals(found, index.find(curp.substring(0, 16) + "ZZZZ"));
+        }
+        assertEquals(0, index.count("ZZZZ991231MNEZZZ"));
+    }
+
+    @Test
+    void findsWithWildcards() {
+        List<String> curps = curps();
+        CURPPrefixIndex index = CURPPrefixIndex.build(curps.stream());
+
+        // Cada combinación de comodines en las posiciones 13, 14 y 15
+        for (int mask = 1; mask < 8; mask++) {
+            int matches = 0;
+            for (int i = 0; i < curps.size(); i += 11) {
+                char[] prefix = curps.get(i).substring(0, 16).toCharArray();
+                for (int position = 0; position < 3; position++) {
+                    if ((mask & (1 << position)) != 0) {
+                        prefix[13 + position] = CURPPrefixIndex.WILDCARD;
+                    }
+                }
+
+                String query = new String(prefix);
+                List<String> found = index.find(query);
+                assertEquals(expected(curps, query), new TreeSet<>(found), query);
+                assertInIndexOrder(found);
+                assertEquals(found.size(), index.count(query));
+                matches += found.size();
+            }
+            assertTrue(matches > curps.size() / 11, "comodines " + mask);
+        }
+    }
+
+    @Test
+    void rejectsWhatItCannotEncode() {
+        String valid = "SABC560626MDFLRN01";
+        String[] invalid = {
+                "", "SABC560626MDFLRN0", "SABC560626MDFLRN011",
+                "sABC560626MDFLRN01", "1ABC560626MDFLRN01", "SBBC560626MDFLRN01",
+                "SA1C560626MDFLRN01", "SABC5A0626MDFLRN01", "SABC561326MDFLRN01",
+                "SABC560026MDFLRN01", "SABC560600MDFLRN01", "SABC560632MDFLRN01",
+                "SABC560626XDFLRN01", "SABC560626MXXLRN01", "SABC560626MDFARN01",
+                "SABC560626MDFL?N01", "SABC560626MDFLRN-1", "SABC560626MDFLRN0A",
+                " ABC560626MDFLRN01"
+        };
+
+        CURPPrefixIndex.Builder builder = CURPPrefixIndex.builder();
+        assertTrue(builder.add(valid));
+        for (String curp : invalid) {
+            assertEquals(-1, CURPPrefixIndex.encode(curp), curp);
+            assertFalse(builder.add(curp), curp);
+        }
+        assertEquals(invalid.length, builder.getRejected());
+
+        CURPPrefixIndex index = builder.build();
+        assertEquals(1, index.size());
+        assertFalse(index.contains("SABC560626MDFLRN02"));
+        assertFalse(index.contains("SABC560626MDFLRN0"));
+
+        // Un prefijo que no se puede codificar no encuentra nada
+        assertEquals(List.of(), index.find("SABC561326MDFLRN"));
+        assertEquals(List.of(), index.find("SABC560626MDFARN"));
+        assertEquals(List.of(), index.find("SABC560626MDFL?A"));
+        assertEquals(List.of(valid), index.find("SABC560626MDF??N"));
+        assertThrows(IllegalArgumentException.class, () -> index.find("SABC560626MDFLR"));
+    }
+
+    @Test
+    void dropsRepeatedCurps() {
+        CURPPrefixIndex.Builder builder = CURPPrefixIndex.builder();
+        builder.add("SABC560626MDFLRN01");
+        builder.add(new StringBuilder("SABC560626MDFLRN01"));
+        builder.add("SABC560626MDFLRN02");
+        builder.add("SABC560626MDFLRN01");
+
+        CURPPrefixIndex index = builder.build();
+        assertEquals(2, index.size());
+        assertEquals(List.of("SABC560626MDFLRN01", "SABC560626MDFLRN02"), index.find("SABC560626MDFLRN"));
+
+        // El constructor sigue acumulando después de construir
+        builder.add("SABC560626MDFLRN03");
+        builder.add("SABC560626MDFLRN02");
+        assertEquals(3, builder.build().size());
+        assertEquals(2, index.size());
+
+        List<String> all = new ArrayList<>();
+        builder.build().forEach(all::add);
+        assertEquals(List.of("SABC560626MDFLRN01", "SABC560626MDFLRN02", "SABC560626MDFLRN03"), all);
+    }
+
+    /**
+     * CURPs generadas y, por cada una, variantes con otras consonantes,
+     * homonímia y dígito, además de repetidas.
+     */
+    private static List<String> curps() {
+        Random random = new Random(16);
+        List<String> curps = CURPCorpusGenerator.builder()
+                .seed(16)
+                .invalidRatio(0)
+                .build()
+                .stream(2000)
+                .map(CURPCorpusRecord::getCurp)
+                .filter(curp -> CURPPrefixIndex.encode(curp) >= 0)
+                .collect(Collectors.toCollection(ArrayList::new));
+        assertTrue(curps.size() > 1000);
+
+        int generated = curps.size();
+        for (int i = 0; i < generated; i++) {
+            char[] curp = curps.get(i).toCharArray();
+            for (int variant = 0; variant < 4; variant++) {
+                curp[13 + random.nextInt(3)] = CONSONANTS.charAt(random.nextInt(CONSONANTS.length()));
+                curp[16] = HOMONYMY.charAt(random.nextInt(HOMONYMY.length()));
+                curp[17] = (char) ('0' + random.nextInt(10));
+                curps.add(new String(curp));
+            }
+            if (i % 10 == 0) {
+                curps.add(curps.get(i));
+            }
+        }
+        return curps;
+    }
+
+    private static TreeSet<String> expected(List<String> curps, String prefix) {
+        TreeSet<String> expected = new TreeSet<>();
+        for (String curp : curps) {
+            boolean matches = true;
+            for (int i = 0; i < 16 && matches; i++) {
+                char c = prefix.charAt(i);
+                matches = c == curp.charAt(i) || (i >= 13 && c == CURPPrefixIndex.WILDCARD);
+            }
+            if (matches) {
+                expected.add(curp);
+            }
+        }
+        return expected;
+    }
+
+    private static void assertInIndexOrder(List<String> found) {
+        for (int i = 1; i < found.size(); i++) {
+            assertTrue(CURPPrefixIndex.encode(found.get(i - 1)) < CURPPrefixIndex.encode(found.get(i)),
+                    found.toString());
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.curpsuite.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compara {@link NameFolding} contra el camino original con
+ * {@link Normalizer} y expresiones regulares.
+ */
+class NameFoldingTest {
+    private static final List<String> CURP_SEPARATORS = List.of("/", "-", ".", "'", "’");
+
+    // Fragmentos con los que se arman textos aleatorios
+    private static final String[] PIECES = {
+            "a", "e", "i", "o", "u", "n", "x", "z", "M", "J", "Q", "W", "0", "7",
+            "á", "é", "í", "ó", "ú", "Á", "É", "Í", "Ó", "Ú", "à", "è", "ê", "ç", "Ç",
+            "ñ", "Ñ", "ü", "Ü", "ö", "ß", "ÿ", "µ", "Æ", "ø", "Ø", "ð", "þ",
+            "Ł", "ł", "Œ", "œ", "ſ", "ĳ", "Ğ", "ş", "ŉ",
+            "ñ", "é", "́", "̈",
+            " ", "  ", "\t", "/", "-", ".", "'", "’", ",", "(", ")",
+            "DE", "del", "La", "MA.", "Mc", "Van",
+            "Ж", "ж", "Σ", "σ", "ς", "ΐ", "中", "ﬁ", "İ", "ı", "😀", " "
+    };
+
+    private static final String[] NAMES = {
+            "María José", "JOSÉ", "Peña", "PEÑA NIETO", "Müller", "ñandú", "O'Connor",
+            "José-Luis", "Ma. de los Ángeles", "D’Artagnan", "Ørsted", "Straße", "Œuvre",
+            "Иван", "Ελένη", "张伟", "İstanbul", "ﬁdel", "", " ", "   ---   "
+    };
+
+    @Test
+    void foldMatchesNormalizerOnNames() {
+        for (String name : NAMES) {
+            assertEquals(normalizerFold(name), NameFolding.fold(name), name);
+        }
+    }
+
+    @Test
+    void foldMatchesNormalizerOnEveryTableCharacter() {
+        for (char c = 0; c < 0x180; c++) {
+            String text = "a" + c + "Ñ" + c;
+            assertEquals(normalizerFold(text), NameFolding.fold(text), "U+" + Integer.toHexString(c));
+        }
+    }
+
+    @Test
+    void foldMatchesNormalizerOnRandomText() {
+        Random random = new Random(42);
+        for (int i = 0; i < 200_000; i++) {
+            String text = randomText(random);
+            assertEquals(normalizerFold(text), NameFolding.fold(text), text);
+        }
+    }
+
+    @Test
+    void separatorsMatchReplaceOnRandomText() {
+        // Con un separador de varios caracteres se usa el camino original
+        List<List<String>> lists = List.of(CURP_SEPARATORS, List.of("DE", "-"), List.of("N", "S"));
+
+        Random random = new Random(7);
+        for (List<String> separators : lists) {
+            NameFolding folding = NameFolding.withSeparators(separators);
+            for (String name : NAMES) {
+                assertEquals(normalizerApply(name, separators), folding.apply(name), name);
+            }
+            for (int i = 0; i < 100_000; i++) {
+                String text = randomText(random);
+                assertEquals(normalizerApply(text, separators), folding.apply(text), text);
+            }
+        }
+    }
+
+    private static String randomText(Random random) {
+        StringBuilder text = new StringBuilder();
+        int pieces = random.nextInt(12);
+        for (int i = 0; i < pieces; i++) {
+            text.append(PIECES[random.nextInt(PIECES.length)]);
+        }
+        return text.toString();
+    }
+
+    /**
+     * El camino anterior a {@link NameFolding}.
+     */
+    private static String normalizerFold(String text) {
+        String normalized = Normalizer.normalize(text.toUpperCase(), Normalizer.Form.NFD)
+                .replaceAll("\\p{InCombiningDiacriticalMarks}+", "");
+        return normalized.replace('Ñ', 'X').replace('ñ', 'X');
+    }
+
+    private static String normalizerApply(String text, List<String> separators) {
+        String word = normalizerFold(text);
+        for (String c : separators) {
+            word = word.replace(c, " ");
+        }
+        return word;
+    }
+}